@@ -15,13 +15,17 @@ public enum Attribute {
     DATA_SOURCE("data-source"),
     NAME("name"),
     VALUE("value"),
-    EXECUTION_RECORDS_LIMIT("execution-records-limit");
+    EXECUTION_RECORDS_LIMIT("execution-records-limit"),
+    MAX_CONCURRENT_JOBS("max-concurrent-jobs"),
+    MAX_CONCURRENT_PARTITIONS("max-concurrent-partitions");
 
     private static final Map<String, Attribute> MAP = Map.of(
             DATA_SOURCE.name, DATA_SOURCE,
             NAME.name, NAME,
             VALUE.name, VALUE,
-            EXECUTION_RECORDS_LIMIT.name, EXECUTION_RECORDS_LIMIT);
+            EXECUTION_RECORDS_LIMIT.name, EXECUTION_RECORDS_LIMIT,
+            MAX_CONCURRENT_JOBS.name, MAX_CONCURRENT_JOBS,
+            MAX_CONCURRENT_PARTITIONS.name, MAX_CONCURRENT_PARTITIONS);
 
     private final String name;
 
@@ -18,6 +18,7 @@ import org.kohsuke.MetaInfServices;
 import org.wildfly.extension.batch.jberet.job.repository.CommonAttributes;
 import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.BatchVirtualThreadPoolResourceDefinition;
 
 @MetaInfServices
 public class BatchExtensionTransformerRegistration implements ExtensionTransformerRegistration {
@@ -30,11 +31,17 @@ public class BatchExtensionTransformerRegistration implements ExtensionTransform
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
 
+        registerV4Transformers(builder.createBuilder(BatchSubsystemExtension.VERSION_4_0_0, BatchSubsystemExtension.VERSION_3_0_0));
         registerV3Transformers(builder.createBuilder(BatchSubsystemExtension.VERSION_3_0_0, BatchSubsystemExtension.VERSION_2_0_0));
 
         builder.buildAndRegister(registration, new ModelVersion[] {BatchSubsystemExtension.VERSION_1_0_0, BatchSubsystemExtension.VERSION_2_0_0, BatchSubsystemExtension.VERSION_3_0_0});
     }
 
+    private static void registerV4Transformers(ResourceTransformationDescriptionBuilder subsystem) {
+        subsystem.rejectChildResource(BatchVirtualThreadPoolResourceDefinition.PATH);
+        rejectAttribute(subsystem, BatchSubsystemDefinition.DISTRIBUTED_PARTITIONS);
+    }
+
     private static void registerV3Transformers(ResourceTransformationDescriptionBuilder subsystem) {
         ResourceTransformationDescriptionBuilder inMemoryJobRepository = subsystem.addChildResource(InMemoryJobRepositoryDefinition.PATH);
         rejectAttribute(inMemoryJobRepository, CommonAttributes.EXECUTION_RECORDS_LIMIT);
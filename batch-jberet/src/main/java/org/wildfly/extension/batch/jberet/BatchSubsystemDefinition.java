@@ -28,6 +28,7 @@ import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraint
 import org.jboss.as.controller.operations.common.GenericSubsystemDescribeHandler;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
@@ -39,6 +40,7 @@ import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.server.service.ClusteringServiceDescriptor;
 import org.wildfly.extension.batch.jberet._private.Capabilities;
 import org.wildfly.extension.batch.jberet.deployment.BatchAttachments;
 import org.wildfly.extension.batch.jberet.deployment.BatchCleanupProcessor;
@@ -51,6 +53,7 @@ import org.wildfly.extension.batch.jberet.deployment.BatchEnvironmentProcessor;
 import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.thread.pool.BatchThreadPoolResourceDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.BatchVirtualThreadPoolResourceDefinition;
 import org.wildfly.security.auth.server.SecurityDomain;
 
 public class BatchSubsystemDefinition extends SimpleResourceDefinition {
@@ -92,6 +95,14 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
             .setAccessConstraints(SensitiveTargetAccessConstraintDefinition.ELYTRON_SECURITY_DOMAIN_REF)
             .build();
 
+    static final SimpleAttributeDefinition DISTRIBUTED_PARTITIONS = SimpleAttributeDefinitionBuilder.create("distributed-partitions", ModelType.BOOLEAN, true)
+            .setAllowExpression(false)
+            .setDefaultValue(ModelNode.FALSE)
+            .setAttributeParser(AttributeParsers.VALUE)
+            .setAttributeMarshaller(AttributeMarshallers.VALUE)
+            .setRestartAllServices()
+            .build();
+
     private final boolean registerRuntimeOnly;
 
     BatchSubsystemDefinition(final boolean registerRuntimeOnly) {
@@ -115,6 +126,8 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerSubModel(new JdbcJobRepositoryDefinition());
         // thread-pool resource
         resourceRegistration.registerSubModel(new BatchThreadPoolResourceDefinition(registerRuntimeOnly));
+        // virtual-thread-pool resource
+        resourceRegistration.registerSubModel(new BatchVirtualThreadPoolResourceDefinition(registerRuntimeOnly));
 
         // thread-factory resource
         final ThreadFactoryResourceDefinition threadFactoryResource = new ThreadFactoryResourceDefinition();
@@ -127,6 +140,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerReadWriteAttribute(DEFAULT_JOB_REPOSITORY, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(DEFAULT_THREAD_POOL, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(SECURITY_DOMAIN, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
+        resourceRegistration.registerReadWriteAttribute(DISTRIBUTED_PARTITIONS, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(RESTART_JOBS_ON_RESUME, null, new AbstractWriteAttributeHandler<Boolean>() {
             @Override
             protected boolean applyUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode resolvedValue, final ModelNode currentValue, final HandbackHolder<Boolean> handbackHolder) throws OperationFailedException {
@@ -159,11 +173,22 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
             JobOperatorContext.setJobOperatorContextSelector(selector);
         }
 
+        @Override
+        protected void recordCapabilitiesAndRequirements(final OperationContext context, final ModelNode operation, final Resource resource) throws OperationFailedException {
+            super.recordCapabilitiesAndRequirements(context, operation, resource);
+            if (DISTRIBUTED_PARTITIONS.resolveModelAttribute(context, resource.getModel()).asBoolean()) {
+                // Partitions are dispatched to the other members of the cluster
+                context.registerAdditionalCapabilityRequirement(ClusteringServiceDescriptor.DEFAULT_COMMAND_DISPATCHER_FACTORY.getName(),
+                        Capabilities.BATCH_CONFIGURATION_CAPABILITY.getName(), DISTRIBUTED_PARTITIONS.getName());
+            }
+        }
+
         @Override
         protected void performBoottime(final OperationContext context, final ModelNode operation, final ModelNode model)
                 throws OperationFailedException {
             // Check if the request-controller subsystem exists
             final boolean rcPresent = context.hasOptionalCapability(BatchServiceNames.REQUEST_CONTROLLER_CAPABILITY, Capabilities.BATCH_CONFIGURATION_CAPABILITY.getName(), null);
+            final boolean distributedPartitions = DISTRIBUTED_PARTITIONS.resolveModelAttribute(context, model).asBoolean();
 
             context.addStep(new AbstractDeploymentChainStep() {
                 public void execute(DeploymentProcessorTarget processorTarget) {
@@ -178,7 +203,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
                     processorTarget.addDeploymentProcessor(NAME,
                             Phase.DEPENDENCIES, Phase.DEPENDENCIES_BATCH, new BatchDependencyProcessor());
                     processorTarget.addDeploymentProcessor(NAME,
-                            Phase.POST_MODULE, Phase.POST_MODULE_BATCH_ENVIRONMENT, new BatchEnvironmentProcessor(rcPresent, selector));
+                            Phase.POST_MODULE, Phase.POST_MODULE_BATCH_ENVIRONMENT, new BatchEnvironmentProcessor(rcPresent, distributedPartitions, selector));
                     processorTarget.addDeploymentProcessor(NAME,
                             Phase.INSTALL, Phase.INSTALL_BATCH_RESOURCES, new BatchDeploymentResourceProcessor(NAME));
                     processorTarget.addDeploymentProcessor(NAME,
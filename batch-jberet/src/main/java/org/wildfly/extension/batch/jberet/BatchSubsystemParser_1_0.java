@@ -87,6 +87,9 @@ public class BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementR
                         THREADS_1_1, subsystemAddress.toModelNode(), ops,
                         BatchThreadPoolResourceDefinition.NAME, null);
                 requiredElements.remove(Element.THREAD_POOL);
+            } else if (parseThreadPool(reader, element, subsystemAddress, ops)) {
+                // Any type of thread pool satisfies the requirement for a thread pool
+                requiredElements.remove(Element.THREAD_POOL);
             } else if (element == Element.THREAD_FACTORY) {
                 threadsParser.parseThreadFactory(reader, namespace.getUriString(),
                         THREADS_1_1, subsystemAddress.toModelNode(), ops,
@@ -101,6 +104,23 @@ public class BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementR
         ParseUtils.requireNoContent(reader);
     }
 
+    /**
+     * Parses a thread pool element other than an unbounded queue thread pool.
+     *
+     * @param reader           the reader positioned on the element
+     * @param element          the element
+     * @param subsystemAddress the address of the subsystem
+     * @param ops              the operations to add the thread pool operation to
+     *
+     * @return {@code true} if the element was parsed, {@code false} if the element is not a thread pool supported by
+     * this version of the schema
+     *
+     * @throws XMLStreamException if an XML processing error occurs
+     */
+    protected boolean parseThreadPool(final XMLExtendedStreamReader reader, final Element element, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
+        return false;
+    }
+
     protected void parseJobRepository(final XMLExtendedStreamReader reader, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
         final String name = AttributeParsers.readRequiredAttributes(reader, EnumSet.of(Attribute.NAME)).get(Attribute.NAME);
 
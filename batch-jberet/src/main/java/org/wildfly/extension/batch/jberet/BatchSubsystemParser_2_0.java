@@ -6,9 +6,12 @@
 package org.wildfly.extension.batch.jberet;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.xml.stream.XMLStreamConstants;
 
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.dmr.ModelNode;
 import org.jboss.staxmapper.XMLElementReader;
 
@@ -18,6 +21,16 @@ import org.jboss.staxmapper.XMLElementReader;
 class BatchSubsystemParser_2_0 extends BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
 
     public BatchSubsystemParser_2_0() {
-        super(Collections.singletonMap(Element.SECURITY_DOMAIN, BatchSubsystemDefinition.SECURITY_DOMAIN));
+        this(Collections.emptyMap());
+    }
+
+    BatchSubsystemParser_2_0(final Map<Element, SimpleAttributeDefinition> additionalElements) {
+        super(withSecurityDomain(additionalElements));
+    }
+
+    private static Map<Element, SimpleAttributeDefinition> withSecurityDomain(final Map<Element, SimpleAttributeDefinition> additionalElements) {
+        final Map<Element, SimpleAttributeDefinition> elements = new HashMap<>(additionalElements);
+        elements.put(Element.SECURITY_DOMAIN, BatchSubsystemDefinition.SECURITY_DOMAIN);
+        return elements;
     }
 }
\ No newline at end of file
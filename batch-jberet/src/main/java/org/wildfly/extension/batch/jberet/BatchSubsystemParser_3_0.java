@@ -6,6 +6,7 @@
 package org.wildfly.extension.batch.jberet;
 
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.parsing.ParseUtils;
 import org.jboss.dmr.ModelNode;
@@ -30,6 +31,10 @@ class BatchSubsystemParser_3_0 extends BatchSubsystemParser_2_0 implements XMLSt
         super();
     }
 
+    BatchSubsystemParser_3_0(final Map<Element, SimpleAttributeDefinition> additionalElements) {
+        super(additionalElements);
+    }
+
     protected void parseJobRepository(final XMLExtendedStreamReader reader, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
         Map<Attribute, String> topLevelAttributes = AttributeParsers.readAttributes(reader,
                 EnumSet.of(Attribute.NAME, Attribute.EXECUTION_RECORDS_LIMIT));
@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.parsing.ParseUtils;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementReader;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+import org.wildfly.extension.batch.jberet.thread.pool.BatchVirtualThreadPoolResourceDefinition;
+
+/**
+ * Parser for the batch subsystem 4.0 schema, which adds virtual thread pools and distributed partitions.
+ */
+class BatchSubsystemParser_4_0 extends BatchSubsystemParser_3_0 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
+
+    public BatchSubsystemParser_4_0() {
+        super(Collections.singletonMap(Element.DISTRIBUTED_PARTITIONS, BatchSubsystemDefinition.DISTRIBUTED_PARTITIONS));
+    }
+
+    @Override
+    protected boolean parseThreadPool(final XMLExtendedStreamReader reader, final Element element, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
+        if (element != Element.VIRTUAL_THREAD_POOL) {
+            return false;
+        }
+        final Map<Attribute, String> attributes = AttributeParsers.readRequiredAttributes(reader,
+                EnumSet.of(Attribute.NAME, Attribute.MAX_CONCURRENT_JOBS, Attribute.MAX_CONCURRENT_PARTITIONS));
+        final String name = attributes.get(Attribute.NAME);
+        if (name == null) {
+            throw ParseUtils.missingRequired(reader, Attribute.NAME.getLocalName());
+        }
+        final ModelNode op = Util.createAddOperation(subsystemAddress.append(BatchVirtualThreadPoolResourceDefinition.NAME, name));
+        final String maxConcurrentJobs = attributes.get(Attribute.MAX_CONCURRENT_JOBS);
+        if (maxConcurrentJobs != null) {
+            BatchVirtualThreadPoolResourceDefinition.MAX_CONCURRENT_JOBS.parseAndSetParameter(maxConcurrentJobs, op, reader);
+        }
+        final String maxConcurrentPartitions = attributes.get(Attribute.MAX_CONCURRENT_PARTITIONS);
+        if (maxConcurrentPartitions != null) {
+            BatchVirtualThreadPoolResourceDefinition.MAX_CONCURRENT_PARTITIONS.parseAndSetParameter(maxConcurrentPartitions, op, reader);
+        }
+        ops.add(op);
+        ParseUtils.requireNoContent(reader);
+        return true;
+    }
+}
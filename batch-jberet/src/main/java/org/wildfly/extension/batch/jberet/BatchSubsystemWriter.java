@@ -18,6 +18,7 @@ import org.wildfly.extension.batch.jberet.job.repository.CommonAttributes;
 import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.thread.pool.BatchThreadPoolResourceDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.BatchVirtualThreadPoolResourceDefinition;
 
 /**
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
@@ -33,6 +34,7 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
         BatchSubsystemDefinition.DEFAULT_THREAD_POOL.marshallAsElement(model, writer);
         BatchSubsystemDefinition.RESTART_JOBS_ON_RESUME.marshallAsElement(model, writer);
         BatchSubsystemDefinition.SECURITY_DOMAIN.marshallAsElement(model, writer);
+        BatchSubsystemDefinition.DISTRIBUTED_PARTITIONS.marshallAsElement(model, writer);
 
         // Write the in-memory job repositories
         if (model.hasDefined(InMemoryJobRepositoryDefinition.NAME)) {
@@ -68,6 +70,18 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
             }
         }
 
+        // Write the virtual thread pools
+        if (model.hasDefined(BatchVirtualThreadPoolResourceDefinition.NAME)) {
+            final List<Property> threadPools = model.get(BatchVirtualThreadPoolResourceDefinition.NAME).asPropertyList();
+            for (Property threadPool : threadPools) {
+                writer.writeStartElement(Element.VIRTUAL_THREAD_POOL.getLocalName());
+                writeNameAttribute(writer, threadPool.getName());
+                BatchVirtualThreadPoolResourceDefinition.MAX_CONCURRENT_JOBS.marshallAsAttribute(threadPool.getValue(), writer);
+                BatchVirtualThreadPoolResourceDefinition.MAX_CONCURRENT_PARTITIONS.marshallAsAttribute(threadPool.getValue(), writer);
+                writer.writeEndElement();
+            }
+        }
+
         // Write out the thread factory
         if (model.hasDefined(BatchSubsystemDefinition.THREAD_FACTORY)) {
             final List<Property> threadFactories = model.get(BatchSubsystemDefinition.THREAD_FACTORY).asPropertyList();
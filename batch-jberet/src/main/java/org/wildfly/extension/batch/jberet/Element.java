@@ -16,6 +16,7 @@ public enum Element {
     UNKNOWN(null),
     DEFAULT_JOB_REPOSITORY("default-job-repository"),
     DEFAULT_THREAD_POOL("default-thread-pool"),
+    DISTRIBUTED_PARTITIONS("distributed-partitions"),
     JOB_REPOSITORY("job-repository"),
     JDBC("jdbc"),
     IN_MEMORY("in-memory"),
@@ -24,6 +25,7 @@ public enum Element {
     SECURITY_DOMAIN("security-domain"),
     THREAD_FACTORY("thread-factory"),
     THREAD_POOL("thread-pool"),
+    VIRTUAL_THREAD_POOL("virtual-thread-pool"),
     ;
 
     private final String name;
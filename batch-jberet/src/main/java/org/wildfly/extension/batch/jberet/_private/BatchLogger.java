@@ -7,11 +7,13 @@ package org.wildfly.extension.batch.jberet._private;
 
 import java.lang.invoke.MethodHandles;
 import java.security.Permission;
+import java.util.Collection;
 import jakarta.batch.operations.BatchRuntimeException;
 import jakarta.batch.operations.JobSecurityException;
 import jakarta.batch.operations.JobStartException;
 import jakarta.batch.operations.NoSuchJobException;
 
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.logging.BasicLogger;
@@ -203,4 +205,81 @@ public interface BatchLogger extends BasicLogger {
 
     @Message(id = 21, value = "Duplicate virtual file %s.")
     IllegalStateException duplicateVirtualFile(VirtualFile file);
+
+    /**
+     * Creates an exception indicating a date and time parameter could not be parsed.
+     *
+     * @param name  the name of the parameter
+     * @param value the value of the parameter
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 22, value = "Invalid value %2$s for parameter %1$s. The value must be an ISO 8601 local date and time, e.g. 2024-01-31T23:59:59")
+    OperationFailedException invalidDateTime(String name, String value);
+
+    /**
+     * Creates an exception indicating an operation removing job executions does not define any retention policy.
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 23, value = "At least one of %s must be defined")
+    OperationFailedException noRetentionPolicy(Collection<String> parameterNames);
+
+    /**
+     * Logs a message indicating a partition was lost with the member of the cluster executing it.
+     *
+     * @param partition the partition number
+     * @param stepName  the name of the partitioned step
+     * @param member    the member of the cluster which was executing the partition
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 24, value = "Partition %d of step %s was not completed by cluster member %s and will be dispatched again")
+    void partitionNotCompleted(int partition, String stepName, Object member);
+
+    /**
+     * Logs an error indicating a partition dispatched to a member of the cluster failed.
+     *
+     * @param cause     the cause of the error
+     * @param partition the partition number
+     * @param stepName  the name of the partitioned step
+     * @param member    the member of the cluster the partition was dispatched to
+     */
+    @LogMessage(level = Level.ERROR)
+    @Message(id = 25, value = "Failed to execute partition %d of step %s on cluster member %s")
+    void partitionFailed(@Cause Throwable cause, int partition, String stepName, Object member);
+
+    /**
+     * Creates an exception indicating a virtual thread pool cannot be added since the runtime does not support virtual
+     * threads.
+     *
+     * @param name the name of the virtual thread pool
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 26, value = "Virtual thread pool %s requires a runtime that supports virtual threads")
+    OperationFailedException virtualThreadsNotSupported(String name);
+
+    /**
+     * Creates an exception indicating partitions cannot be distributed across the cluster since the job repository of
+     * the deployment is not shared with the other members of the cluster.
+     *
+     * @param deploymentName the name of the deployment
+     *
+     * @return a {@link StartException} for the error
+     */
+    @Message(id = 27, value = "Partitions of deployment %s cannot be distributed across the cluster using an in-memory job repository")
+    StartException inMemoryJobRepositoryNotShared(String deploymentName);
+
+    /**
+     * Logs an error indicating the result of a partition executed for another member of the cluster could not be
+     * returned to that member.
+     *
+     * @param cause     the cause of the error
+     * @param partition the partition number
+     * @param stepName  the name of the partitioned step
+     * @param member    the member of the cluster which dispatched the partition
+     */
+    @LogMessage(level = Level.ERROR)
+    @Message(id = 28, value = "Failed to return the result of partition %d of step %s to cluster member %s")
+    void partitionResultNotReturned(@Cause Throwable cause, int partition, String stepName, Object member);
 }
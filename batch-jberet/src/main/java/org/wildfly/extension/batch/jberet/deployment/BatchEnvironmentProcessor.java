@@ -40,6 +40,9 @@ import org.jboss.as.weld.WeldCapability;
 import org.jboss.modules.Module;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.server.GroupMember;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.server.service.ClusteringServiceDescriptor;
 import org.wildfly.extension.batch.jberet.BatchConfiguration;
 import org.wildfly.extension.batch.jberet.BatchServiceNames;
 import org.wildfly.extension.batch.jberet._private.BatchLogger;
@@ -57,10 +60,12 @@ import org.wildfly.extension.requestcontroller.RequestController;
 public class BatchEnvironmentProcessor implements DeploymentUnitProcessor {
 
     private final boolean rcPresent;
+    private final boolean distributedPartitions;
     private final ContextClassLoaderJobOperatorContextSelector selector;
 
-    public BatchEnvironmentProcessor(final boolean rcPresent, final ContextClassLoaderJobOperatorContextSelector selector) {
+    public BatchEnvironmentProcessor(final boolean rcPresent, final boolean distributedPartitions, final ContextClassLoaderJobOperatorContextSelector selector) {
         this.rcPresent = rcPresent;
+        this.distributedPartitions = distributedPartitions;
         this.selector = selector;
     }
 
@@ -153,9 +158,12 @@ public class BatchEnvironmentProcessor implements DeploymentUnitProcessor {
             }
 
             final Supplier<RequestController> requestControllerSupplier = rcPresent ? serviceBuilder.requires(requestControllerServiceName(support)) : null;
+            final Supplier<CommandDispatcherFactory<GroupMember>> commandDispatcherFactorySupplier = distributedPartitions
+                    ? serviceBuilder.requires(support.getCapabilityServiceName(ClusteringServiceDescriptor.DEFAULT_COMMAND_DISPATCHER_FACTORY))
+                    : null;
 
             // Install the batch environment service
-            final BatchEnvironmentService service = new BatchEnvironmentService(batchEnvironmentConsumer, artifactFactorySupplier, jobExecutorSupplier, requestControllerSupplier, jobRepositorySupplier, batchConfigurationSupplier, moduleClassLoader, jobXmlResolver, deploymentName, namespaceContextSelector);
+            final BatchEnvironmentService service = new BatchEnvironmentService(batchEnvironmentConsumer, artifactFactorySupplier, jobExecutorSupplier, requestControllerSupplier, jobRepositorySupplier, batchConfigurationSupplier, commandDispatcherFactorySupplier, moduleClassLoader, jobXmlResolver, deploymentName, namespaceContextSelector);
             serviceBuilder.setInstance(service);
             serviceBuilder.install();
 
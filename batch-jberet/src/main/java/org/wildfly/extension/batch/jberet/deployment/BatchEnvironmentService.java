@@ -10,12 +10,14 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 import jakarta.transaction.TransactionManager;
 
+import org.jberet.repository.InMemoryRepository;
 import org.jberet.repository.JobRepository;
 import org.jberet.spi.ArtifactFactory;
 import org.jberet.spi.BatchEnvironment;
 import org.jberet.spi.JobExecutor;
 import org.jberet.spi.JobTask;
 import org.jberet.spi.JobXmlResolver;
+import org.jberet.spi.PartitionHandlerFactory;
 import org.jboss.as.naming.context.NamespaceContextSelector;
 import org.jboss.logging.MDC;
 import org.jboss.logging.NDC;
@@ -23,6 +25,8 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.clustering.server.GroupMember;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
 import org.wildfly.extension.batch.jberet.BatchConfiguration;
 import org.wildfly.extension.batch.jberet._private.BatchLogger;
 import org.wildfly.extension.requestcontroller.ControlPoint;
@@ -45,6 +49,7 @@ public class BatchEnvironmentService implements Service {
     private final Supplier<RequestController> requestControllerSupplier;
     private final Supplier<JobRepository> jobRepositorySupplier;
     private final Supplier<BatchConfiguration> batchConfigurationSupplier;
+    private final Supplier<CommandDispatcherFactory<GroupMember>> commandDispatcherFactorySupplier;
 
     private final ClassLoader classLoader;
     private final JobXmlResolver jobXmlResolver;
@@ -52,6 +57,7 @@ public class BatchEnvironmentService implements Service {
     private final NamespaceContextSelector namespaceContextSelector;
     private SecurityAwareBatchEnvironment batchEnvironment = null;
     private volatile ControlPoint controlPoint;
+    private volatile PartitionDispatcher partitionDispatcher;
 
     public BatchEnvironmentService(final Consumer<SecurityAwareBatchEnvironment> batchEnvironmentConsumer,
                                    final Supplier<WildFlyArtifactFactory> artifactFactorySupplier,
@@ -59,6 +65,7 @@ public class BatchEnvironmentService implements Service {
                                    final Supplier<RequestController> requestControllerSupplier,
                                    final Supplier<JobRepository> jobRepositorySupplier,
                                    final Supplier<BatchConfiguration> batchConfigurationSupplier,
+                                   final Supplier<CommandDispatcherFactory<GroupMember>> commandDispatcherFactorySupplier,
                                    final ClassLoader classLoader,
                                    final JobXmlResolver jobXmlResolver,
                                    final String deploymentName,
@@ -69,6 +76,7 @@ public class BatchEnvironmentService implements Service {
         this.requestControllerSupplier = requestControllerSupplier;
         this.jobRepositorySupplier = jobRepositorySupplier;
         this.batchConfigurationSupplier = batchConfigurationSupplier;
+        this.commandDispatcherFactorySupplier = commandDispatcherFactorySupplier;
         this.classLoader = classLoader;
         this.jobXmlResolver = jobXmlResolver;
         this.deploymentName = deploymentName;
@@ -89,6 +97,10 @@ public class BatchEnvironmentService implements Service {
         if (jobRepository == null) {
             jobRepository = batchConfiguration.getDefaultJobRepository();
         }
+        // Partitions executed by other members of the cluster must find their executions in the job repository
+        if (commandDispatcherFactorySupplier != null && jobRepository instanceof InMemoryRepository) {
+            throw BatchLogger.LOGGER.inMemoryJobRepositoryNotShared(deploymentName);
+        }
 
         this.batchEnvironment = new WildFlyBatchEnvironment(artifactFactorySupplier.get(),
                 jobExecutor, ContextTransactionManager.getInstance(),
@@ -101,6 +113,10 @@ public class BatchEnvironmentService implements Service {
         } else {
             controlPoint = null;
         }
+        // Distribute partitions across the cluster if enabled
+        if (commandDispatcherFactorySupplier != null) {
+            partitionDispatcher = new PartitionDispatcher(commandDispatcherFactorySupplier.get(), deploymentName, batchEnvironment);
+        }
         batchEnvironmentConsumer.accept(batchEnvironment);
     }
 
@@ -108,6 +124,10 @@ public class BatchEnvironmentService implements Service {
     public synchronized void stop(final StopContext context) {
         batchEnvironmentConsumer.accept(null);
         BatchLogger.LOGGER.debugf("Removing batch environment; %s", classLoader);
+        if (partitionDispatcher != null) {
+            partitionDispatcher.close();
+            partitionDispatcher = null;
+        }
         batchEnvironment = null;
         if (controlPoint != null) {
             requestControllerSupplier.get().removeControlPoint(controlPoint);
@@ -206,6 +226,15 @@ public class BatchEnvironmentService implements Service {
             return batchConfigurationSupplier.get().getSecurityDomain();
         }
 
+        @Override
+        public PartitionHandlerFactory getPartitionHandlerFactory() {
+            final PartitionDispatcher partitionDispatcher = BatchEnvironmentService.this.partitionDispatcher;
+            if (partitionDispatcher == null) {
+                return SecurityAwareBatchEnvironment.super.getPartitionHandlerFactory();
+            }
+            return objects -> partitionDispatcher.createPartitionHandler();
+        }
+
         private ContextHandle createContextHandle() {
             final ClassLoader tccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
             // If the TCCL is null, use the deployments ModuleClassLoader
@@ -10,6 +10,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import jakarta.batch.operations.NoSuchJobException;
+import jakarta.batch.operations.NoSuchJobExecutionException;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -198,9 +200,12 @@ public class BatchJobExecutionResource implements Resource {
             if (children.contains(executionName)) {
                 return true;
             }
-            // Load a cache of the names
-            refreshChildren();
-            return children.contains(executionName);
+        }
+        // Look up the single execution rather than loading every execution id of the job
+        try {
+            return jobName.equals(jobOperator.getJobInstance(Long.parseLong(executionName)).getJobName());
+        } catch (NumberFormatException | NoSuchJobException | NoSuchJobExecutionException ignore) {
+            return false;
         }
     }
 
@@ -182,10 +182,33 @@ public class BatchJobExecutionResourceDefinition extends SimpleResourceDefinitio
         protected void updateModel(final ModelNode model, final JobExecution jobExecution) throws OperationFailedException {
             final Date date = dateGetter.apply(jobExecution);
             if (date != null) {
-                // use OffsetDateTime and ISO_OFFSET_DATE_TIME if we want to include offset in the formatting output
-                model.set(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
-                        LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), DEFAULT_ZONE_ID)));
+                model.set(format(date));
             }
         }
     }
+
+    /**
+     * Formats the date as an ISO 8601 local date and time in the default time zone.
+     *
+     * @param date the date to format
+     *
+     * @return the formatted date
+     */
+    static String format(final Date date) {
+        // use OffsetDateTime and ISO_OFFSET_DATE_TIME if we want to include offset in the formatting output
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), DEFAULT_ZONE_ID));
+    }
+
+    /**
+     * Parses an ISO 8601 local date and time in the default time zone, as formatted by {@link #format(Date)}.
+     *
+     * @param value the value to parse
+     *
+     * @return the parsed date
+     *
+     * @throws java.time.format.DateTimeParseException if the value cannot be parsed
+     */
+    static Date parse(final String value) {
+        return Date.from(LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(DEFAULT_ZONE_ID).toInstant());
+    }
 }
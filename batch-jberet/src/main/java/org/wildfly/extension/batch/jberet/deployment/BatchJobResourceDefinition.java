@@ -5,17 +5,40 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import jakarta.batch.operations.JobSecurityException;
+import jakarta.batch.operations.NoSuchJobException;
+import jakarta.batch.operations.NoSuchJobExecutionException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleListAttributeDefinition;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
 
 /**
  * A definition representing a job resource.
@@ -41,8 +64,58 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
             .setStorageRuntime()
             .build();
 
+    private static final ResourceDescriptionResolver DEFAULT_RESOLVER = BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job");
+
+    private static final StringListAttributeDefinition BATCH_STATUS = new StringListAttributeDefinition.Builder("batch-status")
+            .setRequired(false)
+            .setElementValidator(EnumValidator.create(BatchStatus.class))
+            .build();
+
+    private static final SimpleAttributeDefinition CREATED_AFTER = SimpleAttributeDefinitionBuilder.create("created-after", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleAttributeDefinition CREATED_BEFORE = SimpleAttributeDefinitionBuilder.create("created-before", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleAttributeDefinition OFFSET = SimpleAttributeDefinitionBuilder.create("offset", ModelType.INT, true)
+            .setDefaultValue(new ModelNode(0))
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    private static final SimpleAttributeDefinition LIMIT = SimpleAttributeDefinitionBuilder.create("limit", ModelType.INT, true)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    private static final SimpleAttributeDefinition KEEP_MOST_RECENT = SimpleAttributeDefinitionBuilder.create("keep-most-recent", ModelType.INT, true)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    private static final SimpleAttributeDefinition OLDER_THAN_DAYS = SimpleAttributeDefinitionBuilder.create("older-than-days", ModelType.INT, true)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    private static final SimpleAttributeDefinition EXECUTION_ID = SimpleAttributeDefinitionBuilder.create("execution-id", ModelType.LONG)
+            .build();
+
+    private static final SimpleOperationDefinition LIST_EXECUTIONS = new SimpleOperationDefinitionBuilder("list-executions", DEFAULT_RESOLVER)
+            .setParameters(BATCH_STATUS, CREATED_AFTER, CREATED_BEFORE, OFFSET, LIMIT)
+            .setReplyType(ModelType.LIST)
+            .setReplyParameters(EXECUTION_ID, BatchJobExecutionResourceDefinition.BATCH_STATUS, BatchJobExecutionResourceDefinition.EXIT_STATUS,
+                    BatchJobExecutionResourceDefinition.CREATE_TIME, BatchJobExecutionResourceDefinition.START_TIME,
+                    BatchJobExecutionResourceDefinition.END_TIME)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    private static final SimpleOperationDefinition PURGE_EXECUTIONS = new SimpleOperationDefinitionBuilder("purge-executions", DEFAULT_RESOLVER)
+            .setParameters(KEEP_MOST_RECENT, OLDER_THAN_DAYS, BATCH_STATUS)
+            .setReplyType(ModelType.INT)
+            .setRuntimeOnly()
+            .build();
+
     public BatchJobResourceDefinition() {
-        super(new Parameters(PathElement.pathElement(JOB), BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job")).setRuntime());
+        super(new Parameters(PathElement.pathElement(JOB), DEFAULT_RESOLVER).setRuntime());
     }
 
     @Override
@@ -70,4 +143,179 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
         });
     }
 
+    @Override
+    public void registerOperations(final ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+
+        resourceRegistration.registerOperationHandler(LIST_EXECUTIONS, new JobOperationStepHandler(false) {
+            @Override
+            protected void execute(final OperationContext context, final ModelNode operation, final WildFlyJobOperator jobOperator) throws OperationFailedException {
+                final String jobName = context.getCurrentAddressValue();
+                final JobExecutionFilter filter = new JobExecutionFilter(resolveStatuses(context, operation),
+                        resolveDate(context, operation, CREATED_AFTER), resolveDate(context, operation, CREATED_BEFORE));
+                final int offset = OFFSET.resolveModelAttribute(context, operation).asInt();
+                final int limit = LIMIT.resolveModelAttribute(context, operation).asInt();
+                final ModelNode result = context.getResult().setEmptyList();
+                try {
+                    for (JobExecution jobExecution : listExecutions(jobOperator, jobName, filter, offset, limit)) {
+                        result.add(describe(jobExecution));
+                    }
+                } catch (NoSuchJobException | NoSuchJobExecutionException | JobSecurityException e) {
+                    throw createOperationFailure(e);
+                }
+            }
+        });
+
+        resourceRegistration.registerOperationHandler(PURGE_EXECUTIONS, new JobOperationStepHandler() {
+            @Override
+            protected void execute(final OperationContext context, final ModelNode operation, final WildFlyJobOperator jobOperator) throws OperationFailedException {
+                final String jobName = context.getCurrentAddressValue();
+                final ModelNode keepMostRecent = KEEP_MOST_RECENT.resolveModelAttribute(context, operation);
+                final ModelNode olderThanDays = OLDER_THAN_DAYS.resolveModelAttribute(context, operation);
+                if (!keepMostRecent.isDefined() && !olderThanDays.isDefined()) {
+                    throw BatchLogger.LOGGER.noRetentionPolicy(List.of(KEEP_MOST_RECENT.getName(), OLDER_THAN_DAYS.getName()));
+                }
+                final Date createdBefore = olderThanDays.isDefined() ? new Date(System.currentTimeMillis() - Duration.ofDays(olderThanDays.asInt()).toMillis()) : null;
+                final JobExecutionFilter filter = new JobExecutionFilter(resolveStatuses(context, operation), null, createdBefore);
+                try {
+                    context.getResult().set(purgeExecutions(jobOperator, jobName, filter, keepMostRecent.asInt(0)));
+                } catch (NoSuchJobException | JobSecurityException e) {
+                    throw createOperationFailure(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Lists a page of the executions of a job which match a filter, most recent first. Only the executions of the page are
+     * loaded, unless the filter selects executions by status. As execution ids are allocated in creation order, the create
+     * time window is located by a binary search over the execution ids rather than by loading each execution.
+     *
+     * @param jobOperator the job operator
+     * @param jobName     the name of the job
+     * @param filter      the filter selecting the executions
+     * @param offset      the number of matching executions to skip
+     * @param limit       the maximum number of executions to return
+     *
+     * @return the matching executions of the page
+     */
+    static List<JobExecution> listExecutions(final WildFlyJobOperator jobOperator, final String jobName, final JobExecutionFilter filter, final int offset, final int limit) {
+        if (!filter.hasStatuses() && !filter.hasCreatedAfter() && !filter.hasCreatedBefore()) {
+            // Only the ids up to the end of the page are needed
+            final List<Long> executionIds = sortDescending(jobOperator.getJobExecutionsByJob(jobName, (int) Math.min((long) offset + limit, Integer.MAX_VALUE)));
+            return loadExecutions(jobOperator, executionIds, offset, limit);
+        }
+        final List<Long> executionIds = sortDescending(jobOperator.getJobExecutionsByJob(jobName));
+        final int start = filter.hasCreatedBefore() ? search(jobOperator, executionIds, 0, executionIds.size(), jobExecution -> !filter.follows(jobExecution)) : 0;
+        final int end = filter.hasCreatedAfter() ? search(jobOperator, executionIds, start, executionIds.size(), filter::precedes) : executionIds.size();
+        if (!filter.hasStatuses()) {
+            return loadExecutions(jobOperator, executionIds.subList(start, end), offset, limit);
+        }
+        final List<JobExecution> result = new ArrayList<>(Math.min(limit, end - start));
+        int skipped = 0;
+        for (int i = start; i < end && result.size() < limit; i++) {
+            final JobExecution jobExecution = jobOperator.getJobExecution(executionIds.get(i));
+            if (filter.test(jobExecution)) {
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    result.add(jobExecution);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the completed executions of a job which match a filter, retaining the most recent executions.
+     *
+     * @param jobOperator    the job operator
+     * @param jobName        the name of the job
+     * @param filter         the filter selecting the executions to remove
+     * @param keepMostRecent the number of most recent executions to retain
+     *
+     * @return the number of removed executions
+     */
+    static int purgeExecutions(final WildFlyJobOperator jobOperator, final String jobName, final JobExecutionFilter filter, final int keepMostRecent) {
+        final Set<Long> retained = keepMostRecent > 0 ? Set.copyOf(jobOperator.getJobExecutionsByJob(jobName, keepMostRecent)) : Set.of();
+        return jobOperator.removeJobExecutions(jobName, filter.and(jobExecution -> !retained.contains(jobExecution.getExecutionId())));
+    }
+
+    private static List<Long> sortDescending(final List<Long> executionIds) {
+        final List<Long> result = new ArrayList<>(executionIds);
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+
+    private static List<JobExecution> loadExecutions(final WildFlyJobOperator jobOperator, final List<Long> executionIds, final int offset, final int limit) {
+        final int end = (int) Math.min((long) offset + limit, executionIds.size());
+        final List<JobExecution> result = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) {
+            result.add(jobOperator.getJobExecution(executionIds.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the first index within a range of execution ids, ordered most recent first, whose execution matches a predicate
+     * which, once matched, matches all older executions.
+     *
+     * @return the first matching index or the end of the range if no execution matches
+     */
+    private static int search(final WildFlyJobOperator jobOperator, final List<Long> executionIds, final int from, final int to, final Predicate<JobExecution> predicate) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (predicate.test(jobOperator.getJobExecution(executionIds.get(mid)))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static Set<BatchStatus> resolveStatuses(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+        final Set<BatchStatus> statuses = EnumSet.noneOf(BatchStatus.class);
+        for (String status : BATCH_STATUS.unwrap(context, operation)) {
+            statuses.add(BatchStatus.valueOf(status));
+        }
+        return statuses;
+    }
+
+    private static Date resolveDate(final OperationContext context, final ModelNode operation, final AttributeDefinition attribute) throws OperationFailedException {
+        final ModelNode value = attribute.resolveModelAttribute(context, operation);
+        if (!value.isDefined()) {
+            return null;
+        }
+        try {
+            return BatchJobExecutionResourceDefinition.parse(value.asString());
+        } catch (DateTimeParseException e) {
+            throw BatchLogger.LOGGER.invalidDateTime(attribute.getName(), value.asString());
+        }
+    }
+
+    private static ModelNode describe(final JobExecution jobExecution) {
+        final ModelNode result = new ModelNode();
+        result.get(EXECUTION_ID.getName()).set(jobExecution.getExecutionId());
+        final BatchStatus status = jobExecution.getBatchStatus();
+        if (status != null) {
+            result.get(BatchJobExecutionResourceDefinition.BATCH_STATUS.getName()).set(status.toString());
+        }
+        final String exitStatus = jobExecution.getExitStatus();
+        if (exitStatus != null) {
+            result.get(BatchJobExecutionResourceDefinition.EXIT_STATUS.getName()).set(exitStatus);
+        }
+        describeDate(result, BatchJobExecutionResourceDefinition.CREATE_TIME, jobExecution.getCreateTime());
+        describeDate(result, BatchJobExecutionResourceDefinition.START_TIME, jobExecution.getStartTime());
+        describeDate(result, BatchJobExecutionResourceDefinition.END_TIME, jobExecution.getEndTime());
+        return result;
+    }
+
+    private static void describeDate(final ModelNode model, final AttributeDefinition attribute, final Date date) {
+        if (date != null) {
+            model.get(attribute.getName()).set(BatchJobExecutionResourceDefinition.format(date));
+        }
+    }
 }
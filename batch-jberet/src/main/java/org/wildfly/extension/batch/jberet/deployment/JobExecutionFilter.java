@@ -0,0 +1,117 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+/**
+ * Selects {@linkplain JobExecution job executions} by batch status and by a window on their create time.
+ */
+class JobExecutionFilter implements Predicate<JobExecution> {
+
+    /**
+     * The statuses of executions which have not yet completed and must never be removed from the job repository.
+     */
+    static final Set<BatchStatus> ACTIVE_STATUSES = EnumSet.of(BatchStatus.STARTING, BatchStatus.STARTED, BatchStatus.STOPPING);
+
+    private final Set<BatchStatus> statuses;
+    private final Date createdAfter;
+    private final Date createdBefore;
+
+    /**
+     * Creates a new filter.
+     *
+     * @param statuses      the statuses to select, an empty set selects any status
+     * @param createdAfter  the exclusive lower bound of the create time or {@code null} if unbounded
+     * @param createdBefore the exclusive upper bound of the create time or {@code null} if unbounded
+     */
+    JobExecutionFilter(final Set<BatchStatus> statuses, final Date createdAfter, final Date createdBefore) {
+        this.statuses = statuses;
+        this.createdAfter = createdAfter;
+        this.createdBefore = createdBefore;
+    }
+
+    @Override
+    public boolean test(final JobExecution jobExecution) {
+        if (!testStatus(jobExecution)) {
+            return false;
+        }
+        final Date createTime = jobExecution.getCreateTime();
+        if (createdBefore != null && (createTime == null || !createTime.before(createdBefore))) {
+            return false;
+        }
+        return createdAfter == null || (createTime != null && createTime.after(createdAfter));
+    }
+
+    /**
+     * Indicates whether the execution was created at or before the lower bound of the create time window. As execution
+     * ids are allocated in creation order, no older execution can match this filter either.
+     *
+     * @param jobExecution the execution to check
+     *
+     * @return {@code true} if the execution precedes the window, otherwise {@code false}
+     */
+    boolean precedes(final JobExecution jobExecution) {
+        final Date createTime = jobExecution.getCreateTime();
+        return createdAfter != null && createTime != null && !createTime.after(createdAfter);
+    }
+
+    /**
+     * Indicates whether the execution was created at or after the upper bound of the create time window. As execution
+     * ids are allocated in creation order, no more recent execution can match this filter either.
+     *
+     * @param jobExecution the execution to check
+     *
+     * @return {@code true} if the execution follows the window, otherwise {@code false}
+     */
+    boolean follows(final JobExecution jobExecution) {
+        final Date createTime = jobExecution.getCreateTime();
+        return createdBefore != null && (createTime == null || !createTime.before(createdBefore));
+    }
+
+    /**
+     * Indicates whether the status of the execution is selected by this filter.
+     *
+     * @param jobExecution the execution to check
+     *
+     * @return {@code true} if the status is selected, otherwise {@code false}
+     */
+    boolean testStatus(final JobExecution jobExecution) {
+        return statuses.isEmpty() || statuses.contains(jobExecution.getBatchStatus());
+    }
+
+    /**
+     * Indicates whether this filter selects executions by status.
+     *
+     * @return {@code true} if only some statuses are selected, otherwise {@code false}
+     */
+    boolean hasStatuses() {
+        return !statuses.isEmpty();
+    }
+
+    /**
+     * Indicates whether this filter bounds the create time of executions from below.
+     *
+     * @return {@code true} if the lower bound of the create time window is defined, otherwise {@code false}
+     */
+    boolean hasCreatedAfter() {
+        return createdAfter != null;
+    }
+
+    /**
+     * Indicates whether this filter bounds the create time of executions from above.
+     *
+     * @return {@code true} if the upper bound of the create time window is defined, otherwise {@code false}
+     */
+    boolean hasCreatedBefore() {
+        return createdBefore != null;
+    }
+}
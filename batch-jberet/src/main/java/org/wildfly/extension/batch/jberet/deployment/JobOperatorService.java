@@ -20,6 +20,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import jakarta.batch.operations.JobExecutionAlreadyCompleteException;
 import jakarta.batch.operations.JobExecutionIsRunningException;
@@ -35,8 +36,11 @@ import jakarta.batch.operations.NoSuchJobInstanceException;
 import jakarta.batch.runtime.JobExecution;
 import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.batch.runtime.context.StepContext;
 
 import org.jberet.operations.AbstractJobOperator;
+import org.jberet.repository.JobExecutionSelector;
 import org.jberet.runtime.JobExecutionImpl;
 import org.jberet.spi.BatchEnvironment;
 import org.jboss.as.controller.ControlledProcessState;
@@ -211,6 +215,32 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
         }
     }
 
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final int limit) {
+        checkState(jobName);
+        final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        try {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            return getJobRepository().getJobExecutionsByJob(jobName, limit);
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+        }
+    }
+
+    @Override
+    public int removeJobExecutions(final String jobName, final Predicate<JobExecution> filter) {
+        checkState(jobName, "abandon");
+        final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        try {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            final RemovedJobExecutionSelector selector = new RemovedJobExecutionSelector(jobName, filter);
+            getJobRepository().removeJobExecutions(selector);
+            return selector.getRemoved();
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+        }
+    }
+
     @Override
     public Properties getParameters(final long executionId) throws NoSuchJobExecutionException, JobSecurityException {
         checkState();
@@ -400,6 +430,58 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
         }
     }
 
+    /**
+     * Selects the completed executions of a job which match a filter for removal, counting the selected executions.
+     */
+    static class RemovedJobExecutionSelector implements JobExecutionSelector {
+        private final String jobName;
+        private final Predicate<JobExecution> filter;
+        private JobContext jobContext;
+        private StepContext stepContext;
+        private int removed;
+
+        RemovedJobExecutionSelector(final String jobName, final Predicate<JobExecution> filter) {
+            this.jobName = jobName;
+            this.filter = filter;
+        }
+
+        int getRemoved() {
+            return removed;
+        }
+
+        @Override
+        public boolean select(final JobExecution jobExecution, final Collection<Long> allJobExecutionIds) {
+            if (!jobName.equals(jobExecution.getJobName()) || JobExecutionFilter.ACTIVE_STATUSES.contains(jobExecution.getBatchStatus())) {
+                return false;
+            }
+            if (filter.test(jobExecution)) {
+                removed++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public JobContext getJobContext() {
+            return jobContext;
+        }
+
+        @Override
+        public void setJobContext(final JobContext jobContext) {
+            this.jobContext = jobContext;
+        }
+
+        @Override
+        public StepContext getStepContext() {
+            return stepContext;
+        }
+
+        @Override
+        public void setStepContext(final StepContext stepContext) {
+            this.stepContext = stepContext;
+        }
+    }
+
 
     private class BatchJobServerActivity implements ServerActivity, PropertyChangeListener {
         private final AtomicBoolean jobsStopped = new AtomicBoolean(false);
@@ -0,0 +1,38 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.jberet.spi.PartitionInfo;
+import org.wildfly.clustering.server.GroupMember;
+import org.wildfly.clustering.server.dispatcher.Command;
+
+/**
+ * Submits a partition of a partitioned step for execution on the member of the cluster receiving the command. The
+ * command completes once the partition is submitted, the result of the partition is returned to the dispatching member
+ * via a {@link PartitionCompletionCommand}.
+ */
+class PartitionCommand implements Command<Void, PartitionDispatcher, Exception>, Serializable {
+    private static final long serialVersionUID = -2409158327715093616L;
+
+    private final UUID id;
+    private final GroupMember origin;
+    private final PartitionInfo partitionInfo;
+
+    PartitionCommand(final UUID id, final GroupMember origin, final PartitionInfo partitionInfo) {
+        this.id = id;
+        this.origin = origin;
+        this.partitionInfo = partitionInfo;
+    }
+
+    @Override
+    public Void execute(final PartitionDispatcher dispatcher) throws Exception {
+        dispatcher.execute(id, origin, partitionInfo);
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.wildfly.clustering.server.dispatcher.Command;
+
+/**
+ * Reports the result of a partition executed by another member of the cluster to the member which dispatched it.
+ */
+class PartitionCompletionCommand implements Command<Void, PartitionDispatcher, Exception>, Serializable {
+    private static final long serialVersionUID = 7148311740695126409L;
+
+    private final UUID id;
+    private final PartitionResult result;
+
+    PartitionCompletionCommand(final UUID id, final PartitionResult result) {
+        this.id = id;
+        this.result = result;
+    }
+
+    @Override
+    public Void execute(final PartitionDispatcher dispatcher) throws Exception {
+        dispatcher.complete(id, result);
+        return null;
+    }
+}
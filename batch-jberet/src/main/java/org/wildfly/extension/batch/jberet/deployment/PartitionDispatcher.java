@@ -0,0 +1,359 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.transaction.TransactionManager;
+
+import org.jberet.job.model.Step;
+import org.jberet.runtime.AbstractStepExecution;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.context.AbstractContext;
+import org.jberet.runtime.context.JobContextImpl;
+import org.jberet.runtime.context.StepContextImpl;
+import org.jberet.runtime.runner.AbstractRunner;
+import org.jberet.runtime.runner.BatchletRunner;
+import org.jberet.runtime.runner.ChunkRunner;
+import org.jberet.spi.JobTask;
+import org.jberet.spi.PartitionHandler;
+import org.jberet.spi.PartitionInfo;
+import org.jberet.spi.PartitionWorker;
+import org.wildfly.clustering.server.GroupMember;
+import org.wildfly.clustering.server.GroupMembership;
+import org.wildfly.clustering.server.GroupMembershipEvent;
+import org.wildfly.clustering.server.GroupMembershipListener;
+import org.wildfly.clustering.server.GroupMembershipMergeEvent;
+import org.wildfly.clustering.server.Registration;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+
+/**
+ * Distributes the partitions of partitioned steps across the members of the cluster on which the deployment is
+ * available.
+ * <p>
+ * Partitions are dispatched to the members of the cluster in turn, including the local member, which executes its
+ * partitions as usual. A partition dispatched to a member which leaves the cluster, or on which the deployment is not
+ * available, is dispatched again to one of the remaining members. The collector data and status of a remote partition
+ * are reported to the step once the partition completes.
+ * </p>
+ * <p>
+ * A member receiving a partition only submits it to its batch environment, so the thread delivering the command is
+ * never blocked while the partition runs. The member returns the result of the partition to the dispatching member in
+ * a separate command once the partition completes.
+ * </p>
+ * <p>
+ * Partitions executed on other members read and write the step and partition executions in the job repository, which
+ * must therefore be shared by all members of the cluster.
+ * </p>
+ */
+class PartitionDispatcher implements GroupMembershipListener<GroupMember>, AutoCloseable {
+
+    private final CommandDispatcherFactory<GroupMember> dispatcherFactory;
+    private final SecurityAwareBatchEnvironment batchEnvironment;
+    private final CommandDispatcher<GroupMember, PartitionDispatcher> dispatcher;
+    private final AtomicInteger nextMember = new AtomicInteger();
+    // The partitions executing on other members, by the identifier of their dispatch
+    private final Map<UUID, RemotePartition> remotePartitions = new ConcurrentHashMap<>();
+    private final Registration registration;
+
+    /**
+     * Creates a new partition dispatcher for a deployment.
+     *
+     * @param dispatcherFactory the factory used to create the command dispatcher
+     * @param deploymentName    the name of the deployment, which identifies the dispatcher across the cluster
+     * @param batchEnvironment  the batch environment of the deployment
+     */
+    PartitionDispatcher(final CommandDispatcherFactory<GroupMember> dispatcherFactory, final String deploymentName, final SecurityAwareBatchEnvironment batchEnvironment) {
+        this.dispatcherFactory = dispatcherFactory;
+        this.batchEnvironment = batchEnvironment;
+        this.dispatcher = dispatcherFactory.createCommandDispatcher("batch-jberet/" + deploymentName, this, batchEnvironment.getClassLoader());
+        this.registration = dispatcherFactory.getGroup().register(this);
+    }
+
+    /**
+     * Creates a handler which dispatches the partitions of a single partitioned step.
+     *
+     * @return a new partition handler
+     */
+    PartitionHandler createPartitionHandler() {
+        return new DistributedPartitionHandler();
+    }
+
+    @Override
+    public void close() {
+        registration.close();
+        dispatcher.close();
+    }
+
+    @Override
+    public void updated(final GroupMembershipEvent<GroupMember> event) {
+        membershipChanged(event.getCurrentMembership());
+    }
+
+    @Override
+    public void merged(final GroupMembershipMergeEvent<GroupMember> event) {
+        membershipChanged(event.getCurrentMembership());
+    }
+
+    private void membershipChanged(final GroupMembership<GroupMember> membership) {
+        final List<GroupMember> members = membership.getMembers();
+        for (Map.Entry<UUID, RemotePartition> entry : remotePartitions.entrySet()) {
+            if (!members.contains(entry.getValue().member)) {
+                dispatchAgain(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Dispatches a partition to the next member of the cluster.
+     *
+     * @param partitionInfo  the partition to dispatch
+     * @param localExecution executes the partition on the local member
+     * @param completion     receives the result of the partition if it was executed on another member
+     */
+    void dispatch(final PartitionInfo partitionInfo, final Runnable localExecution, final Consumer<PartitionResult> completion) {
+        dispatch(partitionInfo, localExecution, completion, new HashSet<>());
+    }
+
+    private void dispatch(final PartitionInfo partitionInfo, final Runnable localExecution, final Consumer<PartitionResult> completion, final Set<GroupMember> excluded) {
+        final GroupMember localMember = dispatcherFactory.getGroup().getLocalMember();
+        final GroupMember member = selectMember(excluded);
+        if (member == null || member.equals(localMember)) {
+            localExecution.run();
+            return;
+        }
+        final PartitionExecutionImpl partitionExecution = partitionInfo.getPartitionExecution();
+        final UUID id = UUID.randomUUID();
+        final RemotePartition remotePartition = new RemotePartition(member, partitionInfo, localExecution, completion, excluded);
+        remotePartitions.put(id, remotePartition);
+        try {
+            dispatcher.dispatchToMember(new PartitionCommand(id, localMember, partitionInfo), member).whenComplete((ignored, e) -> {
+                final Throwable cause = (e instanceof CompletionException) ? e.getCause() : e;
+                if (cause instanceof CancellationException) {
+                    // The member left the cluster, or the deployment is not available on the member
+                    dispatchAgain(id, remotePartition);
+                } else if (cause != null && remotePartitions.remove(id, remotePartition)) {
+                    BatchLogger.LOGGER.partitionFailed(cause, partitionExecution.getPartitionId(), partitionExecution.getStepName(), member);
+                    partitionExecution.setBatchStatus(BatchStatus.FAILED);
+                    completion.accept(new PartitionResult(partitionExecution, Collections.emptyList()));
+                }
+                // Otherwise the partition was submitted, and its result is returned via complete(...)
+            });
+        } catch (IOException e) {
+            remotePartitions.remove(id);
+            // The partition could not be marshalled, so it cannot be executed by any other member
+            BatchLogger.LOGGER.debugf(e, "Executing partition %d of step %s locally", partitionExecution.getPartitionId(), partitionExecution.getStepName());
+            localExecution.run();
+        }
+    }
+
+    /**
+     * Dispatches a partition again, excluding the member to which it was dispatched, unless the partition already
+     * completed or was already dispatched again.
+     */
+    private void dispatchAgain(final UUID id, final RemotePartition remotePartition) {
+        if (remotePartitions.remove(id, remotePartition)) {
+            final PartitionExecutionImpl partitionExecution = remotePartition.partitionInfo.getPartitionExecution();
+            BatchLogger.LOGGER.partitionNotCompleted(partitionExecution.getPartitionId(), partitionExecution.getStepName(), remotePartition.member);
+            remotePartition.excluded.add(remotePartition.member);
+            dispatch(remotePartition.partitionInfo, remotePartition.localExecution, remotePartition.completion, remotePartition.excluded);
+        }
+    }
+
+    /**
+     * Reports the result of a partition executed by another member of the cluster. The result of a partition which was
+     * since dispatched again is ignored.
+     *
+     * @param id     the identifier of the dispatch of the partition
+     * @param result the result of the partition
+     */
+    void complete(final UUID id, final PartitionResult result) {
+        final RemotePartition remotePartition = remotePartitions.remove(id);
+        if (remotePartition != null) {
+            remotePartition.completion.accept(result);
+        }
+    }
+
+    private GroupMember selectMember(final Set<GroupMember> excluded) {
+        final List<GroupMember> members = new ArrayList<>(dispatcherFactory.getGroup().getMembership().getMembers());
+        members.removeAll(excluded);
+        if (members.isEmpty()) {
+            return null;
+        }
+        return members.get(Math.floorMod(nextMember.getAndIncrement(), members.size()));
+    }
+
+    /**
+     * Submits a partition dispatched by another member of the cluster to a thread of the batch environment, so the
+     * partition runs with the context of the deployment and within the limits of its thread pool. The result of the
+     * partition is returned to the dispatching member once the partition completes.
+     *
+     * @param id            the identifier of the dispatch of the partition
+     * @param origin        the member of the cluster which dispatched the partition
+     * @param partitionInfo the partition to execute
+     */
+    void execute(final UUID id, final GroupMember origin, final PartitionInfo partitionInfo) {
+        batchEnvironment.submitTask(new JobTask() {
+            @Override
+            public int getRequiredRemainingPermits() {
+                return 0;
+            }
+
+            @Override
+            public void run() {
+                final PartitionExecutionImpl partitionExecution = partitionInfo.getPartitionExecution();
+                PartitionResult result;
+                try {
+                    result = executePartition(partitionInfo);
+                } catch (Throwable t) {
+                    BatchLogger.LOGGER.partitionFailed(t, partitionExecution.getPartitionId(), partitionExecution.getStepName(), dispatcherFactory.getGroup().getLocalMember());
+                    partitionExecution.setBatchStatus(BatchStatus.FAILED);
+                    result = new PartitionResult(partitionExecution, Collections.emptyList());
+                }
+                returnResult(id, origin, result);
+            }
+        });
+    }
+
+    private void returnResult(final UUID id, final GroupMember origin, final PartitionResult result) {
+        final PartitionExecutionImpl partitionExecution = result.getPartitionExecution();
+        try {
+            dispatcher.dispatchToMember(new PartitionCompletionCommand(id, result), origin);
+        } catch (IOException e) {
+            BatchLogger.LOGGER.partitionResultNotReturned(e, partitionExecution.getPartitionId(), partitionExecution.getStepName(), origin);
+            if (!result.getCollectorData().isEmpty()) {
+                // The collector data could not be marshalled, so report the partition as failed without its data
+                partitionExecution.setBatchStatus(BatchStatus.FAILED);
+                returnResult(id, origin, new PartitionResult(partitionExecution, Collections.emptyList()));
+            }
+        }
+    }
+
+    /**
+     * Executes a partition on the current thread.
+     *
+     * @param partitionInfo the partition to execute
+     *
+     * @return the result of the partition
+     */
+    PartitionResult executePartition(final PartitionInfo partitionInfo) {
+        final Step step = partitionInfo.getStep();
+        final CollectingPartitionWorker worker = new CollectingPartitionWorker(partitionInfo.getPartitionExecution());
+        final JobContextImpl jobContext = new JobContextImpl(partitionInfo.getJobExecution(), null,
+                batchEnvironment.getArtifactFactory(), batchEnvironment.getJobRepository(), batchEnvironment);
+        final StepContextImpl stepContext = new StepContextImpl(step, partitionInfo.getPartitionExecution(), jobContext);
+        final TransactionManager transactionManager = batchEnvironment.getTransactionManager();
+        final AbstractRunner<StepContextImpl> runner = step.getChunk() == null
+                ? new BatchletRunner(stepContext, null, step.getBatchlet(), worker)
+                : new ChunkRunner(stepContext, null, step.getChunk(), transactionManager, worker);
+        runner.run();
+        return worker.getResult();
+    }
+
+    /**
+     * A partition dispatched to another member of the cluster, awaiting its result.
+     */
+    private static class RemotePartition {
+        final GroupMember member;
+        final PartitionInfo partitionInfo;
+        final Runnable localExecution;
+        final Consumer<PartitionResult> completion;
+        final Set<GroupMember> excluded;
+
+        RemotePartition(final GroupMember member, final PartitionInfo partitionInfo, final Runnable localExecution,
+                        final Consumer<PartitionResult> completion, final Set<GroupMember> excluded) {
+            this.member = member;
+            this.partitionInfo = partitionInfo;
+            this.localExecution = localExecution;
+            this.completion = completion;
+            this.excluded = excluded;
+        }
+    }
+
+    /**
+     * Collects the data and the final state reported by a partition executed for another member of the cluster.
+     */
+    private static class CollectingPartitionWorker implements PartitionWorker {
+        private final List<Serializable> collectorData = Collections.synchronizedList(new ArrayList<>());
+        private volatile PartitionExecutionImpl partitionExecution;
+
+        CollectingPartitionWorker(final PartitionExecutionImpl partitionExecution) {
+            this.partitionExecution = partitionExecution;
+        }
+
+        @Override
+        public void reportData(final Serializable data, final AbstractStepExecution partitionExecution) {
+            collectorData.add(data);
+        }
+
+        @Override
+        public void partitionDone(final AbstractStepExecution partitionExecution) {
+            this.partitionExecution = (PartitionExecutionImpl) partitionExecution;
+        }
+
+        PartitionResult getResult() {
+            return new PartitionResult(partitionExecution, new ArrayList<>(collectorData));
+        }
+    }
+
+    /**
+     * Dispatches the partitions of a partitioned step and reports the partitions executed on other members of the
+     * cluster to the step, as if they had been executed locally.
+     */
+    private class DistributedPartitionHandler implements PartitionHandler {
+        private volatile BlockingQueue<Boolean> completedPartitionThreads;
+        private volatile BlockingQueue<Serializable> collectorDataQueue;
+
+        @Override
+        public void setResourceTracker(final BlockingQueue<Boolean> completedPartitionThreads) {
+            this.completedPartitionThreads = completedPartitionThreads;
+        }
+
+        @Override
+        public void setCollectorDataQueue(final BlockingQueue<Serializable> collectorDataQueue) {
+            this.collectorDataQueue = collectorDataQueue;
+        }
+
+        @Override
+        public void submitPartitionTask(final AbstractContext partitionStepContext, final AbstractRunner<? extends AbstractContext> partitionRunner,
+                                        final TransactionManager transactionManager) {
+            final StepContextImpl stepContext = (StepContextImpl) partitionStepContext;
+            final PartitionInfo partitionInfo = new PartitionInfo((PartitionExecutionImpl) stepContext.getStepExecution(),
+                    stepContext.getStep(), stepContext.getJobContext().getJobExecution());
+            dispatch(partitionInfo, () -> batchEnvironment.submitTask(partitionRunner), this::complete);
+        }
+
+        @Override
+        public void close(final StepContextImpl stepContext) {
+            // Nothing to release, the dispatcher is shared by all steps of the deployment
+        }
+
+        private void complete(final PartitionResult result) {
+            // The step expects the collector data of a partition to be followed by the partition execution itself
+            for (Serializable data : result.getCollectorData()) {
+                collectorDataQueue.add(data);
+            }
+            collectorDataQueue.add(result.getPartitionExecution());
+            completedPartitionThreads.offer(Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.jberet.runtime.PartitionExecutionImpl;
+
+/**
+ * The outcome of a partition executed on a member of the cluster. The collector data is returned with the outcome,
+ * rather than as it is collected, so that a partition which is dispatched again after its member left the cluster
+ * never reports the data of the lost execution.
+ */
+class PartitionResult implements Serializable {
+    private static final long serialVersionUID = 3904519254871233946L;
+
+    private final PartitionExecutionImpl partitionExecution;
+    private final List<Serializable> collectorData;
+
+    PartitionResult(final PartitionExecutionImpl partitionExecution, final List<Serializable> collectorData) {
+        this.partitionExecution = partitionExecution;
+        this.collectorData = collectorData;
+    }
+
+    /**
+     * Returns the partition execution, holding the batch and exit status of the partition.
+     *
+     * @return the partition execution
+     */
+    PartitionExecutionImpl getPartitionExecution() {
+        return partitionExecution;
+    }
+
+    /**
+     * Returns the data collected by the partition collector, in the order in which it was collected.
+     *
+     * @return the collector data
+     */
+    List<Serializable> getCollectorData() {
+        return collectorData;
+    }
+}
@@ -8,9 +8,11 @@ package org.wildfly.extension.batch.jberet.deployment;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import jakarta.batch.operations.JobOperator;
 import jakarta.batch.operations.NoSuchJobException;
+import jakarta.batch.runtime.JobExecution;
 
 /**
  * An extended version of a {@link JobOperator} for WildFly. Allows access to the job XML descriptors.
@@ -51,6 +53,29 @@ interface WildFlyJobOperator extends JobOperator {
      */
     List<Long> getJobExecutionsByJob(final String jobName);
 
+    /**
+     * Gets at most {@code limit} job execution ids belonging to the job identified by the {@code jobName}. The job
+     * repository returns the most recent executions first and bounds the query itself, so only the requested ids are
+     * loaded.
+     *
+     * @param jobName the job name identifying the job
+     * @param limit   the maximum number of ids to return
+     *
+     * @return job execution ids belonging to the job
+     */
+    List<Long> getJobExecutionsByJob(String jobName, int limit);
+
+    /**
+     * Removes the job executions belonging to the job identified by the {@code jobName} which match the filter from the
+     * job repository. Executions which have not yet completed are never removed.
+     *
+     * @param jobName the job name identifying the job
+     * @param filter  the filter selecting the executions to remove
+     *
+     * @return the number of removed executions
+     */
+    int removeJobExecutions(String jobName, Predicate<JobExecution> filter);
+
     /**
      * Allows safe execution of a method catching any {@link NoSuchJobException} thrown. If the exception is thrown the
      * default value is returned, otherwise the value from the supplier is returned.
@@ -0,0 +1,136 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import org.jberet.spi.JobExecutor;
+import org.jboss.as.clustering.thread.VirtualThreads;
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.extension.batch.jberet._private.Capabilities;
+
+/**
+ * A resource definition for a batch thread pool which runs each job and partition on its own virtual thread.
+ * <p>
+ * A virtual thread pool provides the same capability as a {@code thread-pool} and can be referenced wherever a thread
+ * pool can be.
+ * </p>
+ */
+public class BatchVirtualThreadPoolResourceDefinition extends SimpleResourceDefinition {
+
+    public static final String NAME = "virtual-thread-pool";
+    public static final PathElement PATH = PathElement.pathElement(NAME);
+
+    public static final SimpleAttributeDefinition MAX_CONCURRENT_JOBS = SimpleAttributeDefinitionBuilder.create("max-concurrent-jobs", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition MAX_CONCURRENT_PARTITIONS = SimpleAttributeDefinitionBuilder.create("max-concurrent-partitions", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    private static final SimpleAttributeDefinition ACTIVE_JOBS = SimpleAttributeDefinitionBuilder.create("active-jobs", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private static final SimpleAttributeDefinition WAITING_JOBS = SimpleAttributeDefinitionBuilder.create("waiting-jobs", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private static final SimpleAttributeDefinition ACTIVE_PARTITIONS = SimpleAttributeDefinitionBuilder.create("active-partitions", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private static final SimpleAttributeDefinition WAITING_PARTITIONS = SimpleAttributeDefinitionBuilder.create("waiting-partitions", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private final boolean registerRuntimeOnly;
+
+    public BatchVirtualThreadPoolResourceDefinition(final boolean registerRuntimeOnly) {
+        super(new Parameters(PATH, BatchResourceDescriptionResolver.getResourceDescriptionResolver(NAME))
+                .setAddHandler(new VirtualThreadPoolAdd())
+                .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
+                .setCapabilities(Capabilities.THREAD_POOL_CAPABILITY));
+        this.registerRuntimeOnly = registerRuntimeOnly;
+    }
+
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        final ReloadRequiredWriteAttributeHandler writeHandler = new ReloadRequiredWriteAttributeHandler(MAX_CONCURRENT_JOBS, MAX_CONCURRENT_PARTITIONS);
+        resourceRegistration.registerReadWriteAttribute(MAX_CONCURRENT_JOBS, null, writeHandler);
+        resourceRegistration.registerReadWriteAttribute(MAX_CONCURRENT_PARTITIONS, null, writeHandler);
+        if (registerRuntimeOnly) {
+            resourceRegistration.registerMetric(ACTIVE_JOBS, new VirtualThreadPoolMetricHandler(VirtualThreadJobExecutor::getActiveJobs));
+            resourceRegistration.registerMetric(WAITING_JOBS, new VirtualThreadPoolMetricHandler(VirtualThreadJobExecutor::getWaitingJobs));
+            resourceRegistration.registerMetric(ACTIVE_PARTITIONS, new VirtualThreadPoolMetricHandler(VirtualThreadJobExecutor::getActivePartitions));
+            resourceRegistration.registerMetric(WAITING_PARTITIONS, new VirtualThreadPoolMetricHandler(VirtualThreadJobExecutor::getWaitingPartitions));
+        }
+    }
+
+    private static class VirtualThreadPoolAdd extends AbstractAddStepHandler {
+        VirtualThreadPoolAdd() {
+            super(MAX_CONCURRENT_JOBS, MAX_CONCURRENT_PARTITIONS);
+        }
+
+        @Override
+        protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+            super.performRuntime(context, operation, model);
+            final String name = context.getCurrentAddressValue();
+            if (!VirtualThreads.isSupported()) {
+                // Tasks waiting for a permit would otherwise each occupy a platform thread
+                throw BatchLogger.LOGGER.virtualThreadsNotSupported(name);
+            }
+            final int maxConcurrentJobs = MAX_CONCURRENT_JOBS.resolveModelAttribute(context, model).asInt(0);
+            final int maxConcurrentPartitions = MAX_CONCURRENT_PARTITIONS.resolveModelAttribute(context, model).asInt(0);
+            final ServiceName serviceName = context.getCapabilityServiceName(Capabilities.THREAD_POOL_CAPABILITY.getName(), name, JobExecutor.class);
+            final ServiceBuilder<?> serviceBuilder = context.getServiceTarget().addService(serviceName);
+            final Consumer<JobExecutor> jobExecutorConsumer = serviceBuilder.provides(serviceName);
+            serviceBuilder.setInstance(new VirtualThreadJobExecutorService(jobExecutorConsumer, "Batch Thread " + name + "-", maxConcurrentJobs, maxConcurrentPartitions));
+            serviceBuilder.install();
+        }
+    }
+
+    private static class VirtualThreadPoolMetricHandler extends AbstractRuntimeOnlyHandler {
+        private final ToIntFunction<VirtualThreadJobExecutor> metric;
+
+        VirtualThreadPoolMetricHandler(final ToIntFunction<VirtualThreadJobExecutor> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final ServiceName serviceName = context.getCapabilityServiceName(Capabilities.THREAD_POOL_CAPABILITY.getName(), context.getCurrentAddressValue(), JobExecutor.class);
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+            final VirtualThreadJobExecutor executor = controller != null ? ((VirtualThreadJobExecutorService) controller.getService()).getExecutor() : null;
+            context.getResult().set(executor != null ? metric.applyAsInt(executor) : 0);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jberet.spi.JobExecutor;
+import org.jberet.spi.JobTask;
+import org.jboss.as.clustering.thread.VirtualThreads;
+
+/**
+ * A {@link JobExecutor} which runs each task on its own virtual thread.
+ * <p>
+ * Tasks submitted from a thread which is not running a task of this executor are jobs. Tasks submitted while running a
+ * task of this executor, i.e. the partitions of a partitioned step or the flows of a split, are partitions of that
+ * task. The number of concurrently running jobs, and the number of concurrently running partitions of each task, may
+ * be limited. Tasks waiting for a permit are parked on their virtual thread rather than held in a queue.
+ * </p>
+ * <p>
+ * The batch environment of the deployment sets up the context of each task before it is submitted, so the class
+ * loader, naming, security and concurrency contexts are propagated regardless of the type of thread. This executor
+ * requires a runtime that supports virtual threads, since a waiting task would otherwise occupy a platform thread.
+ * </p>
+ */
+class VirtualThreadJobExecutor extends JobExecutor {
+
+    private final TaskDispatcher dispatcher;
+
+    /**
+     * Creates a new job executor.
+     *
+     * @param prefix                  the name prefix of the threads created by this executor
+     * @param maxConcurrentJobs       the maximum number of concurrently running jobs, or 0 if unbounded
+     * @param maxConcurrentPartitions the maximum number of concurrently running partitions per task, or 0 if unbounded
+     *
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    VirtualThreadJobExecutor(final String prefix, final int maxConcurrentJobs, final int maxConcurrentPartitions) {
+        this(new TaskDispatcher(VirtualThreads.createThreadFactory(prefix), maxConcurrentJobs, maxConcurrentPartitions));
+    }
+
+    private VirtualThreadJobExecutor(final TaskDispatcher dispatcher) {
+        super(dispatcher);
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    protected int getMaximumPoolSize() {
+        // Partitioned steps may use as many threads as their partition plan requests, the partitions in excess of the
+        // limit wait for a permit on their own thread
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected JobTask wrap(final Runnable task) {
+        return WildFlyJobExecutor.wrapTask(task);
+    }
+
+    /**
+     * Returns the number of jobs currently running.
+     *
+     * @return the number of running jobs
+     */
+    int getActiveJobs() {
+        return dispatcher.jobs.active.get();
+    }
+
+    /**
+     * Returns the number of jobs waiting for a permit to run.
+     *
+     * @return the number of waiting jobs
+     */
+    int getWaitingJobs() {
+        return dispatcher.jobs.waiting.get();
+    }
+
+    /**
+     * Returns the number of partitions currently running.
+     *
+     * @return the number of running partitions
+     */
+    int getActivePartitions() {
+        return dispatcher.partitions.active.get();
+    }
+
+    /**
+     * Returns the number of partitions waiting for a permit to run.
+     *
+     * @return the number of waiting partitions
+     */
+    int getWaitingPartitions() {
+        return dispatcher.partitions.waiting.get();
+    }
+
+    /**
+     * The counters of a kind of task.
+     */
+    static class TaskCounters {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger waiting = new AtomicInteger();
+    }
+
+    /**
+     * Dispatches each task to a new thread, where it waits for a permit to run, if its kind of task is bounded.
+     */
+    static class TaskDispatcher implements Executor {
+        // Marks a thread running a task of this executor whose partitions are unbounded
+        private static final Semaphore UNBOUNDED = new Semaphore(0);
+
+        // The permits for the partitions of the task running on the current thread
+        private final ThreadLocal<Semaphore> partitionPermits = new ThreadLocal<>();
+        private final ThreadFactory threadFactory;
+        private final Semaphore jobPermits;
+        private final int maxConcurrentPartitions;
+        final TaskCounters jobs = new TaskCounters();
+        final TaskCounters partitions = new TaskCounters();
+
+        TaskDispatcher(final ThreadFactory threadFactory, final int maxConcurrentJobs, final int maxConcurrentPartitions) {
+            this.threadFactory = threadFactory;
+            this.jobPermits = maxConcurrentJobs > 0 ? new Semaphore(maxConcurrentJobs) : null;
+            this.maxConcurrentPartitions = maxConcurrentPartitions;
+        }
+
+        @Override
+        public void execute(final Runnable task) {
+            final Semaphore parentPermits = partitionPermits.get();
+            final boolean partition = parentPermits != null;
+            final Semaphore permits = partition ? (parentPermits == UNBOUNDED ? null : parentPermits) : jobPermits;
+            final TaskCounters counters = partition ? partitions : jobs;
+            threadFactory.newThread(() -> run(task, permits, counters)).start();
+        }
+
+        private void run(final Runnable task, final Semaphore permits, final TaskCounters counters) {
+            if (permits != null) {
+                counters.waiting.incrementAndGet();
+                try {
+                    // Never drop a task, the submitting job waits for the completion of its partitions
+                    permits.acquireUninterruptibly();
+                } finally {
+                    counters.waiting.decrementAndGet();
+                }
+            }
+            counters.active.incrementAndGet();
+            // Partitions only ever wait for permits of their own siblings, which cannot deadlock with their parent
+            partitionPermits.set(maxConcurrentPartitions > 0 ? new Semaphore(maxConcurrentPartitions) : UNBOUNDED);
+            try {
+                task.run();
+            } finally {
+                partitionPermits.remove();
+                counters.active.decrementAndGet();
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.util.function.Consumer;
+
+import org.jberet.spi.JobExecutor;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * A service providing a {@link VirtualThreadJobExecutor}.
+ */
+class VirtualThreadJobExecutorService implements Service {
+
+    private final Consumer<JobExecutor> jobExecutorConsumer;
+    private final String threadNamePrefix;
+    private final int maxConcurrentJobs;
+    private final int maxConcurrentPartitions;
+    private volatile VirtualThreadJobExecutor executor;
+
+    VirtualThreadJobExecutorService(final Consumer<JobExecutor> jobExecutorConsumer, final String threadNamePrefix,
+                                    final int maxConcurrentJobs, final int maxConcurrentPartitions) {
+        this.jobExecutorConsumer = jobExecutorConsumer;
+        this.threadNamePrefix = threadNamePrefix;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.maxConcurrentPartitions = maxConcurrentPartitions;
+    }
+
+    @Override
+    public void start(final StartContext context) throws StartException {
+        executor = new VirtualThreadJobExecutor(threadNamePrefix, maxConcurrentJobs, maxConcurrentPartitions);
+        jobExecutorConsumer.accept(executor);
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        jobExecutorConsumer.accept(null);
+        executor = null;
+    }
+
+    /**
+     * Returns the executor provided by this service.
+     *
+     * @return the executor or {@code null} if the service is not started
+     */
+    VirtualThreadJobExecutor getExecutor() {
+        return executor;
+    }
+}
@@ -28,6 +28,18 @@ class WildFlyJobExecutor extends JobExecutor {
 
     @Override
     protected JobTask wrap(final Runnable task) {
+        return wrapTask(task);
+    }
+
+    /**
+     * Wraps the task as a {@link JobTask}, retaining the required remaining permits of a job task queued by a
+     * {@linkplain ControlPointTask control point}.
+     *
+     * @param task the task to wrap
+     *
+     * @return the job task
+     */
+    static JobTask wrapTask(final Runnable task) {
         if (task instanceof JobTask) {
             return (JobTask) task;
         }
@@ -35,6 +35,7 @@ import org.junit.Test;
 import org.wildfly.extension.batch.jberet.job.repository.CommonAttributes;
 import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.BatchVirtualThreadPoolResourceDefinition;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -54,7 +55,7 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
 
     @Override
     protected String getSubsystemXsdPath() {
-        return "schema/wildfly-batch-jberet_3_0.xsd";
+        return "schema/wildfly-batch-jberet_4_0.xsd";
     }
 
     @Test
@@ -77,6 +78,20 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
         standardSubsystemTest("/security-domain-subsystem.xml");
     }
 
+    @Test
+    public void testVirtualThreadPoolSubsystem() throws Exception {
+        final KernelServices kernelServices = standardSubsystemTest("/virtual-thread-pool-subsystem.xml");
+        final ModelNode batchModel = kernelServices.readWholeModel().get("subsystem", getMainSubsystemName());
+        assertFalse("Expecting no thread-pool", batchModel.hasDefined("thread-pool"));
+
+        final ModelNode virtualThreadPool = batchModel.get(BatchVirtualThreadPoolResourceDefinition.NAME, "batch");
+        assertFalse("Expecting max-concurrent-jobs to be undefined", virtualThreadPool.hasDefined("max-concurrent-jobs"));
+        final int expectedMaxConcurrentPartitions = 8;
+        final int maxConcurrentPartitions = virtualThreadPool.get("max-concurrent-partitions").resolve().asInt();
+        assertEquals("Expecting max-concurrent-partitions " + expectedMaxConcurrentPartitions + ", but got " + maxConcurrentPartitions,
+                expectedMaxConcurrentPartitions, maxConcurrentPartitions);
+    }
+
     /**
      * Verifies that attributes with expression are handled properly.
      *
@@ -159,6 +174,12 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
         transformationConfig.addFailedAttribute(jdbcRepositoryAddress,
                 new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT));
 
+        transformationConfig.addFailedAttribute(PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH),
+                new FailedOperationTransformationConfig.NewAttributesConfig(BatchSubsystemDefinition.DISTRIBUTED_PARTITIONS));
+
+        transformationConfig.addFailedAttribute(PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, BatchVirtualThreadPoolResourceDefinition.PATH),
+                FailedOperationTransformationConfig.REJECTED_RESOURCE);
+
         testRejectingTransformers(transformationConfig, ModelTestControllerVersion.EAP_7_4_0);
     }
 
@@ -186,6 +207,7 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
     @Override
     protected AdditionalInitialization createAdditionalInitialization() {
         return AdditionalInitialization.withCapabilities(
+                "org.wildfly.clustering.server.default-command-dispatcher-factory",
                 "org.wildfly.data-source.ExampleDS",
                 "org.wildfly.security.security-domain.ApplicationDomain",
                 "org.wildfly.transactions.global-default-local-provider");
@@ -52,6 +52,7 @@ public class SubsystemOperationsTestCase extends AbstractBatchTestCase {
                 super.initializeExtraSubystemsAndModel(extensionRegistry, rootResource, rootRegistration, capabilityRegistry);
                 registerCapabilities(capabilityRegistry,
                         "org.wildfly.batch.thread.pool.new-job-repo",
+                        "org.wildfly.clustering.server.default-command-dispatcher-factory",
                         "org.wildfly.transactions.global-default-local-provider",
                         "org.wildfly.data-source.ExampleDS");
             }
@@ -0,0 +1,181 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the list-executions and purge-executions operations of a job resource against a job with 20 executions, created
+ * a minute apart. Every fourth execution failed, the most recent execution is still running and all others completed.
+ */
+public class BatchJobResourceDefinitionTestCase {
+
+    private static final String JOB_NAME = "test-job";
+    private static final int EXECUTIONS = 20;
+    private static final long BASE_TIME = 1_700_000_000_000L;
+
+    private final TreeMap<Long, JobExecution> executions = new TreeMap<>();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final WildFlyJobOperator jobOperator = mock(WildFlyJobOperator.class);
+
+    @Before
+    public void setUp() {
+        for (long id = 1; id <= EXECUTIONS; id++) {
+            final JobExecution jobExecution = mock(JobExecution.class);
+            when(jobExecution.getExecutionId()).thenReturn(id);
+            when(jobExecution.getJobName()).thenReturn(JOB_NAME);
+            when(jobExecution.getCreateTime()).thenReturn(createTime(id));
+            when(jobExecution.getBatchStatus()).thenReturn(id == EXECUTIONS ? BatchStatus.STARTED : (id % 4 == 0) ? BatchStatus.FAILED : BatchStatus.COMPLETED);
+            executions.put(id, jobExecution);
+        }
+        // The repository returns execution ids in no particular order, unless limited
+        when(jobOperator.getJobExecutionsByJob(JOB_NAME)).thenAnswer(invocation -> {
+            final List<Long> result = new ArrayList<>(executions.keySet());
+            Collections.shuffle(result);
+            return result;
+        });
+        when(jobOperator.getJobExecutionsByJob(eq(JOB_NAME), anyInt())).thenAnswer(invocation -> {
+            final List<Long> result = new ArrayList<>(executions.descendingKeySet());
+            return result.subList(0, Math.min(result.size(), invocation.<Integer>getArgument(1)));
+        });
+        when(jobOperator.getJobExecution(anyLong())).thenAnswer(invocation -> {
+            loaded.incrementAndGet();
+            return executions.get(invocation.<Long>getArgument(0));
+        });
+        when(jobOperator.removeJobExecutions(eq(JOB_NAME), any())).thenAnswer(invocation -> {
+            final JobOperatorService.RemovedJobExecutionSelector selector = new JobOperatorService.RemovedJobExecutionSelector(JOB_NAME, invocation.getArgument(1));
+            final Set<Long> executionIds = Set.copyOf(executions.keySet());
+            executions.values().removeIf(jobExecution -> selector.select(jobExecution, executionIds));
+            return selector.getRemoved();
+        });
+    }
+
+    @Test
+    public void testPaging() {
+        final JobExecutionFilter filter = new JobExecutionFilter(EnumSet.noneOf(BatchStatus.class), null, null);
+        assertExecutionIds(List.of(20L, 19L, 18L), list(filter, 0, 3));
+        assertEquals(3, loaded.getAndSet(0));
+
+        // Only the executions of the page are loaded, regardless of the offset
+        assertExecutionIds(List.of(15L, 14L, 13L, 12L, 11L), list(filter, 5, 5));
+        assertEquals(5, loaded.getAndSet(0));
+
+        assertExecutionIds(List.of(2L, 1L), list(filter, 18, 5));
+        assertExecutionIds(List.of(), list(filter, 25, 5));
+    }
+
+    @Test
+    public void testCreateTimeFilter() {
+        // Executions 6 to 15
+        final JobExecutionFilter filter = new JobExecutionFilter(EnumSet.noneOf(BatchStatus.class), createTime(5), createTime(16));
+        assertExecutionIds(List.of(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L), list(filter, 0, 100));
+        loaded.set(0);
+
+        assertExecutionIds(List.of(13L, 12L, 11L), list(filter, 2, 3));
+        // The window is located by binary search, so executions outside the page are loaded at most logarithmically
+        assertTrue(String.valueOf(loaded.get()), loaded.get() <= 3 + 2 * 5);
+
+        assertExecutionIds(List.of(7L, 6L), list(filter, 8, 5));
+        assertExecutionIds(List.of(), list(new JobExecutionFilter(EnumSet.noneOf(BatchStatus.class), createTime(EXECUTIONS), null), 0, 5));
+        assertExecutionIds(List.of(), list(new JobExecutionFilter(EnumSet.noneOf(BatchStatus.class), null, createTime(1)), 0, 5));
+    }
+
+    @Test
+    public void testStatusFilter() {
+        final JobExecutionFilter failed = new JobExecutionFilter(EnumSet.of(BatchStatus.FAILED), null, null);
+        assertExecutionIds(List.of(16L, 12L, 8L, 4L), list(failed, 0, 100));
+        assertExecutionIds(List.of(12L, 8L), list(failed, 1, 2));
+
+        final JobExecutionFilter failedBefore = new JobExecutionFilter(EnumSet.of(BatchStatus.FAILED), null, createTime(13));
+        assertExecutionIds(List.of(12L, 8L, 4L), list(failedBefore, 0, 100));
+
+        final JobExecutionFilter running = new JobExecutionFilter(EnumSet.of(BatchStatus.STARTED, BatchStatus.STARTING), null, null);
+        assertExecutionIds(List.of(20L), list(running, 0, 100));
+    }
+
+    @Test
+    public void testPurgeKeepMostRecent() {
+        final JobExecutionFilter filter = new JobExecutionFilter(EnumSet.noneOf(BatchStatus.class), null, null);
+        assertEquals(15, BatchJobResourceDefinition.purgeExecutions(jobOperator, JOB_NAME, filter, 5));
+        assertEquals(Set.of(16L, 17L, 18L, 19L, 20L), executions.keySet());
+    }
+
+    @Test
+    public void testPurgeByStatus() {
+        final JobExecutionFilter filter = new JobExecutionFilter(EnumSet.of(BatchStatus.FAILED), null, null);
+        assertEquals(3, BatchJobResourceDefinition.purgeExecutions(jobOperator, JOB_NAME, filter, 5));
+        assertEquals(EXECUTIONS - 3, executions.size());
+        assertTrue(executions.containsKey(16L));
+    }
+
+    @Test
+    public void testPurgeOlderThan() {
+        final JobExecutionFilter filter = new JobExecutionFilter(EnumSet.noneOf(BatchStatus.class), null, createTime(11));
+        assertEquals(10, BatchJobResourceDefinition.purgeExecutions(jobOperator, JOB_NAME, filter, 0));
+        assertEquals(11L, (long) executions.firstKey());
+    }
+
+    @Test
+    public void testPurgeRetainsActiveExecutions() {
+        final JobExecutionFilter filter = new JobExecutionFilter(EnumSet.noneOf(BatchStatus.class), null, null);
+        assertEquals(EXECUTIONS - 1, BatchJobResourceDefinition.purgeExecutions(jobOperator, JOB_NAME, filter, 0));
+        assertEquals(Set.of((long) EXECUTIONS), executions.keySet());
+    }
+
+    @Test
+    public void testRemovedJobExecutionSelector() {
+        final Predicate<JobExecution> all = jobExecution -> true;
+        final JobOperatorService.RemovedJobExecutionSelector selector = new JobOperatorService.RemovedJobExecutionSelector(JOB_NAME, all);
+        final JobExecution other = mock(JobExecution.class);
+        when(other.getJobName()).thenReturn("other-job");
+        when(other.getBatchStatus()).thenReturn(BatchStatus.COMPLETED);
+
+        assertTrue(selector.select(executions.get(1L), executions.keySet()));
+        // Executions of other jobs and executions which have not completed are never selected
+        assertFalse(selector.select(other, executions.keySet()));
+        assertFalse(selector.select(executions.get((long) EXECUTIONS), executions.keySet()));
+        assertEquals(1, selector.getRemoved());
+    }
+
+    private List<JobExecution> list(final JobExecutionFilter filter, final int offset, final int limit) {
+        return BatchJobResourceDefinition.listExecutions(jobOperator, JOB_NAME, filter, offset, limit);
+    }
+
+    private static Date createTime(final long executionId) {
+        return new Date(BASE_TIME + executionId * 60_000L);
+    }
+
+    private static void assertExecutionIds(final List<Long> expected, final List<JobExecution> executions) {
+        final List<Long> executionIds = new ArrayList<>(executions.size());
+        for (JobExecution jobExecution : executions) {
+            executionIds.add(jobExecution.getExecutionId());
+        }
+        assertEquals(expected, executionIds);
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.job.model.Step;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.context.JobContextImpl;
+import org.jberet.runtime.context.StepContextImpl;
+import org.jberet.spi.JobTask;
+import org.jberet.spi.PartitionHandler;
+import org.jberet.spi.PartitionInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.server.Group;
+import org.wildfly.clustering.server.GroupMember;
+import org.wildfly.clustering.server.GroupMembership;
+import org.wildfly.clustering.server.GroupMembershipEvent;
+import org.wildfly.clustering.server.Registration;
+import org.wildfly.clustering.server.dispatcher.Command;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+
+/**
+ * Tests the dispatching of partitions to the members of a cluster, using a local member and two remote members.
+ * Commands dispatched to a remote member are executed by the local dispatcher, as if by the dispatcher of that member.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class PartitionDispatcherTestCase {
+
+    private final CommandDispatcherFactory<GroupMember> dispatcherFactory = mock(CommandDispatcherFactory.class);
+    private final CommandDispatcher<GroupMember, PartitionDispatcher> commandDispatcher = mock(CommandDispatcher.class);
+    private final Group<GroupMember> group = mock(Group.class);
+    private final GroupMembership<GroupMember> membership = mock(GroupMembership.class);
+    private final GroupMember localMember = mock(GroupMember.class);
+    private final GroupMember remoteMember1 = mock(GroupMember.class);
+    private final GroupMember remoteMember2 = mock(GroupMember.class);
+    private final PartitionExecutionImpl partitionExecution = mock(PartitionExecutionImpl.class);
+    private final PartitionInfo partitionInfo = mock(PartitionInfo.class);
+    private final Registration registration = mock(Registration.class);
+
+    private final AtomicInteger localExecutions = new AtomicInteger();
+    private final List<PartitionResult> results = new ArrayList<>();
+    private PartitionDispatcher dispatcher;
+
+    @Before
+    public void setUp() throws IOException {
+        final SecurityAwareBatchEnvironment batchEnvironment = mock(SecurityAwareBatchEnvironment.class);
+        when(batchEnvironment.getClassLoader()).thenReturn(getClass().getClassLoader());
+        // Run submitted partitions on the current thread
+        doAnswer(invocation -> {
+            invocation.getArgument(0, JobTask.class).run();
+            return null;
+        }).when(batchEnvironment).submitTask(any(JobTask.class));
+        when(dispatcherFactory.getGroup()).thenReturn(group);
+        when(dispatcherFactory.createCommandDispatcher(eq("batch-jberet/test.war"), any(PartitionDispatcher.class), any(ClassLoader.class))).thenReturn(commandDispatcher);
+        when(commandDispatcher.dispatchToMember(any(Command.class), any(GroupMember.class))).thenReturn(CompletableFuture.completedFuture(null));
+        when(group.getLocalMember()).thenReturn(localMember);
+        when(group.register(any(PartitionDispatcher.class))).thenReturn(registration);
+        when(group.getMembership()).thenReturn(membership);
+        when(membership.getMembers()).thenReturn(List.of(localMember, remoteMember1, remoteMember2));
+        when(partitionInfo.getPartitionExecution()).thenReturn(partitionExecution);
+        when(partitionExecution.getPartitionId()).thenReturn(0);
+        when(partitionExecution.getStepName()).thenReturn("step1");
+        dispatcher = spy(new PartitionDispatcher(dispatcherFactory, "test.war", batchEnvironment));
+    }
+
+    @Test
+    public void testPartitionsDispatchedInTurn() throws Exception {
+        final PartitionResult result = new PartitionResult(partitionExecution, List.of("data"));
+        doReturn(result).when(dispatcher).executePartition(partitionInfo);
+
+        for (int i = 0; i < 6; i++) {
+            dispatch();
+        }
+
+        assertEquals(2, localExecutions.get());
+        verify(commandDispatcher, times(2)).dispatchToMember(any(PartitionCommand.class), eq(remoteMember1));
+        verify(commandDispatcher, times(2)).dispatchToMember(any(PartitionCommand.class), eq(remoteMember2));
+        // Results are reported only once returned by the remote members
+        assertTrue(results.isEmpty());
+
+        executeRemotely();
+
+        assertEquals(4, results.size());
+        for (PartitionResult remoteResult : results) {
+            assertSame(result, remoteResult);
+        }
+    }
+
+    @Test
+    public void testRemoteExecution() throws Exception {
+        final PartitionResult result = new PartitionResult(partitionExecution, List.of("data1", "data2"));
+        when(membership.getMembers()).thenReturn(List.of(remoteMember1));
+        doReturn(result).when(dispatcher).executePartition(partitionInfo);
+
+        dispatch();
+        executeRemotely();
+
+        verify(dispatcher).executePartition(partitionInfo);
+        // The result is returned to the dispatching member
+        assertEquals(1, captureCommands(PartitionCompletionCommand.class, localMember).size());
+        assertEquals(1, results.size());
+        assertSame(partitionExecution, results.get(0).getPartitionExecution());
+        assertEquals(List.of("data1", "data2"), results.get(0).getCollectorData());
+        verify(partitionExecution, never()).setBatchStatus(any(BatchStatus.class));
+
+        // A result is reported once
+        for (Command<Void, PartitionDispatcher, Exception> command : captureCommands(PartitionCompletionCommand.class, localMember)) {
+            command.execute(dispatcher);
+        }
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    public void testRemoteExecutionFailed() throws Exception {
+        when(membership.getMembers()).thenReturn(List.of(remoteMember1));
+        doThrow(new IllegalStateException()).when(dispatcher).executePartition(partitionInfo);
+
+        dispatch();
+        executeRemotely();
+
+        assertEquals(1, results.size());
+        assertSame(partitionExecution, results.get(0).getPartitionExecution());
+        assertTrue(results.get(0).getCollectorData().isEmpty());
+        verify(partitionExecution).setBatchStatus(BatchStatus.FAILED);
+    }
+
+    @Test
+    public void testPartitionDispatchedAgainWhenMemberLeavesDuringExecution() throws Exception {
+        final PartitionResult result = new PartitionResult(partitionExecution, List.<Serializable>of("data"));
+        when(membership.getMembers()).thenReturn(List.of(remoteMember1, remoteMember2));
+        doReturn(result).when(dispatcher).executePartition(partitionInfo);
+
+        dispatch();
+        verify(commandDispatcher).dispatchToMember(any(PartitionCommand.class), eq(remoteMember1));
+
+        // The member executing the partition leaves the cluster
+        final GroupMembership<GroupMember> currentMembership = mock(GroupMembership.class);
+        when(currentMembership.getMembers()).thenReturn(List.of(localMember, remoteMember2));
+        when(membership.getMembers()).thenReturn(List.of(localMember, remoteMember2));
+        final GroupMembershipEvent<GroupMember> event = mock(GroupMembershipEvent.class);
+        when(event.getCurrentMembership()).thenReturn(currentMembership);
+        dispatcher.updated(event);
+
+        verify(commandDispatcher).dispatchToMember(any(PartitionCommand.class), eq(remoteMember2));
+
+        // The result of the lost execution is ignored
+        executeRemotely();
+
+        assertEquals(0, localExecutions.get());
+        assertEquals(1, results.size());
+        assertSame(result, results.get(0));
+    }
+
+    @Test
+    public void testPartitionHandlerComplete() throws Exception {
+        final PartitionResult result = new PartitionResult(partitionExecution, List.of("data1", "data2"));
+        when(membership.getMembers()).thenReturn(List.of(remoteMember1));
+        doReturn(result).when(dispatcher).executePartition(any(PartitionInfo.class));
+
+        final BlockingQueue<Boolean> completedPartitionThreads = new LinkedBlockingQueue<>();
+        final BlockingQueue<Serializable> collectorDataQueue = new LinkedBlockingQueue<>();
+        final PartitionHandler handler = dispatcher.createPartitionHandler();
+        handler.setResourceTracker(completedPartitionThreads);
+        handler.setCollectorDataQueue(collectorDataQueue);
+
+        final StepContextImpl stepContext = mock(StepContextImpl.class);
+        final JobContextImpl jobContext = mock(JobContextImpl.class);
+        when(stepContext.getStepExecution()).thenReturn(partitionExecution);
+        when(stepContext.getStep()).thenReturn(mock(Step.class));
+        when(stepContext.getJobContext()).thenReturn(jobContext);
+        when(jobContext.getJobExecution()).thenReturn(mock(JobExecutionImpl.class));
+
+        handler.submitPartitionTask(stepContext, null, null);
+        assertTrue(collectorDataQueue.isEmpty());
+        assertTrue(completedPartitionThreads.isEmpty());
+
+        executeRemotely();
+
+        // The collector data of the partition is followed by the partition execution
+        assertEquals(List.of("data1", "data2", partitionExecution), new ArrayList<>(collectorDataQueue));
+        assertEquals(List.of(Boolean.TRUE), new ArrayList<>(completedPartitionThreads));
+    }
+
+    @Test
+    public void testPartitionDispatchedAgainWhenMemberLeaves() throws Exception {
+        final PartitionResult result = new PartitionResult(partitionExecution, List.<Serializable>of("data"));
+        when(membership.getMembers()).thenReturn(List.of(remoteMember1, localMember, remoteMember2));
+        when(commandDispatcher.dispatchToMember(any(PartitionCommand.class), eq(remoteMember1))).thenReturn(CompletableFuture.failedFuture(new CancellationException()));
+        doReturn(result).when(dispatcher).executePartition(partitionInfo);
+
+        dispatch();
+        executeRemotely();
+
+        assertEquals(0, localExecutions.get());
+        assertEquals(1, results.size());
+        assertSame(result, results.get(0));
+        verify(commandDispatcher).dispatchToMember(any(PartitionCommand.class), eq(remoteMember1));
+        verify(commandDispatcher).dispatchToMember(any(PartitionCommand.class), eq(remoteMember2));
+    }
+
+    @Test
+    public void testPartitionExecutedLocallyWhenAllMembersLeave() throws Exception {
+        when(membership.getMembers()).thenReturn(List.of(remoteMember1, remoteMember2));
+        when(commandDispatcher.dispatchToMember(any(PartitionCommand.class), any(GroupMember.class))).thenReturn(CompletableFuture.failedFuture(new CancellationException()));
+
+        dispatch();
+
+        assertEquals(1, localExecutions.get());
+        assertTrue(results.isEmpty());
+        verify(commandDispatcher).dispatchToMember(any(PartitionCommand.class), eq(remoteMember1));
+        verify(commandDispatcher).dispatchToMember(any(PartitionCommand.class), eq(remoteMember2));
+    }
+
+    @Test
+    public void testPartitionFailed() throws Exception {
+        when(membership.getMembers()).thenReturn(List.of(remoteMember1));
+        when(commandDispatcher.dispatchToMember(any(PartitionCommand.class), eq(remoteMember1))).thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        dispatch();
+
+        assertEquals(0, localExecutions.get());
+        assertEquals(1, results.size());
+        assertSame(partitionExecution, results.get(0).getPartitionExecution());
+        assertTrue(results.get(0).getCollectorData().isEmpty());
+        verify(partitionExecution).setBatchStatus(BatchStatus.FAILED);
+    }
+
+    @Test
+    public void testPartitionExecutedLocallyWhenNotMarshallable() throws Exception {
+        when(membership.getMembers()).thenReturn(List.of(remoteMember1));
+        when(commandDispatcher.dispatchToMember(any(PartitionCommand.class), eq(remoteMember1))).thenThrow(new IOException());
+
+        dispatch();
+
+        assertEquals(1, localExecutions.get());
+        assertTrue(results.isEmpty());
+        verify(partitionExecution, never()).setBatchStatus(any(BatchStatus.class));
+    }
+
+    @Test
+    public void testClose() {
+        dispatcher.close();
+        verify(registration).close();
+        verify(commandDispatcher).close();
+    }
+
+    private void dispatch() {
+        dispatcher.dispatch(partitionInfo, localExecutions::incrementAndGet, results::add);
+    }
+
+    /**
+     * Executes the partitions dispatched to remote members, then the commands returning their results.
+     */
+    private void executeRemotely() throws Exception {
+        for (Command<Void, PartitionDispatcher, Exception> command : captureCommands(PartitionCommand.class, null)) {
+            command.execute(dispatcher);
+        }
+        for (Command<Void, PartitionDispatcher, Exception> command : captureCommands(PartitionCompletionCommand.class, localMember)) {
+            command.execute(dispatcher);
+        }
+    }
+
+    private List<Command<Void, PartitionDispatcher, Exception>> captureCommands(final Class<?> commandClass, final GroupMember member) throws IOException {
+        final ArgumentCaptor<Command> commands = ArgumentCaptor.forClass(Command.class);
+        final ArgumentCaptor<GroupMember> members = ArgumentCaptor.forClass(GroupMember.class);
+        verify(commandDispatcher, atLeast(0)).dispatchToMember(commands.capture(), members.capture());
+        final List<Command<Void, PartitionDispatcher, Exception>> result = new ArrayList<>();
+        for (int i = 0; i < commands.getAllValues().size(); i++) {
+            if (commandClass.isInstance(commands.getAllValues().get(i)) && (member == null || member.equals(members.getAllValues().get(i)))) {
+                result.add(commands.getAllValues().get(i));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+import org.wildfly.extension.batch.jberet.thread.pool.VirtualThreadJobExecutor.TaskDispatcher;
+
+/**
+ * Unit test for {@link TaskDispatcher}.
+ * Uses platform threads, such that the test does not require a runtime that supports virtual threads.
+ */
+public class TaskDispatcherTestCase {
+
+    @Test
+    public void jobs() throws Exception {
+        TaskDispatcher dispatcher = new TaskDispatcher(Thread::new, 1, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(2);
+        Runnable job = () -> {
+            await(release);
+            completed.countDown();
+        };
+        dispatcher.execute(job);
+        dispatcher.execute(job);
+
+        // Second job waits for the permit of the first
+        awaitUntil(() -> (dispatcher.jobs.active.get() == 1) && (dispatcher.jobs.waiting.get() == 1));
+        assertEquals(0, dispatcher.partitions.active.get());
+
+        release.countDown();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        awaitUntil(() -> dispatcher.jobs.active.get() == 0);
+        assertEquals(0, dispatcher.jobs.waiting.get());
+    }
+
+    @Test
+    public void partitions() throws Exception {
+        TaskDispatcher dispatcher = new TaskDispatcher(Thread::new, 1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(6);
+        Runnable partition = () -> {
+            await(release);
+            completed.countDown();
+        };
+        // Each job submits its partitions from its own thread
+        Runnable job = () -> {
+            for (int i = 0; i < 3; ++i) {
+                dispatcher.execute(partition);
+            }
+            await(release);
+        };
+        dispatcher.execute(job);
+
+        // Third partition waits for a permit of its siblings
+        awaitUntil(() -> (dispatcher.partitions.active.get() == 2) && (dispatcher.partitions.waiting.get() == 1));
+        assertEquals(1, dispatcher.jobs.active.get());
+
+        // Partitions do not consume job permits, and the partition limit applies per task
+        dispatcher.execute(job);
+        awaitUntil(() -> dispatcher.jobs.waiting.get() == 1);
+        assertEquals(2, dispatcher.partitions.active.get());
+
+        release.countDown();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        awaitUntil(() -> (dispatcher.jobs.active.get() == 0) && (dispatcher.partitions.active.get() == 0));
+        assertEquals(0, dispatcher.jobs.waiting.get());
+        assertEquals(0, dispatcher.partitions.waiting.get());
+    }
+
+    @Test
+    public void unbounded() throws Exception {
+        TaskDispatcher dispatcher = new TaskDispatcher(Thread::new, 0, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(3);
+        Runnable partition = () -> {
+            await(release);
+            completed.countDown();
+        };
+        for (int i = 0; i < 2; ++i) {
+            dispatcher.execute(() -> {
+                dispatcher.execute(partition);
+                await(release);
+                completed.countDown();
+            });
+        }
+
+        // Nothing waits for a permit
+        awaitUntil(() -> (dispatcher.jobs.active.get() == 2) && (dispatcher.partitions.active.get() == 2));
+        assertEquals(0, dispatcher.jobs.waiting.get());
+        assertEquals(0, dispatcher.partitions.waiting.get());
+
+        release.countDown();
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && (System.nanoTime() - deadline < 0)) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.thread;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Counts the number of times the virtual threads running tasks via {@link #run(Runnable)} were pinned to their carrier thread.
+ * Pinned events are consumed from a single JFR event stream, shared by all open monitors.
+ * A monitor must be closed when the threads it monitors are no longer used.
+ */
+public class PinnedThreadMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    // Pinned event counters of running monitored threads, keyed by thread identifier
+    private static final Map<Long, LongAdder> PINNED_COUNTERS = new ConcurrentHashMap<>();
+    private static RecordingStream pinnedEventStream = null;
+    private static int pinnedEventStreamReferences = 0;
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final LongAdder pinned = new LongAdder();
+
+    public PinnedThreadMonitor() {
+        acquirePinnedEventStream();
+    }
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            releasePinnedEventStream();
+        }
+    }
+
+    /**
+     * Returns the number of times a monitored thread was pinned to its carrier thread for longer than the configured JFR threshold.
+     * @return the number of pinned events
+     */
+    public long getPinnedCount() {
+        return this.pinned.sum();
+    }
+
+    /**
+     * Runs the specified task, counting pinned events of the current thread against this monitor.
+     * @param task a task
+     */
+    @SuppressWarnings("deprecation")
+    public void run(Runnable task) {
+        // Thread.threadId() requires Java 19+
+        Long id = Thread.currentThread().getId();
+        PINNED_COUNTERS.put(id, this.pinned);
+        try {
+            task.run();
+        } finally {
+            PINNED_COUNTERS.remove(id);
+        }
+    }
+
+    private static synchronized void acquirePinnedEventStream() {
+        if (pinnedEventStreamReferences++ == 0) {
+            try {
+                RecordingStream stream = new RecordingStream();
+                stream.enable(PINNED_EVENT_NAME);
+                stream.onEvent(PINNED_EVENT_NAME, PinnedThreadMonitor::recordPinnedEvent);
+                stream.startAsync();
+                pinnedEventStream = stream;
+            } catch (RuntimeException e) {
+                // e.g. JFR is unavailable or disabled, pinned counts will remain 0
+                pinnedEventStream = null;
+            }
+        }
+    }
+
+    private static synchronized void releasePinnedEventStream() {
+        if ((--pinnedEventStreamReferences == 0) && (pinnedEventStream != null)) {
+            pinnedEventStream.close();
+            pinnedEventStream = null;
+        }
+    }
+
+    private static void recordPinnedEvent(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        LongAdder counter = (thread != null) ? PINNED_COUNTERS.get(thread.getJavaThreadId()) : null;
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
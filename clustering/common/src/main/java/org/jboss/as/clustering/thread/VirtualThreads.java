@@ -0,0 +1,89 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.thread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Utility methods for virtual threads, which require Java 21, while this code is compiled against Java 17.
+ * The virtual thread API is resolved via reflection once.
+ */
+public final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL;
+    private static final Method NAME;
+    private static final Method FACTORY;
+    private static final Method IS_VIRTUAL;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method isVirtual = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderClass.getMethod("name", String.class, long.class);
+            factory = builderClass.getMethod("factory");
+            isVirtual = Thread.class.getMethod("isVirtual");
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            // Virtual threads are not supported by the runtime
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        IS_VIRTUAL = isVirtual;
+    }
+
+    /**
+     * Indicates whether the runtime supports virtual threads.
+     * @return true, if virtual threads are supported, false otherwise.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Indicates whether the specified thread is a virtual thread.
+     * @param thread a thread
+     * @return true, if the specified thread is virtual, false otherwise.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a factory of virtual threads whose names consist of the specified prefix followed by a counter.
+     * @param prefix a thread name prefix
+     * @return a factory of virtual threads
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    public static ThreadFactory createThreadFactory(String prefix) {
+        if (OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException();
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 1L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private VirtualThreads() {
+        // Hide
+    }
+}
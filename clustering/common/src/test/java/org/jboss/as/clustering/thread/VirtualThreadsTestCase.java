@@ -0,0 +1,33 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.thread;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link VirtualThreads}.
+ */
+public class VirtualThreadsTestCase {
+
+    @Test
+    public void test() {
+        Assert.assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isSupported());
+        Assert.assertFalse(VirtualThreads.isVirtual(Thread.currentThread()));
+
+        if (VirtualThreads.isSupported()) {
+            ThreadFactory factory = VirtualThreads.createThreadFactory("test-");
+            Thread thread = factory.newThread(() -> {});
+            Assert.assertTrue(VirtualThreads.isVirtual(thread));
+            Assert.assertEquals("test-1", thread.getName());
+            Assert.assertEquals("test-2", factory.newThread(() -> {}).getName());
+        } else {
+            Assert.assertThrows(UnsupportedOperationException.class, () -> VirtualThreads.createThreadFactory("test-"));
+        }
+    }
+}
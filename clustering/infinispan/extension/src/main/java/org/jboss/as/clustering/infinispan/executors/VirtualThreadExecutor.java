@@ -0,0 +1,268 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.executors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.infinispan.commons.jdkspecific.ThreadCreator;
+import org.jboss.as.clustering.thread.PinnedThreadMonitor;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Executor that runs each task on its own virtual thread, bounding the number of concurrently running tasks via a semaphore instead of a thread count.
+ * Tasks waiting for a permit are queued, without a thread, up to a maximum queue length, beyond which tasks are rejected.
+ * Virtual threads are created via {@link ThreadCreator}, thus this executor must only be used if {@link #isSupported()}.
+ * Pinned events of its threads are counted via a {@link PinnedThreadMonitor}, which is closed on termination.
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService {
+
+    /**
+     * Indicates whether the runtime supports virtual threads.
+     * @return true, if {@link ThreadCreator} creates virtual threads, false otherwise.
+     */
+    public static boolean isSupported() {
+        return ThreadCreator.isVirtual(ThreadCreator.createThread(null, () -> {}, true));
+    }
+
+    private final ThreadFactory factory;
+    private final Semaphore permits;
+    private final int maxQueueLength;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final PinnedThreadMonitor pinnedMonitor = new PinnedThreadMonitor();
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a virtual thread executor.
+     * @param prefix the name prefix of threads created by this executor
+     * @param maxConcurrency the maximum number of concurrently running tasks
+     * @param maxQueueLength the maximum number of tasks waiting to run
+     */
+    public VirtualThreadExecutor(String prefix, int maxConcurrency, int maxQueueLength) {
+        AtomicLong index = new AtomicLong();
+        ThreadFactory virtualFactory = new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = ThreadCreator.createThread(null, task, true);
+                thread.setName(prefix + index.incrementAndGet());
+                return thread;
+            }
+        };
+        this.factory = new DefaultThreadFactory(virtualFactory, WildFlySecurityManager.getClassLoaderPrivileged(VirtualThreadExecutor.class));
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxQueueLength = maxQueueLength;
+    }
+
+    /**
+     * Returns the number of tasks currently running.
+     * @return the number of running tasks
+     */
+    public int getActiveCount() {
+        return this.active.get();
+    }
+
+    /**
+     * Returns the number of tasks waiting for a permit to run.
+     * @return the number of queued tasks
+     */
+    public int getQueueSize() {
+        return this.queued.get();
+    }
+
+    /**
+     * Returns the number of times a thread of this executor was pinned to its carrier thread for longer than the configured JFR threshold.
+     * @return the number of pinned events
+     */
+    public long getPinnedCount() {
+        return this.pinnedMonitor.getPinnedCount();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Lock lock = this.lifecycleLock.readLock();
+        lock.lock();
+        try {
+            if (this.shutdown) {
+                throw new RejectedExecutionException();
+            }
+            if (this.permits.tryAcquire()) {
+                this.start(task);
+                return;
+            }
+            if (this.queued.incrementAndGet() > this.maxQueueLength) {
+                this.queued.decrementAndGet();
+                throw new RejectedExecutionException();
+            }
+            this.queue.add(task);
+        } finally {
+            lock.unlock();
+        }
+        // A permit may have been released while queueing
+        this.drain();
+    }
+
+    @Override
+    public void shutdown() {
+        Lock lock = this.lifecycleLock.writeLock();
+        lock.lock();
+        try {
+            if (!this.shutdown) {
+                this.shutdown = true;
+                this.terminateIfIdle();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown();
+        List<Runnable> tasks = new ArrayList<>(this.queued.get());
+        Runnable task = this.poll();
+        while (task != null) {
+            tasks.add(task);
+            task = this.poll();
+        }
+        for (Thread thread : this.threads) {
+            thread.interrupt();
+        }
+        this.complete(null);
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.terminated.await(timeout, unit);
+    }
+
+    /**
+     * Starts a thread for the specified task, for which a permit was already acquired.
+     */
+    private void start(Runnable task) {
+        Thread thread = this.factory.newThread(new Task(task));
+        this.threads.add(thread);
+        try {
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            this.threads.remove(thread);
+            this.permits.release();
+            throw e;
+        }
+    }
+
+    private Runnable poll() {
+        Runnable task = this.queue.poll();
+        if (task != null) {
+            this.queued.decrementAndGet();
+        }
+        return task;
+    }
+
+    /**
+     * Starts queued tasks while permits are available.
+     */
+    private void drain() {
+        while (!this.queue.isEmpty() && this.permits.tryAcquire()) {
+            Runnable task = this.poll();
+            if (task == null) {
+                this.permits.release();
+            } else {
+                this.start(task);
+            }
+        }
+    }
+
+    /**
+     * Hands the permit of a completed task to the next queued task, if any.
+     */
+    void handOff() {
+        Runnable next = this.poll();
+        if (next != null) {
+            this.start(next);
+        } else {
+            this.permits.release();
+            this.drain();
+        }
+    }
+
+    void complete(Thread thread) {
+        if (thread != null) {
+            this.threads.remove(thread);
+        }
+        if (this.shutdown && (this.terminated.getCount() > 0)) {
+            Lock lock = this.lifecycleLock.writeLock();
+            lock.lock();
+            try {
+                this.terminateIfIdle();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void terminateIfIdle() {
+        if (this.threads.isEmpty() && this.queue.isEmpty() && (this.terminated.getCount() > 0)) {
+            this.pinnedMonitor.close();
+            this.terminated.countDown();
+        }
+    }
+
+    private class Task implements Runnable {
+        private final Runnable task;
+
+        Task(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            Thread thread = Thread.currentThread();
+            try {
+                VirtualThreadExecutor.this.active.incrementAndGet();
+                try {
+                    VirtualThreadExecutor.this.pinnedMonitor.run(this.task);
+                } finally {
+                    VirtualThreadExecutor.this.active.decrementAndGet();
+                    VirtualThreadExecutor.this.handOff();
+                }
+            } finally {
+                VirtualThreadExecutor.this.complete(thread);
+            }
+        }
+    }
+}
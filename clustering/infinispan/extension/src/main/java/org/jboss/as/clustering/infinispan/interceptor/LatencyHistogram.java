@@ -0,0 +1,114 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.interceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size, log-linear histogram of latencies, in the spirit of an HDR histogram.
+ * Each power of 2 is divided into {@value #SUB_BUCKETS} linear sub-buckets, which bounds the relative error of any recorded value to ~3%, using constant memory.
+ * Recording is lock-free; percentiles are computed from a non-atomic, but consistent enough, view of the buckets.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values beyond 2^40 ns (~18 minutes) are recorded in the last bucket
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records the specified duration.
+     * @param nanos a duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0L), MAX_VALUE);
+        this.counts.incrementAndGet(index(value));
+        this.count.increment();
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Returns the largest recorded value, in the specified unit.
+     * @param unit a time unit
+     * @return the largest recorded value
+     */
+    public long getMax(TimeUnit unit) {
+        return unit.convert(this.max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the value at the specified percentile, in the specified unit.
+     * The returned value is the upper bound of the bucket containing the requested percentile.
+     * @param percentile a percentile, between 0 and 100
+     * @param unit a time unit
+     * @return the value at the specified percentile, or 0 if no values were recorded.
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            counts[i] = this.counts.get(i);
+            total += counts[i];
+        }
+        if (total == 0) return 0;
+        long threshold = Math.max(1L, (long) Math.ceil(Math.min(Math.max(percentile, 0d), 100d) * total / 100d));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            cumulative += counts[i];
+            if (cumulative >= threshold) {
+                return unit.convert(Math.min(upperBound(i), this.max.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return this.getMax(unit);
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            this.counts.set(i, 0L);
+        }
+        this.count.reset();
+        this.max.reset();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = index & (SUB_BUCKETS - 1);
+        return (((SUB_BUCKETS + subBucket + 1) << shift) - 1);
+    }
+}
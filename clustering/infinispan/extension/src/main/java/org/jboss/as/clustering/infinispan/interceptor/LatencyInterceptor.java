@@ -0,0 +1,120 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.interceptor;
+
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.read.GetAllCommand;
+import org.infinispan.commands.read.GetCacheEntryCommand;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commands.write.ComputeCommand;
+import org.infinispan.commands.write.ComputeIfAbsentCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.PutMapCommand;
+import org.infinispan.commands.write.RemoveCommand;
+import org.infinispan.commands.write.ReplaceCommand;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.interceptors.InvocationFinallyAction;
+
+/**
+ * Interceptor that records the latency of cache reads, writes, and removes into histograms.
+ * The time spent handling commands received from other cluster members is recorded separately.
+ * This does not include the latency of the remote invocations issued by this member, which is part of the latency of the local command.
+ * This interceptor is only added to the interceptor chain of a cache if latency statistics are enabled.
+ */
+public class LatencyInterceptor extends DDAsyncInterceptor {
+
+    private final LatencyHistogram reads = new LatencyHistogram();
+    private final LatencyHistogram writes = new LatencyHistogram();
+    private final LatencyHistogram removes = new LatencyHistogram();
+    private final LatencyHistogram remoteCommands = new LatencyHistogram();
+
+    public LatencyHistogram getReads() {
+        return this.reads;
+    }
+
+    public LatencyHistogram getWrites() {
+        return this.writes;
+    }
+
+    public LatencyHistogram getRemoves() {
+        return this.removes;
+    }
+
+    public LatencyHistogram getRemoteCommands() {
+        return this.remoteCommands;
+    }
+
+    public void reset() {
+        this.reads.reset();
+        this.writes.reset();
+        this.removes.reset();
+        this.remoteCommands.reset();
+    }
+
+    @Override
+    public Object visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command) throws Throwable {
+        return this.record(ctx, command, this.reads);
+    }
+
+    @Override
+    public Object visitGetCacheEntryCommand(InvocationContext ctx, GetCacheEntryCommand command) throws Throwable {
+        return this.record(ctx, command, this.reads);
+    }
+
+    @Override
+    public Object visitGetAllCommand(InvocationContext ctx, GetAllCommand command) throws Throwable {
+        return this.record(ctx, command, this.reads);
+    }
+
+    @Override
+    public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
+        return this.record(ctx, command, this.writes);
+    }
+
+    @Override
+    public Object visitPutMapCommand(InvocationContext ctx, PutMapCommand command) throws Throwable {
+        return this.record(ctx, command, this.writes);
+    }
+
+    @Override
+    public Object visitReplaceCommand(InvocationContext ctx, ReplaceCommand command) throws Throwable {
+        return this.record(ctx, command, this.writes);
+    }
+
+    @Override
+    public Object visitComputeCommand(InvocationContext ctx, ComputeCommand command) throws Throwable {
+        return this.record(ctx, command, this.writes);
+    }
+
+    @Override
+    public Object visitComputeIfAbsentCommand(InvocationContext ctx, ComputeIfAbsentCommand command) throws Throwable {
+        return this.record(ctx, command, this.writes);
+    }
+
+    @Override
+    public Object visitRemoveCommand(InvocationContext ctx, RemoveCommand command) throws Throwable {
+        return this.record(ctx, command, this.removes);
+    }
+
+    private Object record(InvocationContext ctx, VisitableCommand command, LatencyHistogram histogram) {
+        return this.invokeNextAndFinally(ctx, command, new LatencyRecorder(ctx.isOriginLocal() ? histogram : this.remoteCommands));
+    }
+
+    private static class LatencyRecorder implements InvocationFinallyAction<VisitableCommand> {
+        private final LatencyHistogram histogram;
+        private final long start = System.nanoTime();
+
+        LatencyRecorder(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public void accept(InvocationContext context, VisitableCommand command, Object result, Throwable exception) {
+            this.histogram.record(System.nanoTime() - this.start);
+        }
+    }
+}
@@ -139,4 +139,8 @@ public interface InfinispanLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 33, value = "Attribute '%s' is configured to use a deprecated value: %s; use one of the following values instead: %s")
     void marshallerEnumValueDeprecated(String attributeName, Object attributeValue, Set<?> supportedValues);
+
+    @LogMessage(level = WARN)
+    @Message(id = 34, value = "Virtual threads are not supported by the runtime; %s will use platform threads.")
+    void virtualThreadsNotSupported(String threadPool);
 }
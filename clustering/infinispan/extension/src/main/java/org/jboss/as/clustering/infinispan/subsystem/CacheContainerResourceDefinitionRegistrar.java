@@ -166,7 +166,7 @@ public class CacheContainerResourceDefinitionRegistrar implements ChildResourceD
         new JGroupsTransportResourceDefinitionRegistrar().register(registration, context);
 
         for (ThreadPool pool : EnumSet.allOf(ThreadPool.class)) {
-            new ThreadPoolResourceDefinitionRegistrar(pool).register(registration, context);
+            new ThreadPoolResourceDefinitionRegistrar(pool, containerExecutors).register(registration, context);
         }
         for (ScheduledThreadPool pool : EnumSet.allOf(ScheduledThreadPool.class)) {
             new ScheduledThreadPoolResourceDefinitionRegistrar(pool).register(registration, context);
@@ -68,6 +68,8 @@ public class CacheContainerResourceTransformer implements Consumer<ModelVersion>
             .end();
         }
 
+        new ThreadPoolResourceTransformer(this.builder).accept(version);
+
         new ScatteredCacheResourceTransformer(this.builder).accept(version);
         new DistributedCacheResourceTransformer(this.builder).accept(version);
         new ReplicatedCacheResourceTransformer(this.builder).accept(version);
@@ -0,0 +1,67 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jboss.as.clustering.infinispan.interceptor.LatencyHistogram;
+import org.jboss.as.clustering.infinispan.interceptor.LatencyInterceptor;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.subsystem.resource.executor.Metric;
+
+/**
+ * Enumeration of latency percentile metrics for a cache.
+ * These metrics are only defined if latency statistics are enabled for the cache.
+ */
+public enum CacheLatencyMetric implements Metric<LatencyInterceptor> {
+
+    READ_LATENCY_P50("read-latency-p50", LatencyInterceptor::getReads, 50),
+    READ_LATENCY_P95("read-latency-p95", LatencyInterceptor::getReads, 95),
+    READ_LATENCY_P99("read-latency-p99", LatencyInterceptor::getReads, 99),
+    READ_LATENCY_MAX("read-latency-max", LatencyInterceptor::getReads, 100),
+    REMOTE_COMMAND_LATENCY_P50("remote-command-latency-p50", LatencyInterceptor::getRemoteCommands, 50),
+    REMOTE_COMMAND_LATENCY_P95("remote-command-latency-p95", LatencyInterceptor::getRemoteCommands, 95),
+    REMOTE_COMMAND_LATENCY_P99("remote-command-latency-p99", LatencyInterceptor::getRemoteCommands, 99),
+    REMOTE_COMMAND_LATENCY_MAX("remote-command-latency-max", LatencyInterceptor::getRemoteCommands, 100),
+    REMOVE_LATENCY_P50("remove-latency-p50", LatencyInterceptor::getRemoves, 50),
+    REMOVE_LATENCY_P95("remove-latency-p95", LatencyInterceptor::getRemoves, 95),
+    REMOVE_LATENCY_P99("remove-latency-p99", LatencyInterceptor::getRemoves, 99),
+    REMOVE_LATENCY_MAX("remove-latency-max", LatencyInterceptor::getRemoves, 100),
+    WRITE_LATENCY_P50("write-latency-p50", LatencyInterceptor::getWrites, 50),
+    WRITE_LATENCY_P95("write-latency-p95", LatencyInterceptor::getWrites, 95),
+    WRITE_LATENCY_P99("write-latency-p99", LatencyInterceptor::getWrites, 99),
+    WRITE_LATENCY_MAX("write-latency-max", LatencyInterceptor::getWrites, 100),
+    ;
+    private final AttributeDefinition definition;
+    private final Function<LatencyInterceptor, LatencyHistogram> histogram;
+    private final double percentile;
+
+    CacheLatencyMetric(String name, Function<LatencyInterceptor, LatencyHistogram> histogram, double percentile) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setFlags(AttributeAccess.Flag.GAUGE_METRIC)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .setStorageRuntime()
+                .build();
+        this.histogram = histogram;
+        this.percentile = percentile;
+    }
+
+    @Override
+    public AttributeDefinition get() {
+        return this.definition;
+    }
+
+    @Override
+    public ModelNode execute(LatencyInterceptor interceptor) {
+        LatencyHistogram histogram = this.histogram.apply(interceptor);
+        return new ModelNode((this.percentile < 100) ? histogram.getValueAtPercentile(this.percentile, TimeUnit.MICROSECONDS) : histogram.getMax(TimeUnit.MICROSECONDS));
+    }
+}
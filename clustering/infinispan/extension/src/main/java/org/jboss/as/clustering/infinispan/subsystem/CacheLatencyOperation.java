@@ -0,0 +1,43 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import org.jboss.as.clustering.infinispan.interceptor.LatencyInterceptor;
+import org.jboss.as.controller.ExpressionResolver;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.subsystem.resource.executor.RuntimeOperation;
+
+/**
+ * Enumerates runtime operations on the latency statistics of a cache.
+ */
+public enum CacheLatencyOperation implements RuntimeOperation<LatencyInterceptor> {
+
+    RESET_LATENCY_STATISTICS("reset-latency-statistics", ModelType.UNDEFINED) {
+        @Override
+        public ModelNode execute(ExpressionResolver resolver, ModelNode operation, LatencyInterceptor interceptor) {
+            interceptor.reset();
+            return null;
+        }
+    },
+    ;
+    private final OperationDefinition definition;
+
+    CacheLatencyOperation(String name, ModelType returnType) {
+        ResourceDescriptionResolver resolver = InfinispanSubsystemResourceDefinitionRegistrar.RESOLVER.createChildResolver(CacheRuntimeResourceDefinitionRegistrar.REGISTRATION.getPathElement());
+        this.definition = new SimpleOperationDefinitionBuilder(name, resolver)
+                .setReplyType(returnType)
+                .setRuntimeOnly()
+                .build();
+    }
+
+    @Override
+    public OperationDefinition getOperationDefinition() {
+        return this.definition;
+    }
+}
@@ -39,6 +39,12 @@ public enum CacheMetric implements Metric<CacheMgmtInterceptor>, UnaryOperator<S
             return new ModelNode(interceptor.getAverageWriteTime());
         }
     },
+    DATA_MEMORY_USED("data-memory-used", ModelType.LONG, MeasurementUnit.BYTES) {
+        @Override
+        public ModelNode execute(CacheMgmtInterceptor interceptor) {
+            return new ModelNode(interceptor.getDataMemoryUsed());
+        }
+    },
     EVICTIONS("evictions", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC) {
         @Override
         public ModelNode execute(CacheMgmtInterceptor interceptor) {
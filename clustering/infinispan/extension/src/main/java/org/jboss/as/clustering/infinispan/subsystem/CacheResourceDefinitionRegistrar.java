@@ -14,6 +14,7 @@ import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.infinispan.commons.CacheException;
+import org.infinispan.commons.dataconversion.MediaType;
 import org.infinispan.commons.util.AggregatedClassLoader;
 import org.infinispan.configuration.cache.CacheMode;
 import org.infinispan.configuration.cache.ConfigurationBuilder;
@@ -21,6 +22,7 @@ import org.infinispan.configuration.cache.ExpirationConfiguration;
 import org.infinispan.configuration.cache.LockingConfiguration;
 import org.infinispan.configuration.cache.MemoryConfiguration;
 import org.infinispan.configuration.cache.PersistenceConfiguration;
+import org.infinispan.configuration.cache.StorageType;
 import org.infinispan.configuration.cache.TransactionConfiguration;
 import org.infinispan.configuration.cache.TransactionConfigurationBuilder;
 import org.infinispan.configuration.global.GlobalConfiguration;
@@ -34,11 +36,15 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.RequirementServiceBuilder;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.capability.UnaryCapabilityNameResolver;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.modules.Module;
 import org.wildfly.clustering.infinispan.service.CacheConfigurationServiceInstaller;
 import org.wildfly.clustering.infinispan.service.CacheServiceInstaller;
@@ -76,6 +82,12 @@ public class CacheResourceDefinitionRegistrar implements ChildResourceDefinition
 
     static final StatisticsEnabledAttributeDefinition STATISTICS_ENABLED = new StatisticsEnabledAttributeDefinition.Builder().build();
     static final ModuleListAttributeDefinition MODULES = new ModuleListAttributeDefinition.Builder().setRequired(false).build();
+    static final SimpleAttributeDefinition LATENCY_STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder("latency-statistics-enabled", ModelType.BOOLEAN)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.FALSE)
+            .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+            .build();
 
     private final CacheResourceRegistration registration;
 
@@ -98,7 +110,7 @@ public class CacheResourceDefinitionRegistrar implements ChildResourceDefinition
         @SuppressWarnings("removal")
         RuntimeCapability<Void> singletonServiceBuilderFactory = RuntimeCapability.Builder.of(org.wildfly.clustering.singleton.SingletonServiceBuilderFactory.SERVICE_DESCRIPTOR).build();
 
-        return builder.addAttributes(List.of(STATISTICS_ENABLED, MODULES))
+        return builder.addAttributes(List.of(STATISTICS_ENABLED, LATENCY_STATISTICS_ENABLED, MODULES))
             .addCapabilities(List.of(CAPABILITY, cache, registryFactory, legacyRegistryFactory, serviceProviderRegistrar, legacyServiceProviderRegistry, singletonServiceTargetFactory, singletonServiceConfiguratorFactory, singletonServiceBuilderFactory))
             .addResourceCapabilityReference(CACHE_CONTAINER_CONFIGURATION)
             .requireChildResources(Set.of(ComponentResourceRegistration.EXPIRATION, ComponentResourceRegistration.LOCKING, ComponentResourceRegistration.TRANSACTION))
@@ -141,6 +153,9 @@ public class CacheResourceDefinitionRegistrar implements ChildResourceDefinition
         installers.add(new CacheConfigurationServiceInstaller(config, this.resolve(context, model)));
         installers.add(new CacheServiceInstaller(config));
         installers.add(new LazyCacheServiceInstaller(config));
+        if (LATENCY_STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean()) {
+            installers.add(new LatencyInterceptorServiceInstaller(config));
+        }
 
         ServiceDependency<ClassLoader> loader = MODULES.resolve(context, model).combine(CACHE_CONTAINER_CONFIGURATION.resolve(context, model), new BiFunction<>() {
             @Override
@@ -177,10 +192,12 @@ public class CacheResourceDefinitionRegistrar implements ChildResourceDefinition
         ServiceDependency<LockingConfiguration> locking = config.getServiceDependency(LockingResourceDefinitionRegistrar.SERVICE_DESCRIPTOR);
         ServiceDependency<PersistenceConfiguration> persistence = config.getServiceDependency(PersistenceResourceDefinitionRegistrar.SERVICE_DESCRIPTOR);
         ServiceDependency<TransactionConfiguration> transaction = config.getServiceDependency(TransactionResourceDefinitionRegistrar.SERVICE_DESCRIPTOR);
+        ServiceDependency<GlobalConfiguration> global = CACHE_CONTAINER_CONFIGURATION.resolve(context, model);
 
         return new ServiceDependency<>() {
             @Override
             public void accept(RequirementServiceBuilder<?> builder) {
+                global.accept(builder);
                 memory.accept(builder);
                 expiration.accept(builder);
                 locking.accept(builder);
@@ -193,7 +210,13 @@ public class CacheResourceDefinitionRegistrar implements ChildResourceDefinition
                 ConfigurationBuilder builder = new ConfigurationBuilder();
 
                 builder.clustering().cacheMode(mode);
-                builder.memory().read(memory.get());
+                MemoryConfiguration memoryConfiguration = memory.get();
+                builder.memory().read(memoryConfiguration);
+                if ((memoryConfiguration.storage() == StorageType.HEAP) && (memoryConfiguration.maxSizeBytes() > 0)) {
+                    // Size-based eviction of heap memory requires binary storage, so that entries can be weighed by their marshalled size
+                    MediaType mediaType = global.get().serialization().marshaller().mediaType();
+                    builder.encoding().mediaType(mediaType.toString());
+                }
                 builder.expiration().read(expiration.get());
                 builder.locking().read(locking.get());
                 builder.persistence().read(persistence.get());
@@ -8,6 +8,8 @@ package org.jboss.as.clustering.infinispan.subsystem;
 import java.util.function.Consumer;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 
 /**
@@ -25,6 +27,13 @@ public class CacheResourceTransformer implements Consumer<ModelVersion> {
     @SuppressWarnings("deprecation")
     @Override
     public void accept(ModelVersion version) {
+        if (InfinispanSubsystemModel.VERSION_21_0_0.requiresTransformation(version)) {
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, CacheResourceDefinitionRegistrar.LATENCY_STATISTICS_ENABLED)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, CacheResourceDefinitionRegistrar.LATENCY_STATISTICS_ENABLED)
+                    .end();
+        }
+        new HeapMemoryResourceTransformer(this.builder).accept(version);
         new TransactionResourceTransformer(this.builder).accept(version);
         new CustomStoreResourceTransformer(this.builder).accept(version);
         new FileStoreResourceTransformer(this.builder).accept(version);
@@ -12,6 +12,7 @@ import org.infinispan.interceptors.impl.CacheLoaderInterceptor;
 import org.infinispan.interceptors.impl.CacheMgmtInterceptor;
 import org.infinispan.interceptors.impl.InvalidationInterceptor;
 import org.infinispan.interceptors.impl.TxInterceptor;
+import org.jboss.as.clustering.infinispan.interceptor.LatencyInterceptor;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.ResourceRegistration;
@@ -50,6 +51,8 @@ public class CacheRuntimeResourceDefinitionRegistrar implements ChildResourceDef
         new MetricOperationStepHandler<>(new CacheComponentMetricExecutor<>(this.executors, PassivationManager.class), CachePassivationMetric.class).register(registration);
         new MetricOperationStepHandler<>(new ClusteredCacheMetricExecutor(this.executors), ClusteredCacheMetric.class).register(registration);
         new RuntimeOperationStepHandler<>(new CacheInterceptorOperationExecutor<>(this.executors, CacheMgmtInterceptor.class), CacheOperation.class).register(registration);
+        new MetricOperationStepHandler<>(new CacheInterceptorMetricExecutor<>(this.executors, LatencyInterceptor.class), CacheLatencyMetric.class).register(registration);
+        new RuntimeOperationStepHandler<>(new CacheInterceptorOperationExecutor<>(this.executors, LatencyInterceptor.class), CacheLatencyOperation.class).register(registration);
 
         new ComponentRuntimeResourceDefinitionRegistrar(ComponentResourceRegistration.LOCKING, new MetricOperationStepHandler<>(new LockingMetricExecutor(this.executors), LockingMetric.class)).register(registration, context);
         new ComponentRuntimeResourceDefinitionRegistrar(ComponentResourceRegistration.PARTITION_HANDLING, new ManagementResourceRegistrar() {
@@ -16,7 +16,8 @@ import org.jboss.as.controller.ResourceRegistration;
  */
 public class HeapMemoryResourceDefinitionRegistrar extends MemoryResourceDefinitionRegistrar {
 
-    static final EnumAttributeDefinition<MemorySizeUnit> SIZE_UNIT = new EnumAttributeDefinition.Builder<>(MemoryResourceDefinitionRegistrar.SIZE_UNIT).setAllowedValues(EnumSet.of(MemorySizeUnit.ENTRIES)).build();
+    // Legacy schemas only support entry-based eviction of heap memory
+    static final EnumAttributeDefinition<MemorySizeUnit> LEGACY_SIZE_UNIT = new EnumAttributeDefinition.Builder<>(MemoryResourceDefinitionRegistrar.SIZE_UNIT).setAllowedValues(EnumSet.of(MemorySizeUnit.ENTRIES)).build();
 
     HeapMemoryResourceDefinitionRegistrar() {
         super(new Configurator() {
@@ -29,11 +30,6 @@ public class HeapMemoryResourceDefinitionRegistrar extends MemoryResourceDefinit
             public StorageType getStorageType() {
                 return StorageType.HEAP;
             }
-
-            @Override
-            public EnumAttributeDefinition<MemorySizeUnit> getSizeUnitAttribute() {
-                return SIZE_UNIT;
-            }
         });
     }
 }
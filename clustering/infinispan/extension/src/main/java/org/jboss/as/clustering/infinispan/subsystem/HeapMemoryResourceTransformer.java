@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+
+/**
+ * Describes resource transformations for the heap memory component of a cache configuration.
+ */
+public class HeapMemoryResourceTransformer implements Consumer<ModelVersion> {
+
+    private final ResourceTransformationDescriptionBuilder builder;
+
+    HeapMemoryResourceTransformer(ResourceTransformationDescriptionBuilder parent) {
+        this.builder = parent.addChildResource(MemoryResourceRegistration.HEAP.getPathElement());
+    }
+
+    @Override
+    public void accept(ModelVersion version) {
+        if (InfinispanSubsystemModel.VERSION_21_0_0.requiresTransformation(version)) {
+            // Legacy models only support entry-based eviction of heap memory
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, MemoryResourceDefinitionRegistrar.SIZE_UNIT)
+                    .addRejectCheck(new RejectAttributeChecker.SimpleAcceptAttributeChecker(MemoryResourceDefinitionRegistrar.SIZE_UNIT.getDefaultValue()), MemoryResourceDefinitionRegistrar.SIZE_UNIT)
+                    .end();
+        }
+    }
+}
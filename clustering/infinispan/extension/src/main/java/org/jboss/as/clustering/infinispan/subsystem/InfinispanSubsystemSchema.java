@@ -76,9 +76,10 @@ public enum InfinispanSubsystemSchema implements SubsystemResourceXMLSchema<Infi
     VERSION_12_0(12, 0), // WildFly 23, EAP 7.4
     VERSION_13_0(13, 0), // WildFly 24-26
     VERSION_14_0(14, 0), // WildFly 27-35
-    VERSION_15_0(15, 0), // WildFly 36-present
+    VERSION_15_0(15, 0), // WildFly 36-37
+    VERSION_16_0(16, 0), // WildFly 38-present
     ;
-    static final InfinispanSubsystemSchema CURRENT = VERSION_15_0;
+    static final InfinispanSubsystemSchema CURRENT = VERSION_16_0;
 
     private final ResourceXMLParticleFactory factory = ResourceXMLParticleFactory.newInstance(this);
     private final VersionedNamespace<IntVersion, InfinispanSubsystemSchema> namespace;
@@ -168,9 +169,13 @@ public enum InfinispanSubsystemSchema implements SubsystemResourceXMLSchema<Infi
     }
 
     private ResourceRegistrationXMLElement threadPoolElement(ThreadPoolResourceRegistration<?> pool) {
-        return this.threadPoolElementBuilder(pool)
+        SingletonResourceRegistrationXMLElement.Builder builder = this.threadPoolElementBuilder(pool)
                 .addAttributes(List.of(pool.getMinThreads(), pool.getMaxThreads(), pool.getQueueLength(), pool.getKeepAlive()))
-                .build();
+                ;
+        if ((pool == ThreadPool.BLOCKING) && this.since(VERSION_16_0)) {
+            builder.addAttribute(ThreadPoolResourceDefinitionRegistrar.VIRTUAL_THREADS);
+        }
+        return builder.build();
     }
 
     private ResourceRegistrationXMLElement scheduledThreadPoolElement(ScheduledThreadPoolResourceRegistration<?> pool) {
@@ -291,6 +296,9 @@ public enum InfinispanSubsystemSchema implements SubsystemResourceXMLSchema<Infi
         NamedResourceRegistrationXMLElement.Builder builder = this.factory.namedElement(description)
                 .addAttributes(List.of(CacheResourceDefinitionRegistrar.MODULES, CacheResourceDefinitionRegistrar.STATISTICS_ENABLED))
                 ;
+        if (this.since(VERSION_16_0)) {
+            builder.addAttribute(CacheResourceDefinitionRegistrar.LATENCY_STATISTICS_ENABLED);
+        }
         if (!this.since(VERSION_12_0)) {
             builder.withLocalNames(Map.of(CacheResourceDefinitionRegistrar.MODULES, ModelDescriptionConstants.MODULE));
             if (!this.since(VERSION_5_0)) {
@@ -427,7 +435,7 @@ public enum InfinispanSubsystemSchema implements SubsystemResourceXMLSchema<Infi
         SingletonResourceRegistrationXMLElement.Builder builder = this.memoryElementBuilder(MemoryResourceRegistration.HEAP).implyIfAbsent();
         if (this.since(VERSION_11_0)) {
             builder.withElementLocalName(ResourceXMLElementLocalName.VALUE_KEY);
-            builder.addAttribute(HeapMemoryResourceDefinitionRegistrar.SIZE_UNIT);
+            builder.addAttribute(this.since(VERSION_16_0) ? MemoryResourceDefinitionRegistrar.SIZE_UNIT : HeapMemoryResourceDefinitionRegistrar.LEGACY_SIZE_UNIT);
         } else {
             if (this.since(VERSION_5_0)) {
                 builder.withElementLocalName("object-memory");
@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.function.Consumer;
+
+import org.infinispan.Cache;
+import org.infinispan.factories.ComponentRegistry;
+import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.jboss.as.clustering.infinispan.interceptor.LatencyInterceptor;
+import org.jboss.as.controller.RequirementServiceTarget;
+import org.jboss.msc.service.ServiceController;
+import org.wildfly.clustering.infinispan.service.InfinispanServiceDescriptor;
+import org.wildfly.clustering.server.service.BinaryServiceConfiguration;
+import org.wildfly.subsystem.service.ServiceDependency;
+import org.wildfly.subsystem.service.ServiceInstaller;
+
+/**
+ * Installs a service that adds a {@link LatencyInterceptor} to the interceptor chain of a cache.
+ */
+public class LatencyInterceptorServiceInstaller implements ServiceInstaller {
+
+    private final BinaryServiceConfiguration config;
+
+    LatencyInterceptorServiceInstaller(BinaryServiceConfiguration config) {
+        this.config = config;
+    }
+
+    @Override
+    public ServiceController<?> install(RequirementServiceTarget target) {
+        ServiceDependency<Cache<?, ?>> cache = this.config.getServiceDependency(InfinispanServiceDescriptor.CACHE);
+        Consumer<Cache<?, ?>> start = new Consumer<>() {
+            @Override
+            public void accept(Cache<?, ?> cache) {
+                AsyncInterceptorChain chain = ComponentRegistry.componentOf(cache, AsyncInterceptorChain.class);
+                if (chain.findInterceptorExtending(LatencyInterceptor.class) == null) {
+                    // Add as first interceptor, so that recorded latencies include the entire invocation
+                    chain.addInterceptor(new LatencyInterceptor(), 0);
+                }
+            }
+        };
+        Consumer<Cache<?, ?>> stop = new Consumer<>() {
+            @Override
+            public void accept(Cache<?, ?> cache) {
+                ComponentRegistry.componentOf(cache, AsyncInterceptorChain.class).removeInterceptor(LatencyInterceptor.class);
+            }
+        };
+        return ServiceInstaller.builder(cache)
+                .onStart(start)
+                .onStop(stop)
+                .build()
+                .install(target);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.concurrent.ExecutorService;
+
+import org.jboss.as.clustering.infinispan.executors.VirtualThreadExecutor;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.wildfly.subsystem.resource.executor.Metric;
+
+/**
+ * Enumeration of runtime metrics for the executor of a cache container thread pool.
+ */
+public enum ThreadPoolMetric implements Metric<ExecutorService> {
+
+    ACTIVE_COUNT("active-count", ModelType.INT) {
+        @Override
+        public ModelNode execute(ExecutorService executor) {
+            if (executor instanceof VirtualThreadExecutor) {
+                return new ModelNode(((VirtualThreadExecutor) executor).getActiveCount());
+            }
+            if (executor instanceof EnhancedQueueExecutor) {
+                return new ModelNode(((EnhancedQueueExecutor) executor).getActiveCount());
+            }
+            return null;
+        }
+    },
+    QUEUE_SIZE("queue-size", ModelType.INT) {
+        @Override
+        public ModelNode execute(ExecutorService executor) {
+            if (executor instanceof VirtualThreadExecutor) {
+                return new ModelNode(((VirtualThreadExecutor) executor).getQueueSize());
+            }
+            if (executor instanceof EnhancedQueueExecutor) {
+                return new ModelNode(((EnhancedQueueExecutor) executor).getQueueSize());
+            }
+            return null;
+        }
+    },
+    PINNED_COUNT("pinned-count", ModelType.LONG) {
+        @Override
+        public ModelNode execute(ExecutorService executor) {
+            // Platform threads are never pinned
+            return (executor instanceof VirtualThreadExecutor) ? new ModelNode(((VirtualThreadExecutor) executor).getPinnedCount()) : new ModelNode(0L);
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+
+    ThreadPoolMetric(String name, ModelType type) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type, true)
+                .setFlags(AttributeAccess.Flag.GAUGE_METRIC)
+                .setStorageRuntime()
+                .build();
+    }
+
+    @Override
+    public AttributeDefinition get() {
+        return this.definition;
+    }
+}
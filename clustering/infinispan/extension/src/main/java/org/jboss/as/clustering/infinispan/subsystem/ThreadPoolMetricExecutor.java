@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+import org.infinispan.factories.GlobalComponentRegistry;
+import org.infinispan.factories.impl.BasicComponentRegistry;
+import org.infinispan.factories.impl.ComponentRef;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.clustering.infinispan.service.InfinispanServiceDescriptor;
+import org.wildfly.service.capture.FunctionExecutor;
+import org.wildfly.subsystem.resource.executor.Metric;
+import org.wildfly.subsystem.resource.executor.MetricExecutor;
+import org.wildfly.subsystem.resource.executor.MetricFunction;
+import org.wildfly.subsystem.service.ServiceDependency;
+import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
+
+/**
+ * Executor for metrics of a cache container thread pool.
+ */
+public class ThreadPoolMetricExecutor implements MetricExecutor<ExecutorService>, Function<EmbeddedCacheManager, ExecutorService> {
+
+    private final FunctionExecutorRegistry<EmbeddedCacheManager> executors;
+    private final String componentName;
+
+    /**
+     * Creates a metric executor for the thread pool with the specified component name.
+     * @param executors a registry of cache container executors
+     * @param componentName the name of the executor component, see {@link org.infinispan.factories.KnownComponentNames}
+     */
+    public ThreadPoolMetricExecutor(FunctionExecutorRegistry<EmbeddedCacheManager> executors, String componentName) {
+        this.executors = executors;
+        this.componentName = componentName;
+    }
+
+    @Override
+    public ModelNode execute(OperationContext context, Metric<ExecutorService> metric) throws OperationFailedException {
+        String containerName = context.getCurrentAddress().getParent().getLastElement().getValue();
+        FunctionExecutor<EmbeddedCacheManager> executor = this.executors.getExecutor(ServiceDependency.on(InfinispanServiceDescriptor.CACHE_CONTAINER, containerName));
+        return (executor != null) ? executor.execute(new MetricFunction<>(this, metric)) : null;
+    }
+
+    @Override
+    public ExecutorService apply(EmbeddedCacheManager manager) {
+        ComponentRef<ExecutorService> component = GlobalComponentRegistry.componentOf(manager, BasicComponentRegistry.class).getComponent(this.componentName, ExecutorService.class);
+        // Avoid starting the executor as a side effect of reading a metric
+        return (component != null) && component.isRunning() ? component.running() : null;
+    }
+}
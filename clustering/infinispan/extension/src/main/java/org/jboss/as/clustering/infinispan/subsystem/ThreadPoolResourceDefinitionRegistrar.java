@@ -5,8 +5,10 @@
 package org.jboss.as.clustering.infinispan.subsystem;
 
 import java.time.Duration;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -14,21 +16,33 @@ import java.util.concurrent.ThreadFactory;
 import java.util.function.Supplier;
 
 import org.infinispan.commons.executors.ExecutorFactory;
+import org.infinispan.commons.executors.ThreadPoolExecutorFactory;
 import org.infinispan.commons.jdkspecific.ThreadCreator;
 import org.infinispan.commons.util.ProcessorInfo;
 import org.infinispan.commons.util.concurrent.BlockingRejectedExecutionHandler;
 import org.infinispan.configuration.global.ThreadPoolConfiguration;
 import org.infinispan.configuration.global.ThreadPoolConfigurationBuilder;
+import org.infinispan.factories.KnownComponentNames;
 import org.infinispan.factories.threads.EnhancedQueueExecutorFactory;
+import org.infinispan.manager.EmbeddedCacheManager;
 import org.jboss.as.clustering.infinispan.executors.DefaultNonBlockingThreadFactory;
+import org.jboss.as.clustering.infinispan.executors.VirtualThreadExecutor;
+import org.jboss.as.clustering.infinispan.logging.InfinispanLogger;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.threads.EnhancedQueueExecutor;
 import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.subsystem.resource.ManagementResourceRegistrationContext;
 import org.wildfly.subsystem.resource.ResourceDescriptor;
+import org.wildfly.subsystem.resource.executor.MetricOperationStepHandler;
 import org.wildfly.subsystem.service.ServiceDependency;
+import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
 
 /**
  * Registers a resource definition for a thread pool of a cache container.
@@ -36,21 +50,46 @@ import org.wildfly.subsystem.service.ServiceDependency;
  */
 public class ThreadPoolResourceDefinitionRegistrar extends ScheduledThreadPoolResourceDefinitionRegistrar {
     private static final Set<ThreadPool> NON_BLOCKING_THREAD_POOLS = EnumSet.of(ThreadPool.NON_BLOCKING);
+    // Thread pools whose tasks may run on virtual threads, mapped to the component name of their executor
+    private static final Map<ThreadPool, String> VIRTUAL_THREAD_POOLS = new EnumMap<>(Map.of(ThreadPool.BLOCKING, KnownComponentNames.BLOCKING_EXECUTOR));
+
+    static final AttributeDefinition VIRTUAL_THREADS = new SimpleAttributeDefinitionBuilder("virtual-threads", ModelType.BOOLEAN)
+            .setAllowExpression(true)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.FALSE)
+            .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+            .build();
 
     private final AttributeDefinition maxThreads;
     private final AttributeDefinition queueLength;
     private final boolean nonBlocking;
+    private final String virtualComponentName;
+    private final FunctionExecutorRegistry<EmbeddedCacheManager> executors;
 
-    ThreadPoolResourceDefinitionRegistrar(ThreadPoolResourceRegistration<ThreadPoolConfiguration> pool) {
+    ThreadPoolResourceDefinitionRegistrar(ThreadPoolResourceRegistration<ThreadPoolConfiguration> pool, FunctionExecutorRegistry<EmbeddedCacheManager> executors) {
         super(pool);
         this.maxThreads = pool.getMaxThreads();
         this.queueLength = pool.getQueueLength();
         this.nonBlocking = NON_BLOCKING_THREAD_POOLS.contains(pool);
+        this.virtualComponentName = VIRTUAL_THREAD_POOLS.get(pool);
+        this.executors = executors;
+    }
+
+    @Override
+    public ManagementResourceRegistration register(ManagementResourceRegistration parent, ManagementResourceRegistrationContext context) {
+        ManagementResourceRegistration registration = super.register(parent, context);
+
+        if ((this.virtualComponentName != null) && context.isRuntimeOnlyRegistrationValid()) {
+            new MetricOperationStepHandler<>(new ThreadPoolMetricExecutor(this.executors, this.virtualComponentName), ThreadPoolMetric.class).register(registration);
+        }
+
+        return registration;
     }
 
     @Override
     public ResourceDescriptor.Builder apply(ResourceDescriptor.Builder builder) {
-        return super.apply(builder).addAttributes(List.of(this.maxThreads, this.queueLength));
+        ResourceDescriptor.Builder result = super.apply(builder).addAttributes(List.of(this.maxThreads, this.queueLength));
+        return (this.virtualComponentName != null) ? result.addAttributes(List.of(VIRTUAL_THREADS)) : result;
     }
 
     @Override
@@ -61,6 +100,22 @@ public class ThreadPoolResourceDefinitionRegistrar extends ScheduledThreadPoolRe
         int maxThreads = this.maxThreads.resolveModelAttribute(context, model).asInt() * multiplier;
         int queueLength = this.queueLength.resolveModelAttribute(context, model).asInt();
         Duration keepAlive = this.keepAlive.resolve(context, model);
+        boolean virtual = (this.virtualComponentName != null) && VIRTUAL_THREADS.resolveModelAttribute(context, model).asBoolean();
+        if (virtual && !VirtualThreadExecutor.isSupported()) {
+            // Fall back to a bounded pool of platform threads
+            InfinispanLogger.ROOT_LOGGER.virtualThreadsNotSupported(context.getCurrentAddress().toCLIStyleString());
+            virtual = false;
+        }
+        if (virtual) {
+            // max-threads limits the number of concurrently running tasks, while min-threads and keepalive-time are not applicable
+            String prefix = String.join("-", context.getCurrentAddress().getParent().getLastElement().getValue(), context.getCurrentAddressValue(), "virtual-thread-");
+            return ServiceDependency.from(new Supplier<>() {
+                @Override
+                public ThreadPoolConfigurationBuilder get() {
+                    return new ThreadPoolConfigurationBuilder(null).threadPoolFactory(new VirtualThreadPoolExecutorFactory(prefix, maxThreads, queueLength));
+                }
+            });
+        }
         return ServiceDependency.from(new Supplier<>() {
             @Override
             public ThreadPoolConfigurationBuilder get() {
@@ -69,6 +124,29 @@ public class ThreadPoolResourceDefinitionRegistrar extends ScheduledThreadPoolRe
         });
     }
 
+    private static class VirtualThreadPoolExecutorFactory implements ThreadPoolExecutorFactory<ExecutorService> {
+        private final String prefix;
+        private final int maxConcurrency;
+        private final int queueLength;
+
+        VirtualThreadPoolExecutorFactory(String prefix, int maxConcurrency, int queueLength) {
+            this.prefix = prefix;
+            this.maxConcurrency = maxConcurrency;
+            this.queueLength = queueLength;
+        }
+
+        @Override
+        public ExecutorService createExecutor(ThreadFactory factory) {
+            // Specified platform thread factory is not applicable
+            return new VirtualThreadExecutor(this.prefix, this.maxConcurrency, this.queueLength);
+        }
+
+        @Override
+        public void validate() {
+            // Do nothing
+        }
+    }
+
     private static class BlockingThreadPoolExecutorFactory extends EnhancedQueueExecutorFactory {
 
         BlockingThreadPoolExecutorFactory(int maxThreads, int coreThreads, int queueLength, long keepAlive) {
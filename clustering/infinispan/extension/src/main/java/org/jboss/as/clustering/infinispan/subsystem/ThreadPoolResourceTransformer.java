@@ -0,0 +1,35 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+
+/**
+ * Describes resource transformations for the blocking thread pool of a cache container.
+ */
+public class ThreadPoolResourceTransformer implements Consumer<ModelVersion> {
+
+    private final ResourceTransformationDescriptionBuilder builder;
+
+    ThreadPoolResourceTransformer(ResourceTransformationDescriptionBuilder parent) {
+        this.builder = parent.addChildResource(ThreadPool.BLOCKING.getPathElement());
+    }
+
+    @Override
+    public void accept(ModelVersion version) {
+        if (InfinispanSubsystemModel.VERSION_21_0_0.requiresTransformation(version)) {
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ThreadPoolResourceDefinitionRegistrar.VIRTUAL_THREADS)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, ThreadPoolResourceDefinitionRegistrar.VIRTUAL_THREADS)
+                    .end();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.executors;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link VirtualThreadExecutor}.
+ */
+public class VirtualThreadExecutorTestCase {
+
+    @Before
+    public void init() {
+        Assume.assumeTrue(VirtualThreadExecutor.isSupported());
+    }
+
+    @Test
+    public void queue() throws InterruptedException {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test-", 1, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        try {
+            executor.execute(() -> {
+                running.countDown();
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                completed.incrementAndGet();
+            });
+            Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(1, executor.getActiveCount());
+
+            // Queued task waits for a permit, without a thread
+            executor.execute(completed::incrementAndGet);
+            Assert.assertEquals(1, executor.getQueueSize());
+            Assert.assertEquals(1, executor.getActiveCount());
+
+            Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(completed::incrementAndGet));
+
+            blocker.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertEquals(2, completed.get());
+        Assert.assertEquals(0, executor.getQueueSize());
+        Assert.assertEquals(0, executor.getActiveCount());
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(completed::incrementAndGet));
+    }
+
+    @Test
+    public void shutdownNow() throws InterruptedException {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("test-", 1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+        Runnable queued = () -> {};
+        executor.execute(queued);
+
+        List<Runnable> tasks = executor.shutdownNow();
+        Assert.assertEquals(List.of(queued), tasks);
+        Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.interceptor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTestCase {
+
+    @Test
+    public void empty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0L, histogram.getCount());
+        Assert.assertEquals(0L, histogram.getMax(TimeUnit.NANOSECONDS));
+        Assert.assertEquals(0L, histogram.getValueAtPercentile(99, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; ++i) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        Assert.assertEquals(100_000L, histogram.getCount());
+        Assert.assertEquals(100_000L, histogram.getMax(TimeUnit.MICROSECONDS));
+        assertWithinRelativeError(50_000L, histogram.getValueAtPercentile(50, TimeUnit.MICROSECONDS));
+        assertWithinRelativeError(95_000L, histogram.getValueAtPercentile(95, TimeUnit.MICROSECONDS));
+        assertWithinRelativeError(99_000L, histogram.getValueAtPercentile(99, TimeUnit.MICROSECONDS));
+        Assert.assertEquals(100_000L, histogram.getValueAtPercentile(100, TimeUnit.MICROSECONDS));
+
+        histogram.reset();
+
+        Assert.assertEquals(0L, histogram.getCount());
+        Assert.assertEquals(0L, histogram.getMax(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void buckets() {
+        int previous = -1;
+        for (long value : new long[] { 0, 1, LatencyHistogram.SUB_BUCKETS - 1, LatencyHistogram.SUB_BUCKETS, 1000, 1_000_000, 1_000_000_000, Long.MAX_VALUE >>> 23 }) {
+            int index = LatencyHistogram.index(value);
+            Assert.assertTrue(index > previous);
+            Assert.assertTrue(LatencyHistogram.upperBound(index) >= value);
+            if (index > 0) {
+                Assert.assertTrue(LatencyHistogram.upperBound(index - 1) < value);
+            }
+            previous = index;
+        }
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        Assert.assertTrue(String.format("Expected %d, actual %d", expected, actual), Math.abs(expected - actual) <= expected / LatencyHistogram.SUB_BUCKETS);
+    }
+}
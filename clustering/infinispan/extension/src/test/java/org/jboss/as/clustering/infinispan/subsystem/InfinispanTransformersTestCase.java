@@ -274,6 +274,12 @@ public class InfinispanTransformersTestCase extends AbstractSubsystemTest {
         PathAddress remoteContainerAddress = subsystemAddress.append(RemoteCacheContainerResourceDefinitionRegistrar.REGISTRATION.getPathElement());
         List<String> rejectedRemoteContainerAttributes = new LinkedList<>();
 
+        if (InfinispanSubsystemModel.VERSION_21_0_0.requiresTransformation(this.subsystemVersion)) {
+            config.addFailedAttribute(containerAddress.append(CacheResourceRegistration.LOCAL.pathElement("local"), MemoryResourceRegistration.HEAP.getPathElement()), new FailedOperationTransformationConfig.NewAttributesConfig(MemoryResourceDefinitionRegistrar.SIZE_UNIT));
+            config.addFailedAttribute(containerAddress.append(CacheResourceRegistration.REPLICATED.pathElement("repl")), new FailedOperationTransformationConfig.NewAttributesConfig(CacheResourceDefinitionRegistrar.LATENCY_STATISTICS_ENABLED));
+            config.addFailedAttribute(containerAddress.append(ThreadPool.BLOCKING.getPathElement()), new FailedOperationTransformationConfig.NewAttributesConfig(ThreadPoolResourceDefinitionRegistrar.VIRTUAL_THREADS));
+        }
+
         if (InfinispanSubsystemModel.VERSION_16_0_0.requiresTransformation(this.subsystemVersion)) {
             config.addFailedAttribute(containerAddress.append(CacheResourceRegistration.REPLICATED.pathElement("repl"), ComponentResourceRegistration.PARTITION_HANDLING.getPathElement()), new FailedOperationTransformationConfig.NewAttributesConfig(PartitionHandlingResourceDefinitionRegistrar.MERGE_POLICY));
             config.addFailedAttribute(containerAddress.append(CacheResourceRegistration.DISTRIBUTED.pathElement("dist"), ComponentResourceRegistration.PARTITION_HANDLING.getPathElement()), new FailedOperationTransformationConfig.NewAttributesConfig(PartitionHandlingResourceDefinitionRegistrar.WHEN_SPLIT));
@@ -0,0 +1,131 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.jboss.as.clustering.thread.PinnedThreadMonitor;
+import org.jboss.as.clustering.thread.VirtualThreads;
+import org.jgroups.util.ThreadFactory;
+
+/**
+ * {@link ThreadFactory} decorator that tracks the threads it creates.
+ * Reports the number of live threads and, if threads are virtual, the number of times they were pinned to their carrier thread.
+ * Intended for the thread pool of a transport, such that other transport threads, e.g. receiver or timer threads, are not counted.
+ * For a thread pool using virtual threads, each message is handled by a new thread, so the number of live threads reflects the number of in-flight tasks.
+ * A factory creating virtual threads must be closed along with its transport.
+ */
+public class MonitoredThreadFactory implements ThreadFactory, AutoCloseable {
+
+    private final ThreadFactory factory;
+    // Only created if this factory creates virtual threads
+    private final PinnedThreadMonitor pinnedMonitor;
+    private final AtomicInteger liveThreads = new AtomicInteger();
+    private final LongAccumulator largestLiveThreads = new LongAccumulator(Math::max, 0L);
+
+    public MonitoredThreadFactory(ThreadFactory factory) {
+        this.factory = factory;
+        this.pinnedMonitor = (VirtualThreads.isSupported() && factory.useVirtualThreads()) ? new PinnedThreadMonitor() : null;
+    }
+
+    @Override
+    public void close() {
+        if (this.pinnedMonitor != null) {
+            this.pinnedMonitor.close();
+        }
+    }
+
+    /**
+     * Indicates whether this factory creates virtual threads.
+     * @return true, if this factory creates virtual threads, false otherwise.
+     */
+    public boolean isVirtual() {
+        return this.pinnedMonitor != null;
+    }
+
+    /**
+     * Returns the number of live threads created by this factory.
+     * @return the number of live threads
+     */
+    public int getLiveThreads() {
+        return this.liveThreads.get();
+    }
+
+    /**
+     * Returns the largest number of simultaneously live threads created by this factory.
+     * @return the largest number of live threads
+     */
+    public int getLargestLiveThreads() {
+        return this.largestLiveThreads.intValue();
+    }
+
+    /**
+     * Returns the number of times a virtual thread created by this factory was pinned to its carrier thread for longer than the configured JFR threshold.
+     * @return the number of pinned events
+     */
+    public long getPinnedCount() {
+        return (this.pinnedMonitor != null) ? this.pinnedMonitor.getPinnedCount() : 0L;
+    }
+
+    @Override
+    public Thread newThread(Runnable runner) {
+        return this.newThread(runner, null);
+    }
+
+    @Override
+    public Thread newThread(Runnable runner, String name) {
+        return this.factory.newThread(new Runnable() {
+            @Override
+            public void run() {
+                MonitoredThreadFactory.this.run(runner);
+            }
+        }, name);
+    }
+
+    void run(Runnable runner) {
+        this.largestLiveThreads.accumulate(this.liveThreads.incrementAndGet());
+        try {
+            if (this.pinnedMonitor != null) {
+                this.pinnedMonitor.run(runner);
+            } else {
+                runner.run();
+            }
+        } finally {
+            this.liveThreads.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void setPattern(String pattern) {
+        this.factory.setPattern(pattern);
+    }
+
+    @Override
+    public void setIncludeClusterName(boolean includeClusterName) {
+        this.factory.setIncludeClusterName(includeClusterName);
+    }
+
+    @Override
+    public void setClusterName(String channelName) {
+        this.factory.setClusterName(channelName);
+    }
+
+    @Override
+    public void setAddress(String address) {
+        this.factory.setAddress(address);
+    }
+
+    @Override
+    public void renameThread(String base_name, Thread thread) {
+        this.factory.renameThread(base_name, thread);
+    }
+
+    @Override
+    public boolean useVirtualThreads() {
+        return this.factory.useVirtualThreads();
+    }
+}
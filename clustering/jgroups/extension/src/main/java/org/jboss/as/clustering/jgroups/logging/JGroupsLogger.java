@@ -166,4 +166,8 @@ public interface JGroupsLogger extends BasicLogger {
     @LogMessage(level = INFO)
     @Message(id = 35, value = "Disconnected '%s' channel. '%s' left cluster '%s'")
     void disconnected(String channelName, String nodeName, String clusterName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 36, value = "Virtual threads are not supported by this runtime. Transport thread pool of stack %s will use platform threads instead.")
+    void virtualThreadsNotSupported(String stackName);
 }
@@ -20,9 +20,11 @@ import javax.management.MBeanServer;
 
 import org.jboss.as.clustering.controller.MBeanServerResolver;
 import org.jboss.as.clustering.controller.descriptions.SimpleResourceDescriptionResolver;
+import org.jboss.as.clustering.jgroups.MonitoredThreadFactory;
 import org.jboss.as.clustering.jgroups.logging.JGroupsLogger;
 import org.jboss.as.clustering.jgroups.subsystem.ProtocolMetricsHandler.Attribute;
 import org.jboss.as.clustering.naming.BinderServiceInstaller;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -239,6 +241,16 @@ public abstract class AbstractChannelResourceDefinitionRegistrar<C extends Chann
         };
         ServiceValueExecutorRegistry<JChannel> registry = this.channelRegistry;
         ServiceDependency<JChannel> registryKey = ServiceDependency.on(JGroupsServiceDescriptor.CHANNEL, name);
+        // Close the thread factory of the thread pool of the transport of a closed channel
+        Consumer<JChannel> closeThreadFactory = new Consumer<>() {
+            @Override
+            public void accept(JChannel closedChannel) {
+                MonitoredThreadFactory threadFactory = ChannelMetric.getMonitoredThreadFactory(closedChannel.getProtocolStack().getTransport());
+                if (threadFactory != null) {
+                    threadFactory.close();
+                }
+            }
+        };
         Consumer<JChannel> connect = new Consumer<>() {
             @Override
             public void accept(JChannel disconnectedChannel) {
@@ -249,6 +261,7 @@ public abstract class AbstractChannelResourceDefinitionRegistrar<C extends Chann
                     registry.add(registryKey).accept(disconnectedChannel.connect(configuration.getClusterName()));
                 } catch (Exception e) {
                     disconnectedChannel.close();
+                    closeThreadFactory.accept(disconnectedChannel);
                     throw new IllegalStateException(e);
                 }
                 JGroupsLogger.ROOT_LOGGER.connected(name, disconnectedChannel.getName(), configuration.getClusterName(), disconnectedChannel.getView());
@@ -267,7 +280,7 @@ public abstract class AbstractChannelResourceDefinitionRegistrar<C extends Chann
         installers.add(CapabilityServiceInstaller.builder(CHANNEL, factory).blocking()
                 .requires(List.of(channelConfiguration, server))
                 .onStart(new MBeanRegistrationTask(server, JmxConfigurator::registerChannel, name).andThen(connect))
-                .onStop(disconnect.andThen(new MBeanRegistrationTask(server, JmxConfigurator::unregisterChannel, name)).andThen(Functions.closingConsumer()))
+                .onStop(disconnect.andThen(new MBeanRegistrationTask(server, JmxConfigurator::unregisterChannel, name)).andThen(Functions.closingConsumer()).andThen(closeThreadFactory))
                 .build());
 
         // Create installers for jndi bindings
@@ -384,8 +397,13 @@ public abstract class AbstractChannelResourceDefinitionRegistrar<C extends Chann
             String name = entry.getKey();
             ProtocolMetricsHandler.Attribute attribute = entry.getValue();
             ProtocolMetricsHandler.FieldType type = ProtocolMetricsHandler.FieldType.valueOf(attribute.getType());
-            // Register read-only runtime attribute per managed protocol attribute
-            registration.registerReadOnlyAttribute(new SimpleAttributeDefinitionBuilder(name, type.getModelType(), true).setStorageRuntime().build(), handler);
+            AttributeDefinition definition = new SimpleAttributeDefinitionBuilder(name, type.getModelType(), true).setStorageRuntime().build();
+            // Register runtime attribute per managed protocol attribute, exposing numeric managed attributes as metrics
+            if (attribute.isMetric()) {
+                registration.registerMetric(definition, handler);
+            } else {
+                registration.registerReadOnlyAttribute(definition, handler);
+            }
         }
 
         return registration;
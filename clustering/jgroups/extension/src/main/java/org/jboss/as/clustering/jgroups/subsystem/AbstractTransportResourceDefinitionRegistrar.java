@@ -13,6 +13,7 @@ import java.util.List;
 
 import org.jboss.as.clustering.jgroups.ClassLoaderThreadFactory;
 import org.jboss.as.clustering.jgroups.JChannelFactory;
+import org.jboss.as.clustering.jgroups.MonitoredThreadFactory;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -32,6 +33,7 @@ import org.jboss.dmr.ModelType;
 import org.jgroups.protocols.TP;
 import org.jgroups.stack.DiagnosticsHandler;
 import org.jgroups.util.DefaultThreadFactory;
+import org.jgroups.util.ThreadFactory;
 import org.jgroups.util.ThreadPool;
 import org.wildfly.clustering.jgroups.spi.ProtocolConfiguration;
 import org.wildfly.clustering.jgroups.spi.ChannelFactoryConfiguration;
@@ -195,8 +197,12 @@ public class AbstractTransportResourceDefinitionRegistrar<T extends TP> extends
                         // Let JGroups retransmit if pool is full
                         threadPool.setRejectionPolicy("discard");
 
+                        boolean virtualThreads = threadPoolConfiguration.isVirtual() || protocol.useVirtualThreads();
+                        ThreadFactory threadFactory = new ClassLoaderThreadFactory(new DefaultThreadFactory("jgroups", false, true).useVirtualThreads(virtualThreads), JChannelFactory.class.getClassLoader());
                         // JGroups propagates this to the ThreadPool
-                        protocol.setThreadFactory(new ClassLoaderThreadFactory(new DefaultThreadFactory("jgroups", false, true).useVirtualThreads(protocol.useVirtualThreads()), JChannelFactory.class.getClassLoader()));
+                        protocol.setThreadFactory(threadFactory);
+                        // Only monitor threads of the thread pool, excluding other transport threads, e.g. receiver, timer, and diagnostics threads
+                        threadPool.setThreadFactory(new MonitoredThreadFactory(threadFactory));
 
                         SocketBinding diagnosticsBinding = diagnosticsSocketBinding.get();
                         if (diagnosticsBinding != null) {
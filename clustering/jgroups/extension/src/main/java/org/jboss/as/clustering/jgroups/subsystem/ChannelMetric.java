@@ -4,11 +4,15 @@
  */
 package org.jboss.as.clustering.jgroups.subsystem;
 
+import org.jboss.as.clustering.jgroups.MonitoredThreadFactory;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jgroups.JChannel;
+import org.jgroups.protocols.TP;
+import org.jgroups.util.ThreadFactory;
+import org.jgroups.util.ThreadPool;
 import org.wildfly.subsystem.resource.executor.Metric;
 
 /**
@@ -65,6 +69,57 @@ public enum ChannelMetric implements Metric<JChannel> {
             return new ModelNode(channel.getState());
         }
     },
+    THREAD_POOL_ACTIVE_THREADS("thread-pool-active-threads", ModelType.INT) {
+        @Override
+        public ModelNode execute(JChannel channel) {
+            TP transport = channel.getProtocolStack().getTransport();
+            MonitoredThreadFactory factory = getMonitoredThreadFactory(transport);
+            // A virtual thread is created per task, so all live threads are active
+            return new ModelNode((factory != null) && factory.isVirtual() ? factory.getLiveThreads() : transport.getThreadPool().getThreadPoolSizeActive());
+        }
+    },
+    THREAD_POOL_LARGEST_SIZE("thread-pool-largest-size", ModelType.INT) {
+        @Override
+        public ModelNode execute(JChannel channel) {
+            TP transport = channel.getProtocolStack().getTransport();
+            MonitoredThreadFactory factory = getMonitoredThreadFactory(transport);
+            return new ModelNode((factory != null) && factory.isVirtual() ? factory.getLargestLiveThreads() : transport.getThreadPool().getThreadPoolSizeLargest());
+        }
+    },
+    THREAD_POOL_PINNED_COUNT("thread-pool-pinned-count", ModelType.LONG) {
+        @Override
+        public ModelNode execute(JChannel channel) {
+            MonitoredThreadFactory factory = getMonitoredThreadFactory(channel.getProtocolStack().getTransport());
+            return new ModelNode((factory != null) ? factory.getPinnedCount() : 0L);
+        }
+    },
+    THREAD_POOL_SATURATION("thread-pool-saturation", ModelType.DOUBLE) {
+        @Override
+        public ModelNode execute(JChannel channel) {
+            TP transport = channel.getProtocolStack().getTransport();
+            MonitoredThreadFactory factory = getMonitoredThreadFactory(transport);
+            // Virtual threads are not bounded by a maximum pool size
+            if ((factory != null) && factory.isVirtual()) return null;
+            ThreadPool pool = transport.getThreadPool();
+            int maxThreads = pool.getMaxThreads();
+            return (maxThreads > 0) ? new ModelNode((double) pool.getThreadPoolSizeActive() / maxThreads) : null;
+        }
+    },
+    THREAD_POOL_SIZE("thread-pool-size", ModelType.INT) {
+        @Override
+        public ModelNode execute(JChannel channel) {
+            TP transport = channel.getProtocolStack().getTransport();
+            MonitoredThreadFactory factory = getMonitoredThreadFactory(transport);
+            return new ModelNode((factory != null) && factory.isVirtual() ? factory.getLiveThreads() : transport.getThreadPool().getThreadPoolSize());
+        }
+    },
+    THREAD_POOL_VIRTUAL_THREADS("thread-pool-virtual-threads", ModelType.BOOLEAN) {
+        @Override
+        public ModelNode execute(JChannel channel) {
+            MonitoredThreadFactory factory = getMonitoredThreadFactory(channel.getProtocolStack().getTransport());
+            return new ModelNode((factory != null) && factory.isVirtual());
+        }
+    },
     VERSION("version", ModelType.STRING) {
         @Override
         public ModelNode execute(JChannel channel) {
@@ -96,4 +151,14 @@ public enum ChannelMetric implements Metric<JChannel> {
     public AttributeDefinition get() {
         return this.definition;
     }
+
+    /**
+     * Returns the monitored thread factory of the thread pool of the specified transport, which does not create other transport threads.
+     * @param transport a transport protocol
+     * @return the monitored thread factory of the thread pool, or null if the thread pool is not monitored.
+     */
+    static MonitoredThreadFactory getMonitoredThreadFactory(TP transport) {
+        ThreadFactory factory = transport.getThreadPool().getThreadFactory();
+        return (factory instanceof MonitoredThreadFactory) ? (MonitoredThreadFactory) factory : null;
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import org.jboss.as.controller.ExpressionResolver;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jgroups.JChannel;
+import org.wildfly.subsystem.resource.executor.RuntimeOperation;
+
+/**
+ * Runtime operations of a channel.
+ */
+public enum ChannelOperation implements RuntimeOperation<JChannel> {
+
+    READ_PROTOCOL_METRICS("read-protocol-metrics", ModelType.OBJECT) {
+        @Override
+        public ModelNode execute(ExpressionResolver expressionResolver, ModelNode operation, JChannel channel) throws OperationFailedException {
+            // Snapshot all numeric protocol attributes in a single pass, rather than via a read-attribute operation per attribute
+            try {
+                return ProtocolMetricsHandler.readNumericAttributes(channel.getProtocolStack());
+            } catch (Exception e) {
+                throw new OperationFailedException(e);
+            }
+        }
+    },
+    ;
+    private final OperationDefinition definition;
+
+    ChannelOperation(String name, ModelType replyType) {
+        this.definition = new SimpleOperationDefinitionBuilder(name, JGroupsSubsystemResourceDefinitionRegistrar.RESOLVER.createChildResolver(JGroupsResourceRegistration.CHANNEL.getPathElement())).setReplyType(replyType).setReadOnly().setRuntimeOnly().build();
+    }
+
+    @Override
+    public OperationDefinition getOperationDefinition() {
+        return this.definition;
+    }
+}
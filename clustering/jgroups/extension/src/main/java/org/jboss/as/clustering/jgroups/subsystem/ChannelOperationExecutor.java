@@ -0,0 +1,38 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.util.function.Function;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jgroups.JChannel;
+import org.wildfly.clustering.jgroups.spi.JGroupsServiceDescriptor;
+import org.wildfly.service.capture.FunctionExecutor;
+import org.wildfly.subsystem.resource.executor.RuntimeOperation;
+import org.wildfly.subsystem.resource.executor.RuntimeOperationExecutor;
+import org.wildfly.subsystem.resource.executor.RuntimeOperationFunction;
+import org.wildfly.subsystem.service.ServiceDependency;
+import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
+
+/**
+ * Executor for runtime operations of a channel.
+ */
+public class ChannelOperationExecutor implements RuntimeOperationExecutor<JChannel> {
+
+    private final FunctionExecutorRegistry<JChannel> executors;
+
+    public ChannelOperationExecutor(FunctionExecutorRegistry<JChannel> executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public ModelNode execute(OperationContext context, ModelNode operation, RuntimeOperation<JChannel> executable) throws OperationFailedException {
+        FunctionExecutor<JChannel> executor = this.executors.getExecutor(ServiceDependency.on(JGroupsServiceDescriptor.CHANNEL, context.getCurrentAddressValue()));
+        return (executor != null) ? executor.execute(new RuntimeOperationFunction<>(context, operation, Function.identity(), executable)) : null;
+    }
+}
@@ -40,6 +40,7 @@ import org.wildfly.subsystem.resource.ResourceModelResolver;
 import org.wildfly.subsystem.resource.capability.CapabilityReference;
 import org.wildfly.subsystem.resource.capability.CapabilityReferenceAttributeDefinition;
 import org.wildfly.subsystem.resource.executor.MetricOperationStepHandler;
+import org.wildfly.subsystem.resource.executor.RuntimeOperationStepHandler;
 import org.wildfly.subsystem.service.ResourceServiceInstaller;
 import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.capture.ServiceValueExecutorRegistry;
@@ -223,6 +224,7 @@ public class ChannelResourceDefinitionRegistrar extends AbstractChannelResourceD
 
         if (context.isRuntimeOnlyRegistrationValid()) {
             new MetricOperationStepHandler<>(new ChannelMetricExecutor(this.channelRegistry), ChannelMetric.class).register(registration);
+            new RuntimeOperationStepHandler<>(new ChannelOperationExecutor(this.channelRegistry), ChannelOperation.class).register(registration);
         }
 
         new ForkResourceDefinitionRegistrar(this.channelRegistry).register(registration, context);
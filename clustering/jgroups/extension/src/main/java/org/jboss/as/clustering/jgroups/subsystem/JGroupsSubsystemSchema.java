@@ -50,9 +50,10 @@ public enum JGroupsSubsystemSchema implements SubsystemResourceXMLSchema<JGroups
     VERSION_6_0(6, 0), // WildFly 12-16, EAP 7.2
     VERSION_7_0(7, 0), // WildFly 17-19, EAP 7.3
     VERSION_8_0(8, 0), // WildFly 20-26, EAP 7.4
-    VERSION_9_0(9, 0), // WildFly 27-present
+    VERSION_9_0(9, 0), // WildFly 27-37
+    VERSION_10_0(10, 0), // WildFly 38-present
     ;
-    static final JGroupsSubsystemSchema CURRENT = VERSION_9_0;
+    static final JGroupsSubsystemSchema CURRENT = VERSION_10_0;
 
     private final ResourceXMLParticleFactory factory = ResourceXMLParticleFactory.newInstance(this);
     private final VersionedNamespace<IntVersion, JGroupsSubsystemSchema> namespace;
@@ -213,6 +214,9 @@ public enum JGroupsSubsystemSchema implements SubsystemResourceXMLSchema<JGroups
             if (!this.since(VERSION_6_0)) {
                 threadPoolBuilder.ignoreAttributeLocalNames(Set.of("queue-length"));
             }
+            if (this.since(VERSION_10_0)) {
+                threadPoolBuilder.addAttribute(pool.getVirtualThreads());
+            }
             contentBuilder.addElement(threadPoolBuilder.build());
         }
 
@@ -4,12 +4,15 @@
  */
 package org.jboss.as.clustering.jgroups.subsystem;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,6 +27,7 @@ import org.jgroups.JChannel;
 import org.jgroups.annotations.ManagedAttribute;
 import org.jgroups.annotations.Property;
 import org.jgroups.stack.Protocol;
+import org.jgroups.stack.ProtocolStack;
 import org.jgroups.util.Util;
 import org.wildfly.clustering.jgroups.spi.JGroupsServiceDescriptor;
 import org.wildfly.common.function.ExceptionFunction;
@@ -34,6 +38,7 @@ import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
 
 /**
  * A generic handler for protocol metrics based on reflection.
+ * The accessors of the managed attributes of a given protocol class are resolved once, and read via method handles.
  *
  * @author Richard Achmatowicz (c) 2013 Red Hat Inc.
  * @author Radoslav Husar
@@ -41,18 +46,41 @@ import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
  */
 public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
 
+    // Caches the managed attributes per protocol class
+    private static final ClassValue<Map<String, Attribute>> PROTOCOL_ATTRIBUTES = new ClassValue<>() {
+        @Override
+        protected Map<String, Attribute> computeValue(Class<?> protocolClass) {
+            return Collections.unmodifiableMap(findAttributes(protocolClass.asSubclass(Protocol.class)));
+        }
+    };
+
     interface Attribute {
         String getName();
         String getDescription();
         Class<?> getType();
-        Object read(Object object) throws Exception;
+        /**
+         * Indicates whether this attribute is a metric, i.e. a numeric managed attribute that is not a configuration property.
+         * @return true, if this attribute is a metric, false otherwise.
+         */
+        boolean isMetric();
+        /**
+         * Reads the value of this attribute from the specified protocol into the specified model node.
+         * The specified node is left undefined if the attribute value is null.
+         * @param object a protocol instance
+         * @param result the model node into which the attribute value will be read
+         * @throws Exception if the attribute value could not be read
+         */
+        void read(Object object, ModelNode result) throws Exception;
     }
 
     abstract static class AbstractAttribute<A extends AccessibleObject> implements Attribute {
         final A accessible;
+        private final FieldType type;
+        private volatile MethodHandle handle;
 
-        AbstractAttribute(A accessible) {
+        AbstractAttribute(A accessible, Class<?> type) {
             this.accessible = accessible;
+            this.type = FieldType.valueOf(type);
         }
 
         @Override
@@ -80,31 +108,53 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
 
         @Override
-        public Object read(final Object object) throws Exception {
-            PrivilegedExceptionAction<Object> action = new PrivilegedExceptionAction<>() {
-                @Override
-                public Object run() throws Exception {
-                    AbstractAttribute.this.accessible.setAccessible(true);
-                    try {
-                        return AbstractAttribute.this.get(object);
-                    } finally {
-                        AbstractAttribute.this.accessible.setAccessible(false);
+        public boolean isMetric() {
+            return this.type.isNumeric() && this.accessible.isAnnotationPresent(ManagedAttribute.class) && !this.accessible.isAnnotationPresent(Property.class);
+        }
+
+        @Override
+        public void read(Object object, ModelNode result) throws Exception {
+            try {
+                this.type.read(this.getHandle(), object, result);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private MethodHandle getHandle() throws Exception {
+            MethodHandle handle = this.handle;
+            if (handle == null) {
+                // Benign race - at worst, a handle is resolved more than once
+                PrivilegedExceptionAction<MethodHandle> action = new PrivilegedExceptionAction<>() {
+                    @Override
+                    public MethodHandle run() throws IllegalAccessException {
+                        AbstractAttribute.this.accessible.setAccessible(true);
+                        try {
+                            // A method handle retains its access checks, so accessibility can be reset immediately
+                            return AbstractAttribute.this.type.adapt(AbstractAttribute.this.unreflect(MethodHandles.lookup()));
+                        } finally {
+                            AbstractAttribute.this.accessible.setAccessible(false);
+                        }
                     }
+                };
+                try {
+                    handle = WildFlySecurityManager.doUnchecked(action);
+                } catch (PrivilegedActionException e) {
+                    throw e.getException();
                 }
-            };
-            try {
-                return WildFlySecurityManager.doUnchecked(action);
-            } catch (PrivilegedActionException e) {
-                throw e.getException();
+                this.handle = handle;
             }
+            return handle;
         }
 
-        abstract Object get(Object object) throws Exception;
+        abstract MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException;
     }
 
     static class FieldAttribute extends AbstractAttribute<Field> {
         FieldAttribute(Field field) {
-            super(field);
+            super(field, field.getType());
         }
 
         @Override
@@ -119,14 +169,14 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
 
         @Override
-        Object get(Object object) throws IllegalAccessException {
-            return this.accessible.get(object);
+        MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+            return lookup.unreflectGetter(this.accessible);
         }
     }
 
     static class MethodAttribute extends AbstractAttribute<Method> {
         MethodAttribute(Method method) {
-            super(method);
+            super(method, method.getReturnType());
         }
 
         @Override
@@ -141,37 +191,73 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
 
         @Override
-        Object get(Object object) throws IllegalAccessException, InvocationTargetException {
-            return this.accessible.invoke(object);
+        MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+            return lookup.unreflect(this.accessible);
         }
     }
 
     enum FieldType {
-        BOOLEAN(ModelType.BOOLEAN, Boolean.TYPE, Boolean.class) {
+        BOOLEAN(ModelType.BOOLEAN, Boolean.TYPE, Boolean.TYPE, Boolean.class) {
             @Override
             void setValue(ModelNode node, Object value) {
                 node.set((Boolean) value);
             }
+
+            @Override
+            void read(MethodHandle handle, Object object, ModelNode node) throws Throwable {
+                if (handle.type().returnType() == Boolean.TYPE) {
+                    node.set((boolean) handle.invokeExact(object));
+                } else {
+                    super.read(handle, object, node);
+                }
+            }
         },
-        INT(ModelType.INT, Integer.TYPE, Integer.class, Byte.TYPE, Byte.class, Short.TYPE, Short.class) {
+        INT(ModelType.INT, Integer.TYPE, Integer.TYPE, Integer.class, Byte.TYPE, Byte.class, Short.TYPE, Short.class) {
             @Override
             void setValue(ModelNode node, Object value) {
                 node.set(((Number) value).intValue());
             }
+
+            @Override
+            void read(MethodHandle handle, Object object, ModelNode node) throws Throwable {
+                if (handle.type().returnType() == Integer.TYPE) {
+                    node.set((int) handle.invokeExact(object));
+                } else {
+                    super.read(handle, object, node);
+                }
+            }
         },
-        LONG(ModelType.LONG, Long.TYPE, Long.class) {
+        LONG(ModelType.LONG, Long.TYPE, Long.TYPE, Long.class) {
             @Override
             void setValue(ModelNode node, Object value) {
                 node.set((Long) value);
             }
+
+            @Override
+            void read(MethodHandle handle, Object object, ModelNode node) throws Throwable {
+                if (handle.type().returnType() == Long.TYPE) {
+                    node.set((long) handle.invokeExact(object));
+                } else {
+                    super.read(handle, object, node);
+                }
+            }
         },
-        DOUBLE(ModelType.DOUBLE, Double.TYPE, Double.class, Float.TYPE, Float.class) {
+        DOUBLE(ModelType.DOUBLE, Double.TYPE, Double.TYPE, Double.class, Float.TYPE, Float.class) {
             @Override
             void setValue(ModelNode node, Object value) {
                 node.set(((Number) value).doubleValue());
             }
+
+            @Override
+            void read(MethodHandle handle, Object object, ModelNode node) throws Throwable {
+                if (handle.type().returnType() == Double.TYPE) {
+                    node.set((double) handle.invokeExact(object));
+                } else {
+                    super.read(handle, object, node);
+                }
+            }
         },
-        STRING(ModelType.STRING) {
+        STRING(ModelType.STRING, null) {
             @Override
             void setValue(ModelNode node, Object value) {
                 node.set(value.toString());
@@ -190,18 +276,49 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
 
         private final Class<?>[] types;
         private final ModelType modelType;
+        private final Class<?> primitiveType;
 
-        FieldType(ModelType modelType, Class<?>... types) {
+        FieldType(ModelType modelType, Class<?> primitiveType, Class<?>... types) {
             this.modelType = modelType;
+            this.primitiveType = primitiveType;
             this.types = types;
         }
 
         abstract void setValue(ModelNode node, Object value);
 
+        /**
+         * Adapts the specified accessor handle to the signature expected by {@link #read(MethodHandle, Object, ModelNode)}.
+         * Primitive values are widened to the primitive type of this field type, avoiding boxing; all other values are read as objects.
+         * @param handle an accessor method handle
+         * @return an adapted method handle
+         */
+        MethodHandle adapt(MethodHandle handle) {
+            Class<?> returnType = handle.type().returnType();
+            return handle.asType(MethodType.methodType((returnType.isPrimitive() && (this.primitiveType != null)) ? this.primitiveType : Object.class, Object.class));
+        }
+
+        /**
+         * Reads a value into the specified model node using the specified handle, as adapted by {@link #adapt(MethodHandle)}.
+         * @param handle an adapted accessor method handle
+         * @param object the target object
+         * @param node the model node into which the value will be read
+         * @throws Throwable if the value could not be read
+         */
+        void read(MethodHandle handle, Object object, ModelNode node) throws Throwable {
+            Object value = (Object) handle.invokeExact(object);
+            if (value != null) {
+                this.setValue(node, value);
+            }
+        }
+
         public ModelType getModelType() {
             return this.modelType;
         }
 
+        public boolean isNumeric() {
+            return (this == INT) || (this == LONG) || (this == DOUBLE);
+        }
+
         public static FieldType valueOf(Class<?> typeClass) {
             FieldType type = TYPES.get(typeClass);
             return (type != null) ? type : STRING;
@@ -231,12 +348,8 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
                 if (attribute == null) {
                     throw new OperationFailedException(JGroupsLogger.ROOT_LOGGER.unknownMetric(name));
                 }
-                FieldType type = FieldType.valueOf(attribute.getType());
                 ModelNode result = new ModelNode();
-                Object value = attribute.read(protocol);
-                if (value != null) {
-                    type.setValue(result, value);
-                }
+                attribute.read(protocol, result);
                 return result;
             }
         };
@@ -259,6 +372,35 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
     }
 
     static Map<String, Attribute> findProtocolAttributes(Class<? extends Protocol> protocolClass) {
+        return PROTOCOL_ATTRIBUTES.get(protocolClass);
+    }
+
+    /**
+     * Reads the values of all numeric managed attributes of the protocols of the specified stack.
+     * @param stack a protocol stack
+     * @return a model node containing the numeric attribute values, keyed by protocol name and attribute name.
+     * @throws Exception if an attribute value could not be read
+     */
+    static ModelNode readNumericAttributes(ProtocolStack stack) throws Exception {
+        ModelNode result = new ModelNode();
+        result.setEmptyObject();
+        for (Protocol protocol : stack.getProtocols()) {
+            ModelNode protocolResult = result.get(protocol.getName()).setEmptyObject();
+            for (Map.Entry<String, Attribute> entry : findProtocolAttributes(protocol.getClass()).entrySet()) {
+                Attribute attribute = entry.getValue();
+                if (FieldType.valueOf(attribute.getType()).isNumeric()) {
+                    ModelNode value = new ModelNode();
+                    attribute.read(protocol, value);
+                    if (value.isDefined()) {
+                        protocolResult.get(entry.getKey()).set(value);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Attribute> findAttributes(Class<? extends Protocol> protocolClass) {
         Map<String, Attribute> attributes = new HashMap<>();
         Class<?> targetClass = protocolClass;
         while (Protocol.class.isAssignableFrom(targetClass)) {
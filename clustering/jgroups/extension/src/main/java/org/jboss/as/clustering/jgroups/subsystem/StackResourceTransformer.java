@@ -31,5 +31,6 @@ public class StackResourceTransformer implements Consumer<ModelVersion> {
         for (EncryptProtocolResourceDefinitionRegistrar.Protocol protocol : EnumSet.allOf(EncryptProtocolResourceDefinitionRegistrar.Protocol.class)) {
             new EncryptProtocolResourceTransformer(this.builder, protocol.getPathElement()).accept(version);
         }
+        new ThreadPoolResourceTransformer(this.builder).accept(version);
     }
 }
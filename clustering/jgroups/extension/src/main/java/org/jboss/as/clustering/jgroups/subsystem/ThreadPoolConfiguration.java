@@ -14,4 +14,5 @@ public interface ThreadPoolConfiguration {
     int getMinThreads();
     int getMaxThreads();
     Duration getKeepAlive();
+    boolean isVirtual();
 }
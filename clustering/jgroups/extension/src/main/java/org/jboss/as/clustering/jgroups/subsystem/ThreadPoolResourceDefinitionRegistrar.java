@@ -10,6 +10,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.jboss.as.clustering.controller.DurationAttributeDefinition;
+import org.jboss.as.clustering.jgroups.logging.JGroupsLogger;
+import org.jboss.as.clustering.thread.VirtualThreads;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -57,6 +59,7 @@ public enum ThreadPoolResourceDefinitionRegistrar implements ChildResourceDefini
     private final AttributeDefinition minThreads;
     private final AttributeDefinition maxThreads;
     private final DurationAttributeDefinition keepAlive;
+    private final AttributeDefinition virtualThreads;
 
     ThreadPoolResourceDefinitionRegistrar(String name, int defaultMinThreads, int defaultMaxThreads, Duration defaultKeepAlive) {
         this.path = pathElement(name);
@@ -64,6 +67,12 @@ public enum ThreadPoolResourceDefinitionRegistrar implements ChildResourceDefini
         this.minThreads = createAttribute("min-threads", ModelType.INT, new ModelNode(defaultMinThreads), IntRangeValidator.NON_NEGATIVE);
         this.maxThreads = createAttribute("max-threads", ModelType.INT, new ModelNode(defaultMaxThreads), IntRangeValidator.NON_NEGATIVE);
         this.keepAlive = new DurationAttributeDefinition.Builder("keepalive-time", ChronoUnit.MILLIS).setDefaultValue(defaultKeepAlive).build();
+        this.virtualThreads = new SimpleAttributeDefinitionBuilder("virtual-threads", ModelType.BOOLEAN)
+                .setAllowExpression(true)
+                .setRequired(false)
+                .setDefaultValue(ModelNode.FALSE)
+                .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                .build();
     }
 
     private static AttributeDefinition createAttribute(String name, ModelType type, ModelNode defaultValue, ParameterValidator validator) {
@@ -80,7 +89,7 @@ public enum ThreadPoolResourceDefinitionRegistrar implements ChildResourceDefini
     public ManagementResourceRegistration register(ManagementResourceRegistration parent, ManagementResourceRegistrationContext context) {
         ResourceDescriptionResolver resolver = JGroupsSubsystemResourceDefinitionRegistrar.RESOLVER.createChildResolver(this.path, WILDCARD_PATH);
         ResourceDescriptor descriptor = ResourceDescriptor.builder(resolver)
-                .addAttributes(List.of(this.getMinThreads(), this.getMaxThreads(), this.getKeepAlive()))
+                .addAttributes(List.of(this.getMinThreads(), this.getMaxThreads(), this.getKeepAlive(), this.getVirtualThreads()))
                 .addCapability(this.capability)
                 .withRuntimeHandler(ResourceOperationRuntimeHandler.configureService(this))
                 .build();
@@ -97,6 +106,11 @@ public enum ThreadPoolResourceDefinitionRegistrar implements ChildResourceDefini
         int minThreads = this.minThreads.resolveModelAttribute(context, model).asInt();
         int maxThreads = this.maxThreads.resolveModelAttribute(context, model).asInt();
         Duration keepAlive = this.keepAlive.resolve(context, model);
+        boolean virtualThreads = this.virtualThreads.resolveModelAttribute(context, model).asBoolean();
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            JGroupsLogger.ROOT_LOGGER.virtualThreadsNotSupported(context.getCurrentAddress().getParent().getParent().getLastElement().getValue());
+        }
+        boolean virtual = virtualThreads && VirtualThreads.isSupported();
         ThreadPoolConfiguration configuration = new ThreadPoolConfiguration() {
             @Override
             public int getMinThreads() {
@@ -112,6 +126,11 @@ public enum ThreadPoolResourceDefinitionRegistrar implements ChildResourceDefini
             public Duration getKeepAlive() {
                 return keepAlive;
             }
+
+            @Override
+            public boolean isVirtual() {
+                return virtual;
+            }
         };
         return CapabilityServiceInstaller.builder(this.capability, configuration).build();
     }
@@ -131,6 +150,11 @@ public enum ThreadPoolResourceDefinitionRegistrar implements ChildResourceDefini
         return this.keepAlive;
     }
 
+    @Override
+    public AttributeDefinition getVirtualThreads() {
+        return this.virtualThreads;
+    }
+
     @Override
     public PathElement getPathElement() {
         return this.path;
@@ -31,4 +31,5 @@ public interface ThreadPoolResourceRegistration extends ResourceRegistration, Un
     AttributeDefinition getMinThreads();
     AttributeDefinition getMaxThreads();
     DurationAttributeDefinition getKeepAlive();
+    AttributeDefinition getVirtualThreads();
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+
+/**
+ * Transformer for transport thread pool resources.
+ */
+public class ThreadPoolResourceTransformer implements Consumer<ModelVersion> {
+    private final ResourceTransformationDescriptionBuilder builder;
+
+    ThreadPoolResourceTransformer(ResourceTransformationDescriptionBuilder parent) {
+        this.builder = parent.addChildResource(StackResourceDefinitionRegistrar.Component.TRANSPORT.getPathElement()).addChildResource(ThreadPoolResourceDefinitionRegistrar.WILDCARD_PATH);
+    }
+
+    @Override
+    public void accept(ModelVersion version) {
+
+        if (JGroupsSubsystemModel.VERSION_11_0_0.requiresTransformation(version)) {
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ThreadPoolResourceDefinitionRegistrar.DEFAULT.getVirtualThreads())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, ThreadPoolResourceDefinitionRegistrar.DEFAULT.getVirtualThreads())
+                    .end();
+        }
+    }
+}
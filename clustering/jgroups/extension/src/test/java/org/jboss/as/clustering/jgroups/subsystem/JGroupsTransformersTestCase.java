@@ -152,6 +152,9 @@ public class JGroupsTransformersTestCase extends AbstractSubsystemTest {
         if (JGroupsSubsystemModel.VERSION_8_0_0.requiresTransformation(this.subsystemVersion)) {
             config.addFailedAttribute(subsystemAddress.append(JGroupsResourceRegistration.STACK.pathElement("credentialReference1")).append(StackResourceDefinitionRegistrar.Component.PROTOCOL.pathElement("SYM_ENCRYPT")), FailedOperationTransformationConfig.REJECTED_RESOURCE);
         }
+        if (JGroupsSubsystemModel.VERSION_11_0_0.requiresTransformation(this.subsystemVersion)) {
+            config.addFailedAttribute(subsystemAddress.append(JGroupsResourceRegistration.STACK.pathElement("maximal")).append(StackResourceDefinitionRegistrar.Component.TRANSPORT.pathElement("TCP")).append(ThreadPoolResourceDefinitionRegistrar.DEFAULT.getPathElement()), new FailedOperationTransformationConfig.NewAttributesConfig(ThreadPoolResourceDefinitionRegistrar.DEFAULT.getVirtualThreads()));
+        }
 
         List<ModelNode> operations = builder.parseXmlResource("jgroups-reject.xml");
         ModelTestUtils.checkFailedTransformedBootOperations(services, this.subsystemVersion, operations, config);
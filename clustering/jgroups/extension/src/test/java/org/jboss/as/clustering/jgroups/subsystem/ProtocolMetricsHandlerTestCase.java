@@ -0,0 +1,115 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.util.Map;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jgroups.annotations.ManagedAttribute;
+import org.jgroups.annotations.Property;
+import org.jgroups.stack.Protocol;
+import org.jgroups.stack.ProtocolStack;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ProtocolMetricsHandler} attribute accessors.
+ */
+public class ProtocolMetricsHandlerTestCase {
+
+    @Test
+    public void findProtocolAttributes() {
+        Map<String, ProtocolMetricsHandler.Attribute> attributes = ProtocolMetricsHandler.findProtocolAttributes(TestProtocol.class);
+
+        // Verify accessors are only resolved once per protocol class
+        Assert.assertSame(attributes, ProtocolMetricsHandler.findProtocolAttributes(TestProtocol.class));
+
+        Assert.assertEquals(ModelType.INT, ProtocolMetricsHandler.FieldType.valueOf(attributes.get("int-value").getType()).getModelType());
+        Assert.assertEquals(ModelType.INT, ProtocolMetricsHandler.FieldType.valueOf(attributes.get("short-value").getType()).getModelType());
+        Assert.assertEquals(ModelType.LONG, ProtocolMetricsHandler.FieldType.valueOf(attributes.get("long_value").getType()).getModelType());
+        Assert.assertEquals(ModelType.DOUBLE, ProtocolMetricsHandler.FieldType.valueOf(attributes.get("float-value").getType()).getModelType());
+        Assert.assertEquals(ModelType.BOOLEAN, ProtocolMetricsHandler.FieldType.valueOf(attributes.get("boolean-value").getType()).getModelType());
+        Assert.assertEquals(ModelType.STRING, ProtocolMetricsHandler.FieldType.valueOf(attributes.get("string-value").getType()).getModelType());
+        Assert.assertEquals(ModelType.LONG, ProtocolMetricsHandler.FieldType.valueOf(attributes.get("nullable-value").getType()).getModelType());
+        // Dots in property names are replaced
+        Assert.assertTrue(attributes.containsKey("dotted-value"));
+        Assert.assertFalse(attributes.containsKey("unmanaged"));
+
+        // Only numeric managed attributes are metrics
+        Assert.assertTrue(attributes.get("int-value").isMetric());
+        Assert.assertTrue(attributes.get("long_value").isMetric());
+        Assert.assertFalse(attributes.get("boolean-value").isMetric());
+        Assert.assertFalse(attributes.get("string-value").isMetric());
+        Assert.assertFalse(attributes.get("dotted-value").isMetric());
+    }
+
+    @Test
+    public void read() throws Exception {
+        Map<String, ProtocolMetricsHandler.Attribute> attributes = ProtocolMetricsHandler.findProtocolAttributes(TestProtocol.class);
+        TestProtocol protocol = new TestProtocol();
+
+        Assert.assertEquals(1, read(attributes.get("int-value"), protocol).asInt());
+        Assert.assertEquals(2, read(attributes.get("short-value"), protocol).asInt());
+        Assert.assertEquals(3L, read(attributes.get("long_value"), protocol).asLong());
+        Assert.assertEquals(4.5, read(attributes.get("float-value"), protocol).asDouble(), 0);
+        Assert.assertTrue(read(attributes.get("boolean-value"), protocol).asBoolean());
+        Assert.assertEquals("foo", read(attributes.get("string-value"), protocol).asString());
+        Assert.assertFalse(read(attributes.get("nullable-value"), protocol).isDefined());
+        Assert.assertEquals(6, read(attributes.get("dotted-value"), protocol).asInt());
+
+        // Verify that accessors reflect updated values
+        protocol.intValue = 10;
+        Assert.assertEquals(10, read(attributes.get("int-value"), protocol).asInt());
+    }
+
+    @Test
+    public void readNumericAttributes() throws Exception {
+        ProtocolStack stack = new ProtocolStack();
+        stack.addProtocol(new TestProtocol());
+
+        ModelNode result = ProtocolMetricsHandler.readNumericAttributes(stack);
+        ModelNode protocolResult = result.get(TestProtocol.class.getSimpleName());
+
+        Assert.assertEquals(1, protocolResult.get("int-value").asInt());
+        Assert.assertEquals(2, protocolResult.get("short-value").asInt());
+        Assert.assertEquals(3L, protocolResult.get("long_value").asLong());
+        Assert.assertEquals(4.5, protocolResult.get("float-value").asDouble(), 0);
+        Assert.assertEquals(6, protocolResult.get("dotted-value").asInt());
+        // Non-numeric and undefined values are excluded
+        Assert.assertFalse(protocolResult.has("boolean-value"));
+        Assert.assertFalse(protocolResult.has("string-value"));
+        Assert.assertFalse(protocolResult.has("nullable-value"));
+    }
+
+    private static ModelNode read(ProtocolMetricsHandler.Attribute attribute, Object protocol) throws Exception {
+        ModelNode result = new ModelNode();
+        attribute.read(protocol, result);
+        return result;
+    }
+
+    public static class TestProtocol extends Protocol {
+        @ManagedAttribute(name = "int-value")
+        private int intValue = 1;
+        @ManagedAttribute(name = "short-value")
+        private final short shortValue = 2;
+        @ManagedAttribute(name = "float-value")
+        private final float floatValue = 4.5f;
+        @ManagedAttribute(name = "boolean-value")
+        private final Boolean booleanValue = Boolean.TRUE;
+        @ManagedAttribute(name = "string-value")
+        private final String stringValue = "foo";
+        @ManagedAttribute(name = "nullable-value")
+        private final Long nullableValue = null;
+        @Property(name = "dotted.value", exposeAsManagedAttribute = true)
+        private final int dottedValue = 6;
+        private final int unmanaged = 7;
+
+        @ManagedAttribute
+        public long getLongValue() {
+            return 3L;
+        }
+    }
+}
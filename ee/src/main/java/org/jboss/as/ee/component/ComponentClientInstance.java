@@ -31,6 +31,9 @@ public class ComponentClientInstance implements Serializable {
 
     private final Map<Object, Object> contextInformation = new HashMap<Object, Object>();
     private volatile boolean constructionComplete = false;
+    // snapshot of the context information, taken once construction is complete, as it is applied to every invocation
+    private transient volatile Object[] keys;
+    private transient volatile Object[] values;
 
     public Object getViewInstanceData(final Object key) {
         return contextInformation.get(key);
@@ -44,13 +47,31 @@ public class ComponentClientInstance implements Serializable {
     }
 
     void prepareInterceptorContext(InterceptorContext interceptorContext){
-        for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
-            interceptorContext.putPrivateData(entry.getKey(), entry.getValue());
+        final Object[] keys = this.keys;
+        final Object[] values = this.values;
+        if (keys != null) {
+            for (int i = 0; i < keys.length; ++i) {
+                interceptorContext.putPrivateData(keys[i], values[i]);
+            }
+        } else {
+            for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
+                interceptorContext.putPrivateData(entry.getKey(), entry.getValue());
+            }
         }
     }
 
     void constructionComplete() {
         constructionComplete = true;
+        final int size = contextInformation.size();
+        final Object[] keys = new Object[size];
+        final Object[] values = new Object[size];
+        int i = 0;
+        for(Map.Entry<Object, Object> entry : contextInformation.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        this.values = values;
+        this.keys = keys;
     }
 
 }
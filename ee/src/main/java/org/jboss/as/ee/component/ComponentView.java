@@ -77,6 +77,21 @@ public interface ComponentView {
      */
     Method getMethod(final String name, final String descriptor);
 
+    /**
+     * Finds a view method based on name and parameter types.
+     * @param name the method name
+     * @param parameterTypeNames the parameter type names, as returned by {@link Class#getName()}
+     * @return The method that corresponds to the given name and parameter types, or null if no such method exists
+     */
+    Method findMethod(final String name, final String... parameterTypeNames);
+
+    /**
+     * Finds the view method with the same name and parameter types as the specified method, which may originate from a different class loader.
+     * @param method a method of the view class
+     * @return The method that corresponds to the given method, or null if no such method exists
+     */
+    Method findMethod(final Method method);
+
     /**
      * Provides a mechanism to attach arbitrary data to the component view
      * @param clazz The class of attachment
@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.component;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Public context data of an invocation, whose backing map is only allocated once an entry is added.
+ * Most invocations of local component views never use their context data.
+ * Serialized as a {@link HashMap}.
+ */
+final class LazyContextData extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = 2591846712430593155L;
+
+    private Map<String, Object> data;
+
+    @Override
+    public Object put(final String key, final Object value) {
+        Map<String, Object> data = this.data;
+        if (data == null) {
+            this.data = data = new HashMap<>();
+        }
+        return data.put(key, value);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final Map<String, Object> data = this.data;
+        return (data != null) ? data.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        final Map<String, Object> data = this.data;
+        return (data != null) && data.containsKey(key);
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        final Map<String, Object> data = this.data;
+        return (data != null) ? data.remove(key) : null;
+    }
+
+    @Override
+    public int size() {
+        final Map<String, Object> data = this.data;
+        return (data != null) ? data.size() : 0;
+    }
+
+    @Override
+    public void clear() {
+        final Map<String, Object> data = this.data;
+        if (data != null) {
+            data.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        final Map<String, Object> data = this.data;
+        return (data != null) ? data.entrySet() : Collections.emptySet();
+    }
+
+    private Object writeReplace() {
+        return new HashMap<>(this);
+    }
+}
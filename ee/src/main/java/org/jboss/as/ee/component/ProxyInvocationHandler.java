@@ -9,7 +9,6 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.HashMap;
 import java.util.Map;
 
 import org.jboss.invocation.Interceptor;
@@ -26,12 +25,13 @@ public final class ProxyInvocationHandler implements InvocationHandler {
 
     private final Map<Method, Interceptor> interceptors;
     private final ComponentView componentView;
+    private final Component component;
     private final ComponentClientInstance instance;
 
     /**
      * Construct a new instance.
      *
-     * @param interceptors the interceptors map to use
+     * @param interceptors the interceptors map to use, keyed by identity on the cached methods of the proxy class
      * @param instance The view instane data
      * @param componentView The component view
      */
@@ -39,6 +39,7 @@ public final class ProxyInvocationHandler implements InvocationHandler {
         this.interceptors = interceptors;
         this.instance = instance;
         this.componentView = componentView;
+        this.component = componentView.getComponent();
     }
 
     /** {@inheritDoc} */
@@ -50,7 +51,7 @@ public final class ProxyInvocationHandler implements InvocationHandler {
         final InterceptorContext context = new InterceptorContext();
         // special location for original proxy
         context.putPrivateData(Object.class, proxy);
-        context.putPrivateData(Component.class, componentView.getComponent());
+        context.putPrivateData(Component.class, component);
         context.putPrivateData(ComponentView.class, componentView);
         context.putPrivateData(SecurityDomain.class, WildFlySecurityManager.isChecking() ?
                 AccessController.doPrivileged((PrivilegedAction<SecurityDomain>) SecurityDomain::getCurrent) :
@@ -58,8 +59,8 @@ public final class ProxyInvocationHandler implements InvocationHandler {
         instance.prepareInterceptorContext(context);
         context.setParameters(args);
         context.setMethod(method);
-        // setup the public context data
-        context.setContextData(new HashMap<String, Object>());
+        // setup the public context data, allocated only if used
+        context.setContextData(new LazyContextData());
         context.setBlockingCaller(true);
         return interceptor.processInvocation(context);
     }
@@ -0,0 +1,124 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of the methods of a component view, keyed by method name and parameter type names.
+ * Used to resolve invocations whose target method is identified by name and parameter types only (e.g. remote invocations),
+ * without scanning all view methods or computing method descriptors per invocation.
+ */
+public final class ViewMethodIndex {
+
+    private static final ViewMethod[] NO_METHODS = new ViewMethod[0];
+
+    private final Map<String, ViewMethod[]> methods;
+
+    /**
+     * Creates an index of the specified view methods.
+     * @param methods the methods of a view
+     */
+    public ViewMethodIndex(final Collection<Method> methods) {
+        final Map<String, List<ViewMethod>> index = new HashMap<>();
+        for (Method method : methods) {
+            final List<ViewMethod> overloads = index.computeIfAbsent(method.getName(), name -> new ArrayList<>(1));
+            final ViewMethod viewMethod = new ViewMethod(method);
+            final int existing = indexOf(overloads, viewMethod.parameterTypeNames);
+            if (existing < 0) {
+                overloads.add(viewMethod);
+            } else if (overloads.get(existing).method.getReturnType().isAssignableFrom(method.getReturnType())) {
+                // Same signature inherited with a covariant return type, prefer the most specific
+                overloads.set(existing, viewMethod);
+            }
+        }
+        final Map<String, ViewMethod[]> result = new HashMap<>(index.size());
+        for (Map.Entry<String, List<ViewMethod>> entry : index.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().toArray(NO_METHODS));
+        }
+        this.methods = Map.copyOf(result);
+    }
+
+    /**
+     * Returns the view method with the specified name and parameter types.
+     * @param name the method name
+     * @param parameterTypeNames the parameter type names, as returned by {@link Class#getName()}
+     * @return the matching view method, or null if the view has no such method
+     */
+    public Method findMethod(final String name, final String... parameterTypeNames) {
+        final ViewMethod[] overloads = this.methods.get(name);
+        if (overloads != null) {
+            for (ViewMethod overload : overloads) {
+                if (overload.matches(parameterTypeNames)) {
+                    return overload.method;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the view method with the same name and parameter types as the specified method, which may originate from a different class loader.
+     * @param method a method of the view class
+     * @return the matching view method, or null if the view has no such method
+     */
+    public Method findMethod(final Method method) {
+        final ViewMethod[] overloads = this.methods.get(method.getName());
+        if (overloads != null) {
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            for (ViewMethod overload : overloads) {
+                if (overload.matches(parameterTypes)) {
+                    return overload.method;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int indexOf(final List<ViewMethod> overloads, final String[] parameterTypeNames) {
+        for (int i = 0; i < overloads.size(); ++i) {
+            if (overloads.get(i).matches(parameterTypeNames)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class ViewMethod {
+        private final Method method;
+        private final String[] parameterTypeNames;
+
+        ViewMethod(final Method method) {
+            this.method = method;
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            this.parameterTypeNames = new String[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; ++i) {
+                this.parameterTypeNames[i] = parameterTypes[i].getName();
+            }
+        }
+
+        boolean matches(final String[] parameterTypeNames) {
+            if (parameterTypeNames.length != this.parameterTypeNames.length) return false;
+            for (int i = 0; i < parameterTypeNames.length; ++i) {
+                if (!this.parameterTypeNames[i].equals(parameterTypeNames[i])) return false;
+            }
+            return true;
+        }
+
+        boolean matches(final Class<?>[] parameterTypes) {
+            if (parameterTypes.length != this.parameterTypeNames.length) return false;
+            for (int i = 0; i < parameterTypes.length; ++i) {
+                if (!this.parameterTypeNames[i].equals(parameterTypes[i].getName())) return false;
+            }
+            return true;
+        }
+    }
+}
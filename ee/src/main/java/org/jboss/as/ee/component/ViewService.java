@@ -128,6 +128,7 @@ public final class ViewService implements Service<ComponentView> {
         private final Map<Method, Interceptor> viewInterceptors;
         private final Map<MethodDescription, Method> methods;
         private final Map<Class<?>, Object> privateData;
+        private ViewMethodIndex index;
 
         View(final Map<Class<?>, Object> privateData) {
             this.privateData = privateData;
@@ -150,6 +151,7 @@ public final class ViewService implements Service<ComponentView> {
                 viewInterceptors.put(method, entry.getValue().create(factoryContext));
                 methods.put(new MethodDescription(method.getName(), DescriptorUtils.methodDescriptor(method)), method);
             }
+            this.index = new ViewMethodIndex(viewInterceptors.keySet());
 
         }
 
@@ -209,6 +211,16 @@ public final class ViewService implements Service<ComponentView> {
             return method;
         }
 
+        @Override
+        public Method findMethod(final String name, final String... parameterTypeNames) {
+            return this.index.findMethod(name, parameterTypeNames);
+        }
+
+        @Override
+        public Method findMethod(final Method method) {
+            return this.index.findMethod(method);
+        }
+
         @Override
         public <T> T getPrivateData(final Class<T> clazz) {
             return (T) privateData.get(clazz);
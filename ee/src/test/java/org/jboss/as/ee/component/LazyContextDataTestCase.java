@@ -0,0 +1,67 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyContextData}.
+ */
+public class LazyContextDataTestCase {
+
+    @Test
+    public void map() {
+        Map<String, Object> data = new LazyContextData();
+        assertTrue(data.isEmpty());
+        assertNull(data.get("foo"));
+        assertFalse(data.containsKey("foo"));
+        assertNull(data.remove("foo"));
+        data.clear();
+
+        assertNull(data.put("foo", "bar"));
+        assertEquals("bar", data.put("foo", "baz"));
+        assertEquals(1, data.size());
+        assertEquals("baz", data.get("foo"));
+        assertTrue(data.containsKey("foo"));
+        assertEquals(Map.of("foo", "baz"), data);
+
+        data.putAll(Map.of("a", 1, "b", 2));
+        data.entrySet().removeIf(entry -> entry.getKey().equals("a"));
+        assertEquals(Map.of("foo", "baz", "b", 2), data);
+
+        assertEquals("baz", data.remove("foo"));
+        data.clear();
+        assertTrue(data.isEmpty());
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        Map<String, Object> data = new LazyContextData();
+        data.put("foo", "bar");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(data);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object result = input.readObject();
+            assertEquals(HashMap.class, result.getClass());
+            assertEquals(data, result);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ViewMethodIndex}.
+ */
+public class ViewMethodIndexTestCase {
+
+    @Test
+    public void findMethod() throws NoSuchMethodException {
+        ViewMethodIndex index = new ViewMethodIndex(List.of(View.class.getMethods()));
+
+        assertEquals(View.class.getMethod("echo"), index.findMethod("echo"));
+        assertEquals(View.class.getMethod("echo", String.class), index.findMethod("echo", String.class.getName()));
+        assertEquals(View.class.getMethod("echo", int.class, String[].class), index.findMethod("echo", int.class.getName(), String[].class.getName()));
+        assertNull(index.findMethod("echo", Object.class.getName()));
+        assertNull(index.findMethod("missing"));
+
+        assertEquals(View.class.getMethod("echo", String.class), index.findMethod(View.class.getMethod("echo", String.class)));
+        assertNull(index.findMethod(Object.class.getMethod("equals", Object.class)));
+    }
+
+    @Test
+    public void covariantReturnType() throws NoSuchMethodException {
+        ViewMethodIndex index = new ViewMethodIndex(List.of(SubView.class.getMethods()));
+
+        Method method = index.findMethod("get");
+        assertEquals(String.class, method.getReturnType());
+    }
+
+    public interface View {
+        String echo();
+
+        String echo(String value);
+
+        String echo(int count, String... values);
+    }
+
+    public interface SuperView {
+        Object get();
+    }
+
+    public interface SubView extends SuperView {
+        @Override
+        String get();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.invocationmetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the remote invocations of a component that were queued or rejected by a remote dispatch bulkhead.
+ */
+public class RemoteDispatchMetrics {
+    private final AtomicLong queued = new AtomicLong(0);
+    private final LongAdder rejected = new LongAdder();
+
+    public void queued() {
+        this.queued.incrementAndGet();
+    }
+
+    public void dequeued() {
+        this.queued.decrementAndGet();
+    }
+
+    public void rejected() {
+        this.rejected.increment();
+    }
+
+    /**
+     * Returns the number of remote invocations of this component currently waiting in a bulkhead queue.
+     * @return the number of queued invocations
+     */
+    public long getQueued() {
+        return this.queued.get();
+    }
+
+    /**
+     * Returns the number of remote invocations of this component rejected because its bulkhead queue was full.
+     * @return the number of rejected invocations
+     */
+    public long getRejected() {
+        return this.rejected.sum();
+    }
+}
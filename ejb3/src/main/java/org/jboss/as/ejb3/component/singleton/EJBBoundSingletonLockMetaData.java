@@ -0,0 +1,25 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.singleton;
+
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaData;
+
+/**
+ * Metadata representing the container-managed concurrency lock implementation configured for singleton beans via the jboss-ejb3.xml deployment descriptor.
+ */
+public class EJBBoundSingletonLockMetaData extends AbstractEJBBoundMetaData {
+    private static final long serialVersionUID = -2917426416376612484L;
+
+    private boolean striped;
+
+    public boolean isStriped() {
+        return this.striped;
+    }
+
+    public void setStriped(final boolean striped) {
+        this.striped = striped;
+    }
+}
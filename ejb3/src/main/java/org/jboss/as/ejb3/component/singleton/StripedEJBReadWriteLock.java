@@ -0,0 +1,351 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * A read-optimized implementation of {@link java.util.concurrent.locks.ReadWriteLock} with the same semantics as {@link EJBReadWriteLock}.
+ * Readers acquire the read lock of a single stripe, selected by thread, so that concurrent readers running on different cores rarely contend for the same cache line.
+ * Stripes are padded, such that readers of different stripes do not falsely share a cache line.
+ * Writers acquire the write lock of every stripe, and are therefore more expensive than those of {@link EJBReadWriteLock}.
+ * Both read and write locks are reentrant, a thread holding the write lock may acquire the read lock,
+ * and an {@link jakarta.ejb.IllegalLoopbackException} is thrown when a thread holding a read lock tries to obtain a write lock.
+ */
+public class StripedEJBReadWriteLock implements ReadWriteLock {
+
+    private static final int DEFAULT_STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+
+    /**
+     * Tracks the read locks held by a thread.
+     * Unlike the boxed count of {@link EJBReadWriteLock}, this is retained between invocations to avoid allocation.
+     */
+    private static class ReadHolds {
+        int count;
+        // The stripe locked by the outermost read lock, or null if the outermost read lock was acquired by the write lock owner, until the write lock is released
+        StampedLock stripe;
+    }
+
+    /**
+     * A {@link StampedLock} followed by enough padding that the state of adjacent stripes, which are allocated consecutively, never shares a cache line.
+     * Pads 128 bytes, rather than a single 64 byte cache line, to account for adjacent cache line prefetching.
+     */
+    @SuppressWarnings({ "serial", "unused" })
+    private static class PaddedStampedLock extends StampedLock {
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+        private long p08, p09, p10, p11, p12, p13, p14, p15;
+    }
+
+    private final StampedLock[] stripes;
+    private final int mask;
+    private final ThreadLocal<ReadHolds> readHolds = ThreadLocal.withInitial(ReadHolds::new);
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+
+    // Guarded by the write locks of all stripes
+    private volatile Thread writeOwner;
+    private int writeHolds;
+    private long[] writeStamps;
+
+    public StripedEJBReadWriteLock() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a lock with the specified number of stripes.
+     * @param stripes the number of stripes, rounded up to a power of 2
+     */
+    public StripedEJBReadWriteLock(int stripes) {
+        int size = (stripes <= 1) ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new StampedLock[size];
+        for (int i = 0; i < size; ++i) {
+            this.stripes[i] = new PaddedStampedLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public Lock readLock() {
+        return this.readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return this.writeLock;
+    }
+
+    @SuppressWarnings("deprecation")
+    private StampedLock stripe() {
+        // Thread.threadId() requires Java 19+
+        long id = Thread.currentThread().getId();
+        return this.stripes[(int) (id ^ (id >>> 32)) & this.mask];
+    }
+
+    /**
+     * Acquires the read lock, if the current thread does not already hold a read lock or the write lock.
+     * @return true, if the read lock was acquired, false otherwise.
+     */
+    private boolean tryReentrantReadLock(ReadHolds holds) {
+        if (holds.count > 0) {
+            holds.count += 1;
+            return true;
+        }
+        if (this.writeOwner == Thread.currentThread()) {
+            holds.count = 1;
+            holds.stripe = null;
+            return true;
+        }
+        return false;
+    }
+
+    private void unlockRead() {
+        ReadHolds holds = this.readHolds.get();
+        if (holds.count == 0) {
+            throw new IllegalMonitorStateException();
+        }
+        holds.count -= 1;
+        if (holds.count == 0) {
+            StampedLock stripe = holds.stripe;
+            holds.stripe = null;
+            if (stripe != null) {
+                stripe.tryUnlockRead();
+            }
+        }
+    }
+
+    /**
+     * Ensures that the current thread doesn't hold any read locks. If
+     * the thread holds any read locks, this method throws a {@link jakarta.ejb.IllegalLoopbackException}.
+     */
+    private void checkLoopback() {
+        ReadHolds holds = this.readHolds.get();
+        if (holds.count > 0) {
+            throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+        }
+    }
+
+    private boolean tryReentrantWriteLock() {
+        if (this.writeOwner == Thread.currentThread()) {
+            this.writeHolds += 1;
+            return true;
+        }
+        return false;
+    }
+
+    private void acquiredWriteLock(long[] stamps) {
+        this.writeStamps = stamps;
+        this.writeHolds = 1;
+        this.writeOwner = Thread.currentThread();
+    }
+
+    private void unlockWrite() {
+        if (this.writeOwner != Thread.currentThread()) {
+            throw new IllegalMonitorStateException();
+        }
+        this.writeHolds -= 1;
+        if (this.writeHolds == 0) {
+            long[] stamps = this.writeStamps;
+            this.writeStamps = null;
+            this.writeOwner = null;
+            // If the current thread acquired read locks while holding the write lock, downgrade the write lock of its stripe to a read lock
+            ReadHolds holds = this.readHolds.get();
+            StampedLock downgraded = null;
+            if ((holds.count > 0) && (holds.stripe == null)) {
+                downgraded = this.stripe();
+            }
+            // Release in reverse order of acquisition
+            for (int i = stamps.length - 1; i >= 0; --i) {
+                StampedLock stripe = this.stripes[i];
+                if (stripe == downgraded) {
+                    // Atomically converts the write lock of this stripe to a read lock, such that no writer can intervene
+                    if (stripe.tryConvertToReadLock(stamps[i]) == 0L) {
+                        throw new IllegalMonitorStateException();
+                    }
+                    holds.stripe = stripe;
+                } else {
+                    stripe.unlockWrite(stamps[i]);
+                }
+            }
+        }
+    }
+
+    private void release(long[] stamps, int acquired) {
+        for (int i = acquired - 1; i >= 0; --i) {
+            this.stripes[i].unlockWrite(stamps[i]);
+        }
+    }
+
+    /**
+     * The read lock of a {@link StripedEJBReadWriteLock}.
+     */
+    public class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            ReadHolds holds = readHolds.get();
+            if (!tryReentrantReadLock(holds)) {
+                StampedLock stripe = stripe();
+                stripe.readLock();
+                holds.stripe = stripe;
+                holds.count = 1;
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (!tryReentrantReadLock(holds)) {
+                StampedLock stripe = stripe();
+                stripe.readLockInterruptibly();
+                holds.stripe = stripe;
+                holds.count = 1;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            ReadHolds holds = readHolds.get();
+            if (tryReentrantReadLock(holds)) {
+                return true;
+            }
+            StampedLock stripe = stripe();
+            if (stripe.tryReadLock() != 0L) {
+                holds.stripe = stripe;
+                holds.count = 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (tryReentrantReadLock(holds)) {
+                return true;
+            }
+            StampedLock stripe = stripe();
+            if (stripe.tryReadLock(time, unit) != 0L) {
+                holds.stripe = stripe;
+                holds.count = 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            unlockRead();
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The write lock of a {@link StripedEJBReadWriteLock}, which throws an {@link jakarta.ejb.IllegalLoopbackException}
+     * if the current thread holds a read lock.
+     */
+    public class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            checkLoopback();
+            if (!tryReentrantWriteLock()) {
+                long[] stamps = new long[stripes.length];
+                for (int i = 0; i < stripes.length; ++i) {
+                    stamps[i] = stripes[i].writeLock();
+                }
+                acquiredWriteLock(stamps);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            checkLoopback();
+            if (!tryReentrantWriteLock()) {
+                long[] stamps = new long[stripes.length];
+                for (int i = 0; i < stripes.length; ++i) {
+                    try {
+                        stamps[i] = stripes[i].writeLockInterruptibly();
+                    } catch (InterruptedException e) {
+                        release(stamps, i);
+                        throw e;
+                    }
+                }
+                acquiredWriteLock(stamps);
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            checkLoopback();
+            if (tryReentrantWriteLock()) {
+                return true;
+            }
+            long[] stamps = new long[stripes.length];
+            for (int i = 0; i < stripes.length; ++i) {
+                stamps[i] = stripes[i].tryWriteLock();
+                if (stamps[i] == 0L) {
+                    release(stamps, i);
+                    return false;
+                }
+            }
+            acquiredWriteLock(stamps);
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            checkLoopback();
+            if (tryReentrantWriteLock()) {
+                return true;
+            }
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            long[] stamps = new long[stripes.length];
+            for (int i = 0; i < stripes.length; ++i) {
+                try {
+                    stamps[i] = stripes[i].tryWriteLock(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    release(stamps, i);
+                    throw e;
+                }
+                if (stamps[i] == 0L) {
+                    release(stamps, i);
+                    return false;
+                }
+            }
+            acquiredWriteLock(stamps);
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            unlockWrite();
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -9,6 +9,8 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Set;
 
+import org.jboss.as.ee.component.ComponentConfiguration;
+import org.jboss.as.ee.component.EEModuleConfiguration;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.deployment.EjbDeploymentInformation;
 import org.jboss.as.ejb3.deployment.ModuleDeployment;
@@ -26,15 +28,27 @@ public class StatefulSessionBeanSerializabilityChecker implements Serializabilit
         for (EjbDeploymentInformation info: deployment.getEjbs().values()) {
             EJBComponent component = info.getEjbComponent();
             if (component instanceof StatefulSessionComponent) {
-                Class<?> componentClass = component.getComponentClass();
-                while (componentClass != Object.class) {
-                    this.serializableClasses.add(componentClass);
-                    componentClass = componentClass.getSuperclass();
-                }
+                this.addComponentClass(component.getComponentClass());
             }
         }
     }
 
+    public StatefulSessionBeanSerializabilityChecker(EEModuleConfiguration configuration) {
+        // Find component classes of any stateful component configurations and any superclasses
+        for (ComponentConfiguration componentConfiguration : configuration.getComponentConfigurations()) {
+            if (componentConfiguration.getComponentDescription() instanceof StatefulComponentDescription) {
+                this.addComponentClass(componentConfiguration.getComponentClass());
+            }
+        }
+    }
+
+    private void addComponentClass(Class<?> componentClass) {
+        while (componentClass != Object.class) {
+            this.serializableClasses.add(componentClass);
+            componentClass = componentClass.getSuperclass();
+        }
+    }
+
     @Override
     public boolean isSerializable(Class<?> targetClass) {
         return (targetClass != Object.class) && (this.serializableClasses.contains(targetClass) || DEFAULT.isSerializable(targetClass));
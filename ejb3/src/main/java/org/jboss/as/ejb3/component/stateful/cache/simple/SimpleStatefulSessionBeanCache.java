@@ -5,9 +5,17 @@
 
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -23,6 +31,7 @@ import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.ejb.client.Affinity;
 import org.jboss.ejb.client.NodeAffinity;
 import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.server.local.scheduler.LocalScheduler;
 import org.wildfly.clustering.server.local.scheduler.LocalSchedulerConfiguration;
 import org.wildfly.clustering.server.local.scheduler.ScheduledEntries;
@@ -32,6 +41,8 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 /**
  * A simple stateful session bean cache implementation.
  * Bean instances are stored in memory and are lost on undeploy, shutdown, or server crash.
+ * If configured with a maximum size or an idle threshold, idle bean instances are passivated to a local file store,
+ * in least recently used order, and activated on demand.
  * @author Paul Ferraro
  * @param <K> the bean identifier type
  * @param <V> the bean instance type
@@ -40,15 +51,24 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
     private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(SimpleStatefulSessionBeanCache.class, WildFlySecurityManager.getClassLoaderPrivileged(SimpleStatefulSessionBeanCache.class));
 
     private final String componentName;
-    private final Map<K, V> instances = new ConcurrentHashMap<>();
-    private final Consumer<K> remover = this.instances::remove;
+    private final Map<K, CacheEntry<K, V>> entries = new ConcurrentHashMap<>();
+    // Identifiers of idle bean instances, in least recently used order
+    private final Set<K> idle = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final Consumer<K> remover = this.entries::remove;
     private final StatefulSessionBeanInstanceFactory<V> factory;
     private final Supplier<K> identifierFactory;
     private final Duration timeout;
     private final Affinity strongAffinity;
+    private final int maxSize;
+    private final Duration idleThreshold;
+    private final Path passivationDirectory;
+    private final ByteBufferMarshaller marshaller;
+    private final SimpleStatefulSessionBeanCacheStatistics statistics;
     private final AtomicBoolean started = new AtomicBoolean();
 
     private volatile Scheduler<K, Instant> scheduler;
+    private volatile Scheduler<K, Instant> passivationScheduler;
+    private volatile SimpleStatefulSessionBeanPassivationStore<K, V> store;
 
     public SimpleStatefulSessionBeanCache(SimpleStatefulSessionBeanCacheConfiguration<K, V> configuration) {
         this.componentName = configuration.getComponentName();
@@ -56,6 +76,11 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         this.identifierFactory = configuration.getIdentifierFactory();
         this.timeout = configuration.getTimeout();
         this.strongAffinity = new NodeAffinity(configuration.getEnvironment().getNodeName());
+        this.maxSize = configuration.getMaxSize().orElse(Integer.MAX_VALUE);
+        this.idleThreshold = configuration.getIdleThreshold();
+        this.passivationDirectory = configuration.getPassivationDirectory();
+        this.marshaller = configuration.getMarshaller();
+        this.statistics = configuration.getStatistics();
     }
 
     @Override
@@ -66,35 +91,52 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
     @Override
     public void start() {
         if (this.started.compareAndSet(false, true)) {
-            Predicate<K> task = this;
-            String componentName = this.componentName;
-            this.scheduler = (this.timeout != null) && !this.timeout.isZero() ? new LocalScheduler<>(new LocalSchedulerConfiguration<>() {
-                @Override
-                public String getName() {
-                    return componentName;
+            this.scheduler = (this.timeout != null) && !this.timeout.isZero() ? this.createScheduler(this.componentName, this) : null;
+            if ((this.maxSize < Integer.MAX_VALUE) || (this.idleThreshold != null)) {
+                try {
+                    Files.createDirectories(this.passivationDirectory);
+                    this.store = new SimpleStatefulSessionBeanPassivationStore<>(Files.createTempDirectory(this.passivationDirectory, this.componentName + "-"), this.marshaller);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
+                this.passivationScheduler = (this.idleThreshold != null) ? this.createScheduler(this.componentName + "/passivation", new Predicate<>() {
+                    @Override
+                    public boolean test(K id) {
+                        SimpleStatefulSessionBeanCache.this.passivate(id);
+                        return true;
+                    }
+                }) : null;
+            }
+        }
+    }
 
-                @Override
-                public ScheduledEntries<K, Instant> getScheduledEntries() {
-                    return ScheduledEntries.linked();
-                }
+    private Scheduler<K, Instant> createScheduler(String name, Predicate<K> task) {
+        return new LocalScheduler<>(new LocalSchedulerConfiguration<>() {
+            @Override
+            public String getName() {
+                return name;
+            }
 
-                @Override
-                public Predicate<K> getTask() {
-                    return task;
-                }
+            @Override
+            public ScheduledEntries<K, Instant> getScheduledEntries() {
+                return ScheduledEntries.linked();
+            }
 
-                @Override
-                public ThreadFactory getThreadFactory() {
-                    return THREAD_FACTORY;
-                }
+            @Override
+            public Predicate<K> getTask() {
+                return task;
+            }
 
-                @Override
-                public Duration getCloseTimeout() {
-                    return Duration.ZERO;
-                }
-            }) : null;
-        }
+            @Override
+            public ThreadFactory getThreadFactory() {
+                return THREAD_FACTORY;
+            }
+
+            @Override
+            public Duration getCloseTimeout() {
+                return Duration.ZERO;
+            }
+        });
     }
 
     @Override
@@ -103,10 +145,20 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
             if (this.scheduler != null) {
                 this.scheduler.close();
             }
-            for (V instance : this.instances.values()) {
-                instance.removed();
+            if (this.passivationScheduler != null) {
+                this.passivationScheduler.close();
+            }
+            for (CacheEntry<K, V> entry : this.entries.values()) {
+                entry.instance.removed();
+            }
+            this.entries.clear();
+            this.idle.clear();
+            if (this.store != null) {
+                // Passivated bean instances are discarded without invoking their pre-destroy callbacks
+                this.statistics.discarded(this.store.size());
+                this.store.close();
+                this.store = null;
             }
-            this.instances.clear();
         }
     }
 
@@ -122,27 +174,95 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public void accept(StatefulSessionBean<K, V> bean) {
+        K id = bean.getId();
+        CacheEntry<K, V> entry = this.entries.get(id);
+        if ((entry == null) || !entry.release()) return;
         if (this.timeout != null) {
-            K id = bean.getId();
             if (this.scheduler != null) {
                 // Timeout > 0, schedule bean to expire
                 this.scheduler.schedule(id, Instant.now().plus(this.timeout));
             } else {
                 // Timeout = 0, remove bean immediately
                 this.test(id);
+                return;
+            }
+        }
+        if (this.store != null) {
+            this.idle.add(id);
+            if (this.passivationScheduler != null) {
+                this.passivationScheduler.schedule(id, Instant.now().plus(this.idleThreshold));
             }
+            this.evict();
         }
     }
 
     @Override
     public boolean test(K id) {
-        V instance = this.instances.remove(id);
-        if (instance != null) {
-            instance.removed();
+        CacheEntry<K, V> entry = this.entries.get(id);
+        if (entry != null) {
+            if (entry.invalidate()) {
+                this.entries.remove(id, entry);
+                this.idle.remove(id);
+                if (this.passivationScheduler != null) {
+                    this.passivationScheduler.cancel(id);
+                }
+                entry.instance.removed();
+            }
+        } else if ((this.store != null) && this.store.remove(id)) {
+            // Passivated bean instances expire without invoking their pre-destroy callbacks
+            this.statistics.discarded();
         }
         return true;
     }
 
+    /**
+     * Passivates the specified bean instance, if it is idle.
+     * @param id a bean identifier
+     */
+    void passivate(K id) {
+        CacheEntry<K, V> entry = this.entries.get(id);
+        if ((entry != null) && entry.passivate(this.store, this.componentName)) {
+            this.entries.remove(id, entry);
+            this.idle.remove(id);
+            if (this.passivationScheduler != null) {
+                this.passivationScheduler.cancel(id);
+            }
+            this.statistics.passivated();
+        }
+    }
+
+    /**
+     * Passivates least recently used idle bean instances until the number of active bean instances no longer exceeds the maximum size.
+     */
+    private void evict() {
+        while (this.entries.size() > this.maxSize) {
+            K id = null;
+            synchronized (this.idle) {
+                Iterator<K> ids = this.idle.iterator();
+                if (ids.hasNext()) {
+                    id = ids.next();
+                    ids.remove();
+                }
+            }
+            // All active bean instances are in use
+            if (id == null) return;
+            this.passivate(id);
+        }
+    }
+
+    private CacheEntry<K, V> activate(K id) {
+        try {
+            V instance = this.store.load(id);
+            if (instance == null) return null;
+            this.statistics.activated();
+            return new CacheEntry<>(instance, true);
+        } catch (IOException | RuntimeException e) {
+            EjbLogger.ROOT_LOGGER.failedToActivateStatefulSessionBean(id, this.componentName, e);
+            this.statistics.discarded();
+            return null;
+        }
+    }
+
     @Override
     public StatefulSessionBean<K, V> createStatefulSessionBean() {
         if (CURRENT_GROUP.get() != null) {
@@ -151,32 +271,132 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         }
         V instance = this.factory.createInstance();
         K id = instance.getId();
-        this.instances.put(id, instance);
+        this.entries.put(id, new CacheEntry<>(instance, false));
+        if (this.store != null) {
+            this.evict();
+        }
         return new SimpleStatefulSessionBean<>(instance, this.remover, this);
     }
 
     @Override
     public StatefulSessionBean<K, V> findStatefulSessionBean(K id) {
-        V instance = this.instances.get(id);
-        if (instance == null) return null;
+        SimpleStatefulSessionBeanPassivationStore<K, V> store = this.store;
+        CacheEntry<K, V> entry = this.entries.get(id);
+        // Retry if bean was concurrently passivated
+        while ((entry == null) || !entry.acquire()) {
+            if ((store == null) || !store.contains(id)) return null;
+            if (entry != null) {
+                // Entry is invalid, thus its bean instance was already passivated, remove it so that it can be activated
+                this.entries.remove(id, entry);
+            }
+            entry = this.entries.computeIfAbsent(id, this::activate);
+            if (entry == null) return null;
+        }
         if (this.scheduler != null) {
             this.scheduler.cancel(id);
         }
-        return new SimpleStatefulSessionBean<>(instance, this.remover, this);
+        if (store != null) {
+            this.idle.remove(id);
+            if (this.passivationScheduler != null) {
+                this.passivationScheduler.cancel(id);
+            }
+            this.evict();
+        }
+        return new SimpleStatefulSessionBean<>(entry.instance, this.remover, this);
     }
 
     @Override
     public int getActiveCount() {
-        return this.instances.size();
+        return this.entries.size();
     }
 
     @Override
     public int getPassiveCount() {
-        return 0;
+        SimpleStatefulSessionBeanPassivationStore<K, V> store = this.store;
+        return (store != null) ? store.size() : 0;
     }
 
     @Override
     public Supplier<K> getIdentifierFactory() {
         return this.identifierFactory;
     }
+
+    /**
+     * A cached bean instance, tracking the number of its current users.
+     * A bean instance is idle if it has no current users.
+     * @param <K> the bean identifier type
+     * @param <V> the bean instance type
+     */
+    private static class CacheEntry<K, V extends StatefulSessionBeanInstance<K>> {
+        final V instance;
+        // Guarded by this
+        private int references;
+        private boolean valid = true;
+        private boolean activated;
+
+        CacheEntry(V instance, boolean activated) {
+            this.instance = instance;
+            this.activated = activated;
+            // A newly created bean instance is in use by its creator
+            this.references = activated ? 0 : 1;
+        }
+
+        /**
+         * Acquires a reference to this bean instance, invoking its post-activate callbacks if it was recently activated.
+         * @return true, if a reference was acquired, false if this entry is no longer valid.
+         */
+        synchronized boolean acquire() {
+            if (!this.valid) return false;
+            if (this.activated) {
+                this.instance.postActivate();
+                this.activated = false;
+            }
+            this.references += 1;
+            return true;
+        }
+
+        /**
+         * Releases a reference to this bean instance.
+         * @return true, if this bean instance is now idle, false otherwise.
+         */
+        synchronized boolean release() {
+            if (!this.valid || (this.references == 0)) return false;
+            this.references -= 1;
+            return this.references == 0;
+        }
+
+        /**
+         * Invalidates this entry, if its bean instance is idle.
+         * @return true, if this entry was invalidated, false otherwise.
+         */
+        synchronized boolean invalidate() {
+            if (!this.valid || (this.references > 0)) return false;
+            this.valid = false;
+            return true;
+        }
+
+        /**
+         * Passivates the bean instance of this entry to the specified store, if it is idle.
+         * @return true, if this bean instance was passivated, false otherwise.
+         */
+        synchronized boolean passivate(SimpleStatefulSessionBeanPassivationStore<K, V> store, String componentName) {
+            if ((store == null) || !this.valid || (this.references > 0)) return false;
+            // Bean instance was activated, but never used
+            boolean passivated = this.activated;
+            try {
+                if (!passivated) {
+                    this.instance.prePassivate();
+                    passivated = true;
+                }
+                store.store(this.instance);
+            } catch (IOException | RuntimeException e) {
+                EjbLogger.ROOT_LOGGER.failedToPassivateStatefulSessionBean(this.instance.getId(), componentName, e);
+                // Bean instance remains active, but will not be passivated again until after its next use
+                this.activated = passivated;
+                return false;
+            }
+            this.valid = false;
+            return true;
+        }
+    }
 }
@@ -5,9 +5,14 @@
 
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.OptionalInt;
+
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheConfiguration;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
 import org.jboss.as.server.ServerEnvironment;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 
 /**
  * Configuration of a simple stateful session bean cache.
@@ -18,4 +23,34 @@ import org.jboss.as.server.ServerEnvironment;
 public interface SimpleStatefulSessionBeanCacheConfiguration<K, V extends StatefulSessionBeanInstance<K>> extends StatefulSessionBeanCacheConfiguration<K, V> {
 
     ServerEnvironment getEnvironment();
+
+    /**
+     * Returns the maximum number of active bean instances, beyond which idle bean instances are passivated.
+     * @return the maximum number of active bean instances, or empty if unbounded.
+     */
+    OptionalInt getMaxSize();
+
+    /**
+     * Returns the duration after which an idle bean instance is passivated.
+     * @return a duration, or null if idle bean instances should only be passivated when the maximum size is exceeded.
+     */
+    Duration getIdleThreshold();
+
+    /**
+     * Returns the directory beneath which bean instances are passivated.
+     * @return a directory path
+     */
+    Path getPassivationDirectory();
+
+    /**
+     * Returns the marshaller of passivated bean instances.
+     * @return a marshaller
+     */
+    ByteBufferMarshaller getMarshaller();
+
+    /**
+     * Returns the passivation statistics to which this cache contributes.
+     * @return passivation statistics
+     */
+    SimpleStatefulSessionBeanCacheStatistics getStatistics();
 }
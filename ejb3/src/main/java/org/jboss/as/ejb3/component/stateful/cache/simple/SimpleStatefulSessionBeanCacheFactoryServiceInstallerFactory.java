@@ -5,17 +5,29 @@
 
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.function.Function;
+import java.util.OptionalInt;
+import java.util.function.BiFunction;
 
+import org.jboss.as.ee.component.Attachments;
+import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
+import org.jboss.as.ejb3.component.stateful.StatefulSessionBeanSerializabilityChecker;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCache;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheConfiguration;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheFactory;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstanceFactory;
 import org.jboss.as.server.ServerEnvironment;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.ModularClassResolver;
+import org.jboss.modules.Module;
 import org.wildfly.clustering.function.Supplier;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.JBossByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.MarshallingConfigurationBuilder;
 import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.ServiceInstaller;
 
@@ -26,11 +38,26 @@ import org.wildfly.subsystem.service.ServiceInstaller;
  * @param <K> the bean identifier type
  * @param <V> the bean instance type
  */
-public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V extends StatefulSessionBeanInstance<K>> implements Function<StatefulComponentDescription, ServiceInstaller> {
+public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V extends StatefulSessionBeanInstance<K>> implements BiFunction<StatefulComponentDescription, ComponentConfiguration, ServiceInstaller> {
+
+    private final SimpleStatefulSessionBeanCacheProvider provider;
+    private final DeploymentUnit unit;
+
+    public SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory(SimpleStatefulSessionBeanCacheProvider provider, DeploymentUnit unit) {
+        this.provider = provider;
+        this.unit = unit;
+    }
 
     @Override
-    public ServiceInstaller apply(StatefulComponentDescription description) {
+    public ServiceInstaller apply(StatefulComponentDescription description, ComponentConfiguration componentConfiguration) {
         ServiceDependency<ServerEnvironment> environment = ServiceDependency.on(ServerEnvironment.SERVICE_DESCRIPTOR);
+        // Beans that are not passivation capable must never be passivated
+        boolean passivationApplicable = description.isPassivationApplicable();
+        OptionalInt maxSize = passivationApplicable ? this.provider.getMaxSize() : OptionalInt.empty();
+        Duration idleThreshold = passivationApplicable ? this.provider.getIdleThreshold() : null;
+        // Marshal passivated bean instances like a distributable cache, i.e. using the deployment's marshalling configuration, treating bean classes as serializable
+        ByteBufferMarshaller marshaller = (maxSize.isPresent() || (idleThreshold != null)) ? createMarshaller(this.unit) : null;
+        SimpleStatefulSessionBeanCacheStatistics statistics = this.provider.getStatistics();
         StatefulSessionBeanCacheFactory<K, V> factory = new StatefulSessionBeanCacheFactory<>() {
             @Override
             public StatefulSessionBeanCache<K, V> createStatefulBeanCache(StatefulSessionBeanCacheConfiguration<K, V> configuration) {
@@ -59,6 +86,31 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V e
                     public String getComponentName() {
                         return configuration.getComponentName();
                     }
+
+                    @Override
+                    public OptionalInt getMaxSize() {
+                        return maxSize;
+                    }
+
+                    @Override
+                    public Duration getIdleThreshold() {
+                        return idleThreshold;
+                    }
+
+                    @Override
+                    public Path getPassivationDirectory() {
+                        return environment.get().getServerTempDir().toPath().resolve("ejb3").resolve("passivation");
+                    }
+
+                    @Override
+                    public ByteBufferMarshaller getMarshaller() {
+                        return marshaller;
+                    }
+
+                    @Override
+                    public SimpleStatefulSessionBeanCacheStatistics getStatistics() {
+                        return statistics;
+                    }
                 });
             }
         };
@@ -67,4 +119,11 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<K, V e
                 .requires(environment)
                 .build();
     }
+
+    private static ByteBufferMarshaller createMarshaller(DeploymentUnit unit) {
+        Module module = unit.getAttachment(org.jboss.as.server.deployment.Attachments.MODULE);
+        MarshallingConfiguration configuration = MarshallingConfigurationBuilder.newInstance(ModularClassResolver.getInstance(module.getModuleLoader())).load(module.getClassLoader()).build();
+        configuration.setSerializabilityChecker(new StatefulSessionBeanSerializabilityChecker(unit.getAttachment(Attachments.EE_MODULE_CONFIGURATION)));
+        return new JBossByteBufferMarshaller(configuration, module.getClassLoader());
+    }
 }
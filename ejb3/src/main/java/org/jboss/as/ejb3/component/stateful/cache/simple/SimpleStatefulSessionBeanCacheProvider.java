@@ -0,0 +1,76 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.jboss.as.ee.component.ComponentConfiguration;
+import org.jboss.as.ee.component.EEModuleConfiguration;
+import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProvider;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.wildfly.subsystem.service.ServiceInstaller;
+
+/**
+ * Provides simple stateful session bean caches, optionally bounded by a maximum size and/or an idle threshold.
+ */
+public class SimpleStatefulSessionBeanCacheProvider implements StatefulSessionBeanCacheProvider {
+
+    private final OptionalInt maxSize;
+    private final Duration idleThreshold;
+    private final SimpleStatefulSessionBeanCacheStatistics statistics = new SimpleStatefulSessionBeanCacheStatistics();
+
+    /**
+     * Creates a provider of simple stateful session bean caches.
+     * @param maxSize the maximum number of active bean instances per cache, or empty if unbounded
+     * @param idleThreshold the duration after which an idle bean instance is passivated, or null
+     */
+    public SimpleStatefulSessionBeanCacheProvider(OptionalInt maxSize, Duration idleThreshold) {
+        this.maxSize = maxSize;
+        this.idleThreshold = idleThreshold;
+    }
+
+    /**
+     * Returns the maximum number of active bean instances per cache.
+     * @return the maximum number of active bean instances, or empty if unbounded
+     */
+    public OptionalInt getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Returns the duration after which an idle bean instance is passivated.
+     * @return a duration, or null if idle bean instances are only passivated when the maximum size is exceeded.
+     */
+    public Duration getIdleThreshold() {
+        return this.idleThreshold;
+    }
+
+    /**
+     * Returns the passivation statistics of the caches created by this provider.
+     * @return passivation statistics
+     */
+    public SimpleStatefulSessionBeanCacheStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    @Override
+    public Iterable<ServiceInstaller> getDeploymentServiceInstallers(DeploymentUnit unit, EEModuleConfiguration moduleConfiguration) {
+        return List.of();
+    }
+
+    @Override
+    public Iterable<ServiceInstaller> getStatefulBeanCacheFactoryServiceInstallers(DeploymentUnit unit, StatefulComponentDescription description, ComponentConfiguration configuration) {
+        return List.of(new SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<>(this, unit).apply(description, configuration));
+    }
+
+    @Override
+    public boolean supportsPassivation() {
+        return this.maxSize.isPresent() || (this.idleThreshold != null);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Passivation statistics shared by the simple stateful session bean caches created via a given cache provider.
+ */
+public class SimpleStatefulSessionBeanCacheStatistics {
+
+    private final LongAdder activations = new LongAdder();
+    private final LongAdder passivations = new LongAdder();
+    private final LongAdder passivated = new LongAdder();
+
+    void activated() {
+        this.activations.increment();
+        this.passivated.decrement();
+    }
+
+    void passivated() {
+        this.passivations.increment();
+        this.passivated.increment();
+    }
+
+    void discarded() {
+        this.passivated.decrement();
+    }
+
+    void discarded(int count) {
+        this.passivated.add(-count);
+    }
+
+    /**
+     * Returns the number of bean instances activated from a passivation store.
+     * @return the number of activations
+     */
+    public long getActivationCount() {
+        return this.activations.sum();
+    }
+
+    /**
+     * Returns the number of bean instances written to a passivation store.
+     * @return the number of passivations
+     */
+    public long getPassivationCount() {
+        return this.passivations.sum();
+    }
+
+    /**
+     * Returns the number of bean instances currently passivated.
+     * @return the number of passivated bean instances
+     */
+    public long getPassivatedCount() {
+        return this.passivated.sum();
+    }
+}
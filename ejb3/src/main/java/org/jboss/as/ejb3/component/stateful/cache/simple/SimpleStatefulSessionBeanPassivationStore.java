@@ -0,0 +1,127 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+
+/**
+ * A local file-based store of passivated stateful session bean instances.
+ * Each passivated bean instance is marshalled to a separate file within a directory dedicated to a given cache,
+ * using the same marshalling configuration as a distributable cache.
+ * Passivated bean instances do not survive a restart of their cache.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ */
+public class SimpleStatefulSessionBeanPassivationStore<K, V extends StatefulSessionBeanInstance<K>> implements AutoCloseable {
+
+    private final Path directory;
+    private final ByteBufferMarshaller marshaller;
+    private final Map<K, Path> files = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SimpleStatefulSessionBeanPassivationStore(Path directory, ByteBufferMarshaller marshaller) {
+        this.directory = directory;
+        this.marshaller = marshaller;
+    }
+
+    /**
+     * Marshals the specified bean instance to this store.
+     * @param instance a bean instance
+     * @throws IOException if the bean instance could not be written
+     */
+    public void store(V instance) throws IOException {
+        Path file = this.directory.resolve(Long.toHexString(this.sequence.incrementAndGet()));
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file))) {
+            this.marshaller.writeTo(output, instance);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        this.files.put(instance.getId(), file);
+    }
+
+    /**
+     * Removes and unmarshals the bean instance with the specified identifier from this store.
+     * @param id a bean identifier
+     * @return the unmarshalled bean instance, or null if no such bean instance was passivated
+     * @throws IOException if the bean instance could not be read
+     */
+    public V load(K id) throws IOException {
+        Path file = this.files.remove(id);
+        if (file == null) return null;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            @SuppressWarnings("unchecked")
+            V instance = (V) this.marshaller.readFrom(input);
+            return instance;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Indicates whether a bean instance with the specified identifier was passivated to this store.
+     * @param id a bean identifier
+     * @return true, if the specified bean instance is passivated, false otherwise.
+     */
+    public boolean contains(K id) {
+        return this.files.containsKey(id);
+    }
+
+    /**
+     * Discards the passivated bean instance with the specified identifier, without unmarshalling it.
+     * @param id a bean identifier
+     * @return true, if a passivated bean instance was discarded, false otherwise.
+     */
+    public boolean remove(K id) {
+        Path file = this.files.remove(id);
+        if (file == null) return false;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of bean instances passivated to this store.
+     * @return the number of passivated bean instances
+     */
+    public int size() {
+        return this.files.size();
+    }
+
+    /**
+     * Discards all passivated bean instances and deletes the directory of this store.
+     */
+    @Override
+    public void close() {
+        for (K id : this.files.keySet()) {
+            this.remove(id);
+        }
+        try {
+            Files.deleteIfExists(this.directory);
+        } catch (NoSuchFileException e) {
+            // Ignore
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
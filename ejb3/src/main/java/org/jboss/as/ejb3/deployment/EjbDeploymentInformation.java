@@ -10,6 +10,8 @@ import static org.wildfly.common.Assert.checkNotNullParam;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.iiop.EjbIIOPService;
+import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
+import org.jboss.marshalling.cloner.ClonerConfiguration;
 import org.jboss.msc.value.InjectedValue;
 
 import java.util.Collection;
@@ -35,6 +37,7 @@ public class EjbDeploymentInformation {
 
     private final InjectedValue<EjbIIOPService> iorFactory;
     private final Set<String> remoteViewClassNames = new HashSet<String>();
+    private volatile ClonerConfiguration clonerConfiguration;
 
     /**
      * @param ejbName               The EJB name
@@ -99,6 +102,22 @@ public class EjbDeploymentInformation {
         return deploymentClassLoader;
     }
 
+    /**
+     * Returns the configuration of cloners used to copy values into the deployment classloader of the EJB component.
+     *
+     * @return a cloner configuration
+     */
+    public ClonerConfiguration getClonerConfiguration() {
+        ClonerConfiguration configuration = this.clonerConfiguration;
+        if (configuration == null) {
+            // Benign race, configurations are equivalent
+            configuration = new ClonerConfiguration();
+            configuration.setClassCloner(new ClassLoaderClassCloner(this.deploymentClassLoader));
+            this.clonerConfiguration = configuration;
+        }
+        return configuration;
+    }
+
     public EjbIIOPService getIorFactory() {
         return iorFactory.getOptionalValue();
     }
@@ -20,6 +20,7 @@ import java.sql.SQLException;
 import java.util.Date;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.naming.Context;
@@ -3255,4 +3256,22 @@ public interface EjbLogger extends BasicLogger {
 
     @Message(id = 536, value = "Unsupported EJB receiver protocol %s")
     IllegalArgumentException unsupportedEJBReceiverProtocol(String uriScheme);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Failed to passivate stateful session bean %s of component %s")
+    void failedToPassivateStatefulSessionBean(Object id, String componentName, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 538, value = "Failed to activate stateful session bean %s of component %s")
+    void failedToActivateStatefulSessionBean(Object id, String componentName, @Cause Throwable cause);
+
+    @Message(id = 539, value = "Remote invocation rejected: %d invocations of %s are already queued")
+    RejectedExecutionException remoteInvocationRejected(int queued, Object bulkhead);
+
+    @LogMessage(level = WARN)
+    @Message(id = 540, value = "Virtual threads are not supported by this runtime. Remote invocations will be dispatched to platform threads instead.")
+    void virtualThreadsNotSupported();
+
+    @Message(id = 541, value = "Remote invocation rejected: server busy, unable to execute queued invocation of %s")
+    RejectedExecutionException remoteInvocationServerBusy(Object bulkhead, @Cause Throwable cause);
 }
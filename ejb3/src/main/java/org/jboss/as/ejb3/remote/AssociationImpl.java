@@ -22,7 +22,9 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import jakarta.ejb.EJBException;
 
 import org.jboss.as.ee.component.Component;
@@ -86,6 +88,7 @@ final class AssociationImpl implements Association, AutoCloseable {
     private final DeploymentRepository deploymentRepository;
     private final Map<Integer, ClusterTopologyRegistrar> clusterTopologyRegistrars;
     private volatile Executor executor;
+    private volatile RemoteInvocationDispatcher dispatcher;
 
     AssociationImpl(final DeploymentRepository deploymentRepository, final List<Map.Entry<ProtocolSocketBinding, Registry<GroupMember, String, List<ClientMapping>>>> clientMappingRegistries) {
         this.deploymentRepository = deploymentRepository;
@@ -255,7 +258,21 @@ final class AssociationImpl implements Association, AutoCloseable {
             }
         };
         // invoke the method and write out the response, possibly on a separate thread
-        execute(invocationRequest, runnable, isAsync, false);
+        final RemoteInvocationDispatcher dispatcher = this.dispatcher;
+        if (dispatcher != null && !(invocationRequest.getProtocol().equals("local") && ! isAsync)) {
+            final Executor executor = this.executor;
+            final Consumer<RejectedExecutionException> rejectionHandler = e -> {
+                EjbLogger.EJB3_INVOCATION_LOGGER.debugf(e, "Rejected method invocation: %s on bean: %s", invokedMethod, beanName);
+                if (! oneWay) invocationRequest.writeException(new EJBException(e));
+            };
+            try {
+                dispatcher.dispatch(ejbIdentifier, (executor != null) ? executor : invocationRequest.getRequestExecutor(), runnable, rejectionHandler, ejbDeploymentInformation.getEjbComponent().getRemoteDispatchMetrics());
+            } catch (RejectedExecutionException e) {
+                rejectionHandler.accept(e);
+            }
+        } else {
+            execute(invocationRequest, runnable, isAsync, false);
+        }
         return cancellationFlag::cancel;
     }
 
@@ -639,26 +656,11 @@ final class AssociationImpl implements Association, AutoCloseable {
     }
 
     private static Method findMethod(final ComponentView componentView, final EJBMethodLocator ejbMethodLocator) {
-        final Set<Method> viewMethods = componentView.getViewMethods();
-        for (final Method method : viewMethods) {
-            if (method.getName().equals(ejbMethodLocator.getMethodName())) {
-                final Class<?>[] methodParamTypes = method.getParameterTypes();
-                if (methodParamTypes.length != ejbMethodLocator.getParameterCount()) {
-                    continue;
-                }
-                boolean found = true;
-                for (int i = 0; i < methodParamTypes.length; i++) {
-                    if (!methodParamTypes[i].getName().equals(ejbMethodLocator.getParameterTypeName(i))) {
-                        found = false;
-                        break;
-                    }
-                }
-                if (found) {
-                    return method;
-                }
-            }
+        final String[] parameterTypeNames = new String[ejbMethodLocator.getParameterCount()];
+        for (int i = 0; i < parameterTypeNames.length; i++) {
+            parameterTypeNames[i] = ejbMethodLocator.getParameterTypeName(i);
         }
-        return null;
+        return componentView.findMethod(ejbMethodLocator.getMethodName(), parameterTypeNames);
     }
 
     private static Affinity getStrongAffinity(final StatefulSessionComponent statefulSessionComponent) {
@@ -693,6 +695,18 @@ final class AssociationImpl implements Association, AutoCloseable {
         this.executor = executor;
     }
 
+    void setDispatcher(RemoteInvocationDispatcher dispatcher) {
+        RemoteInvocationDispatcher previous = this.dispatcher;
+        if (previous != null) {
+            this.deploymentRepository.removeListener(previous);
+        }
+        this.dispatcher = dispatcher;
+        if (dispatcher != null) {
+            // Discard bulkheads of removed deployments
+            this.deploymentRepository.addListener(dispatcher);
+        }
+    }
+
     /**
      * Checks if this node is the last node in the cluster and sends a topology update to all connected clients if this is so
      * This should only be called when the node is known to be shutting down (and not just suspending)
@@ -192,6 +192,10 @@ public final class AssociationService implements Service<AssociationService> {
         this.value.setExecutor(executor);
     }
 
+    void setDispatcher(RemoteInvocationDispatcher dispatcher) {
+        this.value.setDispatcher(dispatcher);
+    }
+
     void sendTopologyUpdateIfLastNodeToLeave() {
         this.value.sendTopologyUpdateIfLastNodeToLeave();
     }
@@ -40,11 +40,12 @@ public class EJBRemoteConnectorService implements Service {
     private volatile Registration registration;
     private final OptionMap channelCreationOptions;
     private final Function<String, Boolean> classResolverFilter;
+    private final RemoteInvocationDispatcher dispatcher;
 
     public EJBRemoteConnectorService(
             final Consumer<EJBRemoteConnectorService> serviceConsumer, final Supplier<Endpoint> endpointSupplier, final Supplier<Executor> executorSupplier,
             final Supplier<AssociationService> associationServiceSupplier, final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier,
-            final OptionMap channelCreationOptions, final Function<String, Boolean> classResolverFilter) {
+            final OptionMap channelCreationOptions, final Function<String, Boolean> classResolverFilter, final RemoteInvocationDispatcher dispatcher) {
         this.serviceConsumer = serviceConsumer;
         this.endpointSupplier = endpointSupplier;
         this.executorSupplier = executorSupplier;
@@ -52,6 +53,7 @@ public class EJBRemoteConnectorService implements Service {
         this.remotingTransactionServiceSupplier = remotingTransactionServiceSupplier;
         this.channelCreationOptions = channelCreationOptions;
         this.classResolverFilter = classResolverFilter;
+        this.dispatcher = dispatcher;
     }
 
     @Override
@@ -62,6 +64,7 @@ public class EJBRemoteConnectorService implements Service {
         if (executor != null) {
             associationService.setExecutor(executor);
         }
+        associationService.setDispatcher(dispatcher);
         RemoteEJBService remoteEJBService = RemoteEJBService.create(
             associationService.getAssociation(),
             remotingTransactionServiceSupplier.get(),
@@ -85,6 +88,7 @@ public class EJBRemoteConnectorService implements Service {
         final AssociationService associationService = associationServiceSupplier.get();
         associationService.sendTopologyUpdateIfLastNodeToLeave();
         associationService.setExecutor(null);
+        associationService.setDispatcher(null);
         registration.close();
     }
 
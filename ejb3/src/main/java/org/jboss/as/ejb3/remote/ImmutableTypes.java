@@ -0,0 +1,92 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Registry of types whose instances are immutable, and can therefore be passed by reference between class loaders
+ * that share the same class definition, instead of being cloned.
+ * Recognizes JDK value types and records whose components are themselves immutable.
+ */
+final class ImmutableTypes {
+
+    private static final Set<Class<?>> JDK_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            // BigInteger and BigDecimal are not final, so only the exact types are immutable
+            BigInteger.class, BigDecimal.class, UUID.class,
+            DayOfWeek.class, Duration.class, Instant.class, LocalDate.class, LocalDateTime.class, LocalTime.class, Month.class, MonthDay.class,
+            OffsetDateTime.class, OffsetTime.class, Period.class, Year.class, YearMonth.class, ZoneOffset.class, ZonedDateTime.class);
+
+    private static final ClassValue<Boolean> IMMUTABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isImmutable(type, new HashSet<>());
+        }
+    };
+
+    private ImmutableTypes() {
+    }
+
+    /**
+     * Indicates whether instances of the specified class are immutable.
+     * @param type the runtime class of an object
+     * @return true, if instances of the specified class are known to be immutable, false otherwise.
+     */
+    static boolean isImmutable(final Class<?> type) {
+        return IMMUTABLE.get(type);
+    }
+
+    private static boolean isImmutable(final Class<?> type, final Set<Class<?>> visiting) {
+        if (type.isPrimitive() || JDK_TYPES.contains(type)) {
+            return true;
+        }
+        // ZoneId implementations are not public
+        if (ZoneId.class.isAssignableFrom(type) && type.getName().startsWith("java.time.")) {
+            return true;
+        }
+        if (type.isRecord()) {
+            // Tolerate recursive record definitions
+            if (!visiting.add(type)) {
+                return true;
+            }
+            for (RecordComponent component : type.getRecordComponents()) {
+                Class<?> componentType = component.getType();
+                // Component values of a non-final type may be mutable subtypes
+                if (!componentType.isPrimitive() && !componentType.isRecord() && !Modifier.isFinal(componentType.getModifiers())) {
+                    return false;
+                }
+                if (!isImmutable(componentType, visiting)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -32,6 +32,7 @@ import org.jboss.as.ejb3.deployment.DeploymentRepository;
 import org.jboss.as.ejb3.deployment.EjbDeploymentInformation;
 import org.jboss.as.ejb3.deployment.ModuleDeployment;
 import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.subsystem.EJBStatistics;
 import org.jboss.ejb.client.AttachmentKey;
 import org.jboss.ejb.client.AttachmentKeys;
 import org.jboss.ejb.client.EJBClientInvocationContext;
@@ -44,7 +45,6 @@ import org.jboss.ejb.client.SessionID;
 import org.jboss.ejb.client.StatelessEJBLocator;
 import org.jboss.ejb.client.TransactionID;
 import org.jboss.invocation.InterceptorContext;
-import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
 import org.jboss.marshalling.cloner.ClonerConfiguration;
 import org.jboss.marshalling.cloner.ObjectCloner;
 import org.jboss.marshalling.cloner.ObjectCloners;
@@ -62,6 +62,15 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class LocalEjbReceiver extends EJBReceiver {
     private static final EJBReceiverInvocationContext.ResultProducer.Immediate NULL_RESULT = new EJBReceiverInvocationContext.ResultProducer.Immediate(null);
     private static final AttachmentKey<CancellationFlag> CANCELLATION_FLAG_ATTACHMENT_KEY = new AttachmentKey<>();
+    // Cloner configurations for results, per class loader of the invoked proxy
+    private static final ClassValue<ClonerConfiguration> RESULT_CLONER_CONFIGURATIONS = new ClassValue<>() {
+        @Override
+        protected ClonerConfiguration computeValue(Class<?> proxyClass) {
+            final ClonerConfiguration config = new ClonerConfiguration();
+            config.setClassCloner(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(proxyClass)));
+            return config;
+        }
+    };
 
     private final DeploymentRepository deploymentRepository;
 
@@ -88,11 +97,8 @@ public class LocalEjbReceiver extends EJBReceiver {
         if (!ejb.isRemoteView(viewClass.getName())) {
             throw EjbLogger.ROOT_LOGGER.viewNotFound(viewClass.getName(), ejb.getEjbName());
         }
-        final ClonerConfiguration paramConfig = new ClonerConfiguration();
-        paramConfig.setClassCloner(new ClassLoaderClassCloner(ejb.getDeploymentClassLoader()));
-        final ObjectCloner parameterCloner = createCloner(paramConfig);
-        //TODO: this is not very efficient
-        final Method method = view.getMethod(invocation.getInvokedMethod().getName(), DescriptorUtils.methodDescriptor(invocation.getInvokedMethod()));
+        final ObjectCloner parameterCloner = createCloner(ejb.getClonerConfiguration());
+        final Method method = findMethod(view, invocation.getInvokedMethod());
 
         final boolean async = view.isAsynchronous(method) || invocation.isClientAsync();
 
@@ -148,9 +154,7 @@ public class LocalEjbReceiver extends EJBReceiver {
             throw EjbLogger.ROOT_LOGGER.ejbNotFoundInDeployment(locator);
         }
 
-        final ClonerConfiguration config = new ClonerConfiguration();
-        config.setClassCloner(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(invocation.getInvokedProxy().getClass())));
-        final ObjectCloner resultCloner = createCloner(config);
+        final ObjectCloner resultCloner = createCloner(RESULT_CLONER_CONFIGURATIONS.get(invocation.getInvokedProxy().getClass()));
         if (async) {
             if (ejbComponent instanceof SessionBeanComponent) {
                 final CancellationFlag flag = new CancellationFlag();
@@ -350,6 +354,15 @@ public class LocalEjbReceiver extends EJBReceiver {
         return ((StatefulSessionComponent) component).createSession();
     }
 
+    private static Method findMethod(final ComponentView view, final Method invokedMethod) {
+        final Method method = view.findMethod(invokedMethod);
+        if (method != null && method.getReturnType().getName().equals(invokedMethod.getReturnType().getName())) {
+            return method;
+        }
+        // Fall back to an exact descriptor match, which throws if the view has no such method
+        return view.getMethod(invokedMethod.getName(), DescriptorUtils.methodDescriptor(invokedMethod));
+    }
+
     static Object clone(final Class<?> target, final ObjectCloner cloner, final Object object, final boolean allowPassByReference) {
         if (object == null) {
             return null;
@@ -358,10 +371,23 @@ public class LocalEjbReceiver extends EJBReceiver {
         if (target.isPrimitive()) {
             return object;
         }
-        if (allowPassByReference && target.isAssignableFrom(object.getClass())) {
+        final boolean statisticsEnabled = EJBStatistics.getInstance().isEnabled();
+        // Immutable values need not be cloned if both class loaders share the same class
+        if ((allowPassByReference || ImmutableTypes.isImmutable(object.getClass())) && target.isAssignableFrom(object.getClass())) {
+            if (statisticsEnabled) {
+                LocalInvocationStatistics.getInstance().referenced();
+            }
             return object;
         }
-        return clone(cloner, object);
+        if (!statisticsEnabled) {
+            return clone(cloner, object);
+        }
+        final long start = System.nanoTime();
+        try {
+            return clone(cloner, object);
+        } finally {
+            LocalInvocationStatistics.getInstance().cloned(System.nanoTime() - start);
+        }
     }
 
     private static Object clone(final ObjectCloner cloner, final Object object) {
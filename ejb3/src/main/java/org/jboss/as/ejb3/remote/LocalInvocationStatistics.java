@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the values cloned by in-VM invocations on remote interfaces.
+ */
+public final class LocalInvocationStatistics {
+
+    private static final LocalInvocationStatistics INSTANCE = new LocalInvocationStatistics();
+
+    private final LongAdder clonedValues = new LongAdder();
+    private final LongAdder referencedValues = new LongAdder();
+    private final LongAdder cloneTime = new LongAdder();
+
+    private LocalInvocationStatistics() {}
+
+    public static LocalInvocationStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the number of parameter, result, and exception values that were cloned.
+     * @return the number of cloned values
+     */
+    public long getClonedValues() {
+        return this.clonedValues.sum();
+    }
+
+    /**
+     * Returns the number of non-null parameter and result values that were passed by reference, either because pass-by-reference was allowed, or because the value was immutable.
+     * @return the number of values passed by reference
+     */
+    public long getReferencedValues() {
+        return this.referencedValues.sum();
+    }
+
+    /**
+     * Returns the cumulative time spent cloning values, in milliseconds.
+     * @return the cumulative clone time in milliseconds
+     */
+    public long getCloneTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.cloneTime.sum());
+    }
+
+    void cloned(final long nanos) {
+        this.clonedValues.increment();
+        this.cloneTime.add(nanos);
+    }
+
+    void referenced() {
+        this.referencedValues.increment();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.remote;
+
+import java.util.function.Function;
+
+import org.jboss.ejb.client.EJBIdentifier;
+
+/**
+ * Enumerates the policies by which remote invocations received by the Jakarta Enterprise Beans remote service
+ * are partitioned into bulkheads, each limiting the number of concurrent and queued invocations it handles.
+ */
+public enum RemoteDispatchPolicy {
+    /**
+     * Invocations are not partitioned, but are dispatched as determined by the connector.
+     */
+    CONNECTOR("connector", null),
+    /**
+     * Invocations of beans of the same deployment module share a bulkhead.
+     */
+    DEPLOYMENT("deployment", EJBIdentifier::getModuleIdentifier),
+    /**
+     * Invocations of the same bean share a bulkhead.
+     */
+    BEAN("bean", Function.identity()),
+    ;
+    private final String value;
+    private final Function<EJBIdentifier, Object> bulkhead;
+
+    RemoteDispatchPolicy(String value, Function<EJBIdentifier, Object> bulkhead) {
+        this.value = value;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Returns the key of the bulkhead to which invocations of the specified bean are dispatched.
+     * @param identifier a bean identifier
+     * @return a bulkhead key, or null if this policy does not use bulkheads.
+     */
+    Object getBulkhead(EJBIdentifier identifier) {
+        return (this.bulkhead != null) ? this.bulkhead.apply(identifier) : null;
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+
+    public static RemoteDispatchPolicy fromValue(String value) {
+        for (RemoteDispatchPolicy policy : values()) {
+            if (policy.value.equals(value)) {
+                return policy;
+            }
+        }
+        return valueOf(value);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.remote;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.jboss.as.clustering.thread.VirtualThreads;
+import org.jboss.as.ejb3.component.invocationmetrics.RemoteDispatchMetrics;
+import org.jboss.as.ejb3.deployment.DeploymentModuleIdentifier;
+import org.jboss.as.ejb3.deployment.DeploymentRepository;
+import org.jboss.as.ejb3.deployment.DeploymentRepositoryListener;
+import org.jboss.as.ejb3.deployment.ModuleDeployment;
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.ejb.client.EJBIdentifier;
+import org.jboss.ejb.client.EJBModuleIdentifier;
+
+/**
+ * Dispatches remote invocations to bulkheads, as determined by a {@link RemoteDispatchPolicy}.
+ * Each bulkhead limits the number of invocations it executes concurrently, and queues a bounded number of additional invocations.
+ * Invocations beyond the capacity of the queue are rejected, such that a slow bean or deployment cannot exhaust the threads
+ * available to handle invocations of unrelated beans or deployments.
+ * A queued invocation that cannot be executed by its executor is rejected via its rejection handler, rather than executed by the dispatching thread,
+ * which may be a remoting I/O thread.
+ * The bulkheads of a deployment are discarded when the deployment is removed.
+ */
+public class RemoteInvocationDispatcher implements DeploymentRepositoryListener {
+
+    private final RemoteDispatchPolicy policy;
+    private final int maxConcurrentInvocations;
+    private final int maxQueuedInvocations;
+    private final Executor virtualThreadExecutor;
+    private final Map<Object, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a dispatcher of remote invocations.
+     * @param policy the policy determining the bulkhead of an invocation
+     * @param maxConcurrentInvocations the maximum number of invocations executed concurrently by a given bulkhead
+     * @param maxQueuedInvocations the maximum number of invocations queued by a given bulkhead
+     * @param virtualThreads indicates whether invocations should be executed by virtual threads, which requires that {@link VirtualThreads#isSupported()}
+     */
+    public RemoteInvocationDispatcher(RemoteDispatchPolicy policy, int maxConcurrentInvocations, int maxQueuedInvocations, boolean virtualThreads) {
+        this.policy = policy;
+        this.maxConcurrentInvocations = maxConcurrentInvocations;
+        this.maxQueuedInvocations = maxQueuedInvocations;
+        ThreadFactory factory = virtualThreads ? VirtualThreads.createThreadFactory("ejb-remote-") : null;
+        this.virtualThreadExecutor = (factory != null) ? task -> factory.newThread(task).start() : null;
+    }
+
+    /**
+     * Dispatches the specified invocation of the specified bean.
+     * @param identifier the identifier of the invoked bean
+     * @param executor the executor used if this dispatcher does not execute invocations via virtual threads
+     * @param task the invocation task
+     * @param rejectionHandler handles the rejection of the invocation after it was queued, e.g. by responding to the client that the server is busy
+     * @param metrics the remote dispatch metrics of the invoked bean
+     * @throws RejectedExecutionException if the invocation was rejected
+     */
+    void dispatch(EJBIdentifier identifier, Executor executor, Runnable task, Consumer<RejectedExecutionException> rejectionHandler, RemoteDispatchMetrics metrics) {
+        Executor targetExecutor = (this.virtualThreadExecutor != null) ? this.virtualThreadExecutor : executor;
+        Object key = this.policy.getBulkhead(identifier);
+        if (key == null) {
+            targetExecutor.execute(task);
+        } else {
+            this.bulkheads.computeIfAbsent(key, Bulkhead::new).execute(targetExecutor, task, rejectionHandler, metrics);
+        }
+    }
+
+    /**
+     * Returns the number of bulkheads of this dispatcher.
+     * @return the number of bulkheads
+     */
+    int getBulkheads() {
+        return this.bulkheads.size();
+    }
+
+    @Override
+    public void listenerAdded(DeploymentRepository repository) {
+    }
+
+    @Override
+    public void deploymentAvailable(DeploymentModuleIdentifier deployment, ModuleDeployment moduleDeployment) {
+    }
+
+    @Override
+    public void deploymentStarted(DeploymentModuleIdentifier deployment, ModuleDeployment moduleDeployment) {
+    }
+
+    @Override
+    public void deploymentRemoved(DeploymentModuleIdentifier deployment) {
+        EJBModuleIdentifier module = AssociationImpl.toModuleIdentifier(deployment);
+        // Bulkhead keys are either module or bean identifiers
+        this.bulkheads.keySet().removeIf(key -> module.equals((key instanceof EJBIdentifier) ? ((EJBIdentifier) key).getModuleIdentifier() : key));
+    }
+
+    /**
+     * A bulkhead that executes a bounded number of tasks concurrently, and queues a bounded number of additional tasks.
+     * A thread that completes a task executes the next queued task, if any, before releasing its permit.
+     */
+    private class Bulkhead {
+        private final Object key;
+        private final AtomicInteger active = new AtomicInteger(0);
+        private final AtomicInteger queued = new AtomicInteger(0);
+        private final Queue<QueuedTask> queue = new ConcurrentLinkedQueue<>();
+
+        Bulkhead(Object key) {
+            this.key = key;
+        }
+
+        void execute(Executor executor, Runnable task, Consumer<RejectedExecutionException> rejectionHandler, RemoteDispatchMetrics metrics) {
+            if (tryIncrement(this.active, RemoteInvocationDispatcher.this.maxConcurrentInvocations)) {
+                this.dispatch(executor, task);
+                return;
+            }
+            if (!tryIncrement(this.queued, RemoteInvocationDispatcher.this.maxQueuedInvocations)) {
+                metrics.rejected();
+                throw EjbLogger.ROOT_LOGGER.remoteInvocationRejected(RemoteInvocationDispatcher.this.maxQueuedInvocations, this.key);
+            }
+            metrics.queued();
+            this.queue.add(new QueuedTask(executor, task, rejectionHandler, metrics));
+            // All running tasks may have completed before this task was queued
+            this.dispatchNext();
+        }
+
+        private void dispatch(Executor executor, Runnable task) {
+            try {
+                executor.execute(() -> this.run(task));
+            } catch (RejectedExecutionException e) {
+                this.active.decrementAndGet();
+                throw e;
+            }
+        }
+
+        private void dispatchNext() {
+            while (!this.queue.isEmpty() && tryIncrement(this.active, RemoteInvocationDispatcher.this.maxConcurrentInvocations)) {
+                QueuedTask next = this.poll();
+                if (next == null) {
+                    this.active.decrementAndGet();
+                } else {
+                    try {
+                        next.executor.execute(() -> this.run(next.task));
+                        return;
+                    } catch (RejectedExecutionException e) {
+                        // Never run the invocation on the current thread, which may be an I/O thread, but reject it as if the server were busy
+                        this.active.decrementAndGet();
+                        next.metrics.rejected();
+                        next.rejectionHandler.accept(EjbLogger.ROOT_LOGGER.remoteInvocationServerBusy(this.key, e));
+                    }
+                }
+            }
+        }
+
+        private void run(Runnable task) {
+            try {
+                Runnable current = task;
+                while (current != null) {
+                    current.run();
+                    QueuedTask next = this.poll();
+                    current = (next != null) ? next.task : null;
+                }
+            } finally {
+                this.active.decrementAndGet();
+                this.dispatchNext();
+            }
+        }
+
+        private QueuedTask poll() {
+            QueuedTask task = this.queue.poll();
+            if (task != null) {
+                this.queued.decrementAndGet();
+                task.metrics.dequeued();
+            }
+            return task;
+        }
+    }
+
+    private static boolean tryIncrement(AtomicInteger counter, int limit) {
+        int current = counter.get();
+        while (current < limit) {
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = counter.get();
+        }
+        return false;
+    }
+
+    private static class QueuedTask {
+        final Executor executor;
+        final Runnable task;
+        final Consumer<RejectedExecutionException> rejectionHandler;
+        final RemoteDispatchMetrics metrics;
+
+        QueuedTask(Executor executor, Runnable task, Consumer<RejectedExecutionException> rejectionHandler, RemoteDispatchMetrics metrics) {
+            this.executor = executor;
+            this.task = task;
+            this.rejectionHandler = rejectionHandler;
+            this.metrics = metrics;
+        }
+    }
+}
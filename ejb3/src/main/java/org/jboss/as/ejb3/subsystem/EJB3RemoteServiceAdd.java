@@ -15,6 +15,7 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.jboss.as.clustering.thread.VirtualThreads;
 import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.CapabilityServiceBuilder;
@@ -28,6 +29,8 @@ import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.remote.AssociationService;
 import org.jboss.as.ejb3.remote.EJBRemoteConnectorService;
+import org.jboss.as.ejb3.remote.RemoteDispatchPolicy;
+import org.jboss.as.ejb3.remote.RemoteInvocationDispatcher;
 import org.jboss.as.network.ClientMapping;
 import org.jboss.as.network.ProtocolSocketBinding;
 import org.jboss.dmr.ModelNode;
@@ -97,6 +100,21 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
                 .asString();
         final boolean executeInWorker = EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.resolveModelAttribute(context, model)
                 .asBoolean();
+        final RemoteDispatchPolicy dispatchPolicy = RemoteDispatchPolicy.fromValue(EJB3RemoteResourceDefinition.DISPATCH_POLICY.resolveModelAttribute(context, model)
+                .asString());
+        final int maxConcurrentInvocations = EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS.resolveModelAttribute(context, model)
+                .asInt();
+        final int maxQueuedInvocations = EJB3RemoteResourceDefinition.MAX_QUEUED_INVOCATIONS.resolveModelAttribute(context, model)
+                .asInt();
+        boolean virtualThreads = EJB3RemoteResourceDefinition.VIRTUAL_THREADS.resolveModelAttribute(context, model)
+                .asBoolean();
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            EjbLogger.ROOT_LOGGER.virtualThreadsNotSupported();
+            virtualThreads = false;
+        }
+        // Invocations are dispatched as determined by the connector, unless partitioned into bulkheads or executed by virtual threads
+        final RemoteInvocationDispatcher dispatcher = (dispatchPolicy != RemoteDispatchPolicy.CONNECTOR) || virtualThreads
+                ? new RemoteInvocationDispatcher(dispatchPolicy, maxConcurrentInvocations, maxQueuedInvocations, virtualThreads) : null;
 
         // for each connector specified, we need to set up a client-mappings cache
         for (ModelNode connectorNameNode : connectorNameNodes) {
@@ -148,7 +166,7 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         builder.addAliases(EJBRemoteConnectorService.SERVICE_NAME).setInitialMode(ServiceController.Mode.LAZY);
         final EJBRemoteConnectorService ejbRemoteConnectorService = new EJBRemoteConnectorService(serviceConsumer,
                 endpointSupplier, executorSupplier, associationServiceSupplier, remotingTransactionServiceSupplier,
-                channelCreationOptions, FilterSpecClassResolverFilter.getFilterForOperationContext(context));
+                channelCreationOptions, FilterSpecClassResolverFilter.getFilterForOperationContext(context), dispatcher);
         builder.setInstance(ejbRemoteConnectorService);
         builder.install();
     }
@@ -0,0 +1,94 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.parsing.ParseUtils.missingRequired;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoContent;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoNamespaceAttribute;
+import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
+import static org.jboss.as.ejb3.subsystem.EJB3SubsystemModel.SIMPLE_CACHE;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+
+/**
+ * Parser for ejb3:11.0 namespace.
+ * Adds max-size and idle-threshold attributes to the simple-cache element,
+ * and dispatch-policy, max-concurrent-invocations, max-queued-invocations and virtual-threads attributes to the remote element.
+ */
+public class EJB3Subsystem110Parser extends EJB3Subsystem100Parser {
+
+    @Override
+    protected EJB3SubsystemNamespace getExpectedNamespace() {
+        return EJB3SubsystemNamespace.EJB3_11_0;
+    }
+
+    @Override
+    protected void parseRemoteAttribute(final XMLExtendedStreamReader reader, final int index, final EJB3SubsystemXMLAttribute attribute, final String value, final ModelNode operation) throws XMLStreamException {
+        switch (attribute) {
+            case DISPATCH_POLICY:
+                EJB3RemoteResourceDefinition.DISPATCH_POLICY.parseAndSetParameter(value, operation, reader);
+                break;
+            case MAX_CONCURRENT_INVOCATIONS:
+                EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS.parseAndSetParameter(value, operation, reader);
+                break;
+            case MAX_QUEUED_INVOCATIONS:
+                EJB3RemoteResourceDefinition.MAX_QUEUED_INVOCATIONS.parseAndSetParameter(value, operation, reader);
+                break;
+            case VIRTUAL_THREADS:
+                EJB3RemoteResourceDefinition.VIRTUAL_THREADS.parseAndSetParameter(value, operation, reader);
+                break;
+            default:
+                super.parseRemoteAttribute(reader, index, attribute, value, operation);
+        }
+    }
+
+    @Override
+    protected void parseSimpleCache(final XMLExtendedStreamReader reader, List<ModelNode> operations) throws XMLStreamException {
+        String name = null;
+        ModelNode operation = Util.createAddOperation();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            switch (EJB3SubsystemXMLAttribute.forName(reader.getAttributeLocalName(i))) {
+                case NAME: {
+                    name = value;
+                    break;
+                }
+                case MAX_SIZE: {
+                    AttributeDefinition definition = SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_SIZE.getDefinition();
+                    definition.getParser().parseAndSetParameter(definition, value, operation, reader);
+                    break;
+                }
+                case IDLE_THRESHOLD: {
+                    AttributeDefinition definition = SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.IDLE_THRESHOLD.getDefinition();
+                    definition.getParser().parseAndSetParameter(definition, value, operation, reader);
+                    break;
+                }
+                default: {
+                    throw unexpectedAttribute(reader, i);
+                }
+            }
+        }
+        requireNoContent(reader);
+        if (name == null) {
+            throw missingRequired(reader, Collections.singleton(EJB3SubsystemXMLAttribute.NAME.getLocalName()));
+        }
+        final PathAddress address = this.getEJB3SubsystemAddress().append(PathElement.pathElement(SIMPLE_CACHE, name));
+        operation.get(OP_ADDR).set(address.toModelNode());
+        operations.add(operation);
+    }
+}
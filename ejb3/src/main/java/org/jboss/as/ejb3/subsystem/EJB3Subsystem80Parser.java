@@ -51,23 +51,7 @@ public class EJB3Subsystem80Parser extends EJB3Subsystem70Parser {
             final String value = reader.getAttributeValue(i);
             final EJB3SubsystemXMLAttribute attribute = EJB3SubsystemXMLAttribute.forName(reader.getAttributeLocalName(i));
             required.remove(attribute);
-            switch (attribute) {
-                case CLIENT_MAPPINGS_CLUSTER_NAME:
-                    EJB3RemoteResourceDefinition.CLIENT_MAPPINGS_CLUSTER_NAME.parseAndSetParameter(value, operation, reader);
-                    break;
-                case CONNECTORS:
-                    // can't use the obvious: EJB3RemoteResourceDefinition.CONNECTORS.parseAndSetParameter(value, operation, reader);
-                    EJB3RemoteResourceDefinition.CONNECTORS.getParser().parseAndSetParameter(EJB3RemoteResourceDefinition.CONNECTORS, value, operation, reader);
-                    break;
-                case THREAD_POOL_NAME:
-                    EJB3RemoteResourceDefinition.THREAD_POOL_NAME.parseAndSetParameter(value, operation, reader);
-                    break;
-                case EXECUTE_IN_WORKER:
-                    EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.parseAndSetParameter(value, operation, reader);
-                    break;
-                default:
-                    throw unexpectedAttribute(reader, i);
-            }
+            parseRemoteAttribute(reader, i, attribute, value, operation);
         }
         if (!required.isEmpty()) {
             throw missingRequired(reader, required);
@@ -99,6 +83,26 @@ public class EJB3Subsystem80Parser extends EJB3Subsystem70Parser {
         }
     }
 
+    protected void parseRemoteAttribute(final XMLExtendedStreamReader reader, final int index, final EJB3SubsystemXMLAttribute attribute, final String value, final ModelNode operation) throws XMLStreamException {
+        switch (attribute) {
+            case CLIENT_MAPPINGS_CLUSTER_NAME:
+                EJB3RemoteResourceDefinition.CLIENT_MAPPINGS_CLUSTER_NAME.parseAndSetParameter(value, operation, reader);
+                break;
+            case CONNECTORS:
+                // can't use the obvious: EJB3RemoteResourceDefinition.CONNECTORS.parseAndSetParameter(value, operation, reader);
+                EJB3RemoteResourceDefinition.CONNECTORS.getParser().parseAndSetParameter(EJB3RemoteResourceDefinition.CONNECTORS, value, operation, reader);
+                break;
+            case THREAD_POOL_NAME:
+                EJB3RemoteResourceDefinition.THREAD_POOL_NAME.parseAndSetParameter(value, operation, reader);
+                break;
+            case EXECUTE_IN_WORKER:
+                EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.parseAndSetParameter(value, operation, reader);
+                break;
+            default:
+                throw unexpectedAttribute(reader, index);
+        }
+    }
+
     protected void parseProfile(final XMLExtendedStreamReader reader, List<ModelNode> operations) throws XMLStreamException {
         final int count = reader.getAttributeCount();
         String profileName = null;
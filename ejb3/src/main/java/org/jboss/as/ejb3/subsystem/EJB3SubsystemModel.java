@@ -28,6 +28,9 @@ public interface EJB3SubsystemModel {
     String CONNECTOR_REF = "connector-ref";
     String CONNECTORS = "connectors";
     String IN_VM_REMOTE_INTERFACE_INVOCATION_PASS_BY_VALUE = "in-vm-remote-interface-invocation-pass-by-value";
+    String IN_VM_REMOTE_INTERFACE_INVOCATION_CLONED_VALUES = "in-vm-remote-interface-invocation-cloned-values";
+    String IN_VM_REMOTE_INTERFACE_INVOCATION_REFERENCED_VALUES = "in-vm-remote-interface-invocation-referenced-values";
+    String IN_VM_REMOTE_INTERFACE_INVOCATION_CLONE_TIME = "in-vm-remote-interface-invocation-clone-time";
 
     String DATASOURCE_JNDI_NAME = "datasource-jndi-name";
     String DEFAULT_DISTINCT_NAME = "default-distinct-name";
@@ -98,6 +101,10 @@ public interface EJB3SubsystemModel {
     String SIMPLE_CACHE = "simple-cache";
     String DISTRIBUTABLE_CACHE = "distributable-cache";
     String BEAN_MANAGEMENT = "bean-management";
+    String IDLE_THRESHOLD = "idle-threshold";
+    String ACTIVATION_COUNT = "activation-count";
+    String PASSIVATION_COUNT = "passivation-count";
+    String PASSIVATED_COUNT = "passivated-count";
     @Deprecated String PASSIVATION_STORE = "passivation-store";
 
     String MDB_DELIVERY_GROUP="mdb-delivery-group";
@@ -146,6 +153,10 @@ public interface EJB3SubsystemModel {
     String BASE_EJB_THREAD_POOL_NAME = "ejb3";
     ServiceName BASE_THREAD_POOL_SERVICE_NAME = ThreadsServices.EXECUTOR.append(BASE_EJB_THREAD_POOL_NAME);
     String EXECUTE_IN_WORKER = "execute-in-worker";
+    String DISPATCH_POLICY = "dispatch-policy";
+    String MAX_CONCURRENT_INVOCATIONS = "max-concurrent-invocations";
+    String MAX_QUEUED_INVOCATIONS = "max-queued-invocations";
+    String VIRTUAL_THREADS = "virtual-threads";
 
     // Elytron integration
     String APPLICATION_SECURITY_DOMAIN = "application-security-domain";
@@ -46,6 +46,7 @@ import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.ejb3.component.pool.PoolConfig;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProvider;
 import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.remote.LocalInvocationStatistics;
 import org.jboss.as.ejb3.security.ApplicationSecurityDomainConfig;
 import org.jboss.as.threads.EnhancedQueueExecutorResourceDefinition;
 import org.jboss.as.threads.ThreadFactoryResolver;
@@ -170,6 +171,24 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
                     .setDefaultValue(ModelNode.TRUE)
                     .build();
 
+    static final SimpleAttributeDefinition PASS_BY_VALUE_CLONED_VALUES =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_CLONED_VALUES, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+                    .build();
+
+    static final SimpleAttributeDefinition PASS_BY_VALUE_REFERENCED_VALUES =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_REFERENCED_VALUES, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+                    .build();
+
+    static final SimpleAttributeDefinition PASS_BY_VALUE_CLONE_TIME =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.IN_VM_REMOTE_INTERFACE_INVOCATION_CLONE_TIME, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+                    .build();
+
 
     public static final SimpleAttributeDefinition DEFAULT_MISSING_METHOD_PERMISSIONS_DENY_ACCESS =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.DEFAULT_MISSING_METHOD_PERMISSIONS_DENY_ACCESS, ModelType.BOOLEAN, true)
@@ -367,6 +386,13 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
         resourceRegistration.registerReadWriteAttribute(ENABLE_GRACEFUL_TXN_SHUTDOWN, null, EnableGracefulTxnShutdownWriteHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(SERVER_INTERCEPTORS, null,  ReloadRequiredWriteAttributeHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(CLIENT_INTERCEPTORS, null,  ReloadRequiredWriteAttributeHandler.INSTANCE);
+
+        if (registerRuntimeOnly) {
+            final LocalInvocationStatistics statistics = LocalInvocationStatistics.getInstance();
+            resourceRegistration.registerMetric(PASS_BY_VALUE_CLONED_VALUES, (context, operation) -> context.getResult().set(statistics.getClonedValues()));
+            resourceRegistration.registerMetric(PASS_BY_VALUE_REFERENCED_VALUES, (context, operation) -> context.getResult().set(statistics.getReferencedValues()));
+            resourceRegistration.registerMetric(PASS_BY_VALUE_CLONE_TIME, (context, operation) -> context.getResult().set(statistics.getCloneTime()));
+        }
     }
 
     @Override
@@ -404,7 +430,7 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
 
         // subsystem=ejb3/{cache=*, simple-cache=*, distributable-cache=*}
         subsystemRegistration.registerSubModel(new LegacyCacheFactoryResourceDefinition());
-        new SimpleStatefulSessionBeanCacheProviderResourceDefinition().register(subsystemRegistration);
+        new SimpleStatefulSessionBeanCacheProviderResourceDefinition(this.registerRuntimeOnly).register(subsystemRegistration);
         new DistributableStatefulSessionBeanCacheProviderResourceDefinition().register(subsystemRegistration);
 
         subsystemRegistration.registerSubModel(new PassivationStoreResourceDefinition());
@@ -38,6 +38,7 @@ public enum EJB3SubsystemXMLAttribute {
     DEFAULT_TRANSIENT_TIMER_MANAGEMENT(EJB3SubsystemModel.DEFAULT_TRANSIENT_TIMER_MANAGEMENT),
     DATABASE("database"),
     DATASOURCE_JNDI_NAME("datasource-jndi-name"),
+    DISPATCH_POLICY("dispatch-policy"),
 
     ENABLED("enabled"),
     ENABLE_BY_DEFAULT("enable-by-default"),
@@ -45,6 +46,7 @@ public enum EJB3SubsystemXMLAttribute {
 
     @Deprecated GROUPS_PATH("groups-path"),
 
+    IDLE_THRESHOLD("idle-threshold"),
     @Deprecated IDLE_TIMEOUT("idle-timeout"),
     @Deprecated IDLE_TIMEOUT_UNIT("idle-timeout-unit"),
     INSTANCE_ACQUISITION_TIMEOUT("instance-acquisition-timeout"),
@@ -54,7 +56,9 @@ public enum EJB3SubsystemXMLAttribute {
 
     LOCAL_RECEIVER_PASS_BY_VALUE("local-receiver-pass-by-value"),
 
+    MAX_CONCURRENT_INVOCATIONS("max-concurrent-invocations"),
     MAX_POOL_SIZE("max-pool-size"),
+    MAX_QUEUED_INVOCATIONS("max-queued-invocations"),
     MAX_SIZE("max-size"),
     DERIVE_SIZE("derive-size"),
     MAX_THREADS("max-threads"),
@@ -85,6 +89,7 @@ public enum EJB3SubsystemXMLAttribute {
     USE_QUALIFIED_NAME("use-qualified-name"),
 
     VALUE("value"),
+    VIRTUAL_THREADS("virtual-threads"),
 
     ACTIVE("active"),
 
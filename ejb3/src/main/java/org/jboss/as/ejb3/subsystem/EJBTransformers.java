@@ -5,6 +5,7 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_10_0_0;
 import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_9_0_0;
 
 import org.jboss.as.controller.ModelVersion;
@@ -38,11 +39,28 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(currentModel);
 
         // register the transformations required for each legacy version after 9.0.0
-        registerTransformers_9_0_0(chainedBuilder.createBuilder(currentModel, VERSION_9_0_0.getVersion()));
+        registerTransformers_10_0_0(chainedBuilder.createBuilder(currentModel, VERSION_10_0_0.getVersion()));
+        registerTransformers_9_0_0(chainedBuilder.createBuilder(VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion()));
 
         // create the chained builder which incorporates all transformations
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] {
-                VERSION_9_0_0.getVersion() });
+                VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion() });
+    }
+
+    /*
+     * Transformers for changes in model version 11.0.0
+     */
+    private static void registerTransformers_10_0_0(ResourceTransformationDescriptionBuilder subsystemBuilder) {
+        // Reject max-size and idle-threshold attributes of ejb3/simple-cache element
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.SIMPLE_CACHE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_SIZE.getDefinition(), SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.IDLE_THRESHOLD.getDefinition())
+                .addRejectCheck(RejectAttributeChecker.DEFINED, SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_SIZE.getDefinition(), SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.IDLE_THRESHOLD.getDefinition())
+                .end();
+        // Discard dispatch-policy, max-concurrent-invocations, max-queued-invocations and virtual-threads attributes of ejb3/remote element if set to their default values, otherwise reject
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.REMOTE_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EJB3RemoteResourceDefinition.DISPATCH_POLICY, EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS, EJB3RemoteResourceDefinition.MAX_QUEUED_INVOCATIONS, EJB3RemoteResourceDefinition.VIRTUAL_THREADS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3RemoteResourceDefinition.DISPATCH_POLICY, EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS, EJB3RemoteResourceDefinition.MAX_QUEUED_INVOCATIONS, EJB3RemoteResourceDefinition.VIRTUAL_THREADS)
+                .end();
     }
 
     /*
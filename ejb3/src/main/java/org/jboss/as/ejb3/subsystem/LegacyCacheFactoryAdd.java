@@ -8,6 +8,7 @@ package org.jboss.as.ejb3.subsystem;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
@@ -17,6 +18,7 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ServiceNameFactory;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProvider;
+import org.jboss.as.ejb3.component.stateful.cache.simple.SimpleStatefulSessionBeanCacheProvider;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.ServiceInstaller;
@@ -39,7 +41,7 @@ public class LegacyCacheFactoryAdd extends AbstractAddStepHandler {
 
         final Collection<String> unwrappedAliasValues = LegacyCacheFactoryResourceDefinition.ALIASES.unwrap(context,model);
         final Set<String> aliases = unwrappedAliasValues != null ? new HashSet<>(unwrappedAliasValues) : Collections.<String>emptySet();
-        ServiceDependency<StatefulSessionBeanCacheProvider> provider = (passivationStore != null) ? ServiceDependency.on(StatefulSessionBeanCacheProvider.SERVICE_DESCRIPTOR, passivationStore) : new SimpleStatefulSessionBeanCacheProviderResourceDefinition().resolve(context, model);
+        ServiceDependency<StatefulSessionBeanCacheProvider> provider = (passivationStore != null) ? ServiceDependency.on(StatefulSessionBeanCacheProvider.SERVICE_DESCRIPTOR, passivationStore) : ServiceDependency.of(new SimpleStatefulSessionBeanCacheProvider(OptionalInt.empty(), null));
         ServiceInstaller.UnaryBuilder<StatefulSessionBeanCacheProvider, StatefulSessionBeanCacheProvider> builder = ServiceInstaller.builder(provider).provides(ServiceNameFactory.resolveServiceName(StatefulSessionBeanCacheProvider.SERVICE_DESCRIPTOR, name));
         for (String alias : aliases) {
             builder.provides(ServiceNameFactory.resolveServiceName(StatefulSessionBeanCacheProvider.SERVICE_DESCRIPTOR, alias));
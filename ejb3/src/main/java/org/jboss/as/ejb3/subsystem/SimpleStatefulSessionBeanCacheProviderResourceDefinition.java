@@ -4,51 +4,127 @@
  */
 package org.jboss.as.ejb3.subsystem;
 
-import java.util.List;
-import java.util.function.UnaryOperator;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.OptionalInt;
 
+import org.jboss.as.clustering.controller.DurationAttributeDefinition;
+import org.jboss.as.clustering.controller.MetricExecutor;
+import org.jboss.as.clustering.controller.MetricHandler;
+import org.jboss.as.clustering.controller.SimpleResourceDescriptorConfigurator;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
-import org.jboss.as.ee.component.ComponentConfiguration;
-import org.jboss.as.ee.component.EEModuleConfiguration;
-import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProvider;
-import org.jboss.as.ejb3.component.stateful.cache.simple.SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory;
-import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.ejb3.component.stateful.cache.simple.SimpleStatefulSessionBeanCacheProvider;
+import org.jboss.as.ejb3.component.stateful.cache.simple.SimpleStatefulSessionBeanCacheStatistics;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 import org.wildfly.subsystem.service.ServiceDependency;
-import org.wildfly.subsystem.service.ServiceInstaller;
 
 /**
  * Defines a CacheFactoryBuilder instance which, during deployment, is used to configure, build and install a CacheFactory for the SFSB being deployed.
- * The CacheFactory resource instances defined here produce bean caches which are non distributed and do not have passivation-enabled.
+ * The CacheFactory resource instances defined here produce bean caches which are non distributed.
+ * If a max-size or idle-threshold is defined, idle bean instances are passivated to local storage.
  *
  * @author Paul Ferraro
  * @author Richard Achmatowicz
  */
 public class SimpleStatefulSessionBeanCacheProviderResourceDefinition extends StatefulSessionBeanCacheProviderResourceDefinition {
 
-    public SimpleStatefulSessionBeanCacheProviderResourceDefinition() {
-        super(EJB3SubsystemModel.SIMPLE_CACHE_PATH, UnaryOperator.identity());
+    public enum Attribute implements org.jboss.as.clustering.controller.Attribute {
+        MAX_SIZE(new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MAX_SIZE, ModelType.INT)
+                .setAllowExpression(true)
+                .setRequired(false)
+                .setValidator(new IntRangeValidator(1))
+                .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                .build()),
+        IDLE_THRESHOLD(new DurationAttributeDefinition.Builder(EJB3SubsystemModel.IDLE_THRESHOLD, ChronoUnit.SECONDS)
+                .setRequired(false)
+                .build()),
+        ;
+        private final AttributeDefinition definition;
+
+        Attribute(AttributeDefinition definition) {
+            this.definition = definition;
+        }
+
+        @Override
+        public AttributeDefinition getDefinition() {
+            return this.definition;
+        }
     }
 
-    @Override
-    public ServiceDependency<StatefulSessionBeanCacheProvider> resolve(OperationContext context, ModelNode model) throws OperationFailedException {
-        return ServiceDependency.of(new StatefulSessionBeanCacheProvider() {
+    enum Metric implements org.jboss.as.clustering.controller.Metric<SimpleStatefulSessionBeanCacheStatistics> {
+        ACTIVATION_COUNT(EJB3SubsystemModel.ACTIVATION_COUNT) {
             @Override
-            public Iterable<ServiceInstaller> getDeploymentServiceInstallers(DeploymentUnit unit, EEModuleConfiguration moduleConfiguration) {
-                return List.of();
+            public ModelNode execute(SimpleStatefulSessionBeanCacheStatistics statistics) {
+                return new ModelNode(statistics.getActivationCount());
             }
-
+        },
+        PASSIVATION_COUNT(EJB3SubsystemModel.PASSIVATION_COUNT) {
             @Override
-            public Iterable<ServiceInstaller> getStatefulBeanCacheFactoryServiceInstallers(DeploymentUnit unit, StatefulComponentDescription description, ComponentConfiguration configuration) {
-                return List.of(new SimpleStatefulSessionBeanCacheFactoryServiceInstallerFactory<>().apply(description));
+            public ModelNode execute(SimpleStatefulSessionBeanCacheStatistics statistics) {
+                return new ModelNode(statistics.getPassivationCount());
             }
-
+        },
+        PASSIVATED_COUNT(EJB3SubsystemModel.PASSIVATED_COUNT) {
             @Override
-            public boolean supportsPassivation() {
-                return false;
+            public ModelNode execute(SimpleStatefulSessionBeanCacheStatistics statistics) {
+                return new ModelNode(statistics.getPassivatedCount());
             }
-        });
+        },
+        ;
+        private final AttributeDefinition definition;
+
+        Metric(String name) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+                    .build();
+        }
+
+        @Override
+        public AttributeDefinition getDefinition() {
+            return this.definition;
+        }
+    }
+
+    private final boolean registerRuntimeOnly;
+
+    public SimpleStatefulSessionBeanCacheProviderResourceDefinition(boolean registerRuntimeOnly) {
+        super(EJB3SubsystemModel.SIMPLE_CACHE_PATH, new SimpleResourceDescriptorConfigurator<>(Attribute.class));
+        this.registerRuntimeOnly = registerRuntimeOnly;
+    }
+
+    @Override
+    public ManagementResourceRegistration register(ManagementResourceRegistration parent) {
+        ManagementResourceRegistration registration = super.register(parent);
+        if (this.registerRuntimeOnly) {
+            new MetricHandler<>(new SimpleStatefulSessionBeanCacheMetricExecutor(), Metric.class).register(registration);
+        }
+        return registration;
+    }
+
+    @Override
+    public ServiceDependency<StatefulSessionBeanCacheProvider> resolve(OperationContext context, ModelNode model) throws OperationFailedException {
+        Integer maxSize = Attribute.MAX_SIZE.resolveModelAttribute(context, model).asIntOrNull();
+        Duration idleThreshold = ((DurationAttributeDefinition) Attribute.IDLE_THRESHOLD.getDefinition()).resolve(context, model);
+        return ServiceDependency.of(new SimpleStatefulSessionBeanCacheProvider((maxSize != null) ? OptionalInt.of(maxSize) : OptionalInt.empty(), idleThreshold));
+    }
+
+    private static class SimpleStatefulSessionBeanCacheMetricExecutor implements MetricExecutor<SimpleStatefulSessionBeanCacheStatistics> {
+
+        @Override
+        public ModelNode execute(OperationContext context, org.jboss.as.clustering.controller.Metric<SimpleStatefulSessionBeanCacheStatistics> metric) throws OperationFailedException {
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(CAPABILITY.getCapabilityServiceName(context.getCurrentAddress()));
+            Object provider = (controller != null) ? controller.getValue() : null;
+            return (provider instanceof SimpleStatefulSessionBeanCacheProvider) ? metric.execute(((SimpleStatefulSessionBeanCacheProvider) provider).getStatistics()) : null;
+        }
     }
 }
@@ -88,6 +88,16 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition REMOTE_QUEUED_INVOCATIONS = new SimpleAttributeDefinitionBuilder("remote-queued-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition REMOTE_REJECTED_INVOCATIONS = new SimpleAttributeDefinitionBuilder("remote-rejected-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     public static final SimpleAttributeDefinition SECURITY_DOMAIN = new SimpleAttributeDefinitionBuilder("security-domain", ModelType.STRING, true)
             .setValidator(new StringLengthValidator(1, true))
             .build();
@@ -179,6 +189,19 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             resourceRegistration.registerReadOnlyAttribute(BUSINESS_LOCAL, handler);
             resourceRegistration.registerReadOnlyAttribute(BUSINESS_REMOTE, handler);
             resourceRegistration.registerReadOnlyAttribute(ASYNC_METHODS, handler);
+
+            resourceRegistration.registerMetric(REMOTE_QUEUED_INVOCATIONS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.getRemoteDispatchMetrics().getQueued());
+                }
+            });
+            resourceRegistration.registerMetric(REMOTE_REJECTED_INVOCATIONS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.getRemoteDispatchMetrics().getRejected());
+                }
+            });
         }
 
         if (componentType.hasTimer()) {
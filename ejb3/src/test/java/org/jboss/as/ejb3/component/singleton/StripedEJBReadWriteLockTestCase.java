@@ -0,0 +1,105 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.singleton;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import jakarta.ejb.IllegalLoopbackException;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StripedEJBReadWriteLock}.
+ */
+public class StripedEJBReadWriteLockTestCase {
+
+    private final ReadWriteLock lock = new StripedEJBReadWriteLock(4);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void reentrantRead() throws Exception {
+        Lock readLock = this.lock.readLock();
+        assertTrue(readLock.tryLock(1, TimeUnit.SECONDS));
+        assertTrue(readLock.tryLock(1, TimeUnit.SECONDS));
+        // Other threads may read concurrently, but not write
+        assertTrue(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.readLock())).get());
+        assertFalse(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.writeLock())).get());
+        readLock.unlock();
+        assertFalse(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.writeLock())).get());
+        readLock.unlock();
+        assertTrue(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.writeLock())).get());
+    }
+
+    @Test
+    public void reentrantWrite() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        assertTrue(writeLock.tryLock(1, TimeUnit.SECONDS));
+        assertTrue(writeLock.tryLock(1, TimeUnit.SECONDS));
+        // Write lock owner may also read
+        assertTrue(this.lock.readLock().tryLock(1, TimeUnit.SECONDS));
+        assertFalse(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.readLock())).get());
+        this.lock.readLock().unlock();
+        writeLock.unlock();
+        assertFalse(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.readLock())).get());
+        writeLock.unlock();
+        assertTrue(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.readLock())).get());
+        assertTrue(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.writeLock())).get());
+    }
+
+    @Test
+    public void downgrade() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        Lock readLock = this.lock.readLock();
+        assertTrue(writeLock.tryLock(1, TimeUnit.SECONDS));
+        assertTrue(readLock.tryLock(1, TimeUnit.SECONDS));
+        writeLock.unlock();
+        // Current thread still holds a read lock, so other threads may read, but not write
+        assertTrue(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.readLock())).get());
+        assertFalse(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.writeLock())).get());
+        assertThrows(IllegalLoopbackException.class, () -> writeLock.tryLock(1, TimeUnit.SECONDS));
+        readLock.unlock();
+        assertTrue(this.executor.submit(() -> this.tryLockAndUnlock(this.lock.writeLock())).get());
+        assertThrows(IllegalMonitorStateException.class, readLock::unlock);
+    }
+
+    @Test
+    public void illegalLoopback() throws Exception {
+        Lock readLock = this.lock.readLock();
+        assertTrue(readLock.tryLock(1, TimeUnit.SECONDS));
+        assertThrows(IllegalLoopbackException.class, () -> this.lock.writeLock().tryLock(1, TimeUnit.SECONDS));
+        readLock.unlock();
+        assertTrue(this.lock.writeLock().tryLock(1, TimeUnit.SECONDS));
+        this.lock.writeLock().unlock();
+    }
+
+    @Test
+    public void illegalUnlock() {
+        assertThrows(IllegalMonitorStateException.class, () -> this.lock.readLock().unlock());
+        assertThrows(IllegalMonitorStateException.class, () -> this.lock.writeLock().unlock());
+    }
+
+    private boolean tryLockAndUnlock(Lock lock) throws InterruptedException {
+        if (lock.tryLock(100, TimeUnit.MILLISECONDS)) {
+            lock.unlock();
+            return true;
+        }
+        return false;
+    }
+}
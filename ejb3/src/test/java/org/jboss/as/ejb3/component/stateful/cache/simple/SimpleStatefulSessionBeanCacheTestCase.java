@@ -0,0 +1,299 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.jboss.as.ee.component.ComponentConfiguration;
+import org.jboss.as.ee.component.EEModuleConfiguration;
+import org.jboss.as.ee.component.EEModuleDescription;
+import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
+import org.jboss.as.ejb3.component.stateful.StatefulSessionBeanSerializabilityChecker;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBean;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstanceFactory;
+import org.jboss.as.naming.ImmediateManagedReference;
+import org.jboss.as.naming.ManagedReference;
+import org.jboss.as.server.ServerEnvironment;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.SerializabilityChecker;
+import org.jboss.marshalling.SimpleClassResolver;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.JBossByteBufferMarshaller;
+
+/**
+ * Unit test for {@link SimpleStatefulSessionBeanCache} passivation.
+ */
+public class SimpleStatefulSessionBeanCacheTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final SimpleStatefulSessionBeanCacheStatistics statistics = new SimpleStatefulSessionBeanCacheStatistics();
+
+    @Test
+    public void maxSize() throws IOException {
+        Path directory = this.folder.getRoot().toPath().resolve("passivation");
+        SimpleStatefulSessionBeanCache<UUID, TestBeanInstance> cache = this.createCache(OptionalInt.of(1), directory);
+        cache.start();
+        try {
+            StatefulSessionBean<UUID, TestBeanInstance> bean1 = cache.createStatefulSessionBean();
+            UUID id1 = bean1.getId();
+            bean1.close();
+
+            assertEquals(1, cache.getActiveCount());
+            assertEquals(0, cache.getPassiveCount());
+
+            // Creating a second bean should passivate the least recently used idle bean
+            StatefulSessionBean<UUID, TestBeanInstance> bean2 = cache.createStatefulSessionBean();
+            UUID id2 = bean2.getId();
+
+            assertEquals(1, cache.getActiveCount());
+            assertEquals(1, cache.getPassiveCount());
+            assertEquals(1, bean1.getInstance().prePassivateCount);
+            assertEquals(1L, this.statistics.getPassivationCount());
+            assertEquals(1L, this.statistics.getPassivatedCount());
+
+            // A bean in use is never passivated
+            bean2.close();
+            StatefulSessionBean<UUID, TestBeanInstance> found = cache.findStatefulSessionBean(id2);
+            assertNotNull(found);
+            assertSame(bean2.getInstance(), found.getInstance());
+            assertEquals(1, cache.getActiveCount());
+
+            // Activating the first bean should passivate the second bean, once idle
+            StatefulSessionBean<UUID, TestBeanInstance> activated = cache.findStatefulSessionBean(id1);
+            assertNotNull(activated);
+            assertNotSame(bean1.getInstance(), activated.getInstance());
+            assertEquals(id1, activated.getId());
+            assertEquals(1, activated.getInstance().prePassivateCount);
+            assertEquals(1, activated.getInstance().postActivateCount);
+            assertEquals(1L, this.statistics.getActivationCount());
+            assertEquals(2, cache.getActiveCount());
+
+            found.close();
+            assertEquals(1, cache.getActiveCount());
+            assertEquals(1, cache.getPassiveCount());
+            assertEquals(2L, this.statistics.getPassivationCount());
+            assertEquals(1L, this.statistics.getPassivatedCount());
+
+            // Removing an active bean should not affect the passivated bean
+            activated.remove();
+            assertTrue(activated.getInstance().removed);
+            assertEquals(0, cache.getActiveCount());
+            assertEquals(1, cache.getPassiveCount());
+
+            StatefulSessionBean<UUID, TestBeanInstance> reactivated = cache.findStatefulSessionBean(id2);
+            assertNotNull(reactivated);
+            assertEquals(1, reactivated.getInstance().postActivateCount);
+            assertNull(cache.findStatefulSessionBean(id1));
+            reactivated.close();
+        } finally {
+            cache.stop();
+        }
+        assertEquals(0L, this.statistics.getPassivatedCount());
+        // Passivation store directory should be empty
+        try (Stream<Path> files = Files.list(directory)) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+
+    @Test
+    public void unbounded() {
+        SimpleStatefulSessionBeanCache<UUID, TestBeanInstance> cache = this.createCache(OptionalInt.empty(), this.folder.getRoot().toPath());
+        cache.start();
+        try {
+            StatefulSessionBean<UUID, TestBeanInstance> bean1 = cache.createStatefulSessionBean();
+            bean1.close();
+            StatefulSessionBean<UUID, TestBeanInstance> bean2 = cache.createStatefulSessionBean();
+            bean2.close();
+
+            assertEquals(2, cache.getActiveCount());
+            assertEquals(0, cache.getPassiveCount());
+            assertSame(bean1.getInstance(), cache.findStatefulSessionBean(bean1.getId()).getInstance());
+            assertEquals(0, bean1.getInstance().prePassivateCount);
+        } finally {
+            cache.stop();
+        }
+        assertEquals(0, this.folder.getRoot().list().length);
+    }
+
+    /**
+     * Verifies passivation of a component instance whose bean instance, like that of most stateful session beans, is not {@link Serializable}.
+     */
+    @Test
+    public void nonSerializableBean() {
+        // Bean classes of the stateful components of a deployment are treated as serializable
+        StatefulComponentDescription description = mock(StatefulComponentDescription.class);
+        ComponentConfiguration componentConfiguration = mock(ComponentConfiguration.class);
+        when(componentConfiguration.getComponentDescription()).thenReturn(description);
+        doReturn(TestBean.class).when(componentConfiguration).getComponentClass();
+        EEModuleConfiguration moduleConfiguration = this.createModuleConfiguration();
+        moduleConfiguration.addComponentConfiguration(componentConfiguration);
+
+        SimpleStatefulSessionBeanCache<UUID, TestComponentInstance> cache = this.createCache(OptionalInt.of(1), this.folder.getRoot().toPath(), TestComponentInstance::new, new StatefulSessionBeanSerializabilityChecker(moduleConfiguration));
+        cache.start();
+        try {
+            StatefulSessionBean<UUID, TestComponentInstance> bean1 = cache.createStatefulSessionBean();
+            bean1.getInstance().getBean().value = "foo";
+            bean1.close();
+            StatefulSessionBean<UUID, TestComponentInstance> bean2 = cache.createStatefulSessionBean();
+            bean2.close();
+
+            assertEquals(1, cache.getPassiveCount());
+
+            StatefulSessionBean<UUID, TestComponentInstance> activated = cache.findStatefulSessionBean(bean1.getId());
+            assertNotNull(activated);
+            assertNotSame(bean1.getInstance(), activated.getInstance());
+            assertEquals("foo", activated.getInstance().getBean().value);
+            activated.close();
+        } finally {
+            cache.stop();
+        }
+    }
+
+    /**
+     * Verifies that a component instance whose bean class is not a stateful component class is not passivated.
+     */
+    @Test
+    public void nonSerializableBeanRejected() {
+        SimpleStatefulSessionBeanCache<UUID, TestComponentInstance> cache = this.createCache(OptionalInt.of(1), this.folder.getRoot().toPath(), TestComponentInstance::new, new StatefulSessionBeanSerializabilityChecker(this.createModuleConfiguration()));
+        cache.start();
+        try {
+            StatefulSessionBean<UUID, TestComponentInstance> bean1 = cache.createStatefulSessionBean();
+            bean1.close();
+            StatefulSessionBean<UUID, TestComponentInstance> bean2 = cache.createStatefulSessionBean();
+            bean2.close();
+
+            // Bean instance could not be passivated, and remains active
+            assertEquals(2, cache.getActiveCount());
+            assertEquals(0, cache.getPassiveCount());
+            assertSame(bean1.getInstance(), cache.findStatefulSessionBean(bean1.getId()).getInstance());
+        } finally {
+            cache.stop();
+        }
+    }
+
+    private EEModuleConfiguration createModuleConfiguration() {
+        try {
+            return new EEModuleConfiguration(new EEModuleDescription("app", "module", null, false));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private SimpleStatefulSessionBeanCache<UUID, TestBeanInstance> createCache(OptionalInt maxSize, Path directory) {
+        return this.createCache(maxSize, directory, TestBeanInstance::new, SerializabilityChecker.DEFAULT);
+    }
+
+    private <V extends StatefulSessionBeanInstance<UUID>> SimpleStatefulSessionBeanCache<UUID, V> createCache(OptionalInt maxSize, Path directory, StatefulSessionBeanInstanceFactory<V> factory, SerializabilityChecker checker) {
+        @SuppressWarnings("unchecked")
+        SimpleStatefulSessionBeanCacheConfiguration<UUID, V> configuration = mock(SimpleStatefulSessionBeanCacheConfiguration.class);
+        ServerEnvironment environment = mock(ServerEnvironment.class);
+        MarshallingConfiguration marshallingConfiguration = new MarshallingConfiguration();
+        marshallingConfiguration.setClassResolver(new SimpleClassResolver(this.getClass().getClassLoader()));
+        marshallingConfiguration.setSerializabilityChecker(checker);
+        ByteBufferMarshaller marshaller = new JBossByteBufferMarshaller(marshallingConfiguration, this.getClass().getClassLoader());
+
+        when(configuration.getComponentName()).thenReturn("component");
+        when(configuration.getInstanceFactory()).thenReturn(factory);
+        when(configuration.getEnvironment()).thenReturn(environment);
+        when(environment.getNodeName()).thenReturn("node");
+        when(configuration.getMaxSize()).thenReturn(maxSize);
+        when(configuration.getPassivationDirectory()).thenReturn(directory);
+        when(configuration.getMarshaller()).thenReturn(marshaller);
+        when(configuration.getStatistics()).thenReturn(this.statistics);
+
+        return new SimpleStatefulSessionBeanCache<>(configuration);
+    }
+
+    static class TestBeanInstance implements StatefulSessionBeanInstance<UUID>, Serializable {
+        private static final long serialVersionUID = -2284045524432513566L;
+
+        private final UUID id = UUID.randomUUID();
+        int prePassivateCount = 0;
+        int postActivateCount = 0;
+        transient boolean removed = false;
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+
+        @Override
+        public void prePassivate() {
+            this.prePassivateCount += 1;
+        }
+
+        @Override
+        public void postActivate() {
+            this.postActivateCount += 1;
+        }
+
+        @Override
+        public void removed() {
+            this.removed = true;
+        }
+    }
+
+    /**
+     * A bean class which, like most stateful session bean classes, does not implement {@link Serializable}.
+     */
+    static class TestBean {
+        String value;
+    }
+
+    /**
+     * Mimics a stateful session component instance, which references its bean instance via a managed reference.
+     */
+    static class TestComponentInstance implements StatefulSessionBeanInstance<UUID>, Serializable {
+        private static final long serialVersionUID = 7204620423617372384L;
+
+        private final UUID id = UUID.randomUUID();
+        private final ManagedReference reference = new ImmediateManagedReference(new TestBean());
+
+        TestBean getBean() {
+            return (TestBean) this.reference.getInstance();
+        }
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+
+        @Override
+        public void prePassivate() {
+        }
+
+        @Override
+        public void postActivate() {
+        }
+
+        @Override
+        public void removed() {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ImmutableTypes}.
+ */
+public class ImmutableTypesTestCase {
+
+    @Test
+    public void jdkTypes() {
+        assertTrue(ImmutableTypes.isImmutable(String.class));
+        assertTrue(ImmutableTypes.isImmutable(Integer.class));
+        assertTrue(ImmutableTypes.isImmutable(BigDecimal.class));
+        assertTrue(ImmutableTypes.isImmutable(LocalDate.class));
+        assertTrue(ImmutableTypes.isImmutable(ZoneId.of("America/New_York").getClass()));
+
+        assertFalse(ImmutableTypes.isImmutable(Date.class));
+        assertFalse(ImmutableTypes.isImmutable(Object.class));
+        assertFalse(ImmutableTypes.isImmutable(String[].class));
+        assertFalse(ImmutableTypes.isImmutable(new BigDecimal("1") { }.getClass()));
+    }
+
+    @Test
+    public void records() {
+        assertTrue(ImmutableTypes.isImmutable(ImmutableRecord.class));
+        assertTrue(ImmutableTypes.isImmutable(NestedRecord.class));
+        assertTrue(ImmutableTypes.isImmutable(RecursiveRecord.class));
+
+        assertFalse(ImmutableTypes.isImmutable(MutableRecord.class));
+        assertFalse(ImmutableTypes.isImmutable(NonFinalComponentRecord.class));
+    }
+
+    record ImmutableRecord(String name, int value, LocalDate date) { }
+
+    record NestedRecord(ImmutableRecord record, long value) { }
+
+    record RecursiveRecord(String value, RecursiveRecord next) { }
+
+    record MutableRecord(String name, Date date) { }
+
+    record NonFinalComponentRecord(List<String> values) { }
+}
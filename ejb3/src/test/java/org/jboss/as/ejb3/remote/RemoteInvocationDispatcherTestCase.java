@@ -0,0 +1,195 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.component.invocationmetrics.RemoteDispatchMetrics;
+import org.jboss.as.ejb3.deployment.DeploymentModuleIdentifier;
+import org.jboss.ejb.client.EJBIdentifier;
+import org.jboss.ejb.client.EJBModuleIdentifier;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RemoteInvocationDispatcher}.
+ */
+public class RemoteInvocationDispatcherTestCase {
+
+    private static final EJBModuleIdentifier MODULE = new EJBModuleIdentifier("app", "module", "");
+    private static final EJBIdentifier BEAN1 = new EJBIdentifier(MODULE, "Bean1");
+    private static final EJBIdentifier BEAN2 = new EJBIdentifier(MODULE, "Bean2");
+
+    // Invocations rejected after they were queued
+    private final List<RejectedExecutionException> rejected = new ArrayList<>();
+
+    /**
+     * An executor that defers execution of submitted tasks until explicitly run.
+     */
+    private static class DeferredExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            this.tasks.add(task);
+        }
+
+        int size() {
+            return this.tasks.size();
+        }
+
+        void runNext() {
+            this.tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    public void connector() {
+        DeferredExecutor executor = new DeferredExecutor();
+        RemoteDispatchMetrics metrics = new RemoteDispatchMetrics();
+        RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(RemoteDispatchPolicy.CONNECTOR, 1, 0, false);
+
+        for (int i = 0; i < 4; ++i) {
+            dispatcher.dispatch(BEAN1, executor, () -> {}, this.rejected::add, metrics);
+        }
+        // Connector policy does not impose any limits
+        assertEquals(4, executor.size());
+        assertEquals(0, metrics.getQueued());
+        assertEquals(0, metrics.getRejected());
+    }
+
+    @Test
+    public void bean() {
+        DeferredExecutor executor = new DeferredExecutor();
+        RemoteDispatchMetrics metrics1 = new RemoteDispatchMetrics();
+        RemoteDispatchMetrics metrics2 = new RemoteDispatchMetrics();
+        AtomicInteger completed = new AtomicInteger();
+        Runnable task = completed::incrementAndGet;
+        RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(RemoteDispatchPolicy.BEAN, 1, 1, false);
+
+        dispatcher.dispatch(BEAN1, executor, task, this.rejected::add, metrics1);
+        assertEquals(1, executor.size());
+
+        // Exceeds concurrency limit, so should be queued
+        dispatcher.dispatch(BEAN1, executor, task, this.rejected::add, metrics1);
+        assertEquals(1, executor.size());
+        assertEquals(1, metrics1.getQueued());
+
+        // Exceeds queue limit, so should be rejected
+        assertThrows(RejectedExecutionException.class, () -> dispatcher.dispatch(BEAN1, executor, task, this.rejected::add, metrics1));
+        assertEquals(1, metrics1.getRejected());
+
+        // Different bean uses a separate bulkhead
+        dispatcher.dispatch(BEAN2, executor, task, this.rejected::add, metrics2);
+        assertEquals(2, executor.size());
+        assertEquals(0, metrics2.getQueued());
+
+        // Completing the first invocation should drain the queued invocation on the same thread
+        executor.runNext();
+        assertEquals(2, completed.get());
+        assertEquals(0, metrics1.getQueued());
+        assertEquals(1, executor.size());
+
+        executor.runNext();
+        assertEquals(3, completed.get());
+
+        // Bulkhead should now accept new invocations
+        dispatcher.dispatch(BEAN1, executor, task, this.rejected::add, metrics1);
+        assertEquals(1, executor.size());
+        executor.runNext();
+        assertEquals(4, completed.get());
+        assertEquals(1, metrics1.getRejected());
+    }
+
+    @Test
+    public void deployment() {
+        DeferredExecutor executor = new DeferredExecutor();
+        RemoteDispatchMetrics metrics = new RemoteDispatchMetrics();
+        RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(RemoteDispatchPolicy.DEPLOYMENT, 1, 0, false);
+
+        dispatcher.dispatch(BEAN1, executor, () -> {}, this.rejected::add, metrics);
+        // Beans of the same module share a bulkhead
+        assertThrows(RejectedExecutionException.class, () -> dispatcher.dispatch(BEAN2, executor, () -> {}, this.rejected::add, metrics));
+        assertEquals(1, metrics.getRejected());
+
+        executor.runNext();
+        dispatcher.dispatch(BEAN2, executor, () -> {}, this.rejected::add, metrics);
+        assertEquals(1, executor.size());
+    }
+
+    @Test
+    public void rejectedByExecutor() {
+        RemoteDispatchMetrics metrics = new RemoteDispatchMetrics();
+        RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(RemoteDispatchPolicy.BEAN, 1, 0, false);
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException();
+        };
+
+        assertThrows(RejectedExecutionException.class, () -> dispatcher.dispatch(BEAN1, rejecting, () -> {}, this.rejected::add, metrics));
+
+        // Permit should have been released
+        DeferredExecutor executor = new DeferredExecutor();
+        dispatcher.dispatch(BEAN1, executor, () -> {}, this.rejected::add, metrics);
+        assertEquals(1, executor.size());
+    }
+
+    @Test
+    public void queuedRejectedByExecutor() {
+        DeferredExecutor executor = new DeferredExecutor();
+        // Completes the running invocation after the next invocation failed to acquire a permit, but before it is queued
+        RemoteDispatchMetrics metrics = new RemoteDispatchMetrics() {
+            @Override
+            public void queued() {
+                super.queued();
+                executor.runNext();
+            }
+        };
+        RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(RemoteDispatchPolicy.BEAN, 1, 1, false);
+        AtomicInteger completed = new AtomicInteger();
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException();
+        };
+
+        dispatcher.dispatch(BEAN1, executor, completed::incrementAndGet, this.rejected::add, metrics);
+        // Queued invocation is dispatched by the current thread, but rejected by its executor
+        dispatcher.dispatch(BEAN1, rejecting, completed::incrementAndGet, this.rejected::add, metrics);
+
+        // Rejected invocation must not run on the dispatching thread, which may be an I/O thread
+        assertEquals(1, completed.get());
+        assertEquals(1, this.rejected.size());
+        assertEquals(1, metrics.getRejected());
+        assertEquals(0, metrics.getQueued());
+
+        // Permit should have been released
+        dispatcher.dispatch(BEAN1, executor, completed::incrementAndGet, this.rejected::add, metrics);
+        assertEquals(1, executor.size());
+    }
+
+    @Test
+    public void deploymentRemoved() {
+        DeferredExecutor executor = new DeferredExecutor();
+        RemoteDispatchMetrics metrics = new RemoteDispatchMetrics();
+        RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(RemoteDispatchPolicy.BEAN, 1, 0, false);
+        EJBIdentifier otherBean = new EJBIdentifier(new EJBModuleIdentifier("app", "other", ""), "Bean1");
+
+        dispatcher.dispatch(BEAN1, executor, () -> {}, this.rejected::add, metrics);
+        dispatcher.dispatch(BEAN2, executor, () -> {}, this.rejected::add, metrics);
+        dispatcher.dispatch(otherBean, executor, () -> {}, this.rejected::add, metrics);
+        assertEquals(3, dispatcher.getBulkheads());
+
+        // Only the bulkheads of the removed deployment should be discarded
+        dispatcher.deploymentRemoved(new DeploymentModuleIdentifier("app", "module", ""));
+        assertEquals(1, dispatcher.getBulkheads());
+
+        dispatcher.deploymentRemoved(new DeploymentModuleIdentifier("app", "other", ""));
+        assertEquals(0, dispatcher.getBulkheads());
+    }
+}
@@ -68,7 +68,7 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     @Test
@@ -190,6 +190,10 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
         final String defaultSfsbCache = ejb3.get("default-sfsb-cache").resolve().asString();
         assertEquals("distributable", defaultSfsbCache);
 
+        final ModelNode simpleCache = ejb3.get(EJB3SubsystemModel.SIMPLE_CACHE, "simple-cache");
+        assertEquals(1000, simpleCache.get(EJB3SubsystemModel.MAX_SIZE).resolve().asInt());
+        assertEquals(600, simpleCache.get(EJB3SubsystemModel.IDLE_THRESHOLD).resolve().asInt());
+
         final String defaultSecurityDomain = ejb3.get("default-security-domain").resolve().asString();
         assertEquals("domain", defaultSecurityDomain);
 
@@ -252,6 +256,10 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
         assertEquals("false", remote.get("execute-in-worker").resolve().asString());
         assertEquals("default", remote.get("thread-pool-name").resolve().asString());
         assertEquals(20, remote.get("channel-creation-options").asPropertyList().get(0).getValue().get("value").resolve().asInt());
+        assertEquals("bean", remote.get(EJB3SubsystemModel.DISPATCH_POLICY).resolve().asString());
+        assertEquals(8, remote.get(EJB3SubsystemModel.MAX_CONCURRENT_INVOCATIONS).resolve().asInt());
+        assertEquals(64, remote.get(EJB3SubsystemModel.MAX_QUEUED_INVOCATIONS).resolve().asInt());
+        assertTrue(remote.get(EJB3SubsystemModel.VIRTUAL_THREADS).resolve().asBoolean());
 
         final ModelNode timerService = ejb3.get("service", "timer-service");
         final String fileDataStorePath = timerService.get("file-data-store").asPropertyList().get(0).getValue().get("path").resolve().asString();
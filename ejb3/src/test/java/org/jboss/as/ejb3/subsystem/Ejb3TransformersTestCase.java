@@ -69,7 +69,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     /*
@@ -148,7 +148,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
 
-        // need to include all changes from current to 9.0.0
+        // need to include all changes from current to 9.0.0, or from current to 10.0.0
         if (EJB3Model.VERSION_9_0_0.requiresTransformation(version)) {
             // reject the resource /subsystem=ejb3/simple-cache
             config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.SIMPLE_CACHE_PATH), FailedOperationTransformationConfig.REJECTED_RESOURCE);
@@ -156,6 +156,13 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
             config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.DISTRIBUTABLE_CACHE_PATH), FailedOperationTransformationConfig.REJECTED_RESOURCE);
             // Reject when default-data-store is undefined
             config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH), FailedOperationTransformationConfig.REJECTED_RESOURCE);
+            // reject the bulkhead dispatch attributes of /subsystem=ejb3/service=remote
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.REMOTE_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(EJB3SubsystemModel.DISPATCH_POLICY, EJB3SubsystemModel.MAX_CONCURRENT_INVOCATIONS, EJB3SubsystemModel.MAX_QUEUED_INVOCATIONS, EJB3SubsystemModel.VIRTUAL_THREADS));
+        } else if (EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
+            // reject the max-size and idle-threshold attributes of /subsystem=ejb3/simple-cache
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.SIMPLE_CACHE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(EJB3SubsystemModel.MAX_SIZE, EJB3SubsystemModel.IDLE_THRESHOLD));
+            // reject the bulkhead dispatch attributes of /subsystem=ejb3/service=remote
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.REMOTE_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(EJB3SubsystemModel.DISPATCH_POLICY, EJB3SubsystemModel.MAX_CONCURRENT_INVOCATIONS, EJB3SubsystemModel.MAX_QUEUED_INVOCATIONS, EJB3SubsystemModel.VIRTUAL_THREADS));
         }
         return config;
     }
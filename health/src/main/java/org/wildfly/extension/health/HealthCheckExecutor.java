@@ -0,0 +1,143 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.health;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evaluates health checks concurrently using a dedicated, bounded thread pool, such that slow checks cannot exhaust a shared executor.
+ * A check is not resubmitted while a previous evaluation of it is still pending, e.g. following a timeout;
+ * callers instead await the pending evaluation.
+ * An evaluation that does not complete within the timeout is cancelled.
+ */
+public class HealthCheckExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+    private final Map<Object, Future<?>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a health check executor.
+     * @param maxThreads the maximum number of concurrently evaluated checks
+     * @param maxQueued the maximum number of checks awaiting evaluation, beyond which submissions are rejected
+     * @param timeout the maximum duration of an evaluation in milliseconds, or 0 if the duration of an evaluation is not bounded
+     */
+    public HealthCheckExecutor(int maxThreads, int maxQueued, long timeout) {
+        AtomicInteger index = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(maxQueued), task -> {
+            Thread thread = new Thread(task, "health-check-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the maximum duration of the evaluation of a single check.
+     * @return a duration in milliseconds, or 0 if the evaluation of a check is not bounded.
+     */
+    public long getTimeout() {
+        return this.timeout;
+    }
+
+    /**
+     * Returns the deadline of evaluations submitted now.
+     * @return a deadline, relative to {@link System#nanoTime()}
+     */
+    public long getDeadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeout);
+    }
+
+    /**
+     * Submits the evaluation of the specified check, unless an evaluation of the same check is already pending.
+     * @param check the identity of a check
+     * @param evaluation the evaluation of the check
+     * @return the pending evaluation of the check
+     * @throws RejectedExecutionException if the maximum number of queued checks was exceeded
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Future<T> submit(Object check, Callable<T> evaluation) {
+        PendingEvaluation<T> task = new PendingEvaluation<>(check, evaluation);
+        Future<?> existing = this.pending.putIfAbsent(check, task);
+        if (existing != null) {
+            return (Future<T>) existing;
+        }
+        try {
+            this.executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            this.pending.remove(check, task);
+            throw e;
+        }
+        return task;
+    }
+
+    /**
+     * Awaits the specified evaluation until the specified deadline, cancelling the evaluation if it does not complete in time.
+     * @param future a pending evaluation
+     * @param deadline a deadline, as returned by {@link #getDeadline()}
+     * @return the result of the evaluation
+     * @throws TimeoutException if the evaluation did not complete by the deadline, or was cancelled following the timeout of another caller
+     * @throws ExecutionException if the evaluation failed
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    public <T> T await(Future<T> future, long deadline) throws TimeoutException, ExecutionException, InterruptedException {
+        try {
+            if (this.timeout <= 0) {
+                return future.get();
+            }
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Interrupt the evaluation, which nevertheless remains pending until it returns
+            future.cancel(true);
+            throw e;
+        } catch (CancellationException e) {
+            throw new TimeoutException();
+        }
+    }
+
+    /**
+     * Cancels pending evaluations and terminates the threads of this executor.
+     */
+    public void shutdown() {
+        for (Runnable task : this.executor.shutdownNow()) {
+            ((Future<?>) task).cancel(false);
+        }
+        for (Future<?> future : this.pending.values()) {
+            future.cancel(true);
+        }
+        this.pending.clear();
+    }
+
+    private class PendingEvaluation<T> extends FutureTask<T> {
+        private final Object check;
+
+        PendingEvaluation(Object check, Callable<T> evaluation) {
+            super(evaluation);
+            this.check = check;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                HealthCheckExecutor.this.pending.remove(this.check, this);
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import static org.wildfly.extension.health.HealthSubsystemDefinition.HEALTH_HTTP
 import static org.wildfly.extension.health.HealthSubsystemDefinition.HEALTH_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.health.HealthSubsystemDefinition.HTTP_EXTENSIBILITY_CAPABILITY;
 
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -128,8 +129,10 @@ public class HealthContextService implements Service {
             ModelNode response = new ModelNode();
             response.setEmptyList();
             if (HEALTH.equals(requestPath) || HEALTH_READY.equals(requestPath)) {
-                for (ServerProbe serverProbe : serverProbes.getServerProbes()) {
-                    ServerProbe.Outcome outcome = serverProbe.getOutcome();
+                // Server probes are evaluated concurrently
+                for (Map.Entry<ServerProbe, ServerProbe.Outcome> entry : serverProbes.evaluate().entrySet()) {
+                    ServerProbe serverProbe = entry.getKey();
+                    ServerProbe.Outcome outcome = entry.getValue();
                     if (!outcome.isSuccess()) {
                         globalOutcome = false;
                     }
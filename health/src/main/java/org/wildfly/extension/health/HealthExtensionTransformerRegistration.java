@@ -0,0 +1,37 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.health;
+
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.kohsuke.MetaInfServices;
+
+/**
+ * Registers transformers for the health subsystem.
+ */
+@MetaInfServices
+public class HealthExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    @Override
+    public String getSubsystemName() {
+        return HealthExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        // 2.0.0 to 1.0.0
+        ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        builder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, HealthSubsystemDefinition.PROBE_CACHE_TIME, HealthSubsystemDefinition.PROBE_TIMEOUT)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, HealthSubsystemDefinition.PROBE_CACHE_TIME, HealthSubsystemDefinition.PROBE_TIMEOUT)
+                .end();
+        TransformationDescription.Tools.register(builder.build(), registration, HealthExtension.VERSION_1_0_0);
+    }
+}
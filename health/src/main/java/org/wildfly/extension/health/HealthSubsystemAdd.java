@@ -28,8 +28,11 @@ public class HealthSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         final boolean securityEnabled = HealthSubsystemDefinition.SECURITY_ENABLED.resolveModelAttribute(context, model).asBoolean();
 
+        final long probeCacheTime = HealthSubsystemDefinition.PROBE_CACHE_TIME.resolveModelAttribute(context, model).asLong();
+        final long probeTimeout = HealthSubsystemDefinition.PROBE_TIMEOUT.resolveModelAttribute(context, model).asLong();
+
         HealthContextService.install(context, securityEnabled);
-        ServerProbesService.install(context);
+        ServerProbesService.install(context, probeCacheTime, probeTimeout);
 
         LOGGER.activatingSubsystem();
     }
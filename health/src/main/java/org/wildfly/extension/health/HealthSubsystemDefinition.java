@@ -7,16 +7,24 @@ package org.wildfly.extension.health;
 import java.util.Arrays;
 import java.util.Collection;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelControllerClientFactory;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ServiceRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.management.Capabilities;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2020 Red Hat inc.
@@ -41,14 +49,53 @@ public class HealthSubsystemDefinition extends PersistentResourceDefinition {
             .setAllowExpression(true)
             .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = { SECURITY_ENABLED };
+    static final AttributeDefinition PROBE_CACHE_TIME = SimpleAttributeDefinitionBuilder.create("probe-cache-time", ModelType.LONG)
+            .setDefaultValue(ModelNode.ZERO_LONG)
+            .setRequired(false)
+            .setRestartAllServices()
+            .setAllowExpression(true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new LongRangeValidator(0, true, true))
+            .build();
+
+    static final AttributeDefinition PROBE_TIMEOUT = SimpleAttributeDefinitionBuilder.create("probe-timeout", ModelType.LONG)
+            .setDefaultValue(ModelNode.ZERO_LONG)
+            .setRequired(false)
+            .setRestartAllServices()
+            .setAllowExpression(true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new LongRangeValidator(0, true, true))
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = { SECURITY_ENABLED, PROBE_CACHE_TIME, PROBE_TIMEOUT };
+
+    // Duration of the most recent evaluation of each server probe
+    static final AttributeDefinition[] PROBE_METRICS = {
+            createProbeMetric("server-state"),
+            createProbeMetric("suspend-state"),
+            createProbeMetric("deployments-status"),
+            createProbeMetric("boot-errors"),
+    };
 
-    protected HealthSubsystemDefinition() {
+    private static final String PROBE_METRIC_SUFFIX = "-probe-time";
+
+    private static AttributeDefinition createProbeMetric(String probeName) {
+        return SimpleAttributeDefinitionBuilder.create(probeName + PROBE_METRIC_SUFFIX, ModelType.LONG)
+                .setStorageRuntime()
+                .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .build();
+    }
+
+    private final boolean registerRuntimeOnly;
+
+    protected HealthSubsystemDefinition(boolean registerRuntimeOnly) {
         super(new SimpleResourceDefinition.Parameters(HealthExtension.SUBSYSTEM_PATH,
                 HealthExtension.SUBSYSTEM_RESOLVER)
                 .setAddHandler(HealthSubsystemAdd.INSTANCE)
                 .setRemoveHandler(new ServiceRemoveStepHandler(HealthSubsystemAdd.INSTANCE))
                 .addCapabilities(HEALTH_HTTP_CONTEXT_CAPABILITY, SERVER_HEALTH_PROBES_CAPABILITY));
+        this.registerRuntimeOnly = registerRuntimeOnly;
     }
 
     @Override
@@ -56,4 +103,33 @@ public class HealthSubsystemDefinition extends PersistentResourceDefinition {
         return Arrays.asList(ATTRIBUTES);
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration registration) {
+        super.registerAttributes(registration);
+        if (registerRuntimeOnly) {
+            for (AttributeDefinition metric : PROBE_METRICS) {
+                registration.registerMetric(metric, ProbeMetricHandler.INSTANCE);
+            }
+        }
+    }
+
+    static class ProbeMetricHandler extends AbstractRuntimeOnlyHandler {
+
+        static final ProbeMetricHandler INSTANCE = new ProbeMetricHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(SERVER_HEALTH_PROBES_CAPABILITY.getCapabilityServiceName());
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                return;
+            }
+            ServerProbesService service = (ServerProbesService) controller.getService();
+            Long duration = service.getLastDuration(name.substring(0, name.length() - PROBE_METRIC_SUFFIX.length()));
+            if (duration != null) {
+                context.getResult().set(duration);
+            }
+        }
+    }
+
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ package org.wildfly.extension.health;
 
 import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PersistentResourceXMLDescription;
 import org.jboss.as.controller.PersistentSubsystemSchema;
 import org.jboss.as.controller.SubsystemSchema;
@@ -20,8 +21,9 @@ import org.jboss.staxmapper.IntVersion;
 public enum HealthSubsystemSchema implements PersistentSubsystemSchema<HealthSubsystemSchema> {
 
     VERSION_1_0(1),
+    VERSION_2_0(2),
     ;
-    static final HealthSubsystemSchema CURRENT = VERSION_1_0;
+    static final HealthSubsystemSchema CURRENT = VERSION_2_0;
 
     private final VersionedNamespace<IntVersion, HealthSubsystemSchema> namespace;
 
@@ -36,8 +38,9 @@ public enum HealthSubsystemSchema implements PersistentSubsystemSchema<HealthSub
 
     @Override
     public PersistentResourceXMLDescription getXMLDescription() {
+        AttributeDefinition[] attributes = this.since(VERSION_2_0) ? HealthSubsystemDefinition.ATTRIBUTES : new AttributeDefinition[] { HealthSubsystemDefinition.SECURITY_ENABLED };
         return builder(HealthExtension.SUBSYSTEM_PATH, this.namespace)
-                .addAttributes(HealthSubsystemDefinition.ATTRIBUTES)
+                .addAttributes(attributes)
                 .build();
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.health;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorates a server probe, caching its outcome for a given duration, and recording the duration of its most recent evaluation.
+ */
+class ManagedServerProbe implements ServerProbe {
+
+    private final ServerProbe probe;
+    private final long cacheTime;
+
+    private volatile Outcome outcome;
+    private volatile long expiration;
+    private volatile long lastDuration;
+
+    /**
+     * Creates a managed server probe.
+     * @param probe the decorated probe
+     * @param cacheTime the duration, in milliseconds, for which an outcome is reused, or 0 to disable caching.
+     */
+    ManagedServerProbe(ServerProbe probe, long cacheTime) {
+        this.probe = probe;
+        this.cacheTime = TimeUnit.MILLISECONDS.toNanos(cacheTime);
+    }
+
+    @Override
+    public Outcome getOutcome() {
+        if (this.cacheTime == 0) {
+            return this.evaluate();
+        }
+        Outcome outcome = this.outcome;
+        if ((outcome != null) && (System.nanoTime() - this.expiration < 0)) {
+            return outcome;
+        }
+        synchronized (this) {
+            // Another thread may have evaluated this probe while we were waiting
+            outcome = this.outcome;
+            if ((outcome != null) && (System.nanoTime() - this.expiration < 0)) {
+                return outcome;
+            }
+            outcome = this.evaluate();
+            this.expiration = System.nanoTime() + this.cacheTime;
+            this.outcome = outcome;
+            return outcome;
+        }
+    }
+
+    private Outcome evaluate() {
+        long start = System.nanoTime();
+        try {
+            return this.probe.getOutcome();
+        } finally {
+            this.lastDuration = System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return this.probe.getName();
+    }
+
+    /**
+     * Returns the duration of the most recent evaluation of this probe.
+     * @return a duration in milliseconds
+     */
+    long getLastDuration() {
+        return TimeUnit.NANOSECONDS.toMillis(this.lastDuration);
+    }
+}
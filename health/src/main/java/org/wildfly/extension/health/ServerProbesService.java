@@ -4,11 +4,19 @@
  */
 package org.wildfly.extension.health;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.wildfly.extension.health.HealthSubsystemDefinition.SERVER_HEALTH_PROBES_CAPABILITY;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -17,36 +25,47 @@ import org.jboss.as.controller.LocalModelControllerClient;
 import org.jboss.as.controller.ModelControllerClientFactory;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.management.Capabilities;
+import org.jboss.dmr.ModelNode;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.health._private.HealthLogger;
 
 public class ServerProbesService implements Service {
 
+    // Bounds the threads evaluating probes and health checks, independently of the management executor
+    private static final int MAX_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int MAX_QUEUED = 256;
+
     private Consumer<ServerProbesService> consumer;
     private final Supplier<ModelControllerClientFactory> modelControllerClientFactory;
     private final Supplier<Executor> managementExecutor;
+    private final long probeCacheTime;
+    private final long probeTimeout;
     private LocalModelControllerClient modelControllerClient;
+    private volatile HealthCheckExecutor executor;
 
-    private final Set<ServerProbe> serverProbes = new HashSet<>();
+    private final Map<String, ManagedServerProbe> serverProbes = new LinkedHashMap<>();
 
-    static void install(OperationContext context) {
+    static void install(OperationContext context, long probeCacheTime, long probeTimeout) {
         CapabilityServiceBuilder<?> sb = context.getCapabilityServiceTarget().addCapability(SERVER_HEALTH_PROBES_CAPABILITY);
 
         Consumer<ServerProbesService> consumer = sb.provides(SERVER_HEALTH_PROBES_CAPABILITY.getCapabilityServiceName());
         Supplier<ModelControllerClientFactory> modelControllerClientFactory = sb.requires(ModelControllerClientFactory.SERVICE_DESCRIPTOR);
         Supplier<Executor> managementExecutor = sb.requires(Capabilities.MANAGEMENT_EXECUTOR);
 
-        sb.setInstance(new ServerProbesService(consumer, modelControllerClientFactory, managementExecutor))
+        sb.setInstance(new ServerProbesService(consumer, modelControllerClientFactory, managementExecutor, probeCacheTime, probeTimeout))
                 .install();
 
     }
 
-    private ServerProbesService(Consumer<ServerProbesService> consumer, Supplier<ModelControllerClientFactory> modelControllerClientFactory, Supplier<Executor> managementExecutor) {
+    private ServerProbesService(Consumer<ServerProbesService> consumer, Supplier<ModelControllerClientFactory> modelControllerClientFactory, Supplier<Executor> managementExecutor, long probeCacheTime, long probeTimeout) {
         this.consumer = consumer;
         this.modelControllerClientFactory = modelControllerClientFactory;
         this.managementExecutor = managementExecutor;
+        this.probeCacheTime = probeCacheTime;
+        this.probeTimeout = probeTimeout;
     }
 
     @Override
@@ -55,11 +74,12 @@ public class ServerProbesService implements Service {
         // a doPriviledged block is not needed as these calls are initiated from the management endpoint.
         // The user accessing the management endpoints must be authenticated (if security-enabled is true) but the server checks are not executed on their behalf.
         modelControllerClient = modelControllerClientFactory.get().createSuperUserClient(managementExecutor.get(), true);
+        executor = new HealthCheckExecutor(MAX_THREADS, MAX_QUEUED, probeTimeout);
 
-        serverProbes.add(new ServerProbes.ServerStateCheck(modelControllerClient));
-        serverProbes.add(new ServerProbes.SuspendStateCheck(modelControllerClient));
-        serverProbes.add(new ServerProbes.DeploymentsStatusCheck(modelControllerClient));
-        serverProbes.add(new ServerProbes.NoBootErrorsCheck(modelControllerClient));
+        addServerProbe(new ServerProbes.ServerStateCheck(modelControllerClient));
+        addServerProbe(new ServerProbes.SuspendStateCheck(modelControllerClient));
+        addServerProbe(new ServerProbes.DeploymentsStatusCheck(modelControllerClient));
+        addServerProbe(new ServerProbes.NoBootErrorsCheck(modelControllerClient));
 
         consumer.accept(this);
     }
@@ -68,10 +88,78 @@ public class ServerProbesService implements Service {
     public void stop(StopContext context) {
         serverProbes.clear();
         consumer.accept(null);
+        executor.shutdown();
         modelControllerClient.close();
     }
 
+    private void addServerProbe(ServerProbe probe) {
+        serverProbes.put(probe.getName(), new ManagedServerProbe(probe, probeCacheTime));
+    }
+
     public Set<ServerProbe> getServerProbes() {
-        return serverProbes;
+        return Collections.unmodifiableSet(new LinkedHashSet<>(serverProbes.values()));
+    }
+
+    /**
+     * Returns the executor with which probes and health checks are evaluated concurrently.
+     * @return a health check executor
+     */
+    public HealthCheckExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the duration of the most recent evaluation of the server probe with the specified name.
+     * @param name the name of a server probe
+     * @return a duration in milliseconds, or null if no such probe exists.
+     */
+    Long getLastDuration(String name) {
+        ManagedServerProbe probe = serverProbes.get(name);
+        return (probe != null) ? probe.getLastDuration() : null;
+    }
+
+    /**
+     * Evaluates all server probes concurrently, treating any probe that does not complete within the probe timeout as failed.
+     * @return a map of server probe to outcome, in registration order
+     */
+    public Map<ServerProbe, ServerProbe.Outcome> evaluate() {
+        HealthCheckExecutor executor = this.executor;
+        Map<ServerProbe, Future<ServerProbe.Outcome>> futures = new LinkedHashMap<>();
+        Map<ServerProbe, ServerProbe.Outcome> outcomes = new LinkedHashMap<>();
+        for (ServerProbe probe : serverProbes.values()) {
+            try {
+                futures.put(probe, executor.submit(probe, probe::getOutcome));
+            } catch (RejectedExecutionException e) {
+                outcomes.put(probe, failure(e.toString()));
+            }
+        }
+        long deadline = executor.getDeadline();
+        for (Map.Entry<ServerProbe, Future<ServerProbe.Outcome>> entry : futures.entrySet()) {
+            ServerProbe probe = entry.getKey();
+            ServerProbe.Outcome outcome;
+            try {
+                outcome = executor.await(entry.getValue(), deadline);
+            } catch (TimeoutException e) {
+                outcome = failure(HealthLogger.LOGGER.probeTimedOut(probe.getName(), probeTimeout));
+            } catch (ExecutionException e) {
+                outcome = failure(e.getCause().toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcome = failure(e.toString());
+            }
+            outcomes.put(probe, outcome);
+        }
+        // Retain registration order
+        Map<ServerProbe, ServerProbe.Outcome> result = new LinkedHashMap<>();
+        for (ServerProbe probe : serverProbes.values()) {
+            result.put(probe, outcomes.get(probe));
+        }
+        return result;
+    }
+
+    private static ServerProbe.Outcome failure(String description) {
+        ModelNode data = new ModelNode();
+        data.add(FAILURE_DESCRIPTION, description);
+        return new ServerProbe.Outcome(false, data);
     }
 }
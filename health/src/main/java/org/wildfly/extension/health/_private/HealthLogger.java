@@ -33,4 +33,7 @@ public interface HealthLogger extends BasicLogger {
     @LogMessage(level = INFO)
     @Message(id = 1, value = "Activating Base Health Subsystem")
     void activatingSubsystem();
+
+    @Message(id = 2, value = "Probe %s did not complete within %d ms")
+    String probeTimedOut(String name, long timeout);
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.health;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HealthCheckExecutor}.
+ */
+public class HealthCheckExecutorTestCase {
+
+    private final HealthCheckExecutor executor = new HealthCheckExecutor(1, 1, 100);
+
+    @After
+    public void destroy() {
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void timeout() throws Exception {
+        Object check = new Object();
+        AtomicInteger evaluations = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> future = this.executor.submit(check, () -> {
+            evaluations.incrementAndGet();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                // Simulate a check that does not return promptly when interrupted
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return true;
+        });
+        // A pending check is not resubmitted
+        assertSame(future, this.executor.submit(check, () -> true));
+
+        // A check that times out is cancelled
+        assertThrows(TimeoutException.class, () -> this.executor.await(future, this.executor.getDeadline()));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+
+        // Check remains pending until its evaluation returns
+        Future<Boolean> pending = this.executor.submit(check, () -> true);
+        assertSame(future, pending);
+        assertThrows(TimeoutException.class, () -> this.executor.await(pending, this.executor.getDeadline()));
+        assertEquals(1, evaluations.get());
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Future<Boolean> next = this.executor.submit(check, () -> true);
+        while ((next == future) && (System.nanoTime() - deadline < 0)) {
+            Thread.sleep(10);
+            next = this.executor.submit(check, () -> true);
+        }
+        assertNotSame(future, next);
+        assertTrue(this.executor.await(next, this.executor.getDeadline()));
+    }
+
+    @Test
+    public void rejected() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> running = this.executor.submit("running", () -> release.await(5, TimeUnit.SECONDS));
+        Future<Boolean> queued = this.executor.submit("queued", () -> true);
+        // Maximum threads and queue size are exceeded
+        assertThrows(RejectedExecutionException.class, () -> this.executor.submit("rejected", () -> true));
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        assertTrue(this.executor.await(running, deadline));
+        assertTrue(this.executor.await(queued, deadline));
+    }
+}
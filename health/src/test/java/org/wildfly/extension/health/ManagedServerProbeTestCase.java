@@ -0,0 +1,66 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.health;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ManagedServerProbe}.
+ */
+public class ManagedServerProbeTestCase {
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    private final ServerProbe probe = new ServerProbe() {
+        @Override
+        public Outcome getOutcome() {
+            evaluations.incrementAndGet();
+            return new Outcome(true, new ModelNode());
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+    };
+
+    @Test
+    public void uncached() {
+        ManagedServerProbe managed = new ManagedServerProbe(this.probe, 0);
+        assertEquals("test", managed.getName());
+
+        managed.getOutcome();
+        managed.getOutcome();
+
+        assertEquals(2, this.evaluations.get());
+    }
+
+    @Test
+    public void cached() {
+        ManagedServerProbe managed = new ManagedServerProbe(this.probe, 60_000);
+
+        ServerProbe.Outcome outcome = managed.getOutcome();
+        assertSame(outcome, managed.getOutcome());
+
+        assertEquals(1, this.evaluations.get());
+    }
+
+    @Test
+    public void expired() throws InterruptedException {
+        ManagedServerProbe managed = new ManagedServerProbe(this.probe, 1);
+
+        managed.getOutcome();
+        Thread.sleep(5);
+        managed.getOutcome();
+
+        assertEquals(2, this.evaluations.get());
+    }
+}
@@ -6,7 +6,9 @@ package org.wildfly.iiop.openjdk.rmi.marshal;
 
 import java.io.Externalizable;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 import javax.rmi.CORBA.Util;
@@ -331,6 +333,33 @@ public class CDRStream {
         }
     }
 
+    /**
+     * The type to which the handle of the static <code>read</code> method of an IDL-generated helper class is adapted.
+     */
+    public static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, org.omg.CORBA.portable.InputStream.class);
+
+    /**
+     * The type to which the handle of the static <code>write</code> method of an IDL-generated helper class is adapted.
+     */
+    public static final MethodType WRITE_METHOD_TYPE = MethodType.methodType(void.class, org.omg.CORBA.portable.OutputStream.class, Object.class);
+
+    /**
+     * Returns a handle to a static method of an IDL-generated helper class, adapted to the specified type.
+     * Unlike reflective invocation, invoking the returned handle via {@link MethodHandle#invokeExact(Object...)}
+     * neither allocates an argument array nor wraps exceptions thrown by the helper method.
+     *
+     * @param method a public static method of a helper class
+     * @param type   the type to which the handle should be adapted
+     * @return a method handle
+     */
+    public static MethodHandle helperMethod(Method method, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
+        }
+    }
+
     // Private -----------------------------------------------------------------
 
     // Static inner classes (all of them private) ------------------------------
@@ -575,8 +604,8 @@ public class CDRStream {
             implements CDRStreamReader {
         private static Class[] paramTypes = {org.omg.CORBA.portable.InputStream.class};
 
-        // The readMethod for this IdlInterfaceReader.
-        private Method readMethod = null;
+        // The handle to the read method of the helper class for this IdlInterfaceReader.
+        private final MethodHandle readMethod;
 
         IdlInterfaceReader(Class clz) {
             String helperClassName = clz.getName() + "Helper";
@@ -584,7 +613,7 @@ public class CDRStream {
             try {
                 Class helperClass =
                         clz.getClassLoader().loadClass(helperClassName);
-                readMethod = helperClass.getMethod("read", paramTypes);
+                readMethod = helperMethod(helperClass.getMethod("read", paramTypes), READ_METHOD_TYPE);
             } catch (ClassNotFoundException e) {
                 throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
             } catch (NoSuchMethodException e) {
@@ -594,11 +623,9 @@ public class CDRStream {
 
         public Object read(InputStream in) {
             try {
-                return readMethod.invoke(null, new Object[]{in});
-            } catch (IllegalAccessException e) {
-                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-            } catch (InvocationTargetException e) {
-                throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(org.omg.CORBA.Object.class, e.getTargetException());
+                return (Object) readMethod.invokeExact((org.omg.CORBA.portable.InputStream) in);
+            } catch (Throwable e) {
+                throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(org.omg.CORBA.Object.class, e);
             }
         }
     }
@@ -875,8 +902,8 @@ public class CDRStream {
      */
     private static final class IdlInterfaceWriter
             implements CDRStreamWriter {
-        // The writeMethod for this IdlInterfaceReader.
-        private Method writeMethod = null;
+        // The handle to the write method of the helper class for this IdlInterfaceWriter.
+        private final MethodHandle writeMethod;
 
         IdlInterfaceWriter(Class clz) {
             String helperClassName = clz.getName() + "Helper";
@@ -888,7 +915,7 @@ public class CDRStream {
                         org.omg.CORBA.portable.OutputStream.class,
                         clz
                 };
-                writeMethod = helperClass.getMethod("write", paramTypes);
+                writeMethod = helperMethod(helperClass.getMethod("write", paramTypes), WRITE_METHOD_TYPE);
             } catch (ClassNotFoundException e) {
                 throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
             } catch (NoSuchMethodException e) {
@@ -898,11 +925,9 @@ public class CDRStream {
 
         public void write(OutputStream out, Object obj) {
             try {
-                writeMethod.invoke(null, new Object[]{out, obj});
-            } catch (IllegalAccessException e) {
-                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-            } catch (InvocationTargetException e) {
-                throw IIOPLogger.ROOT_LOGGER.errorMarshaling(org.omg.CORBA.Object.class, e.getTargetException());
+                writeMethod.invokeExact((org.omg.CORBA.portable.OutputStream) out, obj);
+            } catch (Throwable e) {
+                throw IIOPLogger.ROOT_LOGGER.errorMarshaling(org.omg.CORBA.Object.class, e);
             }
         }
     }
@@ -4,6 +4,7 @@
  */
 package org.wildfly.iiop.openjdk.rmi.marshal.strategy;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.rmi.RemoteException;
 
@@ -30,6 +31,8 @@ import org.jboss.javax.rmi.RemoteObjectSubstitutionManager;
  * @version $Revision: 81018 $
  */
 public class SkeletonStrategy {
+    private static final Object[] NO_PARAMS = new Object[0];
+
     /**
      * Each <code>CDRStreamReader</code> in the array unmarshals a method
      * parameter.
@@ -55,6 +58,12 @@ public class SkeletonStrategy {
      */
     private final CDRStreamWriter retvalWriter;
 
+    /**
+     * Indicates whether the return value of the method may need to be
+     * substituted prior to marshalling, i.e. is neither primitive nor a string.
+     */
+    private final boolean retvalReplaceable;
+
     // Public  -----------------------------------------------------------------
 
     /*
@@ -92,6 +101,7 @@ public class SkeletonStrategy {
 
         // Initialize retvalWriter
         retvalWriter = CDRStream.writerFor(m.getReturnType());
+        retvalReplaceable = !m.getReturnType().isPrimitive() && (m.getReturnType() != String.class);
     }
 
     /**
@@ -102,6 +112,9 @@ public class SkeletonStrategy {
      */
     public Object[] readParams(InputStream in) {
         int len = paramReaders.length;
+        if (len == 0) {
+            return NO_PARAMS;
+        }
         Object[] params = new Object[len];
         for (int i = 0; i < len; i++) {
             params[i] = paramReaders[i].read(in);
@@ -131,7 +144,7 @@ public class SkeletonStrategy {
      * @param retVal the value to be written.
      */
     public void writeRetval(OutputStream out, Object retVal) {
-        retvalWriter.write(out, RemoteObjectSubstitutionManager.writeReplaceRemote(retVal));
+        retvalWriter.write(out, retvalReplaceable ? RemoteObjectSubstitutionManager.writeReplaceRemote(retVal) : retVal);
     }
 
     /**
@@ -166,11 +179,11 @@ public class SkeletonStrategy {
 
         /*
         * If the exception class corresponds to an IDL-defined exception, this
-        * field contains the write method of the associated helper class.
+        * field contains a handle to the write method of the associated helper class.
         * A null value indicates that the exception class does not correspond
         * to an IDL-defined exception.
         */
-        private Method writeMethod = null;
+        private MethodHandle writeMethod = null;
 
         /**
          * The CORBA repository id of the exception class. (This field is used
@@ -196,7 +209,7 @@ public class SkeletonStrategy {
                             clz.getClassLoader().loadClass(helperClassName);
                     Class[] paramTypes =
                             {org.omg.CORBA.portable.OutputStream.class, clz};
-                    writeMethod = helperClass.getMethod("write", paramTypes);
+                    writeMethod = CDRStream.helperMethod(helperClass.getMethod("write", paramTypes), CDRStream.WRITE_METHOD_TYPE);
                 } catch (ClassNotFoundException e) {
                     throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
                 } catch (NoSuchMethodException e) {
@@ -228,11 +241,9 @@ public class SkeletonStrategy {
         public void write(OutputStream out, Object excep) {
             if (writeMethod != null) {
                 try {
-                    writeMethod.invoke(null, new Object[]{out, excep});
-                } catch (IllegalAccessException e) {
-                    throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-                } catch (java.lang.reflect.InvocationTargetException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorMarshaling(IDLEntity.class, e.getTargetException());
+                    writeMethod.invokeExact((org.omg.CORBA.portable.OutputStream) out, excep);
+                } catch (Throwable e) {
+                    throw IIOPLogger.ROOT_LOGGER.errorMarshaling(IDLEntity.class, e);
                 }
             } else {
                 out.write_string(reposId);
@@ -4,6 +4,7 @@
  */
 package org.wildfly.iiop.openjdk.rmi.marshal.strategy;
 
+import java.lang.invoke.MethodHandle;
 import java.rmi.NoSuchObjectException;
 import java.rmi.Remote;
 import java.util.ArrayList;
@@ -43,6 +44,12 @@ public class StubStrategy {
      */
     private CDRStreamWriter[] paramWriters;
 
+    /**
+     * Indicates, for each method parameter, whether its value may need to be
+     * substituted prior to marshalling, i.e. is neither primitive nor a string.
+     */
+    private boolean[] paramReplaceable;
+
     /**
      * List of exception classes.
      */
@@ -130,8 +137,10 @@ public class StubStrategy {
         // Initialize paramWriters
         int len = paramTypes.length;
         paramWriters = new CDRStreamWriter[len];
+        paramReplaceable = new boolean[len];
         for (int i = 0; i < len; i++) {
             paramWriters[i] = CDRStream.writerFor(paramTypes[i], cl);
+            paramReplaceable[i] = !isPrimitiveOrString(paramTypes[i]);
         }
 
         // Initialize exception list and exception map
@@ -177,6 +186,10 @@ public class StubStrategy {
         }
         for (int i = 0; i < len; i++) {
             Object param = params[i];
+            if (!paramReplaceable[i]) {
+                paramWriters[i].write(out, param);
+                continue;
+            }
             if (param instanceof PortableRemoteObject) {
                 try {
                     param = PortableRemoteObject.toStub((Remote) param);
@@ -255,6 +268,16 @@ public class StubStrategy {
             return PortableRemoteObject.narrow(obj, retvalRemoteInterface);
     }
 
+    /**
+     * Indicates whether the specified marshaller abbreviated name denotes a
+     * primitive type or a string.
+     *
+     * @see CDRStream#abbrevFor(Class clz)
+     */
+    private static boolean isPrimitiveOrString(String abbrev) {
+        return (abbrev.length() == 1) && ("ZBCDFIJSG".indexOf(abbrev.charAt(0)) >= 0);
+    }
+
     // Static inner class (private) --------------------------------------------
 
     /**
@@ -274,11 +297,11 @@ public class StubStrategy {
 
         /*
         * If the exception class corresponds to an IDL-defined exception, this
-        * field contains the read method of the associated helper class.
+        * field contains a handle to the read method of the associated helper class.
         * A null value indicates that the exception class does not correspond
         * to an IDL-defined exception.
         */
-        private java.lang.reflect.Method readMethod = null;
+        private MethodHandle readMethod = null;
 
         /**
          * Constructs an <code>ExceptionReader</code> for a given exception
@@ -294,7 +317,7 @@ public class StubStrategy {
                 try {
                     Class<?> helperClass = clz.getClassLoader().loadClass(helperClassName);
                     Class<?>[] paramTypes = {org.omg.CORBA.portable.InputStream.class};
-                    readMethod = helperClass.getMethod("read", paramTypes);
+                    readMethod = CDRStream.helperMethod(helperClass.getMethod("read", paramTypes), CDRStream.READ_METHOD_TYPE);
 
                     // Ignore the reposId parameter and use the id
                     // returned by the IDL-generated helper class
@@ -326,11 +349,9 @@ public class StubStrategy {
         public Exception read(InputStream in) {
             if (readMethod != null) {
                 try {
-                    return (Exception) readMethod.invoke(null, new Object[]{in});
-                } catch (IllegalAccessException e) {
-                    throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-                } catch (java.lang.reflect.InvocationTargetException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(IDLEntity.class, e.getTargetException());
+                    return (Exception) (Object) readMethod.invokeExact((org.omg.CORBA.portable.InputStream) in);
+                } catch (Throwable e) {
+                    throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(IDLEntity.class, e);
                 }
             } else {
                 in.read_string(); // read and discard the repository id
@@ -190,6 +190,10 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
             servlet.setName(JAX_RS_SERVLET_NAME);
             servlet.setServletClass(HttpServlet30Dispatcher.class.getName());
             servlet.setAsyncSupported(true);
+            if (!resteasy.getScannedResourceClasses().isEmpty() && servletMappingsExist(webdata, JAX_RS_SERVLET_NAME)) {
+                // build the registry on startup rather than on the first request
+                servlet.setLoadOnStartup("0");
+            }
             addServlet(webdata, servlet);
             setServletMappingPrefix(webdata, JAX_RS_SERVLET_NAME, servlet);
         } else {
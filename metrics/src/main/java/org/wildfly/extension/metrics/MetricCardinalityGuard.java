@@ -0,0 +1,250 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.jboss.as.controller.PathAddress;
+
+/**
+ * Bounds the number of metric series registered on behalf of each subsystem.
+ * Metrics are first filtered by include/exclude rules. Once the number of series registered for a subsystem reaches
+ * the configured maximum, any additional counter series are aggregated into a single series per metric name,
+ * whose resource labels are replaced by {@value #OVERFLOW_LABEL_VALUE}.
+ * Additional gauge series are not registered, since the sum of gauges, e.g. of utilization ratios, is generally meaningless.
+ * This guard is independent of the metric registry, such that it is shared by the metrics and micrometer subsystems.
+ */
+public class MetricCardinalityGuard {
+
+    public static final String OVERFLOW_LABEL_VALUE = "other";
+
+    private static final Runnable NO_OP = () -> {};
+
+    private final List<MetricRule> includes;
+    private final List<MetricRule> excludes;
+    private final int maxSeriesPerSubsystem;
+    // Number of series registered individually, per subsystem
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final Map<Object, OverflowSeries<?>> overflows = new HashMap<>();
+
+    public MetricCardinalityGuard(List<String> includes, List<String> excludes, int maxSeriesPerSubsystem) {
+        this.includes = parse(includes);
+        this.excludes = parse(excludes);
+        this.maxSeriesPerSubsystem = maxSeriesPerSubsystem;
+    }
+
+    private static List<MetricRule> parse(List<String> rules) {
+        List<MetricRule> result = new ArrayList<>(rules.size());
+        for (String rule : rules) {
+            result.add(MetricRule.parse(rule));
+        }
+        return result;
+    }
+
+    /**
+     * Validates the syntax of the specified metric rule.
+     * @param rule a metric rule
+     * @throws IllegalArgumentException if the rule is invalid
+     */
+    public static void validateRule(String rule) {
+        MetricRule.parse(rule);
+    }
+
+    /**
+     * Indicates whether the specified attribute of the resource with the specified address should be exposed as a metric.
+     * @param address a resource address
+     * @param attributeName an attribute name
+     * @return true, if the attribute is included and not excluded, false otherwise.
+     */
+    public boolean isCollectible(PathAddress address, String attributeName) {
+        if (!this.includes.isEmpty() && !matches(this.includes, address, attributeName)) {
+            return false;
+        }
+        return !matches(this.excludes, address, attributeName);
+    }
+
+    private static boolean matches(List<MetricRule> rules, PathAddress address, String attributeName) {
+        for (MetricRule rule : rules) {
+            if (rule.matches(address, attributeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers the specified series on behalf of the specified subsystem, or, if the subsystem has reached its maximum number of series,
+     * adds a counter to the overflow series of its metric name, or drops a gauge.
+     * @param <M> the metric type
+     * @param subsystem the name of the subsystem
+     * @param series the series to register
+     * @return a task that reverts this registration
+     */
+    public synchronized <M> Runnable register(String subsystem, Series<M> series) {
+        int count = this.counts.getOrDefault(subsystem, 0);
+        if (this.maxSeriesPerSubsystem <= 0 || count < this.maxSeriesPerSubsystem) {
+            Runnable unregistration = series.register();
+            this.counts.put(subsystem, count + 1);
+            return () -> this.unregister(subsystem, unregistration);
+        }
+        if (!series.isCounter()) {
+            return NO_OP;
+        }
+        Object key = series.getOverflowKey();
+        @SuppressWarnings("unchecked")
+        OverflowSeries<M> overflow = (OverflowSeries<M>) this.overflows.get(key);
+        if (overflow == null) {
+            overflow = new OverflowSeries<>(subsystem);
+            overflow.unregistration = series.registerOverflow(overflow);
+            this.overflows.put(key, overflow);
+        }
+        M metric = series.getMetric();
+        overflow.add(metric);
+        OverflowSeries<M> target = overflow;
+        return () -> this.unregisterOverflow(key, target, metric);
+    }
+
+    private synchronized void unregister(String subsystem, Runnable unregistration) {
+        unregistration.run();
+        this.counts.computeIfPresent(subsystem, (key, count) -> (count > 1) ? count - 1 : null);
+    }
+
+    private synchronized <M> void unregisterOverflow(Object key, OverflowSeries<M> overflow, M metric) {
+        if (overflow.remove(metric) && this.overflows.remove(key, overflow)) {
+            overflow.unregistration.run();
+        }
+    }
+
+    /**
+     * Returns the number of series currently registered, including overflow series, per subsystem.
+     * @return a map of subsystem name to number of series
+     */
+    public synchronized Map<String, Integer> getRegisteredSeries() {
+        Map<String, Integer> result = new TreeMap<>(this.counts);
+        for (OverflowSeries<?> overflow : this.overflows.values()) {
+            result.merge(overflow.subsystem, 1, Integer::sum);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * A metric series subject to this guard, registered with the registry of a given subsystem.
+     * @param <M> the metric type
+     */
+    public interface Series<M> {
+        /**
+         * Returns the metric of this series.
+         * @return a metric
+         */
+        M getMetric();
+
+        /**
+         * Indicates whether the metric of this series is a counter, and can thus be aggregated into an overflow series.
+         * @return true, if the metric is a counter, false otherwise.
+         */
+        boolean isCounter();
+
+        /**
+         * Returns the key of the overflow series into which the metric of this series is aggregated, i.e. the identifier of the overflow series.
+         * @return an overflow series key
+         */
+        Object getOverflowKey();
+
+        /**
+         * Registers this series individually.
+         * @return a task that unregisters this series
+         */
+        Runnable register();
+
+        /**
+         * Registers the specified overflow series on behalf of the metric name of this series.
+         * @param overflow an overflow series
+         * @return a task that unregisters the overflow series
+         */
+        Runnable registerOverflow(OverflowSeries<M> overflow);
+    }
+
+    /**
+     * A series whose value is the sum of the values of the counters that exceeded the maximum of their subsystem.
+     * The last observed value of a counter is retained once it is removed, e.g. on undeploy, such that the value of this series never decreases.
+     * @param <M> the metric type
+     */
+    public static class OverflowSeries<M> {
+        private final String subsystem;
+        // Last observed value of each aggregated counter, or NaN if not yet observed
+        private final Map<M, Double> values = new IdentityHashMap<>();
+        private double removed = 0;
+        private boolean removedObserved = false;
+        private Runnable unregistration;
+
+        OverflowSeries(String subsystem) {
+            this.subsystem = subsystem;
+        }
+
+        synchronized void add(M metric) {
+            this.values.put(metric, Double.NaN);
+        }
+
+        /**
+         * Removes the specified metric, retaining its last observed value, returning true if no metrics remain.
+         */
+        synchronized boolean remove(M metric) {
+            Double value = this.values.remove(metric);
+            if ((value != null) && !value.isNaN()) {
+                this.removed += value;
+                this.removedObserved = true;
+            }
+            return this.values.isEmpty();
+        }
+
+        /**
+         * Returns the aggregated metrics.
+         * @return a list of metrics
+         */
+        public synchronized List<M> getMetrics() {
+            return new ArrayList<>(this.values.keySet());
+        }
+
+        /**
+         * Returns the sum of the values of the aggregated metrics, as read by the specified reader, including the last observed values of removed metrics.
+         * @param reader reads the value of an aggregated metric
+         * @return the sum of the values of the aggregated metrics, or an empty value if no aggregated metric has a value
+         */
+        public OptionalDouble getValue(Function<M, OptionalDouble> reader) {
+            List<M> metrics = this.getMetrics();
+            // Read values without holding the lock, since reading may execute management operations
+            List<OptionalDouble> values = new ArrayList<>(metrics.size());
+            for (M metric : metrics) {
+                values.add(reader.apply(metric));
+            }
+            synchronized (this) {
+                for (int i = 0; i < metrics.size(); ++i) {
+                    OptionalDouble value = values.get(i);
+                    if (value.isPresent()) {
+                        // Ignore metrics removed while reading
+                        this.values.replace(metrics.get(i), value.getAsDouble());
+                    }
+                }
+                boolean present = this.removedObserved;
+                double sum = this.removed;
+                for (double value : this.values.values()) {
+                    if (!Double.isNaN(value)) {
+                        present = true;
+                        sum += value;
+                    }
+                }
+                return present ? OptionalDouble.of(sum) : OptionalDouble.empty();
+            }
+        }
+    }
+}
@@ -34,10 +34,16 @@ import org.jboss.dmr.ModelType;
 public class MetricCollector {
     private final LocalModelControllerClient modelControllerClient;
     private final ProcessStateNotifier processStateNotifier;
+    private final MetricCardinalityGuard cardinalityGuard;
 
-    public MetricCollector(LocalModelControllerClient modelControllerClient, ProcessStateNotifier processStateNotifier) {
+    public MetricCollector(LocalModelControllerClient modelControllerClient, ProcessStateNotifier processStateNotifier, MetricCardinalityGuard cardinalityGuard) {
         this.modelControllerClient = modelControllerClient;
         this.processStateNotifier = processStateNotifier;
+        this.cardinalityGuard = cardinalityGuard;
+    }
+
+    MetricCardinalityGuard getCardinalityGuard() {
+        return cardinalityGuard;
     }
 
     // collect metrics from the resources
@@ -102,11 +108,15 @@ public class MetricCollector {
                 continue;
             }
 
+            PathAddress resourceAddress = resourceAddressResolver.apply(address);
+            if (!cardinalityGuard.isCollectible(resourceAddress, attributeName)) {
+                continue;
+            }
+
             if (resourceDescription == null) {
                 DescriptionProvider modelDescription = managementResourceRegistration.getModelDescription(address);
                 resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
             }
-            PathAddress resourceAddress = resourceAddressResolver.apply(address);
             MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
             boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
             String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
@@ -114,8 +124,9 @@ public class MetricCollector {
             WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
             WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress, prefix, attributeDescription, unit, isCounter ? COUNTER : GAUGE);
 
-            registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
-            registration.addUnregistrationTask(metadata.getMetricID());
+            String subsystemName = getSubsystemName(address);
+
+            registration.addRegistrationTask(() -> registration.addUnregistrationTask(cardinalityGuard.register(subsystemName, new MetricSeries(registration, metric, metadata))));
         }
 
         for (String type : current.getChildTypes()) {
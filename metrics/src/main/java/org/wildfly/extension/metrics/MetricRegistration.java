@@ -10,7 +10,7 @@ import java.util.List;
 public class MetricRegistration {
 
     private final List<Runnable> registrationTasks = new ArrayList<>();
-    private final List<MetricID> unregistrationTasks = new ArrayList<>();
+    private final List<Runnable> unregistrationTasks = new ArrayList<>();
     private final MetricRegistry registry;
     private final List<Runnable> cleanUpTasks = new ArrayList<>();
 
@@ -31,8 +31,8 @@ public class MetricRegistration {
 
     public void unregister() {
         synchronized (registry) {
-            for (MetricID id : unregistrationTasks) {
-                registry.unregister(id);
+            for (Runnable task : unregistrationTasks) {
+                task.run();
             }
             unregistrationTasks.clear();
         }
@@ -42,7 +42,7 @@ public class MetricRegistration {
         cleanUpTasks.clear();
     }
 
-    public void registerMetric(WildFlyMetric metric, WildFlyMetricMetadata metadata) {
+    public void registerMetric(Metric metric, MetricMetadata metadata) {
         registry.registerMetric(metric, metadata);
     }
 
@@ -50,8 +50,16 @@ public class MetricRegistration {
         registrationTasks.add(task);
     }
 
+    void unregisterMetric(MetricID metricID) {
+        registry.unregister(metricID);
+    }
+
     public void addUnregistrationTask(MetricID metricID) {
-        unregistrationTasks.add(metricID);
+        unregistrationTasks.add(() -> registry.unregister(metricID));
+    }
+
+    void addUnregistrationTask(Runnable task) {
+        unregistrationTasks.add(task);
     }
 
     void addCleanUpTask(Runnable task) {
@@ -0,0 +1,94 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBDEPLOYMENT;
+import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+
+/**
+ * A rule matching metrics by the address of their resource and the name of their attribute.
+ * A rule is expressed as a resource address pattern, optionally followed by ':' and an attribute name, e.g.
+ * {@code /subsystem=undertow/server=*:request-count}, where '*' matches any value.
+ * The address pattern matches any resource whose address starts with it, either from the root of the model or
+ * from the root of a deployment.
+ */
+class MetricRule {
+
+    private static final String WILDCARD = "*";
+
+    private final List<PathElement> elements;
+    private final String attributeName;
+
+    static MetricRule parse(String rule) {
+        String value = rule.trim();
+        String attributeName = WILDCARD;
+        int index = value.lastIndexOf(':');
+        if (index >= 0) {
+            attributeName = value.substring(index + 1);
+            value = value.substring(0, index);
+            if (attributeName.isEmpty()) {
+                throw LOGGER.invalidMetricRule(rule);
+            }
+        }
+        if (!value.startsWith("/")) {
+            throw LOGGER.invalidMetricRule(rule);
+        }
+        List<PathElement> elements = new ArrayList<>();
+        if (value.length() > 1) {
+            for (String segment : value.substring(1).split("/")) {
+                int separator = segment.indexOf('=');
+                if (separator <= 0 || separator == segment.length() - 1) {
+                    throw LOGGER.invalidMetricRule(rule);
+                }
+                elements.add(PathElement.pathElement(segment.substring(0, separator), segment.substring(separator + 1)));
+            }
+        }
+        return new MetricRule(elements, attributeName);
+    }
+
+    private MetricRule(List<PathElement> elements, String attributeName) {
+        this.elements = elements;
+        this.attributeName = attributeName;
+    }
+
+    boolean matches(PathAddress address, String attributeName) {
+        if (!this.attributeName.equals(WILDCARD) && !this.attributeName.equals(attributeName)) {
+            return false;
+        }
+        if (this.matches(address, 0)) {
+            return true;
+        }
+        // skip the deployment part of the address
+        int offset = 0;
+        while (offset < address.size() && (address.getElement(offset).getKey().equals(DEPLOYMENT) || address.getElement(offset).getKey().equals(SUBDEPLOYMENT))) {
+            offset++;
+        }
+        return offset > 0 && this.matches(address, offset);
+    }
+
+    private boolean matches(PathAddress address, int offset) {
+        if (address.size() - offset < this.elements.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.elements.size(); i++) {
+            PathElement pattern = this.elements.get(i);
+            PathElement element = address.getElement(offset + i);
+            if (!pattern.getKey().equals(element.getKey())) {
+                return false;
+            }
+            if (!pattern.getValue().equals(WILDCARD) && !pattern.getValue().equals(element.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import java.util.OptionalDouble;
+
+/**
+ * A series of a {@link MetricRegistration}, subject to a {@link MetricCardinalityGuard}.
+ */
+class MetricSeries implements MetricCardinalityGuard.Series<Metric> {
+
+    private final MetricRegistration registration;
+    private final Metric metric;
+    private final WildFlyMetricMetadata metadata;
+
+    MetricSeries(MetricRegistration registration, Metric metric, WildFlyMetricMetadata metadata) {
+        this.registration = registration;
+        this.metric = metric;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Metric getMetric() {
+        return this.metric;
+    }
+
+    @Override
+    public boolean isCounter() {
+        return this.metadata.getType() == MetricMetadata.Type.COUNTER;
+    }
+
+    @Override
+    public Object getOverflowKey() {
+        return this.metadata.overflow().getMetricID();
+    }
+
+    @Override
+    public Runnable register() {
+        this.registration.registerMetric(this.metric, this.metadata);
+        MetricID metricID = this.metadata.getMetricID();
+        return () -> this.registration.unregisterMetric(metricID);
+    }
+
+    @Override
+    public Runnable registerOverflow(MetricCardinalityGuard.OverflowSeries<Metric> overflow) {
+        WildFlyMetricMetadata overflowMetadata = this.metadata.overflow();
+        this.registration.registerMetric(new OverflowMetric(overflow), overflowMetadata);
+        MetricID metricID = overflowMetadata.getMetricID();
+        return () -> this.registration.unregisterMetric(metricID);
+    }
+
+    /**
+     * A metric whose value is that of an overflow series.
+     */
+    static class OverflowMetric implements Metric {
+        private final MetricCardinalityGuard.OverflowSeries<Metric> series;
+
+        OverflowMetric(MetricCardinalityGuard.OverflowSeries<Metric> series) {
+            this.series = series;
+        }
+
+        MetricCardinalityGuard.OverflowSeries<Metric> getSeries() {
+            return this.series;
+        }
+
+        @Override
+        public OptionalDouble getValue() {
+            return this.series.getValue(Metric::getValue);
+        }
+    }
+}
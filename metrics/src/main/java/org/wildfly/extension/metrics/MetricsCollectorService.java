@@ -28,27 +28,30 @@ public class MetricsCollectorService implements Service<MetricCollector> {
     private final Supplier<ModelControllerClientFactory> modelControllerClientFactory;
     private final Supplier<Executor> managementExecutor;
     private final Supplier<ProcessStateNotifier> processStateNotifier;
+    private final MetricCardinalityGuard cardinalityGuard;
     private Consumer<MetricCollector> metricCollectorConsumer;
 
     private MetricCollector metricCollector;
     private LocalModelControllerClient modelControllerClient;
 
-    static void install(OperationContext context) {
+    static void install(OperationContext context, MetricCardinalityGuard cardinalityGuard) {
         RequirementServiceBuilder<?> serviceBuilder = context.getCapabilityServiceTarget().addService(WILDFLY_COLLECTOR);
         Supplier<ModelControllerClientFactory> modelControllerClientFactory = serviceBuilder.requires(ModelControllerClientFactory.SERVICE_DESCRIPTOR);
         Supplier<Executor> managementExecutor = serviceBuilder.requires(Capabilities.MANAGEMENT_EXECUTOR);
         Supplier<ProcessStateNotifier> processStateNotifier = serviceBuilder.requires(ProcessStateNotifier.SERVICE_DESCRIPTOR);
         Consumer<MetricCollector> metricCollectorConsumer = serviceBuilder.provides(WILDFLY_COLLECTOR);
-        MetricsCollectorService service = new MetricsCollectorService(modelControllerClientFactory, managementExecutor, processStateNotifier, metricCollectorConsumer);
+        MetricsCollectorService service = new MetricsCollectorService(modelControllerClientFactory, managementExecutor, processStateNotifier, cardinalityGuard, metricCollectorConsumer);
         serviceBuilder.setInstance(service)
                 .install();
     }
 
     MetricsCollectorService(Supplier<ModelControllerClientFactory> modelControllerClientFactory, Supplier<Executor> managementExecutor,
-                            Supplier<ProcessStateNotifier> processStateNotifier, Consumer<MetricCollector> metricCollectorConsumer) {
+                            Supplier<ProcessStateNotifier> processStateNotifier, MetricCardinalityGuard cardinalityGuard,
+                            Consumer<MetricCollector> metricCollectorConsumer) {
         this.modelControllerClientFactory = modelControllerClientFactory;
         this.managementExecutor = managementExecutor;
         this.processStateNotifier = processStateNotifier;
+        this.cardinalityGuard = cardinalityGuard;
         this.metricCollectorConsumer = metricCollectorConsumer;
     }
 
@@ -57,7 +60,7 @@ public class MetricsCollectorService implements Service<MetricCollector> {
         // [WFLY-11933] if RBAC is enabled, the local client does not have enough priviledges to read metrics
         modelControllerClient = modelControllerClientFactory.get().createClient(managementExecutor.get());
 
-        metricCollector = new MetricCollector(modelControllerClient, processStateNotifier.get());
+        metricCollector = new MetricCollector(modelControllerClient, processStateNotifier.get(), cardinalityGuard);
 
         metricCollectorConsumer.accept(metricCollector);
     }
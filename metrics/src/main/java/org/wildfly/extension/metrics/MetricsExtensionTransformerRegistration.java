@@ -0,0 +1,37 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.kohsuke.MetaInfServices;
+
+/**
+ * Registers transformers for the metrics subsystem.
+ */
+@MetaInfServices
+public class MetricsExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    @Override
+    public String getSubsystemName() {
+        return MetricsExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        // 1.1.0 to 1.0.0
+        ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        builder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, MetricsSubsystemDefinition.INCLUDE_METRICS, MetricsSubsystemDefinition.EXCLUDE_METRICS, MetricsSubsystemDefinition.MAX_SERIES_PER_SUBSYSTEM)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, MetricsSubsystemDefinition.INCLUDE_METRICS, MetricsSubsystemDefinition.EXCLUDE_METRICS, MetricsSubsystemDefinition.MAX_SERIES_PER_SUBSYSTEM)
+                .end();
+        TransformationDescription.Tools.register(builder.build(), registration, MetricsExtension.VERSION_1_0_0);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
+
+import org.jboss.as.controller.PersistentResourceXMLDescription;
+import org.jboss.as.controller.PersistentResourceXMLParser;
+
+/**
+ * Parser for version 1.1 of the metrics subsystem schema, which adds the configuration of the metric cardinality guard.
+ */
+public class MetricsParser_1_1 extends PersistentResourceXMLParser {
+    /**
+     * The name space used for the {@code subsystem} element
+     */
+    public static final String NAMESPACE = "urn:wildfly:metrics:1.1";
+
+    private static final PersistentResourceXMLDescription xmlDescription;
+
+    static {
+        xmlDescription = builder(MetricsExtension.SUBSYSTEM_PATH, NAMESPACE)
+                .addAttributes(
+                        MetricsSubsystemDefinition.SECURITY_ENABLED,
+                        MetricsSubsystemDefinition.EXPOSED_SUBSYSTEMS,
+                        MetricsSubsystemDefinition.PREFIX,
+                        MetricsSubsystemDefinition.INCLUDE_METRICS,
+                        MetricsSubsystemDefinition.EXCLUDE_METRICS,
+                        MetricsSubsystemDefinition.MAX_SERIES_PER_SUBSYSTEM)
+                .build();
+    }
+
+    @Override
+    public PersistentResourceXMLDescription getParserDescription() {
+        return xmlDescription;
+    }
+}
@@ -64,9 +64,13 @@ class MetricsSubsystemAdd extends AbstractBoottimeAddStepHandler {
         boolean exposeAnySubsystem = exposedSubsystems.remove("*");
         String prefix = MetricsSubsystemDefinition.PREFIX.resolveModelAttribute(context, model).asStringOrNull();
         boolean securityEnabled = MetricsSubsystemDefinition.SECURITY_ENABLED.resolveModelAttribute(context, model).asBoolean();
+        List<String> includeMetrics = MetricsSubsystemDefinition.INCLUDE_METRICS.unwrap(context, model);
+        List<String> excludeMetrics = MetricsSubsystemDefinition.EXCLUDE_METRICS.unwrap(context, model);
+        int maxSeriesPerSubsystem = MetricsSubsystemDefinition.MAX_SERIES_PER_SUBSYSTEM.resolveModelAttribute(context, model).asInt(0);
+        MetricCardinalityGuard cardinalityGuard = new MetricCardinalityGuard(includeMetrics, excludeMetrics, maxSeriesPerSubsystem);
 
         WildFlyMetricRegistryService.install(context);
-        MetricsCollectorService.install(context);
+        MetricsCollectorService.install(context, cardinalityGuard);
         MetricsContextService.install(context, securityEnabled);
 
         // If the MP Metrics module is not installed, we need to install the WF Metrics DPU and initiate a metrics
@@ -7,19 +7,29 @@ package org.wildfly.extension.metrics;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelControllerClientFactory;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ProcessStateNotifier;
 import org.jboss.as.controller.ServiceRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.management.Capabilities;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.ModelTypeValidator;
+import org.jboss.as.controller.operations.validation.ParameterValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 
 /**
@@ -64,7 +74,42 @@ public class MetricsSubsystemDefinition extends PersistentResourceDefinition {
             .setAllowExpression(true)
             .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = { SECURITY_ENABLED, EXPOSED_SUBSYSTEMS, PREFIX };
+    private static final ParameterValidator METRIC_RULE_VALIDATOR = new ModelTypeValidator(ModelType.STRING) {
+        @Override
+        public void validateParameter(String parameterName, ModelNode value) throws OperationFailedException {
+            super.validateParameter(parameterName, value);
+            try {
+                MetricRule.parse(value.asString());
+            } catch (IllegalArgumentException e) {
+                throw new OperationFailedException(e.getMessage());
+            }
+        }
+    };
+
+    static final StringListAttributeDefinition INCLUDE_METRICS = new StringListAttributeDefinition.Builder("include-metrics")
+            .setRequired(false)
+            .setElementValidator(METRIC_RULE_VALIDATOR)
+            .setRestartAllServices()
+            .build();
+
+    static final StringListAttributeDefinition EXCLUDE_METRICS = new StringListAttributeDefinition.Builder("exclude-metrics")
+            .setRequired(false)
+            .setElementValidator(METRIC_RULE_VALIDATOR)
+            .setRestartAllServices()
+            .build();
+
+    static final AttributeDefinition MAX_SERIES_PER_SUBSYSTEM = SimpleAttributeDefinitionBuilder.create("max-series-per-subsystem", ModelType.INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .setAllowExpression(true)
+            .build();
+
+    static final AttributeDefinition REGISTERED_SERIES = new SimpleMapAttributeDefinition.Builder("registered-series", ModelType.INT, true)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = { SECURITY_ENABLED, EXPOSED_SUBSYSTEMS, PREFIX, INCLUDE_METRICS, EXCLUDE_METRICS, MAX_SERIES_PER_SUBSYSTEM };
 
     protected MetricsSubsystemDefinition() {
         super(new SimpleResourceDefinition.Parameters(MetricsExtension.SUBSYSTEM_PATH,
@@ -80,4 +125,26 @@ public class MetricsSubsystemDefinition extends PersistentResourceDefinition {
         return Arrays.asList(ATTRIBUTES);
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration registration) {
+        super.registerAttributes(registration);
+
+        if (registration.isRuntimeOnlyRegistrationValid()) {
+            registration.registerReadOnlyAttribute(REGISTERED_SERIES, new AbstractRuntimeOnlyHandler() {
+                @Override
+                protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+                    ModelNode result = new ModelNode().setEmptyObject();
+                    ServiceController<?> serviceController = context.getServiceRegistry(false).getService(WILDFLY_COLLECTOR);
+                    MetricCollector metricCollector = (serviceController != null) ? MetricCollector.class.cast(serviceController.getValue()) : null;
+                    if (metricCollector != null) {
+                        for (Map.Entry<String, Integer> entry : metricCollector.getCardinalityGuard().getRegisteredSeries().entrySet()) {
+                            result.get(entry.getKey()).set(entry.getValue());
+                        }
+                    }
+                    context.getResult().set(result);
+                }
+            });
+        }
+    }
+
 }
@@ -4,50 +4,90 @@
  */
 package org.wildfly.extension.metrics;
 
-import java.util.HashSet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalDouble;
-import java.util.Set;
 
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
 public class PrometheusExporter {
 
-    private static final String LF = "\n";
+    private static final char LF = '\n';
 
-    public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
-
-        StringBuilder out = new StringBuilder();
+    /**
+     * Writes the metrics of the specified registry, in the Prometheus exposition format, to the specified writer.
+     * Metric values are read in bulk while holding the read lock of the registry, but are written only after the lock is released,
+     * so that a slow writer (e.g. a slow HTTP client) cannot block registration of metrics.
+     * @param registry a metric registry
+     * @param out the target writer
+     * @throws IOException if the exposition could not be written
+     */
+    public void export(WildFlyMetricRegistry registry, Writer out) throws IOException {
+        List<Sample> samples;
+        registry.readLock();
+        try {
+            samples = snapshot(registry);
+        } finally {
+            registry.unlock();
+        }
+        export(samples, out);
+    }
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
+    private static List<Sample> snapshot(WildFlyMetricRegistry registry) {
+        Map<MetricID, Metric> metrics = registry.getMetrics();
+        Map<String, MetricMetadata> metadata = registry.getMetricMetadata();
+        Map<Metric, OptionalDouble> values = ResourceMetricsReader.read(metrics.values());
+        List<Sample> samples = new ArrayList<>(metrics.size());
+        for (Map.Entry<MetricID, Metric> entry : metrics.entrySet()) {
             MetricID metricID = entry.getKey();
-            String metricName = metricID.getMetricName();
-            MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
-            OptionalDouble metricValue = entry.getValue().getValue();
+            OptionalDouble value = values.get(entry.getValue());
             // if the metric does not return a value, we skip printing the HELP and TYPE
-            if (!metricValue.isPresent()) {
-                continue;
-            }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+            if (value.isPresent()) {
+                samples.add(new Sample(metricID, metadata.get(metricID.getMetricName()), value.getAsDouble()));
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
-            // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
-            if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
-            }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
         }
+        return samples;
+    }
 
-        return out.toString();
+    private static void export(List<Sample> samples, Writer out) throws IOException {
+        // Samples are sorted by name, so HELP, TYPE, and derived names need only be computed once per name
+        String metricName = null;
+        String prometheusSampleName = null;
+
+        for (Sample sample : samples) {
+            MetricID metricID = sample.metricID;
+            MetricMetadata metadata = sample.metadata;
+            if (!metricID.getMetricName().equals(metricName)) {
+                metricName = metricID.getMetricName();
+                String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+                prometheusSampleName = prometheusMetricName;
+                // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
+                if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
+                    prometheusSampleName += "_" + metadata.getBaseMetricUnit();
+                }
+                out.write("# HELP ");
+                out.write(prometheusMetricName);
+                out.write(' ');
+                out.write(String.valueOf(metadata.getDescription()));
+                out.write(LF);
+                out.write("# TYPE ");
+                out.write(prometheusMetricName);
+                out.write(' ');
+                out.write(metadata.getType().toString());
+                out.write(LF);
+            }
+            double scaledValue = scaleToBaseUnit(sample.value, metadata.getMeasurementUnit());
+            out.write(prometheusSampleName);
+            writeTags(metricID, out);
+            out.write(' ');
+            out.write(Double.toString(scaledValue));
+            out.write(LF);
+        }
     }
 
     private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
@@ -70,18 +110,41 @@ public class PrometheusExporter {
     }
 
     public static String getTagsAsAString(MetricID metricID) {
+        StringBuilder out = new StringBuilder();
+        try {
+            writeTags(metricID, out);
+        } catch (IOException e) {
+            // Not thrown by StringBuilder
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static void writeTags(MetricID metricID, Appendable out) throws IOException {
         MetricTag[] tags = metricID.getTags();
         if (tags.length == 0) {
-            return "";
+            return;
         }
-        StringBuilder out = new StringBuilder("{");
+        out.append('{');
         for (int i = 0; i < tags.length; i++) {
             if (i > 0) {
-                out.append(",");
+                out.append(',');
             }
             MetricTag tag = tags[i];
-            out.append(tag.getKey() + "=\"" + tag.getValue() + "\"");
+            out.append(tag.getKey()).append("=\"").append(tag.getValue()).append('"');
+        }
+        out.append('}');
+    }
+
+    private static class Sample {
+        final MetricID metricID;
+        final MetricMetadata metadata;
+        final double value;
+
+        Sample(MetricID metricID, MetricMetadata metadata, double value) {
+            this.metricID = metricID;
+            this.metadata = metadata;
+            this.value = value;
         }
-        return out.append("}").toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES_ONLY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Reads the values of a collection of metrics in bulk.
+ * The {@link WildFlyMetric}s of a given management resource are read via a single read-resource operation,
+ * rather than via a separate read-attribute operation per metric.
+ * The metrics of the protocols of a JGroups channel are read via a single read-protocol-metrics operation on that channel.
+ * If the bulk operation fails, e.g. due to RBAC constraints, the metrics of that resource are read individually.
+ * The metrics aggregated by an overflow metric are read in bulk along with all other metrics.
+ */
+class ResourceMetricsReader {
+
+    private static final String JGROUPS_SUBSYSTEM = "jgroups";
+    private static final String CHANNEL = "channel";
+    private static final String PROTOCOL = "protocol";
+    private static final String READ_PROTOCOL_METRICS_OPERATION = "read-protocol-metrics";
+
+    private static final ModelNode UNDEFINED = new ModelNode();
+
+    static {
+        UNDEFINED.protect();
+    }
+
+    /**
+     * Reads the values of the specified metrics.
+     * @param metrics a collection of metrics
+     * @return a map of metric to value
+     */
+    static Map<Metric, OptionalDouble> read(Collection<Metric> metrics) {
+        Map<Metric, OptionalDouble> values = new IdentityHashMap<>(metrics.size());
+        Map<PathAddress, List<WildFlyMetric>> resources = new HashMap<>();
+        List<MetricSeries.OverflowMetric> overflows = new ArrayList<>();
+        for (Metric metric : metrics) {
+            if (metric instanceof MetricSeries.OverflowMetric) {
+                MetricSeries.OverflowMetric overflow = (MetricSeries.OverflowMetric) metric;
+                overflows.add(overflow);
+                for (Metric aggregated : overflow.getSeries().getMetrics()) {
+                    add(aggregated, values, resources);
+                }
+            } else {
+                add(metric, values, resources);
+            }
+        }
+        // Protocol metrics of each channel, or undefined if they could not be read
+        Map<PathAddress, ModelNode> channels = new HashMap<>();
+        for (Map.Entry<PathAddress, List<WildFlyMetric>> entry : resources.entrySet()) {
+            PathAddress address = entry.getKey();
+            List<WildFlyMetric> resourceMetrics = entry.getValue();
+            ModelNode resource = null;
+            if (isChannelProtocol(address)) {
+                ModelNode protocols = channels.computeIfAbsent(address.getParent(), channelAddress -> readProtocolMetrics(resourceMetrics.get(0), channelAddress));
+                String protocolName = getProtocolName(address);
+                if (protocols.has(protocolName)) {
+                    resource = protocols.get(protocolName);
+                }
+            }
+            if ((resource == null) && (resourceMetrics.size() > 1)) {
+                resource = readResource(resourceMetrics.get(0), address);
+            }
+            for (WildFlyMetric metric : resourceMetrics) {
+                // A single metric is cheaper to read via read-attribute
+                values.put(metric, (resource != null) ? metric.getValue(resource.hasDefined(metric.getAttributeName()) ? resource.get(metric.getAttributeName()) : UNDEFINED) : metric.getValue());
+            }
+        }
+        for (MetricSeries.OverflowMetric overflow : overflows) {
+            // Read any metric aggregated since its values were read
+            values.put(overflow, overflow.getSeries().getValue(metric -> {
+                OptionalDouble value = values.get(metric);
+                return (value != null) ? value : metric.getValue();
+            }));
+        }
+        return values;
+    }
+
+    private static void add(Metric metric, Map<Metric, OptionalDouble> values, Map<PathAddress, List<WildFlyMetric>> resources) {
+        if (metric instanceof WildFlyMetric) {
+            WildFlyMetric wildFlyMetric = (WildFlyMetric) metric;
+            resources.computeIfAbsent(wildFlyMetric.getAddress(), key -> new ArrayList<>(4)).add(wildFlyMetric);
+        } else {
+            values.put(metric, metric.getValue());
+        }
+    }
+
+    /**
+     * Indicates whether the specified address is that of a protocol of a JGroups channel.
+     */
+    private static boolean isChannelProtocol(PathAddress address) {
+        if ((address.size() < 3) || !address.getLastElement().getKey().equals(PROTOCOL)) {
+            return false;
+        }
+        PathAddress channelAddress = address.getParent();
+        PathAddress subsystemAddress = channelAddress.getParent();
+        return channelAddress.getLastElement().getKey().equals(CHANNEL) && subsystemAddress.getLastElement().getKey().equals(SUBSYSTEM) && subsystemAddress.getLastElement().getValue().equals(JGROUPS_SUBSYSTEM);
+    }
+
+    /**
+     * Returns the name by which the protocol with the specified address is identified by the read-protocol-metrics operation.
+     */
+    private static String getProtocolName(PathAddress address) {
+        // Protocol resource name may be qualified by a package name
+        String name = address.getLastElement().getValue();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Reads the numeric metrics of all protocols of the channel with the specified address.
+     * @return the metrics of each protocol keyed by protocol name, or undefined if the protocol metrics could not be read.
+     */
+    private static ModelNode readProtocolMetrics(WildFlyMetric metric, PathAddress address) {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_PROTOCOL_METRICS_OPERATION);
+        operation.get(OP_ADDR).set(address.toModelNode());
+        ModelNode response = metric.getModelControllerClient().execute(operation);
+        if (response.hasDefined(FAILURE_DESCRIPTION)) {
+            LOGGER.debugf("Unable to read protocol metrics of %s: %s. Reading its protocol resources instead.", address, response.get(FAILURE_DESCRIPTION));
+            return UNDEFINED;
+        }
+        return response.hasDefined(RESULT) ? response.get(RESULT) : UNDEFINED;
+    }
+
+    /**
+     * Reads the runtime attributes of the resource with the specified address.
+     * @return the attributes of the resource, or null if the resource could not be read.
+     */
+    private static ModelNode readResource(WildFlyMetric metric, PathAddress address) {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_RESOURCE_OPERATION);
+        operation.get(OP_ADDR).set(address.toModelNode());
+        operation.get(INCLUDE_RUNTIME).set(true);
+        operation.get(ATTRIBUTES_ONLY).set(true);
+        operation.get(INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        ModelNode response = metric.getModelControllerClient().execute(operation);
+        if (response.hasDefined(FAILURE_DESCRIPTION)) {
+            LOGGER.debugf("Unable to read resource %s: %s. Reading metrics individually.", address, response.get(FAILURE_DESCRIPTION));
+            return null;
+        }
+        return response.get(RESULT);
+    }
+}
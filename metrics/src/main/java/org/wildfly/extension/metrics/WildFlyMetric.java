@@ -38,9 +38,29 @@ public class WildFlyMetric implements Metric {
         this.attributeName = attributeName;
     }
 
+    LocalModelControllerClient getModelControllerClient() {
+        return modelControllerClient;
+    }
+
+    PathAddress getAddress() {
+        return address;
+    }
+
+    String getAttributeName() {
+        return attributeName;
+    }
+
     @Override
     public OptionalDouble getValue() {
-        ModelNode result = readAttributeValue(address, attributeName);
+        return getValue(readAttributeValue(address, attributeName));
+    }
+
+    /**
+     * Converts the specified attribute value, e.g. as read via a read-resource operation, to the value of this metric.
+     * @param result the value of the attribute backing this metric
+     * @return the value of this metric, or an empty value if the attribute is undefined or not numerical.
+     */
+    OptionalDouble getValue(ModelNode result) {
         if (result.isDefined()) {
             try {
                 return OptionalDouble.of(result.asDouble());
@@ -109,6 +109,19 @@ public class WildFlyMetricMetadata implements MetricMetadata {
         return metricID;
     }
 
+    /**
+     * Returns the metadata of the series into which this series is aggregated when the maximum number of series of its subsystem is exceeded,
+     * i.e. whose resource labels are all replaced by {@value MetricCardinalityGuard#OVERFLOW_LABEL_VALUE}.
+     */
+    WildFlyMetricMetadata overflow() {
+        PathAddress overflowAddress = PathAddress.EMPTY_ADDRESS;
+        for (PathElement element : address) {
+            String key = element.getKey();
+            overflowAddress = overflowAddress.append((key.equals(SUBSYSTEM) || key.equals("statistics")) ? element : PathElement.pathElement(key, MetricCardinalityGuard.OVERFLOW_LABEL_VALUE));
+        }
+        return new WildFlyMetricMetadata(attributeName, overflowAddress, globalPrefix, description, unit, type);
+    }
+
     static String getPrometheusMetricName(String name) {
         name =name.replaceAll("[^\\w]+","_");
         name = decamelize(name);
@@ -56,4 +56,7 @@ public interface MetricsLogger extends BasicLogger {
     @LogMessage(level = INFO)
     @Message(id = 6, value = "Additional metrics systems discovered while configuring WildFly Metrics: %s. Please refer to the documentation for more information.")
     void multipleMetricsSystemsEnabled(String others);
+
+    @Message(id = 7, value = "Invalid metric rule '%s'. Expected a resource address pattern, optionally followed by ':' and an attribute name pattern, e.g. /subsystem=undertow/server=*:request-count")
+    IllegalArgumentException invalidMetricRule(String rule);
 }
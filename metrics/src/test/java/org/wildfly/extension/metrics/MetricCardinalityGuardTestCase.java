@@ -0,0 +1,176 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MetricCardinalityGuard}.
+ */
+public class MetricCardinalityGuardTestCase {
+
+    @Test
+    public void rules() {
+        MetricCardinalityGuard guard = new MetricCardinalityGuard(List.of("/subsystem=undertow", "/subsystem=transactions:number-of-commits"), List.of("/subsystem=undertow/server=*/http-listener=*:bytes-sent"), 0);
+
+        assertTrue(guard.isCollectible(PathAddress.pathAddress("subsystem", "undertow").append("server", "default-server").append("http-listener", "default"), "request-count"));
+        assertFalse(guard.isCollectible(PathAddress.pathAddress("subsystem", "undertow").append("server", "default-server").append("http-listener", "default"), "bytes-sent"));
+        assertTrue(guard.isCollectible(PathAddress.pathAddress("subsystem", "transactions"), "number-of-commits"));
+        assertFalse(guard.isCollectible(PathAddress.pathAddress("subsystem", "transactions"), "number-of-aborted-transactions"));
+        assertFalse(guard.isCollectible(PathAddress.pathAddress("subsystem", "ejb3"), "peak-concurrent-invocations"));
+        // Rules also apply to deployment resources
+        assertTrue(guard.isCollectible(PathAddress.pathAddress("deployment", "test.war").append("subsystem", "undertow"), "active-sessions"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRule() {
+        new MetricCardinalityGuard(List.of("subsystem=undertow"), List.of(), 0);
+    }
+
+    @Test
+    public void overflow() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        MetricRegistration registration = new MetricRegistration(registry);
+        MetricCardinalityGuard guard = new MetricCardinalityGuard(List.of(), List.of(), 2);
+
+        for (int i = 0; i < 5; ++i) {
+            double value = i;
+            PathAddress address = PathAddress.pathAddress("subsystem", "datasources").append("data-source", "ds-" + i);
+            WildFlyMetricMetadata metadata = new WildFlyMetricMetadata("created-count", address, null, "created-count", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER);
+            registration.addRegistrationTask(() -> registration.addUnregistrationTask(guard.register("datasources", new MetricSeries(registration, () -> OptionalDouble.of(value), metadata))));
+        }
+        registration.register();
+
+        // 2 series registered individually + 1 overflow series
+        assertEquals(3, registry.getMetrics().size());
+        assertEquals(Map.of("datasources", 3), guard.getRegisteredSeries());
+
+        Metric overflow = getOverflowMetric(registry);
+        assertEquals(2d + 3d + 4d, overflow.getValue().getAsDouble(), 0);
+
+        registration.unregister();
+
+        assertTrue(registry.getMetrics().isEmpty());
+        assertTrue(guard.getRegisteredSeries().isEmpty());
+    }
+
+    @Test
+    public void overflowMonotonic() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        MetricRegistration registration = new MetricRegistration(registry);
+        MetricRegistration undeployed = new MetricRegistration(registry);
+        MetricCardinalityGuard guard = new MetricCardinalityGuard(List.of(), List.of(), 1);
+
+        for (int i = 0; i < 3; ++i) {
+            double value = i + 1;
+            PathAddress address = PathAddress.pathAddress("subsystem", "datasources").append("data-source", "ds-" + i);
+            WildFlyMetricMetadata metadata = new WildFlyMetricMetadata("created-count", address, null, "created-count", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER);
+            // Last series is registered via a separate registration, e.g. of a deployment
+            MetricRegistration target = (i < 2) ? registration : undeployed;
+            target.addRegistrationTask(() -> target.addUnregistrationTask(guard.register("datasources", new MetricSeries(target, () -> OptionalDouble.of(value), metadata))));
+        }
+        registration.register();
+        undeployed.register();
+
+        Metric overflow = getOverflowMetric(registry);
+        assertEquals(2d + 3d, overflow.getValue().getAsDouble(), 0);
+
+        undeployed.unregister();
+
+        // Overflow counter retains the last observed value of removed series
+        assertEquals(2d + 3d, overflow.getValue().getAsDouble(), 0);
+        assertEquals(Map.of("datasources", 2), guard.getRegisteredSeries());
+
+        registration.unregister();
+
+        assertTrue(registry.getMetrics().isEmpty());
+        assertTrue(guard.getRegisteredSeries().isEmpty());
+    }
+
+    @Test
+    public void overflowGauges() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        MetricRegistration registration = new MetricRegistration(registry);
+        MetricCardinalityGuard guard = new MetricCardinalityGuard(List.of(), List.of(), 2);
+
+        for (int i = 0; i < 5; ++i) {
+            double value = i;
+            PathAddress address = PathAddress.pathAddress("subsystem", "datasources").append("data-source", "ds-" + i);
+            WildFlyMetricMetadata metadata = new WildFlyMetricMetadata("active-count", address, null, "active-count", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE);
+            registration.addRegistrationTask(() -> registration.addUnregistrationTask(guard.register("datasources", new MetricSeries(registration, () -> OptionalDouble.of(value), metadata))));
+        }
+        registration.register();
+
+        // Gauges are not aggregated
+        assertEquals(2, registry.getMetrics().size());
+        assertEquals(Map.of("datasources", 2), guard.getRegisteredSeries());
+
+        registration.unregister();
+
+        assertTrue(registry.getMetrics().isEmpty());
+        assertTrue(guard.getRegisteredSeries().isEmpty());
+    }
+
+    @Test
+    public void overflowBulkRead() {
+        TestModelControllerClient client = new TestModelControllerClient("created-count", "destroyed-count");
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        MetricRegistration registration = new MetricRegistration(registry);
+        MetricCardinalityGuard guard = new MetricCardinalityGuard(List.of(), List.of(), 2);
+
+        for (int i = 0; i < 5; ++i) {
+            PathAddress address = PathAddress.pathAddress("subsystem", "datasources").append("data-source", "ds-" + i);
+            for (String attribute : List.of("created-count", "destroyed-count")) {
+                WildFlyMetric metric = new WildFlyMetric(client.getClient(), address, attribute);
+                WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attribute, address, null, attribute, MeasurementUnit.NONE, MetricMetadata.Type.COUNTER);
+                registration.addRegistrationTask(() -> registration.addUnregistrationTask(guard.register("datasources", new MetricSeries(registration, metric, metadata))));
+            }
+        }
+        registration.register();
+
+        // 2 series registered individually + 2 overflow series
+        assertEquals(4, registry.getMetrics().size());
+
+        Map<Metric, OptionalDouble> values = ResourceMetricsReader.read(registry.getMetrics().values());
+        // The series aggregated by overflow series are read via a single operation per resource
+        assertEquals(5, client.getReadResourceOperations());
+        assertEquals(0, client.getReadAttributeOperations());
+
+        double created = 0;
+        double destroyed = 0;
+        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
+            if (entry.getKey().getTags()[0].getValue().equals(MetricCardinalityGuard.OVERFLOW_LABEL_VALUE)) {
+                if (entry.getKey().getMetricName().contains("created")) {
+                    created = values.get(entry.getValue()).getAsDouble();
+                } else {
+                    destroyed = values.get(entry.getValue()).getAsDouble();
+                }
+            }
+        }
+        // Attribute value is its index plus the index of its data source
+        assertEquals(1d + 2d + 3d + 4d, created, 0);
+        assertEquals(2d + 3d + 4d + 5d, destroyed, 0);
+
+        registration.unregister();
+    }
+
+    private static Metric getOverflowMetric(WildFlyMetricRegistry registry) {
+        return registry.getMetrics().entrySet().stream()
+                .filter(entry -> entry.getKey().getTags()[0].getValue().equals(MetricCardinalityGuard.OVERFLOW_LABEL_VALUE))
+                .map(Map.Entry::getValue)
+                .findFirst().orElseThrow();
+    }
+}
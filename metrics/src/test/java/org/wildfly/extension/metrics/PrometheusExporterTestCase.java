@@ -0,0 +1,160 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Test;
+
+/**
+ * Validates the output of {@link PrometheusExporter} and that metrics are read via a single operation per resource.
+ */
+public class PrometheusExporterTestCase {
+
+    private static final String[] ATTRIBUTES = new String[] { "active-count", "available-count", "created-count", "destroyed-count", "in-use-count", "max-used-count", "timed-out", "wait-count", "total-blocking-time", "total-creation-time" };
+
+    private final TestModelControllerClient client = new TestModelControllerClient(ATTRIBUTES);
+
+    private static WildFlyMetricRegistry createRegistry(LocalModelControllerClient client, int resources) {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        for (int i = 0; i < resources; ++i) {
+            PathAddress address = PathAddress.pathAddress(PathElement.pathElement("subsystem", "datasources"), PathElement.pathElement("data-source", "ds-" + i));
+            for (String attribute : ATTRIBUTES) {
+                MetricMetadata metadata = new WildFlyMetricMetadata(attribute, address, "wildfly", attribute, attribute.endsWith("-time") ? MeasurementUnit.MILLISECONDS : MeasurementUnit.NONE, attribute.endsWith("-count") ? MetricMetadata.Type.COUNTER : MetricMetadata.Type.GAUGE);
+                registry.registerMetric(new WildFlyMetric(client, address, attribute), metadata);
+            }
+        }
+        return registry;
+    }
+
+    private static String export(WildFlyMetricRegistry registry) throws IOException {
+        StringWriter writer = new StringWriter();
+        new PrometheusExporter().export(registry, writer);
+        return writer.toString();
+    }
+
+    @Test
+    public void export() throws IOException {
+        WildFlyMetricRegistry registry = createRegistry(this.client.getClient(), 2);
+        // A metric that is not backed by a management attribute
+        registry.registerMetric(() -> OptionalDouble.of(1), new WildFlyMetricMetadata("uptime", PathAddress.pathAddress("subsystem", "jmx"), "base", "uptime", MeasurementUnit.SECONDS, MetricMetadata.Type.GAUGE));
+
+        String result = export(registry);
+
+        // 1 read-resource per data-source, no read-attribute operations
+        assertEquals(2, this.client.getReadResourceOperations());
+        assertEquals(0, this.client.getReadAttributeOperations());
+
+        assertTrue(result, result.contains("# HELP wildfly_datasources_active_count_total active-count\n# TYPE wildfly_datasources_active_count_total counter\n"));
+        assertTrue(result, result.contains("wildfly_datasources_active_count_total{data_source=\"ds-0\"} 0.0\n"));
+        assertTrue(result, result.contains("wildfly_datasources_active_count_total{data_source=\"ds-1\"} 1.0\n"));
+        assertTrue(result, result.contains("# TYPE wildfly_datasources_total_blocking_time_seconds gauge\n"));
+        assertTrue(result, result.contains("wildfly_datasources_total_blocking_time_seconds{data_source=\"ds-1\"} 0.00"));
+        assertTrue(result, result.contains("base_jmx_uptime_seconds 1.0\n"));
+        // HELP and TYPE are written once per metric name
+        assertEquals(ATTRIBUTES.length + 1, result.split("# HELP ", -1).length - 1);
+    }
+
+    @Test
+    public void protocols() throws IOException {
+        this.client.setProtocols("UNICAST3", "NAKACK2");
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        PathAddress channelAddress = PathAddress.pathAddress(PathElement.pathElement("subsystem", "jgroups"), PathElement.pathElement("channel", "ee"));
+        // Protocol resource names may be qualified
+        for (String protocol : new String[] { "UNICAST3", "pbcast.NAKACK2", "FRAG4" }) {
+            PathAddress address = channelAddress.append("protocol", protocol);
+            for (String attribute : ATTRIBUTES) {
+                registry.registerMetric(new WildFlyMetric(this.client.getClient(), address, attribute), new WildFlyMetricMetadata(attribute, address, "wildfly", attribute, MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+            }
+        }
+
+        String result = export(registry);
+
+        // Metrics of all protocols of a channel are read via a single operation
+        assertEquals(1, this.client.getReadProtocolMetricsOperations());
+        // Metrics of a protocol not reported by the channel are read via its resource
+        assertEquals(1, this.client.getReadResourceOperations());
+        assertEquals(0, this.client.getReadAttributeOperations());
+        assertTrue(result, result.contains("wildfly_jgroups_wait_count{channel=\"ee\",protocol=\"pbcast.NAKACK2\"} 7.0\n"));
+    }
+
+    @Test
+    public void fallback() throws IOException {
+        this.client.setFailReadResource(true);
+        WildFlyMetricRegistry registry = createRegistry(this.client.getClient(), 2);
+
+        String result = export(registry);
+
+        // Metrics are read individually if read-resource fails
+        assertEquals(2, this.client.getReadResourceOperations());
+        assertEquals(2 * ATTRIBUTES.length, this.client.getReadAttributeOperations());
+        assertTrue(result, result.contains("wildfly_datasources_active_count_total{data_source=\"ds-1\"} 1.0\n"));
+    }
+
+    /**
+     * Measures the duration of a scrape of a registry containing more than 10,000 metrics.
+     */
+    @Test
+    public void scrape() throws IOException {
+        int resources = 1500;
+        WildFlyMetricRegistry registry = createRegistry(this.client.getClient(), resources);
+        assertEquals(resources * ATTRIBUTES.length, registry.getMetrics().size());
+
+        PrometheusExporter exporter = new PrometheusExporter();
+        CountingWriter writer = new CountingWriter();
+        // Warm up
+        for (int i = 0; i < 5; ++i) {
+            exporter.export(registry, writer);
+        }
+        long length = writer.count / 5;
+        int readResourceOperations = this.client.getReadResourceOperations();
+        int scrapes = 10;
+        long start = System.nanoTime();
+        for (int i = 0; i < scrapes; ++i) {
+            exporter.export(registry, writer);
+        }
+        long duration = TimeUnit.NANOSECONDS.toMillis((System.nanoTime() - start) / scrapes);
+
+        // 1 read-resource per data-source per scrape, no read-attribute operations
+        assertEquals(resources * scrapes, this.client.getReadResourceOperations() - readResourceOperations);
+        assertEquals(0, this.client.getReadAttributeOperations());
+        assertEquals(length * (scrapes + 5), writer.count);
+        assertTrue(String.format("Scrape of %d metrics took %d ms", registry.getMetrics().size(), duration), duration < TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private static class CountingWriter extends Writer {
+        long count = 0;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            this.count += length;
+        }
+
+        @Override
+        public void write(String value) {
+            this.count += value.length();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
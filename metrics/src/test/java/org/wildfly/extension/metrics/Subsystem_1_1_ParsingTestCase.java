@@ -0,0 +1,31 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import java.io.IOException;
+
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+
+/**
+ * Parsing test for version 1.1 of the metrics subsystem schema.
+ */
+public class Subsystem_1_1_ParsingTestCase extends AbstractSubsystemBaseTest {
+
+    public Subsystem_1_1_ParsingTestCase() {
+        super(MetricsExtension.SUBSYSTEM_NAME, new MetricsExtension());
+    }
+
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("subsystem_1_1.xml");
+    }
+
+    @Override
+    protected String getSubsystemXsdPath() throws IOException {
+        return "schema/wildfly-metrics_1_1.xsd";
+    }
+}
\ No newline at end of file
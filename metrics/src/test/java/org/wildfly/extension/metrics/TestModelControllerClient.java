@@ -0,0 +1,139 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Stub {@link LocalModelControllerClient} that serves read-resource and read-attribute operations for resources exposing a fixed set of numeric attributes.
+ * The value of an attribute is the index of the attribute, plus the numeric suffix of the resource name, if any (e.g. "ds-1").
+ * A read-protocol-metrics operation returns these attributes for each of a fixed set of protocols.
+ * Shared by the metrics tests of this module and of the micrometer extension.
+ */
+public class TestModelControllerClient {
+
+    private final String[] attributes;
+    private final AtomicInteger readResourceOperations = new AtomicInteger();
+    private final AtomicInteger readAttributeOperations = new AtomicInteger();
+    private final AtomicInteger readProtocolMetricsOperations = new AtomicInteger();
+    private final LocalModelControllerClient client;
+    private volatile boolean failReadResource = false;
+    private volatile String[] protocols = new String[0];
+
+    public TestModelControllerClient(String... attributes) {
+        this.attributes = attributes;
+        this.client = (LocalModelControllerClient) Proxy.newProxyInstance(LocalModelControllerClient.class.getClassLoader(), new Class<?>[] { LocalModelControllerClient.class }, (proxy, method, args) -> {
+            if (method.getName().equals("execute") && (args != null) && (args.length == 1) && (args[0] instanceof ModelNode)) {
+                return this.execute((ModelNode) args[0]);
+            }
+            if (method.getName().equals("toString")) {
+                return "LocalModelControllerClient";
+            }
+            throw new UnsupportedOperationException(method.toString());
+        });
+    }
+
+    /**
+     * Returns the stub client.
+     * @return a model controller client
+     */
+    public LocalModelControllerClient getClient() {
+        return this.client;
+    }
+
+    /**
+     * Indicates whether subsequent read-resource operations should fail, e.g. as if not permitted via RBAC.
+     * @param fail true, if read-resource operations should fail, false otherwise.
+     */
+    public void setFailReadResource(boolean fail) {
+        this.failReadResource = fail;
+    }
+
+    /**
+     * Specifies the names of the protocols whose metrics are returned by read-protocol-metrics operations.
+     * @param protocols a set of protocol names
+     */
+    public void setProtocols(String... protocols) {
+        this.protocols = protocols;
+    }
+
+    public int getReadProtocolMetricsOperations() {
+        return this.readProtocolMetricsOperations.get();
+    }
+
+    public int getReadResourceOperations() {
+        return this.readResourceOperations.get();
+    }
+
+    public int getReadAttributeOperations() {
+        return this.readAttributeOperations.get();
+    }
+
+    private ModelNode execute(ModelNode operation) {
+        ModelNode response = new ModelNode();
+        String name = PathAddress.pathAddress(operation.get(OP_ADDR)).getLastElement().getValue();
+        int separator = name.lastIndexOf('-');
+        int index = (separator >= 0) ? Integer.parseInt(name.substring(separator + 1)) : 0;
+        switch (operation.get(OP).asString()) {
+            case READ_RESOURCE_OPERATION: {
+                this.readResourceOperations.incrementAndGet();
+                if (this.failReadResource) {
+                    response.get(FAILURE_DESCRIPTION).set("WFLYCTL0216: read-resource not permitted");
+                    return response;
+                }
+                response.get(OUTCOME).set(SUCCESS);
+                ModelNode result = response.get(RESULT);
+                for (int i = 0; i < this.attributes.length; ++i) {
+                    result.get(this.attributes[i]).set(index + i);
+                }
+                result.get("non-metric").set("foo");
+                return response;
+            }
+            case READ_ATTRIBUTE_OPERATION: {
+                this.readAttributeOperations.incrementAndGet();
+                String attributeName = operation.get(NAME).asString();
+                for (int i = 0; i < this.attributes.length; ++i) {
+                    if (this.attributes[i].equals(attributeName)) {
+                        response.get(OUTCOME).set(SUCCESS);
+                        response.get(RESULT).set(index + i);
+                        return response;
+                    }
+                }
+                response.get(FAILURE_DESCRIPTION).set("No such attribute " + attributeName);
+                return response;
+            }
+            case "read-protocol-metrics": {
+                this.readProtocolMetricsOperations.incrementAndGet();
+                response.get(OUTCOME).set(SUCCESS);
+                ModelNode result = response.get(RESULT).setEmptyObject();
+                for (String protocol : this.protocols) {
+                    for (int i = 0; i < this.attributes.length; ++i) {
+                        result.get(protocol, this.attributes[i]).set(i);
+                    }
+                }
+                return response;
+            }
+            default: {
+                throw new UnsupportedOperationException(operation.toString());
+            }
+        }
+    }
+}
@@ -5,10 +5,16 @@
 package org.wildfly.extension.microprofile.health;
 
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
@@ -20,6 +26,7 @@ import io.smallrye.health.SmallRyeHealth;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.wildfly.extension.health.HealthCheckExecutor;
 import org.wildfly.extension.microprofile.health._private.MicroProfileHealthLogger;
 
 
@@ -30,6 +37,7 @@ public class MicroProfileHealthReporter {
     private final boolean globalDefaultProceduresDisabled;
     private final String defaultReadinessEmptyResponse;
     private final String defaultStartupEmptyResponse;
+    private final HealthCheckExecutor executor;
     private final Map<HealthCheck, ClassLoader> healthChecks = new HashMap<>();
     private final Map<HealthCheck, ClassLoader> livenessChecks = new HashMap<>();
     private final Map<HealthCheck, ClassLoader> readinessChecks = new HashMap<>();
@@ -113,13 +121,15 @@ public class MicroProfileHealthReporter {
 
     public MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
                                       String emptyStartupChecksStatus, boolean defaultProceduresDisabled,
-                                      String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse) {
+                                      String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse,
+                                      HealthCheckExecutor executor) {
         this.emptyDeploymentLivenessCheck  = new EmptyDeploymentCheckStatus("empty-liveness-checks", emptyLivenessChecksStatus);
         this.emptyDeploymentReadinessCheck  = new EmptyDeploymentCheckStatus("empty-readiness-checks", emptyReadinessChecksStatus);
         this.emptyDeploymentStartupCheck  = new EmptyDeploymentCheckStatus("empty-startup-checks", emptyStartupChecksStatus);
         this.globalDefaultProceduresDisabled = defaultProceduresDisabled;
         this.defaultReadinessEmptyResponse = defaultReadinessEmptyResponse;
         this.defaultStartupEmptyResponse = defaultStartupEmptyResponse;
+        this.executor = executor;
     }
 
     public SmallRyeHealth getHealth() {
@@ -215,26 +225,57 @@ public class MicroProfileHealthReporter {
     }
 
     private HealthCheckResponse.Status processChecks(Map<HealthCheck, ClassLoader> checks, JsonArrayBuilder results, HealthCheckResponse.Status status) {
-        if (checks != null) {
+        if (checks != null && !checks.isEmpty()) {
+            // Evaluate checks concurrently, so that a slow check does not delay the others
+            List<Map.Entry<HealthCheck, Future<JsonObject>>> futures = new ArrayList<>(checks.size());
             for (Map.Entry<HealthCheck, ClassLoader> entry : checks.entrySet()) {
-                // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
-                // to ensure that any resources that checks the TCCL (such as MicroProfile Config) will use the correct one
-                // when the health checks are called.
-                final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
+                HealthCheck check = entry.getKey();
+                ClassLoader loader = entry.getValue();
                 try {
-                    Thread.currentThread().setContextClassLoader(entry.getValue());
-                    status = fillCheck(entry.getKey(), results, status);
-                } finally {
-                    Thread.currentThread().setContextClassLoader(oldTCCL);
+                    futures.add(Map.entry(check, executor.submit(check, () -> jsonObject(check, loader))));
+                } catch (RejectedExecutionException e) {
+                    MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e);
+                    status = fillCheck(jsonObject(HealthCheckResponse.named(check.getClass().getName()).down().build()), results, status);
                 }
             }
+            long deadline = executor.getDeadline();
+            for (Map.Entry<HealthCheck, Future<JsonObject>> entry : futures) {
+                status = fillCheck(await(entry.getKey(), entry.getValue(), deadline), results, status);
+            }
         }
 
         return status;
     }
 
-    private HealthCheckResponse.Status fillCheck(HealthCheck check, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
-        JsonObject each = jsonObject(check);
+    private JsonObject await(HealthCheck check, Future<JsonObject> future, long deadline) {
+        try {
+            return executor.await(future, deadline);
+        } catch (TimeoutException e) {
+            MicroProfileHealthLogger.LOGGER.healthCheckTimedOut(check.getClass().getName(), executor.getTimeout());
+            return jsonObject(HealthCheckResponse.named(check.getClass().getName()).down().build());
+        } catch (ExecutionException e) {
+            MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e.getCause());
+            return jsonObject(HealthCheckResponse.named(check.getClass().getName()).down().build());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return jsonObject(HealthCheckResponse.named(check.getClass().getName()).down().build());
+        }
+    }
+
+    private JsonObject jsonObject(HealthCheck check, ClassLoader loader) {
+        // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
+        // to ensure that any resources that checks the TCCL (such as MicroProfile Config) will use the correct one
+        // when the health checks are called.
+        final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(loader);
+            return jsonObject(check);
+        } finally {
+            Thread.currentThread().setContextClassLoader(oldTCCL);
+        }
+    }
+
+    private HealthCheckResponse.Status fillCheck(JsonObject each, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
         results.add(each);
         if (globalOutcome == HealthCheckResponse.Status.UP) {
             String status = each.getString("status");
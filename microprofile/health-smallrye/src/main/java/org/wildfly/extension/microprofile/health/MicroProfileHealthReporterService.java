@@ -70,7 +70,8 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
         final String defaultStartupEmptyResponse = ConfigProvider.getConfig().getOptionalValue("mp.health.default.startup.empty.response", String.class).orElse("DOWN");
         healthReporter = new MicroProfileHealthReporter(emptyLivenessChecksStatus, emptyReadinessChecksStatus,
             emptyStartupChecksStatus, defaultServerProceduresDisabled,
-            defaultReadinessEmptyResponse, defaultStartupEmptyResponse);
+            defaultReadinessEmptyResponse, defaultStartupEmptyResponse,
+            serverProbesService.get().getExecutor());
 
         if (!defaultServerProceduresDisabled) {
             ClassLoader tccl = Thread.currentThread().getContextClassLoader();
@@ -62,4 +62,8 @@ public interface MicroProfileHealthLogger extends BasicLogger {
     @LogMessage(level = INFO)
     @Message(id = 8, value = "The deployment %s configuration which specified that default MicroProfile Health procedures had to be disabled has been undeployed.")
     void removeDefaultProceduresDisabledByDeployment(String deploymentName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 9, value = "Health check %s did not complete within %d ms")
+    void healthCheckTimedOut(String checkName, long timeout);
 }
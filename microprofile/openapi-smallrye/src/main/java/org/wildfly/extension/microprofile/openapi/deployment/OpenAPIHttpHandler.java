@@ -5,12 +5,17 @@
 
 package org.wildfly.extension.microprofile.openapi.deployment;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
@@ -19,8 +24,11 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.ws.rs.core.MediaType;
 
@@ -30,6 +38,8 @@ import io.smallrye.openapi.api.SmallRyeOpenAPI;
 import io.smallrye.openapi.runtime.io.Format;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.ETag;
+import io.undertow.util.ETagUtils;
 import io.undertow.util.HeaderMap;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
@@ -49,6 +59,7 @@ public class OpenAPIHttpHandler implements HttpHandler {
     private static final Map<MediaType, Format> ACCEPTED_TYPES = new LinkedHashMap<>();
     private static final Map<String, Format> FORMATS = new HashMap<>();
     private static final String FORMAT = "format";
+    private static final String GZIP = "gzip";
 
     static {
         for (Format format : EnumSet.allOf(Format.class)) {
@@ -58,10 +69,18 @@ public class OpenAPIHttpHandler implements HttpHandler {
     }
 
     private final Map<Format, Supplier<String>> formatters = new EnumMap<>(Format.class);
+    // The model of a given handler does not change, so each format is rendered at most once using the default charset.
+    // Documents requested using any other charset are rendered per request, so that clients cannot grow this cache.
+    private final Map<Format, Representation> representations = new ConcurrentHashMap<>();
+    private final Map<Format, Representation> compressedRepresentations = new ConcurrentHashMap<>();
 
     public OpenAPIHttpHandler(SmallRyeOpenAPI model) {
-        this.formatters.put(Format.JSON, model::toJSON);
-        this.formatters.put(Format.YAML, model::toYAML);
+        this(model::toJSON, model::toYAML);
+    }
+
+    OpenAPIHttpHandler(Supplier<String> json, Supplier<String> yaml) {
+        this.formatters.put(Format.JSON, json);
+        this.formatters.put(Format.YAML, yaml);
     }
 
     @Override
@@ -105,13 +124,28 @@ public class OpenAPIHttpHandler implements HttpHandler {
             // Use format preferred by Accept header if unambiguous, otherwise determine format from query parameter
             Format format = (preferredTypes.size() == 1) ? ACCEPTED_TYPES.get(preferredTypes.get(0)) : parseFormatParameter(exchange);
 
-            byte[] result = this.formatters.get(format).get().getBytes(charset);
+            boolean gzip = acceptsGzip(exchange);
+            Representation representation = this.getRepresentation(format, charset, gzip);
+            ETag etag = representation.etag;
+            ByteBuffer content = representation.content;
+
+            responseHeaders.put(Headers.VARY, Headers.ACCEPT_STRING + ", " + Headers.ACCEPT_CHARSET_STRING + ", " + Headers.ACCEPT_ENCODING_STRING);
+            responseHeaders.put(Headers.ETAG, etag.toString());
+
+            if (!ETagUtils.handleIfNoneMatch(exchange, etag, true)) {
+                exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
+                return;
+            }
 
             responseHeaders.put(Headers.CONTENT_TYPE, format.getMimeType());
-            responseHeaders.put(Headers.CONTENT_LENGTH, result.length);
+            responseHeaders.put(Headers.CONTENT_LENGTH, content.remaining());
+            if (gzip) {
+                responseHeaders.put(Headers.CONTENT_ENCODING, GZIP);
+            }
 
             if (requestMethod.equals(Methods.GET)) {
-                exchange.getResponseSender().send(ByteBuffer.wrap(result));
+                // Send a view of the rendered bytes, rather than a copy
+                exchange.getResponseSender().send(content.duplicate());
             }
         } else if (requestMethod.equals(Methods.OPTIONS)) {
             responseHeaders.put(Headers.ALLOW, ALLOW_METHODS);
@@ -120,6 +154,15 @@ public class OpenAPIHttpHandler implements HttpHandler {
         }
     }
 
+    private Representation getRepresentation(Format format, Charset charset, boolean gzip) {
+        if (!charset.equals(StandardCharsets.UTF_8)) {
+            Representation representation = new Representation(this.formatters.get(format).get().getBytes(charset));
+            return gzip ? representation.compress() : representation;
+        }
+        Representation representation = this.representations.computeIfAbsent(format, key -> new Representation(this.formatters.get(key).get().getBytes(StandardCharsets.UTF_8)));
+        return gzip ? this.compressedRepresentations.computeIfAbsent(format, key -> representation.compress()) : representation;
+    }
+
     private static final Comparator<MediaType> MEDIA_TYPE_SORTER = new Comparator<>() {
         @Override
         public int compare(MediaType type1, MediaType type2) {
@@ -160,6 +203,39 @@ public class OpenAPIHttpHandler implements HttpHandler {
         return defaultCharset;
     }
 
+    private static boolean acceptsGzip(HttpServerExchange exchange) {
+        String headerValue = exchange.getRequestHeaders().getFirst(Headers.ACCEPT_ENCODING);
+        if (headerValue == null) return false;
+
+        // An explicit gzip coding takes precedence over a wildcard, regardless of their order
+        float gzipQuality = -1;
+        float wildcardQuality = -1;
+        for (String value : headerValue.split(",")) {
+            String[] parameters = value.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ENGLISH);
+            boolean gzip = coding.equals(GZIP);
+            if (gzip || coding.equals("*")) {
+                float quality = 1;
+                for (int i = 1; i < parameters.length; ++i) {
+                    String parameter = parameters[i].trim();
+                    if (parameter.startsWith("q=")) {
+                        try {
+                            quality = Float.parseFloat(parameter.substring(2));
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                if (gzip) {
+                    gzipQuality = quality;
+                } else {
+                    wildcardQuality = quality;
+                }
+            }
+        }
+        return (gzipQuality >= 0) ? (gzipQuality > 0) : (wildcardQuality > 0);
+    }
+
     private static Format parseFormatParameter(HttpServerExchange exchange) {
         Deque<String> formatValues = exchange.getQueryParameters().get(FORMAT);
         String formatValue = (formatValues != null) ? formatValues.peek() : null;
@@ -167,4 +243,46 @@ public class OpenAPIHttpHandler implements HttpHandler {
         // Default format is YAML
         return (format != null) ? format : Format.YAML;
     }
+
+    /**
+     * A rendered OpenAPI document, with its entity tag.
+     */
+    private static class Representation {
+        final ByteBuffer content;
+        final ETag etag;
+
+        Representation(byte[] content) {
+            this(content, new ETag(false, digest(content)));
+        }
+
+        private Representation(byte[] content, ETag etag) {
+            this.content = ByteBuffer.wrap(content).asReadOnlyBuffer();
+            this.etag = etag;
+        }
+
+        /**
+         * Returns the gzip-compressed variant of this representation.
+         * @return a compressed representation
+         */
+        Representation compress() {
+            ByteBuffer content = this.content.duplicate();
+            byte[] bytes = new byte[content.remaining()];
+            content.get(bytes);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Representation(output.toByteArray(), new ETag(false, this.etag.getTag() + "-" + GZIP));
+        }
+
+        private static String digest(byte[] content) {
+            try {
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
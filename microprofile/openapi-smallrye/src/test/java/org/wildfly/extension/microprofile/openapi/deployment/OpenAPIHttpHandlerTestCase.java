@@ -0,0 +1,123 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.openapi.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.openapi.runtime.io.Format;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OpenAPIHttpHandler}.
+ * Uses HEAD requests, which do not require a connection to send a response body.
+ */
+public class OpenAPIHttpHandlerTestCase {
+
+    private static final String JSON = "{\"openapi\":\"3.0.3\",\"info\":{\"title\":\"café\"}}";
+    private static final String YAML = "openapi: 3.0.3\ninfo:\n  title: café\n";
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final OpenAPIHttpHandler handler = new OpenAPIHttpHandler(() -> this.render(JSON), () -> this.render(YAML));
+
+    private String render(String document) {
+        this.renders.incrementAndGet();
+        return document;
+    }
+
+    private HttpServerExchange request(String... headers) throws Exception {
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        exchange.setRequestMethod(Methods.HEAD);
+        for (int i = 0; i < headers.length; i += 2) {
+            exchange.getRequestHeaders().add(HttpString.tryFromString(headers[i]), headers[i + 1]);
+        }
+        this.handler.handleRequest(exchange);
+        return exchange;
+    }
+
+    @Test
+    public void etag() throws Exception {
+        HttpServerExchange exchange = this.request();
+        assertEquals(StatusCodes.OK, exchange.getStatusCode());
+        assertEquals(Format.YAML.getMimeType(), exchange.getResponseHeaders().getFirst(Headers.CONTENT_TYPE));
+        assertEquals(YAML.getBytes(StandardCharsets.UTF_8).length, Long.parseLong(exchange.getResponseHeaders().getFirst(Headers.CONTENT_LENGTH)));
+        String etag = exchange.getResponseHeaders().getFirst(Headers.ETAG);
+
+        // Matching entity tag
+        exchange = this.request(Headers.IF_NONE_MATCH_STRING, etag);
+        assertEquals(StatusCodes.NOT_MODIFIED, exchange.getStatusCode());
+        assertEquals(etag, exchange.getResponseHeaders().getFirst(Headers.ETAG));
+        assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_LENGTH));
+
+        // Each format has a distinct entity tag
+        exchange = this.request(Headers.ACCEPT_STRING, Format.JSON.getMimeType(), Headers.IF_NONE_MATCH_STRING, etag);
+        assertEquals(StatusCodes.OK, exchange.getStatusCode());
+        assertEquals(Format.JSON.getMimeType(), exchange.getResponseHeaders().getFirst(Headers.CONTENT_TYPE));
+        assertNotEquals(etag, exchange.getResponseHeaders().getFirst(Headers.ETAG));
+
+        // Each format is rendered once
+        assertEquals(2, this.renders.get());
+    }
+
+    @Test
+    public void charset() throws Exception {
+        HttpServerExchange exchange = this.request(Headers.ACCEPT_CHARSET_STRING, StandardCharsets.UTF_8.name());
+        assertEquals(StatusCodes.OK, exchange.getStatusCode());
+        String etag = exchange.getResponseHeaders().getFirst(Headers.ETAG);
+        this.request(Headers.ACCEPT_CHARSET_STRING, StandardCharsets.UTF_8.name());
+        assertEquals(1, this.renders.get());
+
+        // Other charsets are rendered per request
+        exchange = this.request(Headers.ACCEPT_CHARSET_STRING, StandardCharsets.ISO_8859_1.name());
+        assertEquals(StatusCodes.OK, exchange.getStatusCode());
+        assertEquals(YAML.getBytes(StandardCharsets.ISO_8859_1).length, Long.parseLong(exchange.getResponseHeaders().getFirst(Headers.CONTENT_LENGTH)));
+        assertNotEquals(etag, exchange.getResponseHeaders().getFirst(Headers.ETAG));
+        this.request(Headers.ACCEPT_CHARSET_STRING, StandardCharsets.ISO_8859_1.name());
+        assertEquals(3, this.renders.get());
+
+        exchange = this.request(Headers.ACCEPT_CHARSET_STRING, "unknown");
+        assertEquals(StatusCodes.NOT_ACCEPTABLE, exchange.getStatusCode());
+    }
+
+    @Test
+    public void acceptEncoding() throws Exception {
+        HttpServerExchange exchange = this.request();
+        assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+        String etag = exchange.getResponseHeaders().getFirst(Headers.ETAG);
+
+        exchange = this.request(Headers.ACCEPT_ENCODING_STRING, "deflate, gzip");
+        assertEquals("gzip", exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+        String gzipETag = exchange.getResponseHeaders().getFirst(Headers.ETAG);
+        assertNotEquals(etag, gzipETag);
+
+        exchange = this.request(Headers.ACCEPT_ENCODING_STRING, "*");
+        assertEquals("gzip", exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+        assertEquals(gzipETag, exchange.getResponseHeaders().getFirst(Headers.ETAG));
+
+        exchange = this.request(Headers.ACCEPT_ENCODING_STRING, "gzip;q=0");
+        assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+
+        // Explicit gzip coding takes precedence over a preceding wildcard
+        exchange = this.request(Headers.ACCEPT_ENCODING_STRING, "*, gzip;q=0");
+        assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+        assertEquals(etag, exchange.getResponseHeaders().getFirst(Headers.ETAG));
+
+        exchange = this.request(Headers.ACCEPT_ENCODING_STRING, "*;q=0");
+        assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+
+        // Document is rendered once, regardless of encoding
+        assertEquals(1, this.renders.get());
+    }
+}
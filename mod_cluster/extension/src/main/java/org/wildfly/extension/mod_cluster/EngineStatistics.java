@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+/**
+ * Statistics of a container {@link org.jboss.modcluster.container.Engine} which are not exposed by the mod_cluster container
+ * SPI, implemented by engines supporting the corresponding load metrics.
+ *
+ * @see RequestLatencyLoadMetric
+ * @see QueueDepthLoadMetric
+ */
+public interface EngineStatistics {
+
+    /**
+     * Returns the number of requests completed since the engine started.
+     *
+     * @param context context path of a web application, or {@code null} for the requests of all web applications
+     * @return number of completed requests
+     */
+    long getCompletedRequestCount(String context);
+
+    /**
+     * Returns the total time taken to complete the requests completed since the engine started, from the moment each
+     * request was received, including any time spent waiting for a worker thread.
+     *
+     * @param context context path of a web application, or {@code null} for the requests of all web applications
+     * @return total request time in nanoseconds
+     */
+    long getTotalRequestTime(String context);
+
+    /**
+     * Returns the number of tasks waiting for a worker thread of the engine.
+     *
+     * @return number of queued tasks
+     */
+    int getQueuedTaskCount();
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+
+/**
+ * {@link org.jboss.modcluster.load.metric.LoadMetric} returning the fraction of time, between 0 and 1, which the JVM spent
+ * collecting garbage since the previous load calculation.
+ * Only collectors reporting the time spent in pauses are considered. The concurrent collectors of ZGC and Shenandoah
+ * additionally report the duration of whole collection cycles, which run alongside the application.
+ */
+public class GarbageCollectionLoadMetric extends AbstractLoadMetric {
+
+    private final RuntimeMXBean runtime;
+    private final List<GarbageCollectorMXBean> collectors;
+    private long previousUptime;
+    private long previousCollectionTime;
+
+    public GarbageCollectionLoadMetric() {
+        this(ManagementFactory.getRuntimeMXBean(), ManagementFactory.getGarbageCollectorMXBeans());
+    }
+
+    GarbageCollectionLoadMetric(RuntimeMXBean runtime, List<GarbageCollectorMXBean> collectors) {
+        this.runtime = runtime;
+        this.collectors = collectors.stream().filter(collector -> !collector.getName().endsWith(" Cycles")).collect(Collectors.toList());
+        // The first load covers the time since the creation of this metric, rather than since the start of the JVM
+        this.previousUptime = runtime.getUptime();
+        this.previousCollectionTime = this.getCollectionTime();
+    }
+
+    private long getCollectionTime() {
+        long collectionTime = 0;
+        for (GarbageCollectorMXBean collector : this.collectors) {
+            // Collectors not supporting collection time report -1
+            collectionTime += Math.max(collector.getCollectionTime(), 0);
+        }
+        return collectionTime;
+    }
+
+    @Override
+    public synchronized double getLoad(Engine engine) throws Exception {
+        long uptime = this.runtime.getUptime();
+        long collectionTime = this.getCollectionTime();
+        long elapsed = uptime - this.previousUptime;
+        long collecting = collectionTime - this.previousCollectionTime;
+        this.previousUptime = uptime;
+        this.previousCollectionTime = collectionTime;
+
+        return (elapsed > 0) ? Math.min((double) collecting / elapsed, 1) : 0;
+    }
+}
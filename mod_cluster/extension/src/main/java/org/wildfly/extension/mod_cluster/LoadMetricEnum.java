@@ -28,6 +28,9 @@ public enum LoadMetricEnum {
     SEND_TRAFFIC("send-traffic", SendTrafficLoadMetric.class),
     REQUEST_COUNT("requests", RequestCountLoadMetric.class),
     BUSY_CONNECTORS("busyness", BusyConnectorsLoadMetric.class),
+    REQUEST_LATENCY("request-latency", RequestLatencyLoadMetric.class),
+    QUEUE_DEPTH("queue-depth", QueueDepthLoadMetric.class),
+    GC_PAUSE("gc-pause", GarbageCollectionLoadMetric.class),
     ;
 
     private final String type;
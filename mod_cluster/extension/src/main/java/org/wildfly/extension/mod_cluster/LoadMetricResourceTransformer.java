@@ -0,0 +1,42 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Transformer logic for {@link LoadMetricResourceDefinition}.
+ */
+public class LoadMetricResourceTransformer implements Consumer<ModelVersion> {
+
+    private final ResourceTransformationDescriptionBuilder builder;
+
+    public LoadMetricResourceTransformer(ResourceTransformationDescriptionBuilder parent) {
+        this.builder = parent.addChildResource(LoadMetricResourceDefinition.WILDCARD_PATH);
+    }
+
+    @Override
+    public void accept(ModelVersion version) {
+        if (ModClusterSubsystemModel.VERSION_9_0_0.requiresTransformation(version)) {
+            // Reject load metric types introduced in 9.0.0
+            List<RejectAttributeChecker> checkers = new ArrayList<>();
+            for (LoadMetricEnum metric : EnumSet.of(LoadMetricEnum.REQUEST_LATENCY, LoadMetricEnum.QUEUE_DEPTH, LoadMetricEnum.GC_PAUSE)) {
+                checkers.add(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(metric.getType())));
+            }
+            builder.getAttributeBuilder()
+                    .addRejectChecks(checkers, LoadMetricResourceDefinition.Attribute.TYPE.getDefinition())
+                    .end();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+
+/**
+ * {@link org.jboss.modcluster.load.metric.LoadMetric} returning the number of tasks, e.g. requests, waiting for a worker
+ * thread. Unlike the busyness metric, which saturates once all threads are busy, this metric keeps growing as requests
+ * queue up. Requires an explicit capacity.
+ */
+public class QueueDepthLoadMetric extends AbstractLoadMetric {
+
+    @Override
+    public double getLoad(Engine engine) throws Exception {
+        return (engine instanceof EngineStatistics) ? ((EngineStatistics) engine).getQueuedTaskCount() : 0;
+    }
+}
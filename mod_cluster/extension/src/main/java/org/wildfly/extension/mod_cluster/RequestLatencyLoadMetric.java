@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+
+/**
+ * {@link org.jboss.modcluster.load.metric.LoadMetric} returning the average time in milliseconds taken to complete the
+ * requests since the previous load calculation. Smoothing across load calculations is left to the dynamic load provider
+ * history and decay factor. The average is restricted to a single web application if the {@code context} property is
+ * set to its context path. Requires an explicit capacity.
+ */
+public class RequestLatencyLoadMetric extends AbstractLoadMetric {
+
+    private volatile String context;
+    private long previousCount;
+    private long previousTime;
+
+    public String getContext() {
+        return this.context;
+    }
+
+    public void setContext(String context) {
+        this.context = context;
+    }
+
+    @Override
+    public synchronized double getLoad(Engine engine) throws Exception {
+        if (!(engine instanceof EngineStatistics)) {
+            return 0;
+        }
+        EngineStatistics statistics = (EngineStatistics) engine;
+        long count = statistics.getCompletedRequestCount(this.context);
+        long time = statistics.getTotalRequestTime(this.context);
+        long requests = count - this.previousCount;
+        long elapsed = time - this.previousTime;
+        this.previousCount = count;
+        this.previousTime = time;
+
+        // An idle node, or application, is not a slow one
+        return (requests > 0) ? (double) elapsed / requests / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+    }
+}
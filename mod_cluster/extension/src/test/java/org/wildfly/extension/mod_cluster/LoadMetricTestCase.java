@@ -0,0 +1,95 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.RuntimeMXBean;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.jboss.modcluster.container.Engine;
+import org.junit.Test;
+
+/**
+ * Tests the load metrics provided by WildFly, rather than by mod_cluster itself.
+ */
+public class LoadMetricTestCase {
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong requestTime = new AtomicLong();
+    private final AtomicLong queued = new AtomicLong();
+    private final Engine engine = (Engine) Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class<?>[] { Engine.class, EngineStatistics.class }, (proxy, method, args) -> {
+        switch (method.getName()) {
+            case "getCompletedRequestCount":
+                return this.requests.get();
+            case "getTotalRequestTime":
+                return this.requestTime.get();
+            case "getQueuedTaskCount":
+                return (int) this.queued.get();
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    });
+
+    @Test
+    public void requestLatency() throws Exception {
+        RequestLatencyLoadMetric metric = new RequestLatencyLoadMetric();
+
+        this.record(4, 100);
+        assertEquals(25, metric.getLoad(this.engine), 0);
+
+        // Only the requests completed since the previous load calculation count
+        this.record(2, 20);
+        assertEquals(10, metric.getLoad(this.engine), 0);
+
+        // No completed requests
+        assertEquals(0, metric.getLoad(this.engine), 0);
+    }
+
+    @Test
+    public void queueDepth() throws Exception {
+        QueueDepthLoadMetric metric = new QueueDepthLoadMetric();
+
+        this.queued.set(7);
+        assertEquals(7, metric.getLoad(this.engine), 0);
+    }
+
+    @Test
+    public void garbageCollection() throws Exception {
+        AtomicLong uptime = new AtomicLong(1000);
+        AtomicLong collectionTime = new AtomicLong(100);
+        RuntimeMXBean runtime = proxy(RuntimeMXBean.class, name -> name.equals("getUptime") ? uptime.get() : null);
+        GarbageCollectorMXBean collector = proxy(GarbageCollectorMXBean.class, name -> name.equals("getName") ? "G1 Young Generation" : name.equals("getCollectionTime") ? collectionTime.get() : null);
+        GarbageCollectorMXBean unsupported = proxy(GarbageCollectorMXBean.class, name -> name.equals("getName") ? "Unsupported" : name.equals("getCollectionTime") ? -1L : null);
+        // Concurrent cycles are not pauses
+        GarbageCollectorMXBean cycles = proxy(GarbageCollectorMXBean.class, name -> name.equals("getName") ? "ZGC Major Cycles" : name.equals("getCollectionTime") ? uptime.get() : null);
+        GarbageCollectionLoadMetric metric = new GarbageCollectionLoadMetric(runtime, List.of(collector, unsupported, cycles));
+
+        // Collection time prior to the creation of the metric is ignored
+        assertEquals(0, metric.getLoad(this.engine), 0);
+
+        uptime.set(2000);
+        collectionTime.set(350);
+        assertEquals(0.25, metric.getLoad(this.engine), 0.0001);
+
+        // No time elapsed
+        assertEquals(0, metric.getLoad(this.engine), 0);
+    }
+
+    private void record(int requests, long millis) {
+        this.requests.addAndGet(requests);
+        this.requestTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static <T> T proxy(Class<T> targetClass, Function<String, Object> results) {
+        return targetClass.cast(Proxy.newProxyInstance(LoadMetricTestCase.class.getClassLoader(), new Class<?>[] { targetClass }, (proxy, method, args) -> results.apply(method.getName())));
+    }
+}
@@ -8,8 +8,11 @@ package org.wildfly.extension.mod_cluster;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.jboss.as.clustering.subsystem.RejectedValueConfig;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.model.test.FailedOperationTransformationConfig;
 import org.jboss.as.model.test.ModelFixer;
 import org.jboss.as.model.test.ModelTestControllerVersion;
@@ -159,7 +162,16 @@ public class ModClusterTransformersTestCase extends AbstractSubsystemTest {
     }
 
     private static FailedOperationTransformationConfig createFailedOperationConfig(ModelVersion version) {
-        return new FailedOperationTransformationConfig();
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        if (ModClusterSubsystemModel.VERSION_9_0_0.requiresTransformation(version)) {
+            PathAddress dynamicLoadProviderAddress = PathAddress.pathAddress(ModClusterSubsystemResourceDefinition.PATH, ProxyConfigurationResourceDefinition.pathElement("default"), DynamicLoadProviderResourceDefinition.PATH);
+            Set<String> rejectedTypes = EnumSet.of(LoadMetricEnum.REQUEST_LATENCY, LoadMetricEnum.QUEUE_DEPTH, LoadMetricEnum.GC_PAUSE).stream().map(LoadMetricEnum::getType).collect(Collectors.toSet());
+            for (String type : rejectedTypes) {
+                config.addFailedAttribute(dynamicLoadProviderAddress.append(LoadMetricResourceDefinition.pathElement(type)),
+                        new RejectedValueConfig(LoadMetricResourceDefinition.Attribute.TYPE, value -> rejectedTypes.contains(value.asString()), value -> new ModelNode(LoadMetricEnum.CPU.getType())));
+            }
+        }
+        return config;
     }
 
 }
@@ -5,17 +5,25 @@
 
 package org.wildfly.mod_cluster.undertow;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import io.undertow.server.session.SessionCookieConfig;
 import org.jboss.modcluster.container.Connector;
 import org.jboss.modcluster.container.Engine;
 import org.jboss.modcluster.container.Host;
 import org.jboss.modcluster.container.Server;
+import org.wildfly.extension.mod_cluster.EngineStatistics;
 import org.wildfly.extension.undertow.CookieConfig;
+import org.wildfly.extension.undertow.ListenerService;
 import org.wildfly.extension.undertow.UndertowListener;
 import org.wildfly.extension.undertow.UndertowService;
+import org.wildfly.mod_cluster.undertow.metric.RequestLatencyHttpHandler;
+import org.xnio.XnioWorker;
 
 /**
  * Adapts {@link org.wildfly.extension.undertow.Server} to an {@link Engine}.
@@ -23,7 +31,7 @@ import org.wildfly.extension.undertow.UndertowService;
  * @author Radoslav Husar
  * @since 8.0
  */
-public class UndertowEngine implements Engine {
+public class UndertowEngine implements Engine, EngineStatistics {
 
     private final String serverName;
     private final UndertowService service;
@@ -162,6 +170,45 @@ public class UndertowEngine implements Engine {
         return this.server.getDefaultHost();
     }
 
+    /**
+     * @return long number of requests completed by the given context, or by all contexts, as opposed to this engine only
+     */
+    @Override
+    public long getCompletedRequestCount(String context) {
+        return RequestLatencyHttpHandler.getCompletedRequestCount(context);
+    }
+
+    /**
+     * @return long time in nanoseconds taken to complete the requests of the given context, or of all contexts, as opposed
+     *         to this engine only
+     */
+    @Override
+    public long getTotalRequestTime(String context) {
+        return RequestLatencyHttpHandler.getTotalRequestTime(context);
+    }
+
+    /**
+     * @return int number of tasks waiting for a thread of the workers used by the listeners of this engine
+     */
+    @Override
+    public int getQueuedTaskCount() {
+        // Listeners commonly share a worker, whose queue must only be counted once
+        Set<XnioWorker> workers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (UndertowListener listener : this.server.getListeners()) {
+            if (listener instanceof ListenerService) {
+                Supplier<XnioWorker> worker = ((ListenerService) listener).getWorker();
+                if (worker != null && worker.get() != null) {
+                    workers.add(worker.get());
+                }
+            }
+        }
+        int queued = 0;
+        for (XnioWorker worker : workers) {
+            queued += worker.getMXBean().getWorkerQueueSize();
+        }
+        return queued;
+    }
+
     @Override
     public String toString() {
         return this.getName();
@@ -0,0 +1,89 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * {@link HttpHandler} implementation that records the number of completed requests and the total time taken to complete
+ * them, both for all contexts and for each context. Wrapping the outer handler chain, the recorded time includes any time
+ * the request spent waiting for a worker thread.
+ */
+public class RequestLatencyHttpHandler implements HttpHandler {
+
+    private static final RequestLatency total = new RequestLatency();
+    // One entry per context path of a deployment wrapped by this handler, which is reused on redeployment
+    private static final Map<String, RequestLatency> contexts = new ConcurrentHashMap<>();
+
+    private final HttpHandler wrappedHandler;
+
+    public RequestLatencyHttpHandler(final HttpHandler handler) {
+        this.wrappedHandler = handler;
+    }
+
+    /**
+     * Registers a listener recording the time taken to complete the request upon exchange complete event.
+     */
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        final long start = System.nanoTime();
+        final RequestLatency context = contexts.computeIfAbsent(getContextPath(exchange), path -> new RequestLatency());
+
+        exchange.addExchangeCompleteListener(new ExchangeCompletionListener() {
+            @Override
+            public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+                long time = System.nanoTime() - start;
+                total.record(time);
+                context.record(time);
+
+                // Proceed to next listener must be called!
+                nextListener.proceed();
+            }
+        });
+
+        wrappedHandler.handleRequest(exchange);
+    }
+
+    /**
+     * @param context context path, or {@code null} for all contexts
+     * @return long number of completed requests
+     */
+    public static long getCompletedRequestCount(String context) {
+        RequestLatency latency = (context != null) ? contexts.get(context) : total;
+        return (latency != null) ? latency.count.longValue() : 0;
+    }
+
+    /**
+     * @param context context path, or {@code null} for all contexts
+     * @return long total time in nanoseconds taken to complete the requests
+     */
+    public static long getTotalRequestTime(String context) {
+        RequestLatency latency = (context != null) ? contexts.get(context) : total;
+        return (latency != null) ? latency.time.longValue() : 0;
+    }
+
+    private static String getContextPath(HttpServerExchange exchange) {
+        // The path resolved by the host is the context path of the deployment, which is empty for the root context
+        String path = exchange.getResolvedPath();
+        return path.isEmpty() ? "/" : path;
+    }
+
+    private static class RequestLatency {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder time = new LongAdder();
+
+        void record(long time) {
+            this.count.increment();
+            this.time.add(time);
+        }
+    }
+}
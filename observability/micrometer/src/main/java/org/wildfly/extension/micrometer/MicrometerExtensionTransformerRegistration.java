@@ -29,6 +29,8 @@ import org.jboss.as.controller.transform.ResourceTransformer;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
 import org.jboss.as.controller.transform.TransformationContext;
 import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
 import org.jboss.dmr.ModelNode;
@@ -57,6 +59,12 @@ public class MicrometerExtensionTransformerRegistration implements ExtensionTran
 
     private void from2(ResourceTransformationDescriptionBuilder builder) {
         builder.rejectChildResource(PrometheusRegistryDefinitionRegistrar.PATH);
+        builder.getAttributeBuilder()
+            .setDiscard(DiscardAttributeChecker.UNDEFINED, MicrometerSubsystemRegistrar.INCLUDE_METRICS,
+                MicrometerSubsystemRegistrar.EXCLUDE_METRICS, MicrometerSubsystemRegistrar.MAX_SERIES_PER_SUBSYSTEM)
+            .addRejectCheck(RejectAttributeChecker.DEFINED, MicrometerSubsystemRegistrar.INCLUDE_METRICS,
+                MicrometerSubsystemRegistrar.EXCLUDE_METRICS, MicrometerSubsystemRegistrar.MAX_SERIES_PER_SUBSYSTEM)
+            .end();
 
         ResourceTransformationDescriptionBuilder otlp = builder.addChildResource(OtlpRegistryDefinitionRegistrar.PATH);
         otlp.addOperationTransformationOverride(ADD).setCustomOperationTransformer(OtlpOperationTransformer.INSTANCE);
@@ -40,7 +40,7 @@ public class MicrometerService implements AutoCloseable {
 
     public void start() {
         micrometerCollector = new MicrometerCollector(modelControllerClient, processStateNotifier, micrometerRegistry,
-            micrometerConfig.getSubsystemFilter());
+            micrometerConfig.getSubsystemFilter(), micrometerConfig.getCardinalityGuard());
 
         registerJmxMetrics();
     }
@@ -23,6 +23,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelControllerClientFactory;
 import org.jboss.as.controller.OperationContext;
@@ -36,6 +37,7 @@ import org.jboss.as.controller.ResourceRegistration;
 import org.jboss.as.controller.ServiceNameFactory;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.SubsystemRegistration;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
@@ -44,14 +46,19 @@ import org.jboss.as.controller.descriptions.ParentResourceDescriptionResolver;
 import org.jboss.as.controller.descriptions.SubsystemResourceDescriptionResolver;
 import org.jboss.as.controller.management.Capabilities;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.ModelTypeValidator;
+import org.jboss.as.controller.operations.validation.ParameterValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.version.Stability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceName;
 import org.wildfly.common.function.Functions;
+import org.wildfly.extension.metrics.MetricCardinalityGuard;
 import org.wildfly.extension.micrometer.otlp.OtlpRegistryDefinitionRegistrar;
 import org.wildfly.extension.micrometer.prometheus.PrometheusRegistryDefinitionRegistrar;
 import org.wildfly.extension.micrometer.registry.WildFlyCompositeRegistry;
@@ -114,8 +121,52 @@ public class MicrometerSubsystemRegistrar implements SubsystemResourceDefinition
                     .setRestartAllServices()
                     .build();
 
-    static final Collection<AttributeDefinition> ATTRIBUTES = List.of(EXPOSED_SUBSYSTEMS);
+    private static final ParameterValidator METRIC_RULE_VALIDATOR = new ModelTypeValidator(ModelType.STRING) {
+        @Override
+        public void validateParameter(String parameterName, ModelNode value) throws OperationFailedException {
+            super.validateParameter(parameterName, value);
+            try {
+                MetricCardinalityGuard.validateRule(value.asString());
+            } catch (IllegalArgumentException e) {
+                throw new OperationFailedException(e.getMessage());
+            }
+        }
+    };
+
+    static final StringListAttributeDefinition INCLUDE_METRICS =
+            new StringListAttributeDefinition.Builder("include-metrics")
+                    .setRequired(false)
+                    .setElementValidator(METRIC_RULE_VALIDATOR)
+                    .setRestartAllServices()
+                    .setStability(Stability.COMMUNITY)
+                    .build();
+
+    static final StringListAttributeDefinition EXCLUDE_METRICS =
+            new StringListAttributeDefinition.Builder("exclude-metrics")
+                    .setRequired(false)
+                    .setElementValidator(METRIC_RULE_VALIDATOR)
+                    .setRestartAllServices()
+                    .setStability(Stability.COMMUNITY)
+                    .build();
+
+    static final SimpleAttributeDefinition MAX_SERIES_PER_SUBSYSTEM = SimpleAttributeDefinitionBuilder
+            .create("max-series-per-subsystem", ModelType.INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final AttributeDefinition REGISTERED_SERIES =
+            new SimpleMapAttributeDefinition.Builder("registered-series", ModelType.INT, true)
+                    .setStorageRuntime()
+                    .setStability(Stability.COMMUNITY)
+                    .build();
+
+    static final Collection<AttributeDefinition> ATTRIBUTES = List.of(EXPOSED_SUBSYSTEMS, INCLUDE_METRICS, EXCLUDE_METRICS, MAX_SERIES_PER_SUBSYSTEM);
     private final WildFlyCompositeRegistry compositeRegistry = new WildFlyCompositeRegistry();
+    private final AtomicReference<MetricCardinalityGuard> cardinalityGuard = new AtomicReference<>();
 
     @Override
     public ManagementResourceRegistration register(SubsystemRegistration parent, ManagementResourceRegistrationContext context) {
@@ -143,6 +194,21 @@ public class MicrometerSubsystemRegistrar implements SubsystemResourceDefinition
             .build();
 
         ManagementResourceRegistrar.of(descriptor).register(registration);
+        if (context.isRuntimeOnlyRegistrationValid()) {
+            registration.registerReadOnlyAttribute(REGISTERED_SERIES, new AbstractRuntimeOnlyHandler() {
+                @Override
+                protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+                    ModelNode result = new ModelNode().setEmptyObject();
+                    MetricCardinalityGuard guard = cardinalityGuard.get();
+                    if (guard != null) {
+                        for (Map.Entry<String, Integer> entry : guard.getRegisteredSeries().entrySet()) {
+                            result.get(entry.getKey()).set(entry.getValue());
+                        }
+                    }
+                    context.getResult().set(result);
+                }
+            });
+        }
         new OtlpRegistryDefinitionRegistrar(compositeRegistry).register(registration, context);
         new PrometheusRegistryDefinitionRegistrar(compositeRegistry).register(registration, context);
 
@@ -166,7 +232,11 @@ public class MicrometerSubsystemRegistrar implements SubsystemResourceDefinition
 
         WildFlyMicrometerConfig micrometerConfig = new WildFlyMicrometerConfig.Builder()
             .exposedSubsystems(MicrometerSubsystemRegistrar.EXPOSED_SUBSYSTEMS.unwrap(context, model))
+            .includeMetrics(MicrometerSubsystemRegistrar.INCLUDE_METRICS.unwrap(context, model))
+            .excludeMetrics(MicrometerSubsystemRegistrar.EXCLUDE_METRICS.unwrap(context, model))
+            .maxSeriesPerSubsystem(MicrometerSubsystemRegistrar.MAX_SERIES_PER_SUBSYSTEM.resolveModelAttribute(context, model).asInt(0))
             .build();
+        this.cardinalityGuard.set(micrometerConfig.getCardinalityGuard());
 
         ServiceDependency<ModelControllerClientFactory> mccf = ServiceDependency.on(ModelControllerClientFactory.SERVICE_DESCRIPTOR);
         ServiceDependency<Executor> executor = ServiceDependency.on(Capabilities.MANAGEMENT_EXECUTOR);
@@ -7,9 +7,15 @@ package org.wildfly.extension.micrometer;
 import java.util.List;
 import java.util.function.Predicate;
 
+import org.wildfly.extension.metrics.MetricCardinalityGuard;
+
 public class WildFlyMicrometerConfig {
     private List<String> exposedSubsystems;
     private Predicate<String> subsystemFilter;
+    private List<String> includeMetrics = List.of();
+    private List<String> excludeMetrics = List.of();
+    private int maxSeriesPerSubsystem;
+    private MetricCardinalityGuard cardinalityGuard;
 
     // Use Builder
     public WildFlyMicrometerConfig() {}
@@ -18,6 +24,10 @@ public class WildFlyMicrometerConfig {
         return subsystemFilter;
     }
 
+    public MetricCardinalityGuard getCardinalityGuard() {
+        return cardinalityGuard;
+    }
+
     public static class Builder {
         private final WildFlyMicrometerConfig config = new WildFlyMicrometerConfig();
 
@@ -29,7 +39,23 @@ public class WildFlyMicrometerConfig {
             return this;
         }
 
+        public Builder includeMetrics(List<String> includeMetrics) {
+            config.includeMetrics = includeMetrics;
+            return this;
+        }
+
+        public Builder excludeMetrics(List<String> excludeMetrics) {
+            config.excludeMetrics = excludeMetrics;
+            return this;
+        }
+
+        public Builder maxSeriesPerSubsystem(int maxSeriesPerSubsystem) {
+            config.maxSeriesPerSubsystem = maxSeriesPerSubsystem;
+            return this;
+        }
+
         public WildFlyMicrometerConfig build() {
+            config.cardinalityGuard = new MetricCardinalityGuard(config.includeMetrics, config.excludeMetrics, config.maxSeriesPerSubsystem);
             return config;
         }
     }
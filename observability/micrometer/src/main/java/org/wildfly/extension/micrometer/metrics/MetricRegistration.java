@@ -14,7 +14,7 @@ import org.wildfly.extension.micrometer.registry.WildFlyRegistry;
 public class MetricRegistration {
 
     private final List<Runnable> registrationTasks = new ArrayList<>();
-    private final List<Meter.Id> unregistrationTasks = new ArrayList<>();
+    private final List<Runnable> unregistrationTasks = new ArrayList<>();
     private final WildFlyRegistry registry;
 
     public MetricRegistration(WildFlyRegistry registry) {
@@ -31,13 +31,26 @@ public class MetricRegistration {
 
     public void unregister() {
         synchronized (registry) {
-            unregistrationTasks.forEach(registry::remove);
+            unregistrationTasks.forEach(Runnable::run);
             unregistrationTasks.clear();
         }
     }
 
     public void registerMetric(WildFlyMetric metric, WildFlyMetricMetadata metadata) {
-        unregistrationTasks.add(registry.addMeter(metric, metadata));
+        Meter.Id id = registry.addMeter(metric, metadata);
+        unregistrationTasks.add(() -> registry.remove(id));
+    }
+
+    Meter.Id addMeter(Metric metric, MetricMetadata metadata) {
+        return registry.addMeter(metric, metadata);
+    }
+
+    void removeMeter(Meter.Id id) {
+        registry.remove(id);
+    }
+
+    void addUnregistrationTask(Runnable task) {
+        unregistrationTasks.add(task);
     }
 
     public synchronized void addRegistrationTask(Runnable task) {
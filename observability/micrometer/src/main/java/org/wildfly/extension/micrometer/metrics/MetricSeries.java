@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import java.util.OptionalDouble;
+
+import io.micrometer.core.instrument.Meter;
+import org.wildfly.extension.metrics.MetricCardinalityGuard;
+
+/**
+ * A meter of a {@link MetricRegistration}, subject to a {@link MetricCardinalityGuard}.
+ */
+class MetricSeries implements MetricCardinalityGuard.Series<Metric> {
+
+    private final MetricRegistration registration;
+    private final Metric metric;
+    private final WildFlyMetricMetadata metadata;
+
+    MetricSeries(MetricRegistration registration, Metric metric, WildFlyMetricMetadata metadata) {
+        this.registration = registration;
+        this.metric = metric;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Metric getMetric() {
+        return this.metric;
+    }
+
+    @Override
+    public boolean isCounter() {
+        return this.metadata.getType() == MetricMetadata.Type.COUNTER;
+    }
+
+    @Override
+    public Object getOverflowKey() {
+        return this.metadata.overflow().getMetricID();
+    }
+
+    @Override
+    public Runnable register() {
+        Meter.Id id = this.registration.addMeter(this.metric, this.metadata);
+        return () -> this.registration.removeMeter(id);
+    }
+
+    @Override
+    public Runnable registerOverflow(MetricCardinalityGuard.OverflowSeries<Metric> overflow) {
+        Metric overflowMetric = new Metric() {
+            @Override
+            public OptionalDouble getValue() {
+                return overflow.getValue(Metric::getValue);
+            }
+        };
+        Meter.Id id = this.registration.addMeter(overflowMetric, this.metadata.overflow());
+        return () -> this.registration.removeMeter(id);
+    }
+}
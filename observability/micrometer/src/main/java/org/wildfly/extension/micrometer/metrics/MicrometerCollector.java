@@ -14,6 +14,9 @@ import static org.wildfly.extension.micrometer.metrics.MetricMetadata.Type.GAUGE
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
@@ -31,22 +34,30 @@ import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.extension.metrics.MetricCardinalityGuard;
 import org.wildfly.extension.micrometer.registry.WildFlyRegistry;
 
 public class MicrometerCollector implements AutoCloseable {
+    private static final String JGROUPS_SUBSYSTEM = "jgroups";
+    private static final String CHANNEL = "channel";
+    private static final String PROTOCOL = "protocol";
+
     private final LocalModelControllerClient modelControllerClient;
     private final ProcessStateNotifier processStateNotifier;
     private final WildFlyRegistry micrometerRegistry;
     private final Predicate<String> subsystemFilter;
+    private final MetricCardinalityGuard cardinalityGuard;
 
     public MicrometerCollector(LocalModelControllerClient modelControllerClient,
                                ProcessStateNotifier processStateNotifier,
                                WildFlyRegistry micrometerRegistry,
-                               Predicate<String> subsystemFilter) {
+                               Predicate<String> subsystemFilter,
+                               MetricCardinalityGuard cardinalityGuard) {
         this.modelControllerClient = modelControllerClient;
         this.processStateNotifier = processStateNotifier;
         this.micrometerRegistry = micrometerRegistry;
         this.subsystemFilter = subsystemFilter;
+        this.cardinalityGuard = cardinalityGuard;
     }
 
     // collect metrics from the resources
@@ -55,7 +66,7 @@ public class MicrometerCollector implements AutoCloseable {
                                                     Function<PathAddress, PathAddress> addressResolver) {
         MetricRegistration registration = new MetricRegistration(micrometerRegistry);
 
-        queueMetricRegistration(resource, mrr, EMPTY_ADDRESS, addressResolver, registration);
+        queueMetricRegistration(resource, mrr, EMPTY_ADDRESS, addressResolver, registration, new HashMap<>());
         // Defer the actual registration until the server is running, and they can be collected w/o errors
         this.processStateNotifier.addPropertyChangeListener(new PropertyChangeListener() {
             @Override
@@ -89,7 +100,8 @@ public class MicrometerCollector implements AutoCloseable {
                                          ImmutableManagementResourceRegistration mrr,
                                          PathAddress address,
                                          Function<PathAddress, PathAddress> addressResolver,
-                                         MetricRegistration registration) {
+                                         MetricRegistration registration,
+                                         Map<PathAddress, ResourceMetricSnapshot> channelSnapshots) {
         if (!isExposingMetrics(address, subsystemFilter)) {
             return;
         }
@@ -99,40 +111,70 @@ public class MicrometerCollector implements AutoCloseable {
             return;
         }
 
+        PathAddress resourceAddress = addressResolver.apply(address);
+        List<Map.Entry<String, AttributeAccess>> metrics = new ArrayList<>(attributes.size());
+        for (Map.Entry<String, AttributeAccess> entry : attributes.entrySet()) {
+            if (isCollectibleMetric(entry.getValue()) && cardinalityGuard.isCollectible(resourceAddress, entry.getKey())) {
+                metrics.add(entry);
+            }
+        }
+
         ModelNode resourceDescription = null;
+        String subsystemName = getSubsystemName(address);
+        // Metrics of a resource with multiple metrics share a snapshot, refreshed by a single read-resource operation
+        ResourceMetricSnapshot snapshot = null;
+        // Metrics of the protocols of a channel share a snapshot of the channel, refreshed by a single read-protocol-metrics operation
+        String protocolName = null;
+        if (!metrics.isEmpty() && isChannelProtocol(resourceAddress)) {
+            snapshot = channelSnapshots.computeIfAbsent(resourceAddress.getParent(), channelAddress -> ResourceMetricSnapshot.channelProtocols(modelControllerClient, channelAddress, ResourceMetricSnapshot.DEFAULT_TIME_TO_LIVE));
+            // Protocol resource name may be qualified by a package name
+            String name = resourceAddress.getLastElement().getValue();
+            protocolName = name.substring(name.lastIndexOf('.') + 1);
+        }
 
-        for (Map.Entry<String, AttributeAccess> entry : attributes.entrySet()) {
+        for (Map.Entry<String, AttributeAccess> entry : metrics) {
             AttributeAccess attributeAccess = entry.getValue();
-            if (!isCollectibleMetric(attributeAccess)) {
-                continue;
-            }
 
             if (resourceDescription == null) {
                 DescriptionProvider modelDescription = mrr.getModelDescription(address);
                 resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
+                if ((snapshot == null) && (metrics.size() > 1)) {
+                    snapshot = new ResourceMetricSnapshot(modelControllerClient, resourceAddress);
+                }
             }
-            PathAddress resourceAddress = addressResolver.apply(address);
             String attributeName = entry.getKey();
             MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
             boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
             String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
+            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName, snapshot, protocolName);
             WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress,
                     attributeDescription, unit, isCounter ? COUNTER : GAUGE);
 
-            registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
+            registration.addRegistrationTask(() -> registration.addUnregistrationTask(cardinalityGuard.register(subsystemName, new MetricSeries(registration, metric, metadata))));
         }
 
         for (String type : current.getChildTypes()) {
             for (Resource.ResourceEntry entry : current.getChildren(type)) {
                 final PathElement pathElement = entry.getPathElement();
                 final PathAddress childAddress = address.append(pathElement);
-                queueMetricRegistration(entry, mrr, childAddress, addressResolver, registration);
+                queueMetricRegistration(entry, mrr, childAddress, addressResolver, registration, channelSnapshots);
             }
         }
     }
 
+    /**
+     * Indicates whether the specified address is that of a protocol of a JGroups channel.
+     */
+    private static boolean isChannelProtocol(PathAddress address) {
+        if ((address.size() < 3) || !address.getLastElement().getKey().equals(PROTOCOL)) {
+            return false;
+        }
+        PathAddress channelAddress = address.getParent();
+        PathAddress subsystemAddress = channelAddress.getParent();
+        return channelAddress.getLastElement().getKey().equals(CHANNEL) && subsystemAddress.getLastElement().getKey().equals(SUBSYSTEM) && subsystemAddress.getLastElement().getValue().equals(JGROUPS_SUBSYSTEM);
+    }
+
     private boolean isExposingMetrics(PathAddress address, Predicate<String> subsystemFilter) {
         // root resource
         if (address.size() == 0) {
@@ -0,0 +1,155 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES_ONLY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLES;
+import static org.wildfly.extension.micrometer.MicrometerExtensionLogger.MICROMETER_LOGGER;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * A snapshot of the runtime attribute values of a management resource, shared by the metrics of that resource.
+ * The snapshot is refreshed via a single read-resource operation once it expires, such that polling all gauges of
+ * a resource within a publication (or scrape) costs a single management operation, rather than one per gauge.
+ * If the resource cannot be read in bulk, e.g. due to RBAC constraints, its metrics revert to reading their attributes individually
+ * until the snapshot expires, after which a bulk read is attempted again.
+ * The metrics of all protocols of a JGroups channel share a single snapshot of that channel, refreshed via its read-protocol-metrics operation.
+ */
+class ResourceMetricSnapshot {
+
+    /**
+     * The system property that configures the duration, in milliseconds, for which a snapshot is valid.
+     */
+    static final String TIME_TO_LIVE_PROPERTY = "wildfly.micrometer.resource-metrics.time-to-live";
+    /**
+     * The duration, in nanoseconds, for which a snapshot is valid, 1 second by default.
+     * This must exceed the time needed to poll the metrics of a publication (or scrape), but remain well below the publication step,
+     * otherwise consecutive publications would report the same values.
+     * Can be overridden via the {@value #TIME_TO_LIVE_PROPERTY} system property, e.g. when polling a large number of metrics takes longer.
+     */
+    static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MILLISECONDS.toNanos(Long.getLong(TIME_TO_LIVE_PROPERTY, TimeUnit.SECONDS.toMillis(1)));
+
+    private static final String READ_PROTOCOL_METRICS_OPERATION = "read-protocol-metrics";
+
+    private static final ModelNode UNDEFINED = new ModelNode();
+
+    static {
+        UNDEFINED.protect();
+    }
+
+    private final LocalModelControllerClient modelControllerClient;
+    private final PathAddress address;
+    private final ModelNode operation;
+    private final long timeToLive;
+
+    // Null if the resource could not be read in bulk
+    private volatile ModelNode values;
+    private volatile long expiration;
+
+    ResourceMetricSnapshot(LocalModelControllerClient modelControllerClient, PathAddress address) {
+        this(modelControllerClient, address, DEFAULT_TIME_TO_LIVE);
+    }
+
+    ResourceMetricSnapshot(LocalModelControllerClient modelControllerClient, PathAddress address, long timeToLive) {
+        this(modelControllerClient, address, createReadResourceOperation(address), timeToLive);
+    }
+
+    private ResourceMetricSnapshot(LocalModelControllerClient modelControllerClient, PathAddress address, ModelNode operation, long timeToLive) {
+        this.modelControllerClient = modelControllerClient;
+        this.address = address;
+        this.operation = operation;
+        this.timeToLive = timeToLive;
+        // Initially expired
+        this.expiration = System.nanoTime();
+    }
+
+    /**
+     * Creates a snapshot of the metrics of all protocols of the JGroups channel with the specified address.
+     * @param modelControllerClient a model controller client
+     * @param channelAddress the address of a channel resource
+     * @param timeToLive the duration, in nanoseconds, for which the snapshot is valid
+     * @return a snapshot whose values are keyed by protocol name
+     */
+    static ResourceMetricSnapshot channelProtocols(LocalModelControllerClient modelControllerClient, PathAddress channelAddress, long timeToLive) {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_PROTOCOL_METRICS_OPERATION);
+        operation.get(OP_ADDR).set(channelAddress.toModelNode());
+        operation.get(OPERATION_HEADERS).get(ROLES).add("Monitor");
+        return new ResourceMetricSnapshot(modelControllerClient, channelAddress, operation, timeToLive);
+    }
+
+    private static ModelNode createReadResourceOperation(PathAddress address) {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_RESOURCE_OPERATION);
+        operation.get(OP_ADDR).set(address.toModelNode());
+        operation.get(INCLUDE_RUNTIME).set(true);
+        operation.get(ATTRIBUTES_ONLY).set(true);
+        operation.get(INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        operation.get(OPERATION_HEADERS).get(ROLES).add("Monitor");
+        return operation;
+    }
+
+    /**
+     * Returns the value of the specified attribute, refreshing this snapshot if it has expired.
+     * @param attributeName the name of a runtime attribute
+     * @return the attribute value, or null if the resource could not be read in bulk.
+     */
+    ModelNode getAttribute(String attributeName) {
+        ModelNode values = (System.nanoTime() - this.expiration < 0) ? this.values : this.refresh();
+        if (values == null) {
+            return null;
+        }
+        return values.hasDefined(attributeName) ? values.get(attributeName) : UNDEFINED;
+    }
+
+    /**
+     * Returns the value of the specified attribute of the specified entry of this snapshot, e.g. of a protocol of a channel snapshot,
+     * refreshing this snapshot if it has expired.
+     * @param entryName the name of the entry containing the attribute
+     * @param attributeName the name of a runtime attribute
+     * @return the attribute value, or null if the resource could not be read in bulk or does not contain the specified entry.
+     */
+    ModelNode getAttribute(String entryName, String attributeName) {
+        ModelNode values = (System.nanoTime() - this.expiration < 0) ? this.values : this.refresh();
+        if ((values == null) || !values.has(entryName)) {
+            return null;
+        }
+        ModelNode entry = values.get(entryName);
+        return entry.hasDefined(attributeName) ? entry.get(attributeName) : UNDEFINED;
+    }
+
+    private synchronized ModelNode refresh() {
+        // Another thread may have refreshed this snapshot while we were waiting
+        if (System.nanoTime() - this.expiration < 0) {
+            return this.values;
+        }
+        // Operation may be modified by its execution
+        ModelNode response = this.modelControllerClient.execute(this.operation.clone());
+        ModelNode values = null;
+        if (response.hasDefined(FAILURE_DESCRIPTION)) {
+            MICROMETER_LOGGER.debugf("Unable to read resource %s: %s. Reading its metrics individually.", this.address, response.get(FAILURE_DESCRIPTION));
+        } else {
+            values = response.get(RESULT);
+        }
+        // A failed bulk read is retried once this snapshot expires
+        this.values = values;
+        this.expiration = System.nanoTime() + this.timeToLive;
+        return values;
+    }
+}
@@ -28,6 +28,8 @@ public class WildFlyMetric implements Metric {
     private LocalModelControllerClient modelControllerClient;
     private PathAddress address;
     private String attributeName;
+    private ResourceMetricSnapshot snapshot;
+    private String snapshotEntry;
 
     static {
         UNDEFINED.protect();
@@ -43,9 +45,28 @@ public class WildFlyMetric implements Metric {
         this.attributeName = attributeName;
     }
 
+    /**
+     * Creates a metric whose value is read from a snapshot of its resource shared with the other metrics of that resource.
+     */
+    WildFlyMetric(LocalModelControllerClient modelControllerClient, PathAddress address, String attributeName, ResourceMetricSnapshot snapshot) {
+        this(modelControllerClient, address, attributeName);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Creates a metric whose value is read from the specified entry of a snapshot shared with other resources, e.g. the protocols of a channel.
+     */
+    WildFlyMetric(LocalModelControllerClient modelControllerClient, PathAddress address, String attributeName, ResourceMetricSnapshot snapshot, String snapshotEntry) {
+        this(modelControllerClient, address, attributeName, snapshot);
+        this.snapshotEntry = snapshotEntry;
+    }
+
     @Override
     public OptionalDouble getValue() {
-        ModelNode result = readAttributeValue(address, attributeName);
+        ModelNode result = (snapshot != null) ? ((snapshotEntry != null) ? snapshot.getAttribute(snapshotEntry, attributeName) : snapshot.getAttribute(attributeName)) : null;
+        if (result == null) {
+            result = readAttributeValue(address, attributeName);
+        }
         if (result.isDefined()) {
             try {
                 return OptionalDouble.of(result.asDouble());
@@ -20,6 +20,7 @@ import java.util.regex.Pattern;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.wildfly.extension.metrics.MetricCardinalityGuard;
 
 public class WildFlyMetricMetadata implements MetricMetadata {
     private static final Pattern SNAKE_CASE_PATTERN = Pattern.compile("(?<=[a-z])[A-Z]");
@@ -133,6 +134,19 @@ public class WildFlyMetricMetadata implements MetricMetadata {
         return metricID;
     }
 
+    /**
+     * Returns the metadata of the meter into which this metric is aggregated when the maximum number of meters of its subsystem is exceeded,
+     * i.e. whose resource tags are all replaced by {@value MetricCardinalityGuard#OVERFLOW_LABEL_VALUE}.
+     */
+    WildFlyMetricMetadata overflow() {
+        PathAddress overflowAddress = PathAddress.EMPTY_ADDRESS;
+        for (PathElement element : address) {
+            String key = element.getKey();
+            overflowAddress = overflowAddress.append((key.equals(SUBSYSTEM) || key.equals(STATISTICS)) ? element : PathElement.pathElement(key, MetricCardinalityGuard.OVERFLOW_LABEL_VALUE));
+        }
+        return new WildFlyMetricMetadata(attributeName, overflowAddress, description, unit, type);
+    }
+
     private static String getDottedName(String name) {
         return decamelize(name.replaceAll("[^\\w]+", "."));
     }
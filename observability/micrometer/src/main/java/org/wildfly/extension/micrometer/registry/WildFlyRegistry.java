@@ -16,21 +16,21 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.wildfly.extension.micrometer.metrics.Metric;
 import org.wildfly.extension.micrometer.metrics.MetricMetadata;
-import org.wildfly.extension.micrometer.metrics.WildFlyMetric;
 
 public interface WildFlyRegistry extends AutoCloseable {
     Meter remove(Meter.Id mappedId);
     void close();
 
-    default Meter.Id addMeter(WildFlyMetric metric, MetricMetadata metadata) {
+    default Meter.Id addMeter(Metric metric, MetricMetadata metadata) {
         return switch (metadata.getType()) {
             case GAUGE -> addGauge(metric, metadata);
             case COUNTER -> addCounter(metric, metadata);
         };
     }
 
-    private Meter.Id addCounter(WildFlyMetric metric, MetricMetadata metadata) {
+    private Meter.Id addCounter(Metric metric, MetricMetadata metadata) {
         return FunctionCounter.builder(metadata.getMetricName(), metric,
                         value -> getMetricValue(metric, metadata.getMeasurementUnit()))
                 .tags(getTags(metadata))
@@ -40,7 +40,7 @@ public interface WildFlyRegistry extends AutoCloseable {
                 .getId();
     }
 
-    private Meter.Id addGauge(WildFlyMetric metric, MetricMetadata metadata) {
+    private Meter.Id addGauge(Metric metric, MetricMetadata metadata) {
         return Gauge.builder(metadata.getMetricName(), metric,
                         value -> getMetricValue(metric, metadata.getMeasurementUnit()))
                 .tags(getTags(metadata))
@@ -61,7 +61,7 @@ public interface WildFlyRegistry extends AutoCloseable {
         return "none".equalsIgnoreCase(measurementUnit) ? null : measurementUnit.toLowerCase(Locale.ENGLISH);
     }
 
-    private double getMetricValue(WildFlyMetric metric, MeasurementUnit unit) {
+    private double getMetricValue(Metric metric, MeasurementUnit unit) {
         OptionalDouble metricValue = metric.getValue();
         return metricValue.isPresent() ?
                 scaleToBaseUnit(metricValue.getAsDouble(), unit) :
@@ -86,6 +86,8 @@ public class SubsystemTransformersTestCase extends AbstractSubsystemTest {
 
         PathAddress OTEL_ADDR = address.append(PrometheusRegistryDefinitionRegistrar.PATH);
         config.addFailedAttribute(OTEL_ADDR, FailedOperationTransformationConfig.REJECTED_RESOURCE);
+        config.addFailedAttribute(address, new FailedOperationTransformationConfig.NewAttributesConfig(
+                MicrometerSubsystemRegistrar.INCLUDE_METRICS, MicrometerSubsystemRegistrar.EXCLUDE_METRICS, MicrometerSubsystemRegistrar.MAX_SERIES_PER_SUBSYSTEM));
 
         ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, ops, config);
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.wildfly.extension.metrics.MetricCardinalityGuard;
+import org.wildfly.extension.micrometer.registry.WildFlyRegistry;
+
+/**
+ * Unit test for {@link MetricSeries}, i.e. the registration of meters subject to a {@link MetricCardinalityGuard}.
+ */
+public class MetricSeriesTestCase {
+
+    private final TestRegistry registry = new TestRegistry();
+
+    @After
+    public void destroy() {
+        this.registry.close();
+    }
+
+    @Test
+    public void overflow() {
+        MetricRegistration registration = new MetricRegistration(this.registry);
+        MetricCardinalityGuard guard = new MetricCardinalityGuard(List.of(), List.of(), 2);
+
+        this.register(registration, guard, "created-count", MetricMetadata.Type.COUNTER);
+        registration.register();
+
+        // 2 meters registered individually + 1 overflow meter
+        assertEquals(3, this.registry.getMeters().size());
+        assertEquals(Map.of("datasources", 3), guard.getRegisteredSeries());
+
+        Meter overflow = this.registry.getMeters().stream()
+                .filter(meter -> MetricCardinalityGuard.OVERFLOW_LABEL_VALUE.equals(meter.getId().getTag("name")))
+                .findFirst().orElseThrow();
+        assertEquals(2d + 3d + 4d, ((FunctionCounter) overflow).count(), 0);
+
+        registration.unregister();
+
+        assertTrue(this.registry.getMeters().isEmpty());
+        assertTrue(guard.getRegisteredSeries().isEmpty());
+    }
+
+    @Test
+    public void overflowGauges() {
+        MetricRegistration registration = new MetricRegistration(this.registry);
+        MetricCardinalityGuard guard = new MetricCardinalityGuard(List.of(), List.of(), 2);
+
+        this.register(registration, guard, "active-count", MetricMetadata.Type.GAUGE);
+        registration.register();
+
+        // Gauges are not aggregated
+        assertEquals(2, this.registry.getMeters().size());
+        assertEquals(Map.of("datasources", 2), guard.getRegisteredSeries());
+
+        registration.unregister();
+
+        assertTrue(this.registry.getMeters().isEmpty());
+        assertTrue(guard.getRegisteredSeries().isEmpty());
+    }
+
+    private void register(MetricRegistration registration, MetricCardinalityGuard guard, String attributeName, MetricMetadata.Type type) {
+        for (int i = 0; i < 5; ++i) {
+            double value = i;
+            PathAddress address = PathAddress.pathAddress("subsystem", "datasources").append("data-source", "ds-" + i);
+            WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, address, attributeName, MeasurementUnit.NONE, type);
+            registration.addRegistrationTask(() -> registration.addUnregistrationTask(guard.register("datasources", new MetricSeries(registration, () -> OptionalDouble.of(value), metadata))));
+        }
+    }
+
+    private static class TestRegistry extends SimpleMeterRegistry implements WildFlyRegistry {
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.junit.Test;
+import org.wildfly.extension.metrics.TestModelControllerClient;
+
+/**
+ * Validates that the metrics of a resource are polled via a shared {@link ResourceMetricSnapshot}.
+ */
+public class ResourceMetricSnapshotTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress("subsystem", "undertow").append("server", "default-server").append("http-listener", "default");
+    private static final String[] ATTRIBUTES = new String[] { "bytes-received", "bytes-sent", "error-count", "max-processing-time", "processing-time", "request-count" };
+
+    private final TestModelControllerClient client = new TestModelControllerClient(ATTRIBUTES);
+
+    private static List<WildFlyMetric> createMetrics(LocalModelControllerClient client, ResourceMetricSnapshot snapshot) {
+        List<WildFlyMetric> metrics = new ArrayList<>(ATTRIBUTES.length);
+        for (String attribute : ATTRIBUTES) {
+            metrics.add(new WildFlyMetric(client, ADDRESS, attribute, snapshot));
+        }
+        return metrics;
+    }
+
+    @Test
+    public void poll() {
+        LocalModelControllerClient client = this.client.getClient();
+        List<WildFlyMetric> metrics = createMetrics(client, new ResourceMetricSnapshot(client, ADDRESS, TimeUnit.MINUTES.toNanos(1)));
+
+        for (int i = 0; i < metrics.size(); ++i) {
+            assertEquals(i, metrics.get(i).getValue().getAsDouble(), 0);
+        }
+        // Polling all gauges of the resource requires a single operation
+        assertEquals(1, this.client.getReadResourceOperations());
+        assertEquals(0, this.client.getReadAttributeOperations());
+
+        for (WildFlyMetric metric : metrics) {
+            metric.getValue();
+        }
+        assertEquals(1, this.client.getReadResourceOperations());
+    }
+
+    @Test
+    public void protocols() {
+        this.client.setProtocols("UNICAST3", "NAKACK2");
+        LocalModelControllerClient client = this.client.getClient();
+        PathAddress channelAddress = PathAddress.pathAddress("subsystem", "jgroups").append("channel", "ee");
+        ResourceMetricSnapshot snapshot = ResourceMetricSnapshot.channelProtocols(client, channelAddress, TimeUnit.MINUTES.toNanos(1));
+        List<WildFlyMetric> metrics = new ArrayList<>(2 * ATTRIBUTES.length);
+        for (String protocol : new String[] { "UNICAST3", "NAKACK2" }) {
+            for (String attribute : ATTRIBUTES) {
+                metrics.add(new WildFlyMetric(client, channelAddress.append("protocol", protocol), attribute, snapshot, protocol));
+            }
+        }
+
+        for (int i = 0; i < metrics.size(); ++i) {
+            assertEquals(i % ATTRIBUTES.length, metrics.get(i).getValue().getAsDouble(), 0);
+        }
+        // Polling all gauges of all protocols of the channel requires a single operation
+        assertEquals(1, this.client.getReadProtocolMetricsOperations());
+        assertEquals(0, this.client.getReadResourceOperations());
+        assertEquals(0, this.client.getReadAttributeOperations());
+
+        // Metrics of a protocol not reported by the channel are read individually
+        assertEquals(2, new WildFlyMetric(client, channelAddress.append("protocol", "FRAG4"), ATTRIBUTES[2], snapshot, "FRAG4").getValue().getAsDouble(), 0);
+        assertEquals(1, this.client.getReadProtocolMetricsOperations());
+        assertEquals(1, this.client.getReadAttributeOperations());
+    }
+
+    @Test
+    public void expiration() {
+        LocalModelControllerClient client = this.client.getClient();
+        List<WildFlyMetric> metrics = createMetrics(client, new ResourceMetricSnapshot(client, ADDRESS, 0));
+
+        for (WildFlyMetric metric : metrics) {
+            metric.getValue();
+        }
+        // Each poll refreshes an expired snapshot
+        assertEquals(metrics.size(), this.client.getReadResourceOperations());
+        assertEquals(0, this.client.getReadAttributeOperations());
+    }
+
+    @Test
+    public void fallback() {
+        this.client.setFailReadResource(true);
+        LocalModelControllerClient client = this.client.getClient();
+        List<WildFlyMetric> metrics = createMetrics(client, new ResourceMetricSnapshot(client, ADDRESS, TimeUnit.MINUTES.toNanos(1)));
+
+        for (int i = 0; i < metrics.size(); ++i) {
+            assertEquals(i, metrics.get(i).getValue().getAsDouble(), 0);
+        }
+        // Bulk read is not retried until the snapshot expires
+        assertEquals(1, this.client.getReadResourceOperations());
+        assertEquals(metrics.size(), this.client.getReadAttributeOperations());
+    }
+
+    @Test
+    public void retry() {
+        this.client.setFailReadResource(true);
+        LocalModelControllerClient client = this.client.getClient();
+        List<WildFlyMetric> metrics = createMetrics(client, new ResourceMetricSnapshot(client, ADDRESS, 0));
+
+        assertEquals(0, metrics.get(0).getValue().getAsDouble(), 0);
+        assertEquals(1, this.client.getReadResourceOperations());
+        assertEquals(1, this.client.getReadAttributeOperations());
+
+        // Once the snapshot expires, a failed bulk read is retried
+        this.client.setFailReadResource(false);
+        assertEquals(1, metrics.get(1).getValue().getAsDouble(), 0);
+        assertEquals(2, this.client.getReadResourceOperations());
+        assertEquals(1, this.client.getReadAttributeOperations());
+    }
+
+    /**
+     * Compares the latency and allocation per poll of metrics read individually vs. via a shared snapshot.
+     */
+    @Test
+    public void benchmark() {
+        LocalModelControllerClient client = this.client.getClient();
+        long[] individual = measure(createMetrics(client, null));
+        int readAttributeOperations = this.client.getReadAttributeOperations();
+        int readResourceOperations = this.client.getReadResourceOperations();
+        long[] shared = measure(createMetrics(client, new ResourceMetricSnapshot(client, ADDRESS, TimeUnit.MINUTES.toNanos(1))));
+
+        // All polls within the time-to-live of the snapshot share a single operation
+        assertEquals(readAttributeOperations, this.client.getReadAttributeOperations());
+        assertEquals(readResourceOperations + 1, this.client.getReadResourceOperations());
+        String message = String.format("read-attribute: %d ns, %d bytes allocated per poll; snapshot: %d ns, %d bytes allocated per poll", individual[0], individual[1], shared[0], shared[1]);
+        assertTrue(message, shared[1] < individual[1]);
+    }
+
+    /**
+     * Returns the average duration, in nanoseconds, and the average allocation, in bytes, per poll of the specified metrics.
+     */
+    private static long[] measure(List<WildFlyMetric> metrics) {
+        int polls = 10_000;
+        for (int i = 0; i < polls; ++i) {
+            metrics.get(i % metrics.size()).getValue();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocated = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < polls; ++i) {
+            metrics.get(i % metrics.size()).getValue();
+        }
+        long duration = System.nanoTime() - start;
+        allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+        return new long[] { duration / polls, allocated / polls };
+    }
+}
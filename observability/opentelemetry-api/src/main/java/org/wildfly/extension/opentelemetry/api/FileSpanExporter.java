@@ -0,0 +1,133 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Exports spans to a local file, as one JSON object per line, rolling the file over once it exceeds a given size.
+ * Intended for measuring the overhead of tracing without an external collector.
+ * Since each deployment uses its own SDK instance, all exporters of the same file share a single {@link FileSpanWriter}.
+ */
+class FileSpanExporter implements SpanExporter {
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    final FileSpanWriter writer;
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+
+    FileSpanExporter(Path path, long rotateSize, int maxBackupIndex) {
+        this.writer = FileSpanWriter.acquire(path, rotateSize, maxBackupIndex);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        return this.shutdown.get() ? CompletableResultCode.ofFailure() : this.writer.write(spans);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return this.shutdown.get() ? CompletableResultCode.ofSuccess() : this.writer.flush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return this.shutdown.compareAndSet(false, true) ? this.writer.release() : CompletableResultCode.ofSuccess();
+    }
+
+    static void write(SpanData span, StringBuilder builder) {
+        builder.append("{\"traceId\":\"").append(span.getTraceId());
+        builder.append("\",\"spanId\":\"").append(span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            builder.append("\",\"parentSpanId\":\"").append(span.getParentSpanId());
+        }
+        builder.append("\",\"name\":");
+        writeString(span.getName(), builder);
+        builder.append(",\"kind\":\"").append(span.getKind());
+        builder.append("\",\"startTimeUnixNano\":").append(span.getStartEpochNanos());
+        builder.append(",\"endTimeUnixNano\":").append(span.getEndEpochNanos());
+        builder.append(",\"status\":\"").append(span.getStatus().getStatusCode()).append('"');
+        String serviceName = span.getResource().getAttribute(SERVICE_NAME);
+        if (serviceName != null) {
+            builder.append(",\"serviceName\":");
+            writeString(serviceName, builder);
+        }
+        Attributes attributes = span.getAttributes();
+        if (!attributes.isEmpty()) {
+            builder.append(",\"attributes\":{");
+            boolean[] first = new boolean[] { true };
+            attributes.forEach((key, value) -> {
+                if (!first[0]) {
+                    builder.append(',');
+                }
+                first[0] = false;
+                writeString(key.getKey(), builder);
+                builder.append(':');
+                writeValue(value, builder);
+            });
+            builder.append('}');
+        }
+        builder.append('}');
+    }
+
+    private static void writeValue(Object value, StringBuilder builder) {
+        if (value instanceof List) {
+            builder.append('[');
+            boolean first = true;
+            for (Object element : (List<?>) value) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                writeValue(element, builder);
+            }
+            builder.append(']');
+        } else if ((value instanceof Boolean) || (value instanceof Long) || ((value instanceof Double) && Double.isFinite((Double) value))) {
+            builder.append(value);
+        } else {
+            writeString(String.valueOf(value), builder);
+        }
+    }
+
+    private static void writeString(String value, StringBuilder builder) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+}
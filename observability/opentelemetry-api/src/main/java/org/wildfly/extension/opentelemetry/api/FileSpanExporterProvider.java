@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import static org.wildfly.extension.opentelemetry.api.WildFlyOpenTelemetryConfig.OTEL_EXPORTER_FILE_MAX_BACKUP_INDEX;
+import static org.wildfly.extension.opentelemetry.api.WildFlyOpenTelemetryConfig.OTEL_EXPORTER_FILE_PATH;
+import static org.wildfly.extension.opentelemetry.api.WildFlyOpenTelemetryConfig.OTEL_EXPORTER_FILE_ROTATE_SIZE;
+
+import java.nio.file.Path;
+
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigurationException;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Provides the span exporter selected via {@code otel.traces.exporter=file}.
+ */
+public class FileSpanExporterProvider implements ConfigurableSpanExporterProvider {
+    static final String NAME = "file";
+    static final long DEFAULT_ROTATE_SIZE = 10L * 1024 * 1024;
+    static final int DEFAULT_MAX_BACKUP_INDEX = 5;
+
+    @Override
+    public SpanExporter createExporter(ConfigProperties config) {
+        String path = config.getString(OTEL_EXPORTER_FILE_PATH);
+        if (path == null) {
+            throw new ConfigurationException(OTEL_EXPORTER_FILE_PATH + " must be specified for the '" + NAME + "' exporter");
+        }
+        return new FileSpanExporter(Path.of(path), config.getLong(OTEL_EXPORTER_FILE_ROTATE_SIZE, DEFAULT_ROTATE_SIZE), config.getInt(OTEL_EXPORTER_FILE_MAX_BACKUP_INDEX, DEFAULT_MAX_BACKUP_INDEX));
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import static org.wildfly.extension.opentelemetry.api.OpenTelemetryApiLogger.API_LOGGER;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+/**
+ * Writes spans to a local file, rolling the file over once it exceeds a given size.
+ * A single reference counted writer exists per file, such that the exporters of all SDK instances writing to the same file
+ * share one lock, one size counter, and one rotation.
+ * The rotation settings of the exporter that first acquired the writer apply until the writer is released by all of its exporters.
+ */
+class FileSpanWriter {
+    // Shared writers, keyed by absolute normalized path
+    private static final Map<Path, FileSpanWriter> WRITERS = new HashMap<>();
+
+    private final Path path;
+    private final long rotateSize;
+    private final int maxBackupIndex;
+
+    // Guarded by WRITERS
+    private int references = 0;
+
+    private Writer writer;
+    private long size;
+
+    private FileSpanWriter(Path path, long rotateSize, int maxBackupIndex) {
+        this.path = path;
+        this.rotateSize = rotateSize;
+        this.maxBackupIndex = maxBackupIndex;
+    }
+
+    /**
+     * Acquires a reference to the writer of the specified file, creating it if necessary.
+     * @param path the path of the span file
+     * @param rotateSize the size, in bytes, beyond which the file is rolled over, or 0 if the file should never be rolled over
+     * @param maxBackupIndex the number of rolled over files to retain
+     * @return the shared writer of the specified file
+     */
+    static FileSpanWriter acquire(Path path, long rotateSize, int maxBackupIndex) {
+        Path key = path.toAbsolutePath().normalize();
+        synchronized (WRITERS) {
+            FileSpanWriter writer = WRITERS.computeIfAbsent(key, k -> new FileSpanWriter(k, rotateSize, maxBackupIndex));
+            writer.references += 1;
+            return writer;
+        }
+    }
+
+    /**
+     * Releases a reference to this writer, closing its file once no references remain.
+     * @return the result of the release
+     */
+    CompletableResultCode release() {
+        synchronized (WRITERS) {
+            if (--this.references > 0) {
+                return CompletableResultCode.ofSuccess();
+            }
+            WRITERS.remove(this.path);
+        }
+        synchronized (this) {
+            try {
+                this.close();
+            } catch (IOException e) {
+                API_LOGGER.failedToWriteSpans(this.path, e);
+                return CompletableResultCode.ofFailure();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    synchronized CompletableResultCode write(Collection<SpanData> spans) {
+        StringBuilder builder = new StringBuilder(256);
+        try {
+            for (SpanData span : spans) {
+                builder.setLength(0);
+                FileSpanExporter.write(span, builder);
+                builder.append('\n');
+                if (this.writer == null) {
+                    this.open();
+                } else if ((this.rotateSize > 0) && (this.size + builder.length() > this.rotateSize)) {
+                    this.rotate();
+                }
+                this.writer.append(builder);
+                // Spans are predominantly ASCII
+                this.size += builder.length();
+            }
+            if (this.writer != null) {
+                this.writer.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            API_LOGGER.failedToWriteSpans(this.path, e);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    synchronized CompletableResultCode flush() {
+        if (this.writer != null) {
+            try {
+                this.writer.flush();
+            } catch (IOException e) {
+                API_LOGGER.failedToWriteSpans(this.path, e);
+                return CompletableResultCode.ofFailure();
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private void open() throws IOException {
+        Path parent = this.path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.size = Files.exists(this.path) ? Files.size(this.path) : 0;
+        this.writer = Files.newBufferedWriter(this.path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void close() throws IOException {
+        Writer writer = this.writer;
+        if (writer != null) {
+            this.writer = null;
+            writer.close();
+        }
+    }
+
+    private void rotate() throws IOException {
+        this.close();
+        if (this.maxBackupIndex > 0) {
+            for (int i = this.maxBackupIndex - 1; i > 0; --i) {
+                Path source = this.backup(i);
+                if (Files.exists(source)) {
+                    Files.move(source, this.backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(this.path, this.backup(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(this.path);
+        }
+        this.open();
+    }
+
+    private Path backup(int index) {
+        return this.path.resolveSibling(this.path.getFileName().toString() + "." + index);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import static org.jboss.logging.Logger.Level.WARN;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+
+import org.jboss.logging.BasicLogger;
+import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.MessageLogger;
+
+@MessageLogger(projectCode = "WFLYOTELAPI", length = 4)
+interface OpenTelemetryApiLogger extends BasicLogger {
+    OpenTelemetryApiLogger API_LOGGER = Logger.getMessageLogger(MethodHandles.lookup(), OpenTelemetryApiLogger.class,
+            OpenTelemetryApiLogger.class.getPackage().getName());
+
+    @LogMessage(level = WARN)
+    @Message(id = 1, value = "Failed to write spans to %s")
+    void failedToWriteSpans(Path path, @Cause Throwable cause);
+}
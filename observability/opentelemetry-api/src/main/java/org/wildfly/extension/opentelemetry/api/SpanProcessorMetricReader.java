@@ -0,0 +1,106 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.metrics.Aggregation;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.CollectionRegistration;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+
+/**
+ * Reads the metrics reported by the batch span processor of an SDK instance, i.e. its queue size and the number of spans it has processed.
+ * These are collected on demand, only when read by the management model.
+ * Processed spans use delta temporality, such that the SDK need not retain cumulative state on behalf of this reader;
+ * each collection instead adds to the counts of the {@link SpanProcessorStatistics}.
+ * Instruments of types not reported by the span processor are dropped.
+ * Application counters and observable gauges are nevertheless aggregated by this reader, since a reader can only select its aggregation
+ * by instrument type, while views apply to all readers of an SDK instance, and would thus also drop these metrics for its exporters.
+ * The cost of this is bounded: observable gauge callbacks are only invoked when this reader collects, i.e. when the management model
+ * reads these statistics, and the delta aggregations of application counters are reset on each collection and are subject to the
+ * cardinality limit of the SDK in the meantime.
+ */
+class SpanProcessorMetricReader implements MetricReader {
+    // Instrumentation scope and instrument names used by io.opentelemetry.sdk.trace.export.BatchSpanProcessor
+    static final String INSTRUMENTATION_SCOPE = "io.opentelemetry.sdk.trace";
+    static final String QUEUE_SIZE = "queueSize";
+    static final String PROCESSED_SPANS = "processedSpans";
+    static final AttributeKey<Boolean> DROPPED = AttributeKey.booleanKey("dropped");
+
+    private final SpanProcessorStatistics statistics;
+    private volatile CollectionRegistration registration = CollectionRegistration.noop();
+
+    SpanProcessorMetricReader(SpanProcessorStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void register(CollectionRegistration registration) {
+        this.registration = registration;
+        this.statistics.register(this);
+    }
+
+    @Override
+    public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+        return AggregationTemporality.DELTA;
+    }
+
+    @Override
+    public Aggregation getDefaultAggregation(InstrumentType instrumentType) {
+        switch (instrumentType) {
+            case COUNTER:
+            case OBSERVABLE_GAUGE:
+                return Aggregation.defaultAggregation();
+            default:
+                return Aggregation.drop();
+        }
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        // Retain the final counts of this SDK instance
+        this.collect();
+        this.registration = CollectionRegistration.noop();
+        this.statistics.unregister(this);
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Collects the metrics of the span processor, adding the spans processed since the previous collection to the statistics.
+     * @return the number of spans currently queued for export
+     */
+    synchronized long collect() {
+        long queued = 0;
+        for (MetricData metric : this.registration.collectAllMetrics()) {
+            if (metric.getInstrumentationScopeInfo().getName().equals(INSTRUMENTATION_SCOPE)) {
+                switch (metric.getName()) {
+                    case QUEUE_SIZE: {
+                        for (LongPointData point : metric.getLongGaugeData().getPoints()) {
+                            queued += point.getValue();
+                        }
+                        break;
+                    }
+                    case PROCESSED_SPANS: {
+                        for (LongPointData point : metric.getLongSumData().getPoints()) {
+                            this.statistics.addProcessedSpans(Boolean.TRUE.equals(point.getAttributes().get(DROPPED)), point.getValue());
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        return queued;
+    }
+}
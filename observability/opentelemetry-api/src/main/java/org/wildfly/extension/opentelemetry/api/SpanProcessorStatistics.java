@@ -0,0 +1,89 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-wide statistics of the span processors of all OpenTelemetry SDK instances created for deployments.
+ * Counts of spans exported or dropped by SDK instances that have since been shut down are retained, so that these values never decrease.
+ * The metrics of all SDK instances are collected at most once per time-to-live, regardless of the number of statistics read.
+ */
+public final class SpanProcessorStatistics {
+
+    private static final SpanProcessorStatistics INSTANCE = new SpanProcessorStatistics(Duration.ofSeconds(1));
+
+    public static SpanProcessorStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    private final Set<SpanProcessorMetricReader> readers = ConcurrentHashMap.newKeySet();
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder droppedSpans = new LongAdder();
+    private final long timeToLive;
+
+    private volatile long queuedSpans = 0;
+    // Guarded by this
+    private long expiration = System.nanoTime();
+
+    SpanProcessorStatistics(Duration timeToLive) {
+        this.timeToLive = timeToLive.toNanos();
+    }
+
+    void register(SpanProcessorMetricReader reader) {
+        this.readers.add(reader);
+    }
+
+    void unregister(SpanProcessorMetricReader reader) {
+        this.readers.remove(reader);
+    }
+
+    void addProcessedSpans(boolean dropped, long spans) {
+        (dropped ? this.droppedSpans : this.exportedSpans).add(spans);
+    }
+
+    private synchronized void collect() {
+        long now = System.nanoTime();
+        if (now - this.expiration >= 0) {
+            long queued = 0;
+            for (SpanProcessorMetricReader reader : this.readers) {
+                queued += reader.collect();
+            }
+            this.queuedSpans = queued;
+            this.expiration = now + this.timeToLive;
+        }
+    }
+
+    /**
+     * Returns the number of spans currently queued for export.
+     * @return a number of spans
+     */
+    public long getQueuedSpans() {
+        this.collect();
+        return this.queuedSpans;
+    }
+
+    /**
+     * Returns the number of spans passed to an exporter.
+     * @return a number of spans
+     */
+    public long getExportedSpans() {
+        this.collect();
+        return this.exportedSpans.sum();
+    }
+
+    /**
+     * Returns the number of spans dropped, e.g. due to a full queue.
+     * @return a number of spans
+     */
+    public long getDroppedSpans() {
+        this.collect();
+        return this.droppedSpans.sum();
+    }
+}
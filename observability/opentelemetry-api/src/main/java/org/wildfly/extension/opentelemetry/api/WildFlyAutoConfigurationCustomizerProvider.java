@@ -0,0 +1,21 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizer;
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizerProvider;
+
+/**
+ * Registers a metric reader with each auto-configured SDK instance, through which the statistics of its span processor
+ * are exposed via {@link SpanProcessorStatistics}.
+ */
+public class WildFlyAutoConfigurationCustomizerProvider implements AutoConfigurationCustomizerProvider {
+
+    @Override
+    public void customize(AutoConfigurationCustomizer customizer) {
+        customizer.addMeterProviderCustomizer((builder, config) -> builder.registerMetricReader(new SpanProcessorMetricReader(SpanProcessorStatistics.getInstance())));
+    }
+}
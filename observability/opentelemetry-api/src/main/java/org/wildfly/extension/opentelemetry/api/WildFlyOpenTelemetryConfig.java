@@ -17,9 +17,13 @@ public final class WildFlyOpenTelemetryConfig implements OpenTelemetryConfig {
             NullaryServiceDescriptor.of("org.wildfly.extension.opentelemetry.config",
                 WildFlyOpenTelemetryConfig.class);
 
+    public static final String OTEL_BSP_EXPORT_TIMEOUT = "otel.bsp.export.timeout";
     public static final String OTEL_BSP_MAX_EXPORT_BATCH_SIZE = "otel.bsp.max.export.batch.size";
     public static final String OTEL_BSP_MAX_QUEUE_SIZE = "otel.bsp.max.queue.size";
     public static final String OTEL_BSP_SCHEDULE_DELAY = "otel.bsp.schedule.delay";
+    public static final String OTEL_EXPORTER_FILE_MAX_BACKUP_INDEX = "otel.exporter.file.max.backup.index";
+    public static final String OTEL_EXPORTER_FILE_PATH = "otel.exporter.file.path";
+    public static final String OTEL_EXPORTER_FILE_ROTATE_SIZE = "otel.exporter.file.rotate.size";
     public static final String OTEL_EXPORTER_OTLP_ENDPOINT = "otel.exporter.otlp.endpoint";
     public static final String OTEL_EXPORTER_OTLP_PROTOCOL = "otel.exporter.otlp.protocol";
     public static final String OTEL_EXPORTER_OTLP_TIMEOUT = "otel.exporter.otlp.timeout";
@@ -66,13 +70,28 @@ public final class WildFlyOpenTelemetryConfig implements OpenTelemetryConfig {
         }
 
         public Builder setExporter(String exporter) {
-            if (!exporter.equals("otlp")) {
-                throw new IllegalArgumentException("An unexpected exporter type was found: " + exporter);
+            switch (exporter) {
+                case "otlp":
+                    addValue(OTEL_TRACES_EXPORTER, exporter);
+                    addValue(OTEL_LOGS_EXPORTER, exporter);
+                    addValue(OTEL_METRICS_EXPORTER, exporter);
+                    break;
+                case FileSpanExporterProvider.NAME:
+                    // Only spans are exported to a local file
+                    addValue(OTEL_TRACES_EXPORTER, exporter);
+                    addValue(OTEL_LOGS_EXPORTER, "none");
+                    addValue(OTEL_METRICS_EXPORTER, "none");
+                    break;
+                default:
+                    throw new IllegalArgumentException("An unexpected exporter type was found: " + exporter);
             }
-            addValue(OTEL_TRACES_EXPORTER, exporter);
-            addValue(OTEL_LOGS_EXPORTER, exporter);
-            addValue(OTEL_METRICS_EXPORTER, exporter);
+            return this;
+        }
 
+        public Builder setFileExporter(String path, long rotateSize, int maxBackupIndex) {
+            addValue(OTEL_EXPORTER_FILE_PATH, path);
+            addValue(OTEL_EXPORTER_FILE_ROTATE_SIZE, rotateSize);
+            addValue(OTEL_EXPORTER_FILE_MAX_BACKUP_INDEX, maxBackupIndex);
             return this;
         }
 
@@ -83,6 +102,7 @@ public final class WildFlyOpenTelemetryConfig implements OpenTelemetryConfig {
 
         public Builder setExportTimeout(long timeout) {
             addValue(OTEL_EXPORTER_OTLP_TIMEOUT, timeout);
+            addValue(OTEL_BSP_EXPORT_TIMEOUT, timeout);
             return this;
         }
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link FileSpanExporter} and {@link FileSpanWriter}.
+ */
+public class FileSpanExporterTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void rotate() throws IOException {
+        Path path = this.folder.getRoot().toPath().resolve("spans").resolve("spans.json");
+        // Roll over on every span, retaining 2 backups
+        this.export(new FileSpanExporter(path, 1, 2), "span-1", "span-2", "span-3", "span-4");
+
+        assertSpan(path, "span-4");
+        assertSpan(path.resolveSibling("spans.json.1"), "span-3");
+        assertSpan(path.resolveSibling("spans.json.2"), "span-2");
+        assertFalse(Files.exists(path.resolveSibling("spans.json.3")));
+    }
+
+    @Test
+    public void noBackups() throws IOException {
+        Path path = this.folder.getRoot().toPath().resolve("spans.json");
+        this.export(new FileSpanExporter(path, 1, 0), "span-1", "span-2");
+
+        assertSpan(path, "span-2");
+        assertFalse(Files.exists(path.resolveSibling("spans.json.1")));
+    }
+
+    @Test
+    public void noRotation() throws IOException {
+        Path path = this.folder.getRoot().toPath().resolve("spans.json");
+        this.export(new FileSpanExporter(path, 0, 2), "span-1", "span-2");
+        // Spans are appended to an existing file
+        this.export(new FileSpanExporter(path, 0, 2), "span-3");
+
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+        for (int i = 0; i < lines.size(); ++i) {
+            assertTrue(lines.get(i), lines.get(i).contains("\"name\":\"span-" + (i + 1) + "\""));
+        }
+        assertFalse(Files.exists(path.resolveSibling("spans.json.1")));
+    }
+
+    @Test
+    public void shared() throws IOException {
+        Path path = this.folder.getRoot().toPath().resolve("spans.json");
+        // e.g. the exporters of 2 deployments
+        FileSpanExporter exporter1 = new FileSpanExporter(path, 1, 3);
+        FileSpanExporter exporter2 = new FileSpanExporter(path.getParent().resolve(".").resolve("spans.json"), 1, 3);
+        assertSame(exporter1.writer, exporter2.writer);
+
+        SdkTracerProvider provider1 = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter1)).build();
+        SdkTracerProvider provider2 = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter2)).build();
+        try {
+            provider1.get(this.getClass().getName()).spanBuilder("span-1").startSpan().end();
+            provider2.get(this.getClass().getName()).spanBuilder("span-2").startSpan().end();
+            provider1.close();
+            // Writer remains open for the remaining exporter
+            provider2.get(this.getClass().getName()).spanBuilder("span-3").startSpan().end();
+        } finally {
+            provider2.close();
+        }
+
+        // Exporters share a single rotation
+        assertSpan(path, "span-3");
+        assertSpan(path.resolveSibling("spans.json.1"), "span-2");
+        assertSpan(path.resolveSibling("spans.json.2"), "span-1");
+        assertFalse(Files.exists(path.resolveSibling("spans.json.3")));
+
+        // A released writer is not reused
+        FileSpanExporter exporter3 = new FileSpanExporter(path, 1, 3);
+        assertNotSame(exporter1.writer, exporter3.writer);
+        exporter3.shutdown();
+    }
+
+    private void export(FileSpanExporter exporter, String... names) {
+        SdkTracerProvider provider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build();
+        try {
+            Tracer tracer = provider.get(this.getClass().getName());
+            for (String name : names) {
+                tracer.spanBuilder(name).startSpan().end();
+            }
+        } finally {
+            provider.close();
+        }
+    }
+
+    private static void assertSpan(Path path, String name) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertEquals(lines.toString(), 1, lines.size());
+        String line = lines.get(0);
+        assertTrue(line, line.startsWith("{\"traceId\":\""));
+        assertTrue(line, line.contains("\"name\":\"" + name + "\""));
+        assertTrue(line, line.endsWith("}"));
+    }
+}
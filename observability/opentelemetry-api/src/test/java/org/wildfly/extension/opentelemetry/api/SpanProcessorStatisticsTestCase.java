@@ -0,0 +1,104 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry.api;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SpanProcessorStatistics}.
+ */
+public class SpanProcessorStatisticsTestCase {
+
+    private static final Attributes EXPORTED = Attributes.of(SpanProcessorMetricReader.DROPPED, false);
+    private static final Attributes DROPPED = Attributes.of(SpanProcessorMetricReader.DROPPED, true);
+
+    @Test
+    public void test() {
+        SpanProcessorStatistics statistics = new SpanProcessorStatistics(Duration.ZERO);
+        SpanProcessor processor1 = new SpanProcessor(statistics);
+        SpanProcessor processor2 = new SpanProcessor(statistics);
+
+        assertEquals(0, statistics.getQueuedSpans());
+        assertEquals(0, statistics.getExportedSpans());
+        assertEquals(0, statistics.getDroppedSpans());
+
+        processor1.queueSize.set(2);
+        processor1.processedSpans.add(3, EXPORTED);
+        processor2.queueSize.set(1);
+        processor2.processedSpans.add(4, EXPORTED);
+        processor2.processedSpans.add(1, DROPPED);
+        // Instruments other than those of the span processor are ignored
+        processor1.provider.get(SpanProcessorMetricReader.INSTRUMENTATION_SCOPE).histogramBuilder("latency").build().record(10, EXPORTED);
+        processor1.provider.get("other").counterBuilder(SpanProcessorMetricReader.PROCESSED_SPANS).build().add(10, EXPORTED);
+
+        assertEquals(3, statistics.getQueuedSpans());
+        assertEquals(7, statistics.getExportedSpans());
+        assertEquals(1, statistics.getDroppedSpans());
+
+        // Subsequent collections only add new counts
+        processor1.processedSpans.add(1, EXPORTED);
+        assertEquals(8, statistics.getExportedSpans());
+        assertEquals(1, statistics.getDroppedSpans());
+
+        // Counts of a shutdown SDK instance are retained, but its queue is not
+        processor2.processedSpans.add(2, DROPPED);
+        processor2.provider.shutdown();
+        assertEquals(2, statistics.getQueuedSpans());
+        assertEquals(8, statistics.getExportedSpans());
+        assertEquals(3, statistics.getDroppedSpans());
+
+        processor1.provider.shutdown();
+        assertEquals(0, statistics.getQueuedSpans());
+        assertEquals(8, statistics.getExportedSpans());
+        assertEquals(3, statistics.getDroppedSpans());
+    }
+
+    @Test
+    public void timeToLive() {
+        SpanProcessorStatistics statistics = new SpanProcessorStatistics(Duration.ofMinutes(1));
+        SpanProcessor processor = new SpanProcessor(statistics);
+        processor.queueSize.set(1);
+        processor.processedSpans.add(1, EXPORTED);
+
+        assertEquals(1, statistics.getQueuedSpans());
+        assertEquals(1, statistics.getExportedSpans());
+
+        // Metrics are not collected again until the time-to-live elapses
+        processor.queueSize.set(2);
+        processor.processedSpans.add(1, EXPORTED);
+        assertEquals(1, statistics.getQueuedSpans());
+        assertEquals(1, statistics.getExportedSpans());
+
+        // Except on shutdown
+        processor.provider.shutdown();
+        assertEquals(2, statistics.getExportedSpans());
+    }
+
+    /**
+     * Reports metrics via the instruments used by the batch span processor of an SDK instance.
+     */
+    private static class SpanProcessor {
+        final SdkMeterProvider provider;
+        final AtomicLong queueSize = new AtomicLong();
+        final LongCounter processedSpans;
+
+        SpanProcessor(SpanProcessorStatistics statistics) {
+            this.provider = SdkMeterProvider.builder().registerMetricReader(new SpanProcessorMetricReader(statistics)).build();
+            Meter meter = this.provider.get(SpanProcessorMetricReader.INSTRUMENTATION_SCOPE);
+            meter.gaugeBuilder(SpanProcessorMetricReader.QUEUE_SIZE).ofLongs().buildWithCallback(measurement -> measurement.record(this.queueSize.get()));
+            this.processedSpans = meter.counterBuilder(SpanProcessorMetricReader.PROCESSED_SPANS).build();
+        }
+    }
+}
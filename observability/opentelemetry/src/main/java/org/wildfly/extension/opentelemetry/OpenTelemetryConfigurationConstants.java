@@ -30,10 +30,19 @@ public final class OpenTelemetryConfigurationConstants {
     public static final String MAX_QUEUE_SIZE = "max-queue-size";
     public static final String MAX_EXPORT_BATCH_SIZE = "max-export-batch-size";
     public static final String EXPORT_TIMEOUT = "export-timeout";
+    public static final String FILE_PATH = "file-path";
+    public static final String FILE_RELATIVE_TO = "file-relative-to";
+    public static final String FILE_ROTATE_SIZE = "file-rotate-size";
+    public static final String FILE_MAX_BACKUP_INDEX = "file-max-backup-index";
     public static final String SAMPLER_TYPE = "sampler-type";
     public static final String SAMPLER_RATIO = "ratio";
     public static final String TYPE = "type";
 
+    // Metrics
+    public static final String QUEUED_SPANS = "queued-spans";
+    public static final String EXPORTED_SPANS = "exported-spans";
+    public static final String DROPPED_SPANS = "dropped-spans";
+
     // Groups
     public static final String GROUP_EXPORTER = "exporter";
     public static final String GROUP_SPAN_PROCESSOR = "span-processor";
@@ -45,13 +54,18 @@ public final class OpenTelemetryConfigurationConstants {
     // OpenTelemetry constants
     public static final String EXPORTER_JAEGER = "jaeger";
     public static final String EXPORTER_OTLP = "otlp";
+    public static final String EXPORTER_FILE = "file";
     public static final String DEFAULT_OTLP_ENDPOINT = "http://localhost:4317";
     public static final int DEFAULT_BATCH_DELAY = 5000;
     public static final int DEFAULT_EXPORT_TIMEOUT = 30000;
     public static final int DEFAULT_MAX_QUEUE_SIZE = 2048;
     public static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
+    public static final String DEFAULT_FILE_PATH = "opentelemetry-spans.json";
+    public static final String DEFAULT_FILE_RELATIVE_TO = "jboss.server.log.dir";
+    public static final long DEFAULT_FILE_ROTATE_SIZE = 10L * 1024 * 1024;
+    public static final int DEFAULT_FILE_MAX_BACKUP_INDEX = 5;
 
-    public static final String[] ALLOWED_EXPORTERS = {EXPORTER_JAEGER, EXPORTER_OTLP};
+    public static final String[] ALLOWED_EXPORTERS = {EXPORTER_JAEGER, EXPORTER_OTLP, EXPORTER_FILE};
     public static final String SAMPLER_ON = "on";
     public static final String SAMPLER_OFF = "off";
     public static final String[] ALLOWED_SAMPLERS = {SAMPLER_ON, SAMPLER_OFF, SAMPLER_RATIO};
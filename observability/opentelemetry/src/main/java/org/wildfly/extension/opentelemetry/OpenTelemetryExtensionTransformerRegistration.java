@@ -1,13 +1,19 @@
 package org.wildfly.extension.opentelemetry;
 
 import static org.wildfly.extension.opentelemetry.OpenTelemetrySubsystemModel.VERSION_1_0_0;
+import static org.wildfly.extension.opentelemetry.OpenTelemetrySubsystemModel.VERSION_1_1_0;
+import static org.wildfly.extension.opentelemetry.OpenTelemetrySubsystemModel.VERSION_1_2_0;
 
+import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
 import org.jboss.as.controller.transform.description.AttributeConverter;
 import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
 import org.kohsuke.MetaInfServices;
 
 @MetaInfServices
@@ -21,7 +27,18 @@ public class OpenTelemetryExtensionTransformerRegistration implements ExtensionT
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
 
-        registerV_1_1_Transformers(builder.createBuilder(OpenTelemetrySubsystemModel.VERSION_1_1_0.getVersion(), VERSION_1_0_0.getVersion()));
+        registerV_1_2_Transformers(builder.createBuilder(VERSION_1_2_0.getVersion(), VERSION_1_1_0.getVersion()));
+        registerV_1_1_Transformers(builder.createBuilder(VERSION_1_1_0.getVersion(), VERSION_1_0_0.getVersion()));
+
+        builder.buildAndRegister(registration, new ModelVersion[] { VERSION_1_1_0.getVersion(), VERSION_1_0_0.getVersion() });
+    }
+
+    private void registerV_1_2_Transformers(ResourceTransformationDescriptionBuilder builder) {
+        builder.getAttributeBuilder()
+                .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(OpenTelemetryConfigurationConstants.EXPORTER_FILE)), OpenTelemetrySubsystemRegistrar.EXPORTER)
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, OpenTelemetrySubsystemRegistrar.FILE_PATH, OpenTelemetrySubsystemRegistrar.FILE_RELATIVE_TO, OpenTelemetrySubsystemRegistrar.FILE_ROTATE_SIZE, OpenTelemetrySubsystemRegistrar.FILE_MAX_BACKUP_INDEX)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, OpenTelemetrySubsystemRegistrar.FILE_PATH, OpenTelemetrySubsystemRegistrar.FILE_RELATIVE_TO, OpenTelemetrySubsystemRegistrar.FILE_ROTATE_SIZE, OpenTelemetrySubsystemRegistrar.FILE_MAX_BACKUP_INDEX)
+                .end();
     }
 
     private void registerV_1_1_Transformers(ResourceTransformationDescriptionBuilder builder) {
@@ -12,8 +12,13 @@ import static org.jboss.as.server.deployment.Phase.POST_MODULE_OPENTELEMETRY;
 import static org.jboss.as.weld.Capabilities.WELD_CAPABILITY_NAME;
 import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.DEFAULT_BATCH_DELAY;
 import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.DEFAULT_EXPORT_TIMEOUT;
+import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.DEFAULT_FILE_MAX_BACKUP_INDEX;
+import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.DEFAULT_FILE_PATH;
+import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.DEFAULT_FILE_RELATIVE_TO;
+import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.DEFAULT_FILE_ROTATE_SIZE;
 import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.DEFAULT_MAX_EXPORT_BATCH_SIZE;
 import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.DEFAULT_MAX_QUEUE_SIZE;
+import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.EXPORTER_FILE;
 import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.EXPORTER_JAEGER;
 import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.EXPORTER_OTLP;
 import static org.wildfly.extension.opentelemetry.OpenTelemetryConfigurationConstants.GROUP_EXPORTER;
@@ -28,6 +33,7 @@ import static org.wildfly.extension.opentelemetry.OpenTelemetryExtensionLogger.O
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.as.controller.AttributeDefinition;
@@ -39,11 +45,17 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SubsystemRegistration;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.extension.opentelemetry.api.SpanProcessorStatistics;
 import org.wildfly.extension.opentelemetry.api.WildFlyOpenTelemetryConfig;
 import org.wildfly.subsystem.resource.ManagementResourceRegistrar;
 import org.wildfly.subsystem.resource.ManagementResourceRegistrationContext;
@@ -52,6 +64,7 @@ import org.wildfly.subsystem.resource.SubsystemResourceDefinitionRegistrar;
 import org.wildfly.subsystem.resource.operation.ResourceOperationRuntimeHandler;
 import org.wildfly.subsystem.service.ResourceServiceConfigurator;
 import org.wildfly.subsystem.service.ResourceServiceInstaller;
+import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.capability.CapabilityServiceInstaller;
 
 /*
@@ -94,6 +107,41 @@ class OpenTelemetrySubsystemRegistrar implements SubsystemResourceDefinitionRegi
             .setDefaultValue(new ModelNode(OpenTelemetryConfigurationConstants.DEFAULT_OTLP_ENDPOINT))
             .build();
 
+    public static final SimpleAttributeDefinition FILE_PATH = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.FILE_PATH, ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setAttributeGroup(GROUP_EXPORTER)
+            .setRestartAllServices()
+            .setDefaultValue(new ModelNode(DEFAULT_FILE_PATH))
+            .build();
+
+    public static final SimpleAttributeDefinition FILE_RELATIVE_TO = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.FILE_RELATIVE_TO, ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setAttributeGroup(GROUP_EXPORTER)
+            .setRestartAllServices()
+            .setDefaultValue(new ModelNode(DEFAULT_FILE_RELATIVE_TO))
+            .build();
+
+    public static final SimpleAttributeDefinition FILE_ROTATE_SIZE = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.FILE_ROTATE_SIZE, ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setAttributeGroup(GROUP_EXPORTER)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setValidator(new LongRangeValidator(0))
+            .setRestartAllServices()
+            .setDefaultValue(new ModelNode(DEFAULT_FILE_ROTATE_SIZE))
+            .build();
+
+    public static final SimpleAttributeDefinition FILE_MAX_BACKUP_INDEX = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.FILE_MAX_BACKUP_INDEX, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setAttributeGroup(GROUP_EXPORTER)
+            .setValidator(IntRangeValidator.NON_NEGATIVE)
+            .setRestartAllServices()
+            .setDefaultValue(new ModelNode(DEFAULT_FILE_MAX_BACKUP_INDEX))
+            .build();
+
     @Deprecated
     public static final SimpleAttributeDefinition SPAN_PROCESSOR_TYPE = SimpleAttributeDefinitionBuilder
             .create(OpenTelemetryConfigurationConstants.SPAN_PROCESSOR_TYPE, ModelType.STRING, true)
@@ -162,8 +210,33 @@ class OpenTelemetrySubsystemRegistrar implements SubsystemResourceDefinitionRegi
             .build();
 
     public static final List<AttributeDefinition> ATTRIBUTES = List.of(
-            SERVICE_NAME, EXPORTER, ENDPOINT, SPAN_PROCESSOR_TYPE, BATCH_DELAY, MAX_QUEUE_SIZE, MAX_EXPORT_BATCH_SIZE,
-            EXPORT_TIMEOUT, SAMPLER, RATIO
+            SERVICE_NAME, EXPORTER, ENDPOINT, FILE_PATH, FILE_RELATIVE_TO, FILE_ROTATE_SIZE, FILE_MAX_BACKUP_INDEX, SPAN_PROCESSOR_TYPE,
+            BATCH_DELAY, MAX_QUEUE_SIZE, MAX_EXPORT_BATCH_SIZE, EXPORT_TIMEOUT, SAMPLER, RATIO
+    );
+
+    static final List<AttributeDefinition> FILE_EXPORTER_ATTRIBUTES = List.of(FILE_PATH, FILE_RELATIVE_TO, FILE_ROTATE_SIZE, FILE_MAX_BACKUP_INDEX);
+
+    static final AttributeDefinition QUEUED_SPANS = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.QUEUED_SPANS, ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition EXPORTED_SPANS = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.EXPORTED_SPANS, ModelType.LONG)
+            .setStorageRuntime()
+            .setFlags(AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition DROPPED_SPANS = SimpleAttributeDefinitionBuilder
+            .create(OpenTelemetryConfigurationConstants.DROPPED_SPANS, ModelType.LONG)
+            .setStorageRuntime()
+            .setFlags(AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final Map<AttributeDefinition, SpanProcessorMetricHandler> METRICS = Map.of(
+            QUEUED_SPANS, new SpanProcessorMetricHandler(SpanProcessorStatistics::getQueuedSpans),
+            EXPORTED_SPANS, new SpanProcessorMetricHandler(SpanProcessorStatistics::getExportedSpans),
+            DROPPED_SPANS, new SpanProcessorMetricHandler(SpanProcessorStatistics::getDroppedSpans)
     );
 
     private final AtomicReference<WildFlyOpenTelemetryConfig> openTelemetryConfig = new AtomicReference<>();
@@ -201,6 +274,12 @@ class OpenTelemetrySubsystemRegistrar implements SubsystemResourceDefinitionRegi
 
         ManagementResourceRegistrar.of(descriptor).register(registration);
 
+        if (context.isRuntimeOnlyRegistrationValid()) {
+            for (Map.Entry<AttributeDefinition, SpanProcessorMetricHandler> entry : METRICS.entrySet()) {
+                registration.registerMetric(entry.getKey(), entry.getValue());
+            }
+        }
+
         return registration;
     }
 
@@ -222,7 +301,7 @@ class OpenTelemetrySubsystemRegistrar implements SubsystemResourceDefinitionRegi
         String exporter = OpenTelemetrySubsystemRegistrar.EXPORTER.resolveModelAttribute(context, model).asString();
         validateExporter(context, exporter);
 
-        final WildFlyOpenTelemetryConfig config = new WildFlyOpenTelemetryConfig.Builder()
+        final WildFlyOpenTelemetryConfig.Builder builder = new WildFlyOpenTelemetryConfig.Builder()
             .setServiceName(OpenTelemetrySubsystemRegistrar.SERVICE_NAME.resolveModelAttribute(context, model).asStringOrNull())
             .setExporter(exporter)
             .setOtlpEndpoint(OpenTelemetrySubsystemRegistrar.ENDPOINT.resolveModelAttribute(context, model).asStringOrNull())
@@ -233,8 +312,19 @@ class OpenTelemetrySubsystemRegistrar implements SubsystemResourceDefinitionRegi
             .setSampler(OpenTelemetrySubsystemRegistrar.SAMPLER.resolveModelAttribute(context, model).asStringOrNull())
             .setSamplerRatio(OpenTelemetrySubsystemRegistrar.RATIO.resolveModelAttribute(context, model).asDoubleOrNull())
             .setMicroProfileTelemetryInstalled(context.hasOptionalCapability("org.wildfly.extension.microprofile.telemetry", OPENTELEMETRY_CAPABILITY, null))
-            .setInjectVertx(context.hasOptionalCapability("org.wildfly.extension.vertx", OPENTELEMETRY_CAPABILITY, null))
-            .build();
+            .setInjectVertx(context.hasOptionalCapability("org.wildfly.extension.vertx", OPENTELEMETRY_CAPABILITY, null));
+
+        final ServiceDependency<WildFlyOpenTelemetryConfig> config;
+        if (EXPORTER_FILE.equals(exporter)) {
+            String path = OpenTelemetrySubsystemRegistrar.FILE_PATH.resolveModelAttribute(context, model).asString();
+            String relativeTo = OpenTelemetrySubsystemRegistrar.FILE_RELATIVE_TO.resolveModelAttribute(context, model).asStringOrNull();
+            long rotateSize = OpenTelemetrySubsystemRegistrar.FILE_ROTATE_SIZE.resolveModelAttribute(context, model).asLong();
+            int maxBackupIndex = OpenTelemetrySubsystemRegistrar.FILE_MAX_BACKUP_INDEX.resolveModelAttribute(context, model).asInt();
+            config = ServiceDependency.on(PathManager.SERVICE_DESCRIPTOR)
+                    .map(pathManager -> builder.setFileExporter(pathManager.resolveRelativePathEntry(path, relativeTo), rotateSize, maxBackupIndex).build());
+        } else {
+            config = ServiceDependency.of(builder.build());
+        }
 
         return CapabilityServiceInstaller.builder(OPENTELEMETRY_CONFIG_CAPABILITY, config)
                 .withCaptor(openTelemetryConfig::set)
@@ -16,8 +16,9 @@ import org.jboss.staxmapper.IntVersion;
 public enum OpenTelemetrySubsystemSchema implements PersistentSubsystemSchema<OpenTelemetrySubsystemSchema> {
     VERSION_1_0(1, 0), // WildFly 25
     VERSION_1_1(1, 1), // WildFly 31
+    VERSION_1_2(1, 2), // WildFly 38
     ;
-    public static final OpenTelemetrySubsystemSchema CURRENT = VERSION_1_1;
+    public static final OpenTelemetrySubsystemSchema CURRENT = VERSION_1_2;
 
     private final VersionedNamespace<IntVersion, OpenTelemetrySubsystemSchema> namespace;
 
@@ -34,7 +35,7 @@ public enum OpenTelemetrySubsystemSchema implements PersistentSubsystemSchema<Op
     public PersistentResourceXMLDescription getXMLDescription() {
         return factory(this)
                 .builder(OpenTelemetryConfigurationConstants.SUBSYSTEM_PATH)
-                .addAttributes(OpenTelemetrySubsystemRegistrar.ATTRIBUTES.stream())
+                .addAttributes(OpenTelemetrySubsystemRegistrar.ATTRIBUTES.stream().filter(attribute -> this.since(VERSION_1_2) || !OpenTelemetrySubsystemRegistrar.FILE_EXPORTER_ATTRIBUTES.contains(attribute)))
                 .build();
     }
 }
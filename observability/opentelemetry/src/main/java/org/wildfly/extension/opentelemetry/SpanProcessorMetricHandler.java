@@ -0,0 +1,30 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.opentelemetry;
+
+import java.util.function.ToLongFunction;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.extension.opentelemetry.api.SpanProcessorStatistics;
+
+/**
+ * Reads a metric of the span processors of all deployments using OpenTelemetry.
+ */
+class SpanProcessorMetricHandler extends AbstractRuntimeOnlyHandler {
+
+    private final ToLongFunction<SpanProcessorStatistics> metric;
+
+    SpanProcessorMetricHandler(ToLongFunction<SpanProcessorStatistics> metric) {
+        this.metric = metric;
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+        context.getResult().set(this.metric.applyAsLong(SpanProcessorStatistics.getInstance()));
+    }
+}
@@ -50,14 +50,13 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
             }
             JCAOrderedLastSynchronizationList jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
             if (jcaOrderedLastSynchronization == null) {
-                final ContextTransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
-                synchronized (key) {
-                    jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
-                    if (jcaOrderedLastSynchronization == null) {
-                        jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList();
-                        tx.putResource(key, jcaOrderedLastSynchronization);
-                        tsr.registerInterposedSynchronization(jcaOrderedLastSynchronization);
-                    }
+                // Resolve concurrent first registrations via the resources of the transaction itself,
+                // rather than a lock shared by all transactions
+                JCAOrderedLastSynchronizationList newSynchronization = new JCAOrderedLastSynchronizationList();
+                jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.putResourceIfAbsent(key, newSynchronization);
+                if (jcaOrderedLastSynchronization == null) {
+                    jcaOrderedLastSynchronization = newSynchronization;
+                    ContextTransactionSynchronizationRegistry.getInstance().registerInterposedSynchronization(jcaOrderedLastSynchronization);
                 }
             }
             jcaOrderedLastSynchronization.registerInterposedSynchronization(sync);
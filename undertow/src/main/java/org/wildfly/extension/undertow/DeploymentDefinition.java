@@ -40,7 +40,9 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.undertow.deployment.StaticResourceStatistics;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
+import org.wildfly.extension.undertow.deployment.UndertowMetricsCollector;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 
 /**
@@ -53,6 +55,16 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
     public static final AttributeDefinition SERVER = new SimpleAttributeDefinitionBuilder("server", ModelType.STRING).setStorageRuntime().build();
     public static final AttributeDefinition CONTEXT_ROOT = new SimpleAttributeDefinitionBuilder("context-root", ModelType.STRING).setStorageRuntime().build();
     public static final AttributeDefinition VIRTUAL_HOST = new SimpleAttributeDefinitionBuilder("virtual-host", ModelType.STRING).setStorageRuntime().build();
+    static final AttributeDefinition STATIC_RESOURCE_REQUESTS = new SimpleAttributeDefinitionBuilder("static-resource-requests", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition STATIC_RESOURCE_CACHE_HITS = new SimpleAttributeDefinitionBuilder("static-resource-cache-hits", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
     static final AttributeDefinition SESSIOND_ID = new SimpleAttributeDefinitionBuilder(Constants.SESSION_ID, ModelType.STRING)
             .setRequired(true)
             .setAllowExpression(false)
@@ -138,6 +150,8 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         for (SessionStat stat : SessionStat.values()) {
             resourceRegistration.registerMetric(stat.definition, SessionManagerStatsHandler.getInstance());
         }
+        resourceRegistration.registerMetric(STATIC_RESOURCE_REQUESTS, StaticResourceStatsHandler.INSTANCE);
+        resourceRegistration.registerMetric(STATIC_RESOURCE_CACHE_HITS, StaticResourceStatsHandler.INSTANCE);
     }
 
     @Override
@@ -354,6 +368,44 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         }
     }
 
+    static class StaticResourceStatsHandler extends AbstractRuntimeOnlyHandler {
+
+        static final StaticResourceStatsHandler INSTANCE = new StaticResourceStatsHandler();
+
+        private StaticResourceStatsHandler() {
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
+            final ModelNode subModel = context.readResourceFromRoot(address, false).getModel();
+
+            final String host = VIRTUAL_HOST.resolveModelAttribute(context, subModel).asString();
+            final String path = CONTEXT_ROOT.resolveModelAttribute(context, subModel).asString();
+            final String server = SERVER.resolveModelAttribute(context, subModel).asString();
+
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.deploymentServiceName(server, host, path));
+            if (controller == null || controller.getState() != ServiceController.State.UP) {//check if deployment is active at all
+                return;
+            }
+            final UndertowDeploymentService deploymentService = (UndertowDeploymentService) controller.getService();
+            //the metrics collector, and thus the statistics, only exist while statistics are enabled
+            final UndertowMetricsCollector collector = (UndertowMetricsCollector) deploymentService.getDeploymentInfo().getMetricsCollector();
+            if (collector == null) {
+                return;
+            }
+            final StaticResourceStatistics statistics = collector.getStaticResourceStatistics();
+            final String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            if (name.equals(STATIC_RESOURCE_REQUESTS.getName())) {
+                context.getResult().set(statistics.getRequestCount());
+            } else if (name.equals(STATIC_RESOURCE_CACHE_HITS.getName())) {
+                context.getResult().set(statistics.getCacheHitCount());
+            } else {
+                context.getFailureDescription().set(UndertowLogger.ROOT_LOGGER.unknownMetric(name));
+            }
+        }
+    }
+
     private static SessionManager getSessionManager(OperationContext context, ModelNode operation) throws OperationFailedException {
         final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
         final Resource web = context.readResourceFromRoot(address.subAddress(0, address.size()), false);
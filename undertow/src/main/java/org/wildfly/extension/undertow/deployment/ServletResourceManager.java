@@ -10,8 +10,10 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.jboss.vfs.VirtualFile;
+import io.undertow.server.handlers.cache.LRUCache;
 import io.undertow.server.handlers.resource.PathResourceManager;
 import io.undertow.server.handlers.resource.Resource;
 import io.undertow.server.handlers.resource.ResourceChangeListener;
@@ -25,16 +27,27 @@ import io.undertow.util.CanonicalPathUtils;
  */
 public class ServletResourceManager implements ResourceManager {
 
-    public static final int TRANSFER_MIN_SIZE = 1024 * 1024;
+    /**
+     * Files on disk are always sent with {@link java.nio.channels.FileChannel#transferTo}, which Undertow turns into a
+     * buffered copy where the connection cannot use zero copy (e.g. TLS). Small files which are requested often are
+     * served from the in-memory buffer cache of the servlet container instead.
+     */
+    public static final int TRANSFER_MIN_SIZE = 0;
     private final PathResourceManager deploymentResourceManager;
     private final Collection<VirtualFile> overlays;
     private final ResourceManager[] externalOverlays;
     private final boolean explodedDeployment;
+    //overlays of an archive deployment do not change for the life of the deployment, so their lookups, including misses, can be cached
+    //the overlays of an exploded deployment may be modified in place, so are looked up every time
+    private final LRUCache<String, Optional<Resource>> overlayCache;
+    private final StaticResourceStatistics statistics;
 
     public ServletResourceManager(final VirtualFile resourcesRoot, final Collection<VirtualFile> overlays,
                                   boolean explodedDeployment, boolean followSymlink, boolean disableFileWatchService,
-                                  List<String> externalOverlays) throws IOException {
+                                  List<String> externalOverlays, int overlayCacheSize, StaticResourceStatistics statistics) throws IOException {
         this.explodedDeployment = explodedDeployment;
+        this.overlayCache = (!explodedDeployment && overlays != null && !overlays.isEmpty() && overlayCacheSize > 0) ? new LRUCache<>(overlayCacheSize, -1) : null;
+        this.statistics = statistics;
         Path physicalFile = resourcesRoot.getPhysicalFile().toPath().toRealPath();
         deploymentResourceManager = new PathResourceManager(physicalFile, TRANSFER_MIN_SIZE, true,
                 followSymlink, !disableFileWatchService);
@@ -54,6 +67,10 @@ public class ServletResourceManager implements ResourceManager {
 
     @Override
     public Resource getResource(final String path) throws IOException {
+        if (statistics != null) {
+            //lookups answered by the caching resource manager in front of this one never get here
+            statistics.recordCacheMiss();
+        }
         Resource res = deploymentResourceManager.getResource(path);
         if (res != null) {
             //EE.8.3.1  The content of all jar files in the WEB-INF/lib directory of the containing war
@@ -72,20 +89,16 @@ public class ServletResourceManager implements ResourceManager {
         }
         if (overlays != null) {
             String canonical = CanonicalPathUtils.canonicalize(p); //we don't need to do this for other resources, as the underlying RM will handle it
-            for (VirtualFile overlay : overlays) {
-                VirtualFile child = overlay.getChild(canonical);
-                if (child.exists()) {
-                    try {
-                        //we make sure the child is actually a child of the parent
-                        //CanonicalPathUtils should make sure this cannot happen
-                        //but just to be safe we do it anyway
-                        child.getPathNameRelativeTo(overlay);
-                        return new ServletResource(this, new VirtualFileResource(overlay.getPhysicalFile(), child, canonical));
-                    } catch (IllegalArgumentException ignore) {
-
-                    }
+            Optional<Resource> overlayResource = (overlayCache != null) ? overlayCache.get(canonical) : null;
+            if (overlayResource == null) {
+                overlayResource = Optional.ofNullable(getOverlayResource(canonical));
+                if (overlayCache != null) {
+                    overlayCache.add(canonical, overlayResource);
                 }
             }
+            if (overlayResource.isPresent()) {
+                return overlayResource.get();
+            }
         }
         for (int i = 0; i < externalOverlays.length; ++i) {
             ResourceManager manager = externalOverlays[i];
@@ -97,6 +110,24 @@ public class ServletResourceManager implements ResourceManager {
         return null;
     }
 
+    private Resource getOverlayResource(String canonical) throws IOException {
+        for (VirtualFile overlay : overlays) {
+            VirtualFile child = overlay.getChild(canonical);
+            if (child.exists()) {
+                try {
+                    //we make sure the child is actually a child of the parent
+                    //CanonicalPathUtils should make sure this cannot happen
+                    //but just to be safe we do it anyway
+                    child.getPathNameRelativeTo(overlay);
+                    return new ServletResource(this, new VirtualFileResource(overlay.getPhysicalFile(), child, canonical));
+                } catch (IllegalArgumentException ignore) {
+
+                }
+            }
+        }
+        return null;
+    }
+
     @Override
     public boolean isResourceChangeListenerSupported() {
         return true;
@@ -128,6 +159,9 @@ public class ServletResourceManager implements ResourceManager {
 
     @Override
     public void close() throws IOException {
+        if (overlayCache != null) {
+            overlayCache.clear();
+        }
         deploymentResourceManager.close();
     }
 
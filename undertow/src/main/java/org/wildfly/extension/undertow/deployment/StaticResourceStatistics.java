@@ -0,0 +1,35 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the static resource lookups of a deployment, and how many of them were answered by the resource cache
+ * without reading the deployment or its overlays.
+ */
+public class StaticResourceStatistics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    void recordRequest() {
+        requests.increment();
+    }
+
+    void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public long getCacheHitCount() {
+        // Both counters are read separately, so never report more hits than requests
+        return Math.max(0, requests.sum() - cacheMisses.sum());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import java.io.IOException;
+
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceChangeListener;
+import io.undertow.server.handlers.resource.ResourceManager;
+
+/**
+ * Resource manager that records every lookup of a static resource before handing it to the caching resource manager
+ * of the deployment. The lookups which miss the cache are recorded by the {@link ServletResourceManager} behind it.
+ */
+public class StatisticsResourceManager implements ResourceManager {
+
+    private final ResourceManager delegate;
+    private final StaticResourceStatistics statistics;
+
+    public StatisticsResourceManager(ResourceManager delegate, StaticResourceStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Resource getResource(String path) throws IOException {
+        statistics.recordRequest();
+        return delegate.getResource(path);
+    }
+
+    @Override
+    public boolean isResourceChangeListenerSupported() {
+        return delegate.isResourceChangeListenerSupported();
+    }
+
+    @Override
+    public void registerResourceChangeListener(ResourceChangeListener listener) {
+        delegate.registerResourceChangeListener(listener);
+    }
+
+    @Override
+    public void removeResourceChangeListener(ResourceChangeListener listener) {
+        delegate.removeResourceChangeListener(listener);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
@@ -391,9 +391,6 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
                 }
             }
             deploymentInfo.setServerName(serverEnvironment.get().getProductConfig().getPrettyVersionString());
-            if (undertowService.get().isStatisticsEnabled()) {
-                deploymentInfo.setMetricsCollector(new UndertowMetricsCollector());
-            }
 
             ControlPoint controlPoint = (this.controlPoint != null) ? this.controlPoint.get() : null;
             if (controlPoint != null) {
@@ -494,14 +491,23 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
             d.setDeploymentName(deploymentName);
             d.setHostName(host.get().getName());
 
+            StaticResourceStatistics statistics = null;
+            if (undertowService.get().isStatisticsEnabled()) {
+                UndertowMetricsCollector metricsCollector = new UndertowMetricsCollector();
+                d.setMetricsCollector(metricsCollector);
+                statistics = metricsCollector.getStaticResourceStatistics();
+            }
+
             final ServletContainerService servletContainer = container.get();
             try {
-                //TODO: make the caching limits configurable
                 List<String> externalOverlays = mergedMetaData.getOverlays();
 
-                ResourceManager resourceManager = new ServletResourceManager(deploymentRoot, overlays, explodedDeployment, mergedMetaData.isSymbolicLinkingEnabled(), servletContainer.isDisableFileWatchService(), externalOverlays);
+                ResourceManager resourceManager = new ServletResourceManager(deploymentRoot, overlays, explodedDeployment, mergedMetaData.isSymbolicLinkingEnabled(), servletContainer.isDisableFileWatchService(), externalOverlays, servletContainer.getFileCacheMetadataSize(), statistics);
 
                 resourceManager = new CachingResourceManager(servletContainer.getFileCacheMetadataSize(), servletContainer.getFileCacheMaxFileSize(), servletContainer.getBufferCache(), resourceManager, servletContainer.getFileCacheTimeToLive() == null ? (explodedDeployment ? 2000 : -1) : servletContainer.getFileCacheTimeToLive());
+                if (statistics != null) {
+                    resourceManager = new StatisticsResourceManager(resourceManager, statistics);
+                }
                 if(externalResources != null && !externalResources.isEmpty()) {
                     //TODO: we don't cache external deployments, as they are intended for development use
                     //should be make this configurable or something?
@@ -16,6 +16,7 @@ import io.undertow.servlet.api.MetricsCollector;
  */
 public class UndertowMetricsCollector implements MetricsCollector {
     private final Map<String, MetricsHandler> metrics = new HashMap<>();
+    private final StaticResourceStatistics staticResourceStatistics = new StaticResourceStatistics();
 
     @Override
     public void registerMetric(String name, MetricsHandler handler) {
@@ -28,4 +29,8 @@ public class UndertowMetricsCollector implements MetricsCollector {
         }
         return null;
     }
+
+    public StaticResourceStatistics getStaticResourceStatistics() {
+        return staticResourceStatistics;
+    }
 }
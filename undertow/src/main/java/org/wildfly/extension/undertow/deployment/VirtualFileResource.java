@@ -4,7 +4,6 @@
  */
 package org.wildfly.extension.undertow.deployment;
 
-import io.undertow.UndertowLogger;
 import io.undertow.io.IoCallback;
 import io.undertow.io.Sender;
 import io.undertow.server.HttpServerExchange;
@@ -15,14 +14,12 @@ import io.undertow.util.MimeMappings;
 import org.jboss.vfs.VirtualFile;
 import org.xnio.FileAccess;
 import org.xnio.IoUtils;
-import org.xnio.Pooled;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -118,63 +115,6 @@ public class VirtualFileResource implements Resource {
             }
         }
 
-        class ServerTask extends BaseFileTask implements IoCallback {
-
-            private Pooled<ByteBuffer> pooled;
-
-            @Override
-            public void run() {
-                if (fileChannel == null) {
-                    if (!openFile()) {
-                        return;
-                    }
-                    pooled = exchange.getConnection().getBufferPool().allocate();
-                }
-                if (pooled != null) {
-                    ByteBuffer buffer = pooled.getResource();
-                    try {
-                        buffer.clear();
-                        int res = fileChannel.read(buffer);
-                        if (res == -1) {
-                            //we are done
-                            pooled.free();
-                            IoUtils.safeClose(fileChannel);
-                            callback.onComplete(exchange, sender);
-                            return;
-                        }
-                        buffer.flip();
-                        sender.send(buffer, this);
-                    } catch (IOException e) {
-                        onException(exchange, sender, e);
-                    }
-                }
-
-            }
-
-            @Override
-            public void onComplete(final HttpServerExchange exchange, final Sender sender) {
-                if (exchange.isInIoThread()) {
-                    exchange.dispatch(this);
-                } else {
-                    run();
-                }
-            }
-
-            @Override
-            public void onException(final HttpServerExchange exchange, final Sender sender, final IOException exception) {
-                UndertowLogger.REQUEST_IO_LOGGER.ioException(exception);
-                if (pooled != null) {
-                    pooled.free();
-                    pooled = null;
-                }
-                IoUtils.safeClose(fileChannel);
-                if (!exchange.isResponseStarted()) {
-                    exchange.setResponseCode(500);
-                }
-                callback.onException(exchange, sender, exception);
-            }
-        }
-
         class TransferTask extends BaseFileTask {
             @Override
             public void run() {
@@ -0,0 +1,107 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import io.undertow.server.handlers.resource.CachingResourceManager;
+import io.undertow.server.handlers.resource.Resource;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VirtualFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ServletResourceManagerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final StaticResourceStatistics statistics = new StaticResourceStatistics();
+    private Path root;
+    private Path overlay;
+    private ServletResourceManager resourceManager;
+
+    @Before
+    public void setUp() throws IOException {
+        root = folder.newFolder("root").toPath();
+        Files.writeString(root.resolve("index.html"), "index");
+        overlay = folder.newFolder("overlay").toPath();
+        Files.writeString(overlay.resolve("overlay.html"), "overlay");
+        resourceManager = createResourceManager(false);
+    }
+
+    private ServletResourceManager createResourceManager(boolean explodedDeployment) throws IOException {
+        VirtualFile overlayFile = VFS.getChild(overlay.toString());
+        return new ServletResourceManager(VFS.getChild(root.toString()), List.of(overlayFile), explodedDeployment, false, true, null, 10, statistics);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        resourceManager.close();
+    }
+
+    @Test
+    public void testOverlayLookupCached() throws IOException {
+        Resource resource = resourceManager.getResource("/overlay.html");
+        assertNotNull(resource);
+        assertEquals("overlay.html", resource.getName());
+        assertSame(resource, resourceManager.getResource("overlay.html"));
+    }
+
+    @Test
+    public void testOverlayLookupNotCachedForExplodedDeployment() throws IOException {
+        try (ServletResourceManager explodedResourceManager = createResourceManager(true)) {
+            assertNull(explodedResourceManager.getResource("/added.html"));
+            // Overlays of an exploded deployment may change in place
+            Files.writeString(overlay.resolve("added.html"), "added");
+            Resource resource = explodedResourceManager.getResource("/added.html");
+            assertNotNull(resource);
+            assertNotSame(resource, explodedResourceManager.getResource("/added.html"));
+        }
+    }
+
+    @Test
+    public void testDeploymentResourceTakesPrecedence() throws IOException {
+        Resource resource = resourceManager.getResource("/index.html");
+        assertNotNull(resource);
+        assertEquals("index.html", resource.getName());
+    }
+
+    @Test
+    public void testMissingResource() throws IOException {
+        assertNull(resourceManager.getResource("/missing.html"));
+        assertNull(resourceManager.getResource("/missing.html"));
+    }
+
+    @Test
+    public void testStatistics() throws IOException {
+        // Mirrors the resource managers of a deployment with statistics enabled
+        CachingResourceManager cachingManager = new CachingResourceManager(10, 1024, null, resourceManager, -1);
+        StatisticsResourceManager manager = new StatisticsResourceManager(cachingManager, statistics);
+        assertNotNull(manager.getResource("/index.html"));
+        assertNotNull(manager.getResource("/overlay.html"));
+        assertEquals(2, statistics.getRequestCount());
+        assertEquals(0, statistics.getCacheHitCount());
+
+        // Lookups answered by the caching resource manager never reach the deployment
+        assertNotNull(manager.getResource("/index.html"));
+        assertNotNull(manager.getResource("/overlay.html"));
+        assertEquals(4, statistics.getRequestCount());
+        assertEquals(2, statistics.getCacheHitCount());
+    }
+}